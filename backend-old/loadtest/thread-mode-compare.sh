@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 / 가상 스레드 모드 처리량 및 p99 지연 비교
+#
+# 사용법:
+#   1) 서버 실행:  ./gradlew bootRun            (플랫폼 스레드)
+#                 ./gradlew bootRun -Pvirtual   (가상 스레드, Java 21)
+#   2) 측정:      ./loadtest/thread-mode-compare.sh platform
+#                 ./loadtest/thread-mode-compare.sh virtual
+#
+# 필요 도구: curl, wrk (https://github.com/wg/wrk)
+set -euo pipefail
+
+MODE="${1:?모드 이름을 입력하세요 (platform | virtual)}"
+BASE_URL="${BASE_URL:-http://localhost:8080/api/v1}"
+CONNECTIONS="${CONNECTIONS:-2000}"
+THREADS="${THREADS:-8}"
+DURATION="${DURATION:-60s}"
+RESULT_DIR="${RESULT_DIR:-build/reports/loadtest}"
+
+mkdir -p "$RESULT_DIR"
+
+# 측정용 사용자 생성 후 Access Token 발급
+EMAIL="loadtest-$(date +%s)@example.com"
+TOKEN=$(curl -sf -X POST "$BASE_URL/auth/signup" \
+  -H 'Content-Type: application/json' \
+  -d "{\"email\":\"$EMAIL\",\"password\":\"password123\",\"name\":\"부하테스트\",\"phone\":\"010-0000-0000\",\"role\":\"CUSTOMER\"}" \
+  | sed -E 's/.*"accessToken":"([^"]+)".*/\1/')
+
+echo "[$MODE] GET /auth/me  connections=$CONNECTIONS threads=$THREADS duration=$DURATION"
+
+# /auth/me: JWT 필터 + UserRepository 조회 (블로킹 JPA 경로)
+wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency --timeout 10s \
+  -H "Authorization: Bearer $TOKEN" \
+  "$BASE_URL/auth/me" | tee "$RESULT_DIR/auth-me-$MODE.txt"
+
+# /health: DB 를 사용하지 않는 경로
+wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency --timeout 10s \
+  "$BASE_URL/health" | tee "$RESULT_DIR/health-$MODE.txt"
+
+echo "결과: $RESULT_DIR/*-$MODE.txt (Requests/sec, Latency Distribution 99%)"
@@ -0,0 +1,109 @@
+package com.hairshop.domain.notification;
+
+import com.hairshop.HairshopApplication;
+import com.hairshop.domain.notification.service.NotificationDispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 발송 처리량 (로컬 stub 발송기, 초당 알림 수)
+ *
+ * 호출마다 대기 알림 NOTIFICATIONS 건(사용자당 디바이스 1개, 같은 내용)을 넣고 한 주기 발송한다.
+ * 점수 = 초당 발송 알림 수. stub 의 요청당 지연(latencyMillis)으로 외부 API 왕복을 흉내낸다.
+ * 실행: ./gradlew jmh -PjmhIncludes=NotificationDispatchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NotificationDispatchBenchmark {
+
+    private static final int NOTIFICATIONS = 5000;
+
+    @Param({"0", "50"})
+    public int latencyMillis;
+
+    @Param({"1", "8"})
+    public int maxConcurrency;
+
+    private ConfigurableApplicationContext context;
+    private NotificationDispatcher dispatcher;
+    private JdbcTemplate jdbcTemplate;
+    private List<Object[]> notificationRows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HairshopApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "notification.dispatcher.enabled=false",
+                        "notification.batch-size=" + NOTIFICATIONS,
+                        "notification.max-concurrency=" + maxConcurrency,
+                        "notification.stub.latency-ms=" + latencyMillis,
+                        "logging.level.root=WARN",
+                        "logging.level.com.hairshop=WARN",
+                        "logging.level.org.springframework.web=WARN",
+                        "logging.level.org.hibernate.SQL=WARN"
+                )
+                .run();
+
+        dispatcher = context.getBean(NotificationDispatcher.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        List<Object[]> devices = new ArrayList<>(NOTIFICATIONS);
+        notificationRows = new ArrayList<>(NOTIFICATIONS);
+        LocalDateTime now = LocalDateTime.now();
+        for (long userId = 1; userId <= NOTIFICATIONS; userId++) {
+            devices.add(new Object[]{userId, "token-" + userId, now, now});
+            notificationRows.add(new Object[]{userId, now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_devices (user_id, device_token, device_type, is_active, created_at, updated_at)
+                VALUES (?, ?, 'ANDROID', true, ?, ?)
+                """, devices);
+    }
+
+    @Setup(Level.Invocation)
+    public void enqueue() {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO notifications (user_id, type, title, message, is_read, channel, status, attempts,
+                                           next_attempt_at, created_at)
+                VALUES (?, 'PROMOTION', '이벤트', '이번 주 전 메뉴 10% 할인', false, 'PUSH', 'PENDING', 0, ?, ?)
+                """, notificationRows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NOTIFICATIONS)
+    public int dispatch() {
+        return dispatcher.dispatchOnce();
+    }
+}
@@ -0,0 +1,150 @@
+package com.hairshop.domain.reservation;
+
+import com.hairshop.HairshopApplication;
+import com.hairshop.domain.reservation.service.ReservationExportService;
+import com.hairshop.domain.service.entity.HairService;
+import com.hairshop.domain.service.repository.HairServiceRepository;
+import com.hairshop.domain.shop.entity.Shop;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 CSV 내보내기 (1년치 rows 행, gzip 여부별 전체 소요 시간)
+ *
+ * 힙을 256MB 로 제한한 fork 에서 실행하므로, 행 수를 늘려도 OOM 없이 끝나면 메모리 사용량이 행 수와 무관한 것이다.
+ * DB 는 힙 밖에 두기 위해 H2 파일 DB 를 쓴다. 예약 절반에 승인된 결제가 있다.
+ * 실행: ./gradlew jmh -PjmhIncludes=ReservationExportBenchmark [-PjmhProfilers=gc]
+ * (gc.alloc.rate.norm = 내보내기 1회 할당 바이트, gc.count 가 행 수에 비례해 늘어도 힙 점유는 일정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class ReservationExportBenchmark {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = FROM.plusDays(364);
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private Path dataDirectory;
+    private ConfigurableApplicationContext context;
+    private ReservationExportService exportService;
+    private Long shopId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("export-benchmark");
+        context = new SpringApplicationBuilder(HairshopApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:file:" + dataDirectory.resolve("db") + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "logging.level.root=WARN",
+                        "logging.level.com.hairshop=WARN",
+                        "logging.level.org.springframework.web=WARN",
+                        "logging.level.org.hibernate.SQL=WARN"
+                )
+                .run();
+
+        exportService = context.getBean(ReservationExportService.class);
+        Shop shop = context.getBean(ShopRepository.class).save(Shop.builder()
+                .ownerId(1L)
+                .name("벤치마크 미용실")
+                .address("서울시 강남구")
+                .phone("02-123-4567")
+                .build());
+        HairService service = context.getBean(HairServiceRepository.class).save(HairService.builder()
+                .shopId(shop.getId())
+                .name("커트")
+                .price(new BigDecimal("20000"))
+                .durationMinutes(30)
+                .build());
+        shopId = shop.getId();
+
+        // 행 생성은 DB 안에서 (벤치마크 JVM 힙을 쓰지 않도록)
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("""
+                INSERT INTO reservations (shop_id, customer_id, service_id, reservation_date, reservation_time,
+                                          duration_minutes, status, total_price, created_at, updated_at)
+                SELECT CAST(? AS BIGINT), MOD(X, 5000) + 1, CAST(? AS BIGINT), DATEADD('DAY', MOD(X, 365), CAST(? AS DATE)),
+                       CAST(DATEADD('MINUTE', MOD(X, 20) * 30, TIMESTAMP '2026-01-01 09:00:00') AS TIME),
+                       30, 'COMPLETED', 20000, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, shopId, service.getId(), FROM, rows);
+        jdbcTemplate.update("""
+                INSERT INTO payments (reservation_id, order_id, amount, payment_method, status, approved_at,
+                                      refund_amount, created_at, updated_at)
+                SELECT id, 'rsv' || id, total_price, '카드', 'COMPLETED', CURRENT_TIMESTAMP,
+                       0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM reservations WHERE MOD(id, 2) = 0
+                """);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(dataDirectory);
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        exportService.export(shopId, FROM, TO, out, gzip);
+        return out.bytes;
+    }
+
+    /**
+     * 쓴 바이트 수만 세는 출력 (응답 전송 비용 제외)
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
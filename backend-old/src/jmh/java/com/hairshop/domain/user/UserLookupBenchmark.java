@@ -0,0 +1,95 @@
+package com.hairshop.domain.user;
+
+import com.hairshop.HairshopApplication;
+import com.hairshop.domain.user.entity.User;
+import com.hairshop.domain.user.repository.UserRepository;
+import com.hairshop.dto.response.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /auth/me 조회 경로: 엔티티 로딩 vs projection 조회
+ *
+ * 요청당 할당량 비교: ./gradlew jmh -PjmhIncludes=UserLookupBenchmark -PjmhProfilers=gc
+ * (gc.alloc.rate.norm = 호출 1회당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserLookupBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HairshopApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "logging.level.root=WARN",
+                        "logging.level.com.hairshop=WARN",
+                        "logging.level.org.springframework.web=WARN",
+                        "logging.level.org.hibernate.SQL=WARN"
+                )
+                .run();
+
+        userRepository = context.getBean(UserRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        userId = userRepository.save(User.builder()
+                .email("bench@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuuH2s3bqYXn0Pm7X8xZ0J1mQ3n9R7kq2C")
+                .name("홍길동")
+                .phone("010-1234-5678")
+                .role(User.UserRole.CUSTOMER)
+                .oauthProvider(User.OAuthProvider.LOCAL)
+                .build()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 기존 경로: 관리 엔티티 로딩 (비밀번호 해시 포함, 스냅샷/dirty checking 대상) 후 DTO 변환
+     */
+    @Benchmark
+    public UserResponse loadEntity() {
+        return readOnlyTransaction.execute(status ->
+                UserResponse.from(userRepository.findById(userId).orElseThrow()));
+    }
+
+    /**
+     * projection 경로: 필요한 7개 컬럼만 조회하여 바로 DTO 변환
+     */
+    @Benchmark
+    public UserResponse loadProjection() {
+        return readOnlyTransaction.execute(status ->
+                UserResponse.from(userRepository.findProfileByIdAndDeletedAtIsNull(userId).orElseThrow()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.hairshop.security;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 전체 경로 (헤더 추출 → 파싱 → 폐기 확인 → SecurityContext 설정) 비용 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest publicRequest;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                JwtTokenProviderBenchmark.SECRET, 86400000L, 604800000L, 10_000L);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, new TokenRevocationIndex(100_000));
+
+        String token = jwtTokenProvider.createAccessToken(1L, "bench@example.com", "CUSTOMER");
+        authenticatedRequest = new MockHttpServletRequest("GET", "/auth/me");
+        authenticatedRequest.setServletPath("/auth/me");
+        authenticatedRequest.addHeader("Authorization", "Bearer " + token);
+
+        publicRequest = new MockHttpServletRequest("POST", "/auth/login");
+        publicRequest.setServletPath("/auth/login");
+
+        response = new MockHttpServletResponse();
+        filterChain = (req, res) -> { };
+    }
+
+    @Benchmark
+    public void authenticatedRequest(Blackhole blackhole) throws Exception {
+        filter.doFilter(authenticatedRequest, response, filterChain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        clearFilterState(authenticatedRequest);
+    }
+
+    @Benchmark
+    public void publicRequest() throws Exception {
+        filter.doFilter(publicRequest, response, filterChain);
+        clearFilterState(publicRequest);
+    }
+
+    private void clearFilterState(MockHttpServletRequest request) {
+        // OncePerRequestFilter 가 남기는 "이미 필터링됨" 속성과 인증 정보 초기화
+        request.clearAttributes();
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,53 @@
+package com.hairshop.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 생성/파싱 비용 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    static final String SECRET = "benchmark-secret-key-for-testing-minimum-256-bits-required-for-security-purposes";
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = new JwtTokenProvider(SECRET, 86400000L, 604800000L, 10_000L);
+        uncachedProvider = new JwtTokenProvider(SECRET, 86400000L, 604800000L, 0L);
+        accessToken = cachedProvider.createAccessToken(1L, "bench@example.com", "CUSTOMER");
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return cachedProvider.createAccessToken(1L, "bench@example.com", "CUSTOMER");
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return cachedProvider.createRefreshToken(1L, "family", "token");
+    }
+
+    @Benchmark
+    public JwtPrincipal parseTokenUncached() {
+        return uncachedProvider.parseToken(accessToken);
+    }
+
+    @Benchmark
+    public JwtPrincipal parseTokenCached() {
+        return cachedProvider.parseToken(accessToken);
+    }
+}
@@ -0,0 +1,19 @@
+package com.hairshop.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Async / @Scheduled 활성화
+ *
+ * 실행기는 Spring Boot 자동 설정(applicationTaskExecutor, taskScheduler)을 사용하며,
+ * virtual 프로필에서는 spring.threads.virtual.enabled 에 의해 가상 스레드로 실행된다.
+ * taskScheduler 는 기본 1개 스레드라 긴 작업(집계 점검 등)이 다른 작업을 막지 않도록
+ * spring.task.scheduling.pool.size 로 늘려 두고, 밀리면 안 되는 복제 지연 점검과 예약 알림 tick 은 전용 스레드를 쓴다.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
@@ -0,0 +1,105 @@
+package com.hairshop.config;
+
+import com.hairshop.datasource.ReadWriteRoutingDataSource;
+import com.hairshop.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (datasource.routing.enabled=true 일 때만)
+ *
+ * spring.datasource 로 primary 풀을, datasource.routing.replicas 로 복제본 풀을 만들고
+ * LazyConnectionDataSourceProxy(ReadWriteRoutingDataSource) 를 애플리케이션 DataSource 로 등록한다.
+ * 두 풀 모두 spring.datasource.hikari.* 설정을 따른다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig implements DisposableBean {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceRoutingProperties properties, DataSourceProperties primary,
+                                               Environment environment, MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = replicaPools(properties, primary, environment, meterRegistry);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicas, properties.lagQuery(), properties.maxLag(),
+                meterRegistry);
+        monitor.start(Duration.ofMillis(properties.lagCheckIntervalMs()));
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceRoutingProperties properties, DataSourceProperties primary,
+                                 Environment environment, MeterRegistry meterRegistry,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        HikariDataSource primaryPool = pool(primary, ReadWriteRoutingDataSource.PRIMARY, environment, meterRegistry);
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryPool,
+                replicaLagMonitor.replicas(), replicaLagMonitor,
+                properties.stickyAfterWrite(), properties.stickyMaxUsers());
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 컨텍스트 종료 시 풀 정리
+     */
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private Map<String, DataSource> replicaPools(DataSourceRoutingProperties properties, DataSourceProperties primary,
+                                                 Environment environment, MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = properties.replicas().get(i);
+            String name = replica.name() != null && !replica.name().equals(ReadWriteRoutingDataSource.PRIMARY)
+                    ? replica.name()
+                    : "replica-" + (i + 1);
+
+            DataSourceProperties connection = new DataSourceProperties();
+            connection.setDriverClassName(primary.determineDriverClassName());
+            connection.setUrl(replica.url());
+            connection.setUsername(replica.username() != null ? replica.username() : primary.determineUsername());
+            connection.setPassword(replica.password() != null ? replica.password() : primary.determinePassword());
+
+            HikariDataSource pool = pool(connection, name, environment, meterRegistry);
+            if (replica.maximumPoolSize() > 0) {
+                pool.setMaximumPoolSize(replica.maximumPoolSize());
+            }
+            pool.setReadOnly(true);
+            replicas.put(name, pool);
+        }
+        return replicas;
+    }
+
+    private HikariDataSource pool(DataSourceProperties connection, String name,
+                                  Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource pool = connection.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        pools.add(pool);
+        return pool;
+    }
+}
@@ -0,0 +1,53 @@
+package com.hairshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 (datasource.routing.*)
+ *
+ * 사용하면 @Transactional(readOnly = true) 트랜잭션은 복제본 풀로, 나머지는 spring.datasource(primary)로 보낸다.
+ *
+ * @param enabled          사용 여부 (false 면 spring.datasource 하나만 사용)
+ * @param replicas         복제본 목록 (순서대로 돌아가며 사용)
+ * @param maxLag           이보다 복제 지연이 크면 복제본을 제외
+ * @param lagQuery         복제 지연(초)을 조회하는 SQL (복제본에서 실행)
+ * @param stickyAfterWrite 사용자가 쓰기 트랜잭션을 커밋한 뒤 그 사용자의 읽기를 primary 로 보내는 시간
+ * @param stickyMaxUsers   stickiness 를 기억할 최대 사용자 수
+ * @param lagCheckIntervalMs 복제 지연 점검 주기 (전용 스레드에서 실행)
+ */
+@ConfigurationProperties(prefix = "datasource.routing")
+public record DataSourceRoutingProperties(boolean enabled, List<Replica> replicas, Duration maxLag,
+                                          String lagQuery, Duration stickyAfterWrite, long stickyMaxUsers,
+                                          long lagCheckIntervalMs) {
+
+    /**
+     * PostgreSQL 스트리밍 복제본 기준 (받은 WAL 을 모두 재생했으면 primary 가 한가해도 지연 0)
+     */
+    public static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0) END""";
+
+    public DataSourceRoutingProperties {
+        replicas = replicas != null ? replicas : List.of();
+        maxLag = maxLag != null ? maxLag : Duration.ofSeconds(5);
+        lagQuery = lagQuery != null && !lagQuery.isBlank() ? lagQuery : POSTGRES_LAG_QUERY;
+        stickyAfterWrite = stickyAfterWrite != null ? stickyAfterWrite : Duration.ofSeconds(5);
+        stickyMaxUsers = stickyMaxUsers > 0 ? stickyMaxUsers : 100_000;
+        lagCheckIntervalMs = lagCheckIntervalMs > 0 ? lagCheckIntervalMs : 1000;
+    }
+
+    /**
+     * 복제본 연결 (비어 있는 값과 spring.datasource.hikari.* 풀 설정은 primary 를 따름)
+     *
+     * @param name            풀 이름/지표 태그
+     * @param url             JDBC URL
+     * @param username        사용자 (없으면 primary 와 같음)
+     * @param password        비밀번호 (없으면 primary 와 같음)
+     * @param maximumPoolSize 풀 크기 (0 이면 primary 와 같음)
+     */
+    public record Replica(String name, String url, String username, String password, int maximumPoolSize) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.hairshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 region 별 크기/TTL 설정 (hibernate-cache.regions.*)
+ *
+ * @param regions region 이름 → 설정 (엔티티의 @Cache(region = ...) 및 쿼리 캐시 region)
+ */
+@ConfigurationProperties(prefix = "hibernate-cache")
+public record HibernateCacheProperties(Map<String, Region> regions) {
+
+    public HibernateCacheProperties {
+        regions = regions != null ? regions : Map.of();
+    }
+
+    /**
+     * @param maxSize 최대 항목 수
+     * @param ttl     저장 후 만료 시간 (없으면 만료 없음)
+     */
+    public record Region(long maxSize, Duration ttl) {
+    }
+}
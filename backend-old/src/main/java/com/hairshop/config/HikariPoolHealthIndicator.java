@@ -0,0 +1,49 @@
+package com.hairshop.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 커넥션 풀 대기열 상태 (readiness 그룹의 hikariPool)
+ *
+ * 커넥션을 기다리는 스레드가 max-pending-threads 를 넘으면 OUT_OF_SERVICE 로 응답해
+ * 로드밸런서가 이 인스턴스로 새 요청을 보내지 않도록 한다.
+ */
+@Component
+public class HikariPoolHealthIndicator implements HealthIndicator {
+
+    private final HikariDataSource hikari;
+    private final int maxPendingThreads;
+
+    public HikariPoolHealthIndicator(
+            DataSource dataSource,
+            @Value("${management.health.hikari-pool.max-pending-threads:10}") int maxPendingThreads
+    ) {
+        this.hikari = MetricsConfig.unwrapHikari(dataSource);
+        this.maxPendingThreads = maxPendingThreads;
+    }
+
+    @Override
+    public Health health() {
+        HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        if (pool == null) {
+            return Health.unknown().build();
+        }
+
+        int pending = pool.getThreadsAwaitingConnection();
+        Health.Builder builder = pending > maxPendingThreads ? Health.outOfService() : Health.up();
+        return builder
+                .withDetail("active", pool.getActiveConnections())
+                .withDetail("idle", pool.getIdleConnections())
+                .withDetail("max", hikari.getMaximumPoolSize())
+                .withDetail("pending", pending)
+                .withDetail("maxPending", maxPendingThreads)
+                .build();
+    }
+}
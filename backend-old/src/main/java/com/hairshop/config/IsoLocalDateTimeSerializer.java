@@ -0,0 +1,63 @@
+package com.hairshop.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * LocalDateTime → "yyyy-MM-dd'T'HH:mm:ss[.fraction]" (ISO_LOCAL_DATE_TIME 과 같은 출력)
+ *
+ * 포맷터를 거치지 않고 char 배열에 숫자를 직접 써서 응답마다 생기는 파싱/할당 비용을 줄인다.
+ * 소수 초는 ISO_LOCAL_DATE_TIME 과 같이 끝의 0 을 생략한다. 4자리가 아닌 연도는 포맷터로 처리.
+ */
+public class IsoLocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+    public IsoLocalDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+
+        char[] buffer = new char[29];
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        writeDigits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, value.getSecond(), 2);
+        int length = 19;
+
+        int nano = value.getNano();
+        if (nano > 0) {
+            buffer[length++] = '.';
+            writeDigits(buffer, length, nano, 9);
+            length += 9;
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.hairshop.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDateTime;
+
+/**
+ * JSON 직렬화 설정
+ *
+ * Blackbird 는 getter/생성자 호출을 리플렉션 대신 LambdaMetafactory 로 만든 함수로 바꿔 준다.
+ * (Module 빈은 Spring Boot 가 기본 ObjectMapper 에 자동 등록)
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * LocalDateTime 은 DateTimeFormatter 대신 직접 ISO 형식으로 출력
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer isoLocalDateTimeSerializerCustomizer() {
+        return builder -> builder.serializerByType(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+    }
+}
@@ -0,0 +1,70 @@
+package com.hairshop.config;
+
+import com.hairshop.security.BoundedPasswordEncoder;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 애플리케이션 지표 (Hikari 기본 지표, http.server.requests 는 Spring Boot 가 자동 등록)
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 비밀번호 해싱 풀 대기열/실행 중 작업 수
+     */
+    @Bean
+    public MeterBinder passwordEncoderMetrics(PasswordEncoder passwordEncoder) {
+        return registry -> {
+            if (passwordEncoder instanceof BoundedPasswordEncoder encoder) {
+                Gauge.builder("password.hash.queue.size", encoder, BoundedPasswordEncoder::getQueueSize)
+                        .description("대기 중인 비밀번호 해싱 작업 수")
+                        .register(registry);
+                Gauge.builder("password.hash.active", encoder, BoundedPasswordEncoder::getActiveCount)
+                        .description("실행 중인 비밀번호 해싱 작업 수")
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * 커넥션 풀 포화도 ((사용 중 + 대기 스레드) / 최대 커넥션 수, 1 이상이면 대기 발생)
+     */
+    @Bean
+    public MeterBinder hikariSaturationMetrics(DataSource dataSource) {
+        return registry -> {
+            HikariDataSource hikari = unwrapHikari(dataSource);
+            if (hikari != null) {
+                Gauge.builder("hikaricp.connections.saturation", hikari, MetricsConfig::saturation)
+                        .description("커넥션 풀 포화도")
+                        .tag("pool", String.valueOf(hikari.getPoolName()))
+                        .register(registry);
+            }
+        };
+    }
+
+    static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static double saturation(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0.0;
+        }
+        return (double) (pool.getActiveConnections() + pool.getThreadsAwaitingConnection())
+                / hikari.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,12 @@
+package com.hairshop.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * PG 사 HTTP 호출 설정 등록 (연결 풀/bulkhead/서킷 브레이커는 PgClient 가 제공사별로 생성)
+ */
+@Configuration
+@EnableConfigurationProperties(PaymentClientProperties.class)
+public class PaymentClientConfig {
+}
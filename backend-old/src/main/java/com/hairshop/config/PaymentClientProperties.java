@@ -0,0 +1,86 @@
+package com.hairshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * PG 사 HTTP 호출 설정 (payment-client.*)
+ *
+ * 제공사마다 연결 풀, bulkhead, 서킷 브레이커를 따로 두어 한 PG 가 느려져도 다른 호출에 번지지 않게 한다.
+ *
+ * @param providers 제공사 이름(toss 등) → 설정
+ */
+@ConfigurationProperties(prefix = "payment-client")
+public record PaymentClientProperties(Map<String, Provider> providers) {
+
+    public PaymentClientProperties {
+        providers = providers != null ? providers : Map.of();
+    }
+
+    /**
+     * 제공사 설정 (없으면 기본값)
+     */
+    public Provider provider(String name, String defaultBaseUrl) {
+        Provider provider = providers.get(name);
+        if (provider == null) {
+            return new Provider(defaultBaseUrl, 0, 0, null, null, null, null, null, 0, null);
+        }
+        return provider.baseUrl() != null ? provider : provider.withBaseUrl(defaultBaseUrl);
+    }
+
+    /**
+     * @param baseUrl               API 주소
+     * @param maxConnections        연결 풀 크기
+     * @param pendingAcquireMaxCount 연결을 기다릴 수 있는 최대 요청 수 (초과 시 바로 실패)
+     * @param pendingAcquireTimeout 연결 대기 제한
+     * @param maxIdleTime           유휴 연결 정리 시간 (PG 쪽 keep-alive 보다 짧게)
+     * @param connectTimeout        TCP 연결 제한
+     * @param readTimeout           요청 전송 후 응답 헤더까지 제한
+     * @param callTimeout           호출 전체 제한 (연결 대기 + 응답 본문 포함)
+     * @param maxConcurrentCalls    bulkhead: 동시에 진행할 수 있는 호출 수 (초과 시 기다리지 않고 거절)
+     * @param circuitBreaker        서킷 브레이커
+     */
+    public record Provider(String baseUrl, int maxConnections, int pendingAcquireMaxCount,
+                           Duration pendingAcquireTimeout, Duration maxIdleTime, Duration connectTimeout,
+                           Duration readTimeout, Duration callTimeout, int maxConcurrentCalls,
+                           CircuitBreakerSettings circuitBreaker) {
+
+        public Provider {
+            maxConnections = maxConnections > 0 ? maxConnections : 50;
+            pendingAcquireMaxCount = pendingAcquireMaxCount > 0 ? pendingAcquireMaxCount : 100;
+            pendingAcquireTimeout = pendingAcquireTimeout != null ? pendingAcquireTimeout : Duration.ofSeconds(1);
+            maxIdleTime = maxIdleTime != null ? maxIdleTime : Duration.ofSeconds(30);
+            connectTimeout = connectTimeout != null ? connectTimeout : Duration.ofSeconds(2);
+            readTimeout = readTimeout != null ? readTimeout : Duration.ofSeconds(10);
+            callTimeout = callTimeout != null ? callTimeout : Duration.ofSeconds(15);
+            maxConcurrentCalls = maxConcurrentCalls > 0 ? maxConcurrentCalls : maxConnections;
+            circuitBreaker = circuitBreaker != null ? circuitBreaker : new CircuitBreakerSettings(0, 0, 0, null, 0);
+        }
+
+        Provider withBaseUrl(String url) {
+            return new Provider(url, maxConnections, pendingAcquireMaxCount, pendingAcquireTimeout, maxIdleTime,
+                    connectTimeout, readTimeout, callTimeout, maxConcurrentCalls, circuitBreaker);
+        }
+    }
+
+    /**
+     * @param windowSize           실패율을 계산할 최근 호출 수
+     * @param minimumCalls         실패율을 판단하기 위한 최소 호출 수
+     * @param failureRateThreshold OPEN 으로 바꿀 실패율 (0 ~ 1)
+     * @param openDuration         OPEN 유지 시간 (이후 시험 호출)
+     * @param halfOpenCalls        시험 호출 수
+     */
+    public record CircuitBreakerSettings(int windowSize, int minimumCalls, double failureRateThreshold,
+                                         Duration openDuration, int halfOpenCalls) {
+
+        public CircuitBreakerSettings {
+            windowSize = windowSize > 0 ? windowSize : 50;
+            minimumCalls = minimumCalls > 0 ? Math.min(minimumCalls, windowSize) : Math.min(10, windowSize);
+            failureRateThreshold = failureRateThreshold > 0 ? failureRateThreshold : 0.5;
+            openDuration = openDuration != null ? openDuration : Duration.ofSeconds(30);
+            halfOpenCalls = halfOpenCalls > 0 ? halfOpenCalls : 3;
+        }
+    }
+}
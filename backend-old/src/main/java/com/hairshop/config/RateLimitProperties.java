@@ -0,0 +1,45 @@
+package com.hairshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 경로별 요청 수 제한 설정 (rate-limit.*)
+ *
+ * @param enabled     사용 여부
+ * @param maxKeys     규칙마다 기억할 최대 키(IP/계정) 수
+ * @param idleTimeout 이 시간 동안 요청이 없는 키는 삭제
+ * @param rules       규칙 이름 → 설정
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(boolean enabled, long maxKeys, Duration idleTimeout, Map<String, Rule> rules) {
+
+    public RateLimitProperties {
+        maxKeys = maxKeys > 0 ? maxKeys : 100_000;
+        idleTimeout = idleTimeout != null ? idleTimeout : Duration.ofMinutes(10);
+        rules = rules != null ? rules : Map.of();
+    }
+
+    /**
+     * @param path         Ant 경로 패턴 (context-path 제외)
+     * @param method       HTTP 메서드 (없으면 전체)
+     * @param ip           클라이언트 IP 별 제한
+     * @param account      계정별 제한 (JSON 본문의 accountField 값 기준)
+     * @param accountField 계정으로 사용할 JSON 필드 이름
+     */
+    public record Rule(String path, String method, Limit ip, Limit account, String accountField) {
+
+        public Rule {
+            accountField = accountField != null ? accountField : "email";
+        }
+    }
+
+    /**
+     * @param capacity 연속으로 허용하는 최대 요청 수
+     * @param period   capacity 만큼 다시 채워지는 시간
+     */
+    public record Limit(int capacity, Duration period) {
+    }
+}
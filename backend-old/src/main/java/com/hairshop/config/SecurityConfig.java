@@ -1,9 +1,15 @@
 package com.hairshop.config;
 
+import com.hairshop.security.BoundedPasswordEncoder;
 import com.hairshop.security.JwtAuthenticationFilter;
+import com.hairshop.security.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -14,14 +20,50 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    // 인증 없이 접근 가능한 경로
+    public static final String[] PUBLIC_PATHS = {
+            "/auth/**",
+            "/shops/**",
+            "/services/**",
+            "/reviews/**",
+            "/health"
+    };
+
+    // JWT 필터를 건너뛰는 경로 (인증 정보를 전혀 사용하지 않는 공개 경로)
+    // "/auth/me", "/auth/logout" 은 PUBLIC_PATHS 에 포함되지만 인증 정보가 필요하므로 제외
+    public static final String[] JWT_SKIP_PATHS = {
+            "/auth/signup",
+            "/auth/login",
+            "/auth/refresh",
+            "/health",
+            "/actuator/health/**"
+    };
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
+    /**
+     * BCrypt 해싱을 전용 스레드 풀에서 실행하는 PasswordEncoder
+     * (pool-size 0 이면 CPU 코어 수만큼 워커 생성)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${bcrypt.strength:10}") int strength,
+            @Value("${bcrypt.pool-size:0}") int poolSize,
+            @Value("${bcrypt.queue-capacity:64}") int queueCapacity,
+            @Value("${bcrypt.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        int workers = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(strength),
+                workers,
+                queueCapacity,
+                retryAfterSeconds
+        );
     }
 
     @Bean
@@ -37,20 +79,34 @@ public class SecurityConfig {
 
                 // 요청 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(결제 승인 등)의 ASYNC dispatch 는 처음 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // 내 정보 조회는 인증 필요 (폐기/만료된 토큰 거부)
+                        .requestMatchers("/auth/me").authenticated()
+                        // 리뷰 조회만 공개, 작성/수정/삭제는 인증 필요
+                        .requestMatchers(HttpMethod.POST, "/reviews/**").authenticated()
+                        .requestMatchers(HttpMethod.PUT, "/reviews/**").authenticated()
+                        .requestMatchers(HttpMethod.DELETE, "/reviews/**").authenticated()
+                        // 고객 일괄 등록은 사장님/관리자만
+                        .requestMatchers(HttpMethod.POST, "/users/import").hasAnyRole("OWNER", "ADMIN")
+                        // 사장님 대시보드 (본인 미용실 확인은 서비스에서)
+                        .requestMatchers("/owner/**").hasRole("OWNER")
+                        // 관리자 전용 (캐시 통계 등)
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
+                        // 헬스 체크(liveness/readiness)는 공개, 나머지 Actuator 는 관리자만
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 인증 없이 접근 가능한 경로
-                        .requestMatchers(
-                                "/auth/**",
-                                "/shops/**",
-                                "/services/**",
-                                "/reviews/**",
-                                "/health"
-                        ).permitAll()
+                        .requestMatchers(PUBLIC_PATHS).permitAll()
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
 
                 // JWT 인증 필터 추가
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // 요청 수 제한 (토큰 파싱, BCrypt 검증 전에 거절)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,26 @@
+package com.hairshop.config;
+
+import com.hairshop.logging.SampledSqlInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 샘플링 로그 (sql-logging.sample-rate 가 0 이면 사용 안 함)
+ */
+@Configuration
+public class SqlLoggingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sampledSqlLoggingCustomizer(
+            @Value("${sql-logging.sample-rate:0}") double sampleRate
+    ) {
+        return hibernateProperties -> {
+            if (sampleRate > 0) {
+                hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SampledSqlInspector(sampleRate));
+            }
+        };
+    }
+}
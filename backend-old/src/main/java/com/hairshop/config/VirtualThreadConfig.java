@@ -0,0 +1,28 @@
+package com.hairshop.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 가상 스레드 실행 모드 (virtual 프로필)
+ *
+ * spring.threads.virtual.enabled 는 Java 21 미만에서 조용히 무시되므로,
+ * 프로필을 켰는데 플랫폼 스레드로 떠 있는 상황을 막기 위해 기동 시 런타임 버전을 확인한다.
+ */
+@Slf4j
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+    private static final int MINIMUM_JAVA_VERSION = 21;
+
+    public VirtualThreadConfig() {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < MINIMUM_JAVA_VERSION) {
+            throw new IllegalStateException(
+                    "virtual 프로필은 Java " + MINIMUM_JAVA_VERSION + " 이상이 필요합니다 (현재: " + javaVersion + ")");
+        }
+        log.info("가상 스레드 실행 모드로 기동합니다 (Java {})", javaVersion);
+    }
+}
@@ -0,0 +1,37 @@
+package com.hairshop.controller;
+
+import com.hairshop.dto.response.CacheRegionStatisticsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/cache")
+@RequiredArgsConstructor
+public class AdminCacheController {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 2차 캐시 region 별 hit/miss 통계
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<List<CacheRegionStatisticsResponse>> getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheRegionStatisticsResponse> response = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> CacheRegionStatisticsResponse.of(region, statistics.getCacheRegionStatistics(region)))
+                .toList();
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,25 @@
+package com.hairshop.controller;
+
+import com.hairshop.domain.shop.service.ShopDailyStatsService;
+import com.hairshop.dto.response.DailyStatsBackfillResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/daily-stats")
+@RequiredArgsConstructor
+public class AdminDailyStatsController {
+
+    private final ShopDailyStatsService shopDailyStatsService;
+
+    /**
+     * 일일 집계 재집계 및 보정 (reservations/payments 기준, 처음 채울 때도 사용)
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<DailyStatsBackfillResponse> backfill() {
+        return ResponseEntity.ok(shopDailyStatsService.backfill());
+    }
+}
@@ -0,0 +1,26 @@
+package com.hairshop.controller;
+
+import com.hairshop.domain.shop.service.ShopRatingStatsService;
+import com.hairshop.dto.response.RatingReconcileResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/rating-stats")
+@RequiredArgsConstructor
+public class AdminRatingStatsController {
+
+    private final ShopRatingStatsService shopRatingStatsService;
+
+    /**
+     * 평점 집계 정합성 점검 (reviews 기준, repair=true 면 불일치 미용실을 다시 센 값으로 보정)
+     */
+    @PostMapping("/reconcile")
+    public ResponseEntity<RatingReconcileResponse> reconcile(@RequestParam(defaultValue = "false") boolean repair) {
+        return ResponseEntity.ok(shopRatingStatsService.reconcile(repair));
+    }
+}
@@ -5,6 +5,8 @@ import com.hairshop.dto.request.LoginRequest;
 import com.hairshop.dto.request.SignupRequest;
 import com.hairshop.dto.response.AuthResponse;
 import com.hairshop.dto.response.UserResponse;
+import com.hairshop.security.JwtPrincipal;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +26,7 @@ public class AuthController {
      * 회원가입
      */
     @PostMapping("/signup")
+    @Timed(value = "auth.signup", histogram = true)
     public ResponseEntity<AuthResponse> signup(@Valid @RequestBody SignupRequest request) {
         AuthResponse response = userService.signup(request);
         return ResponseEntity.ok(response);
@@ -33,6 +36,7 @@ public class AuthController {
      * 로그인
      */
     @PostMapping("/login")
+    @Timed(value = "auth.login", histogram = true)
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
         AuthResponse response = userService.login(request);
         return ResponseEntity.ok(response);
@@ -42,16 +46,27 @@ public class AuthController {
      * 내 정보 조회
      */
     @GetMapping("/me")
+    @Timed(value = "auth.me", histogram = true)
     public ResponseEntity<UserResponse> getMe(Authentication authentication) {
         Long userId = (Long) authentication.getPrincipal();
         UserResponse response = userService.getUserById(userId);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 회원 탈퇴
+     */
+    @DeleteMapping("/me")
+    public ResponseEntity<Map<String, String>> withdraw(Authentication authentication) {
+        userService.withdraw((JwtPrincipal) authentication.getCredentials());
+        return ResponseEntity.ok(Map.of("message", "탈퇴되었습니다"));
+    }
+
     /**
      * 토큰 갱신
      */
     @PostMapping("/refresh")
+    @Timed(value = "auth.refresh", histogram = true)
     public ResponseEntity<AuthResponse> refresh(@RequestBody Map<String, String> request) {
         String refreshToken = request.get("refreshToken");
         AuthResponse response = userService.refreshToken(refreshToken);
@@ -59,10 +74,13 @@ public class AuthController {
     }
 
     /**
-     * 로그아웃 (클라이언트에서 토큰 삭제)
+     * 로그아웃 (Access Token 및 Refresh Token 패밀리 폐기)
      */
     @PostMapping("/logout")
-    public ResponseEntity<Map<String, String>> logout() {
+    public ResponseEntity<Map<String, String>> logout(Authentication authentication) {
+        if (authentication != null && authentication.getCredentials() instanceof JwtPrincipal accessToken) {
+            userService.logout(accessToken);
+        }
         return ResponseEntity.ok(Map.of("message", "로그아웃되었습니다"));
     }
 }
@@ -0,0 +1,33 @@
+package com.hairshop.controller;
+
+import com.hairshop.domain.notification.service.NotificationService;
+import com.hairshop.dto.response.CursorPageResponse;
+import com.hairshop.dto.response.NotificationResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    /**
+     * 내 알림함 (최근 순, 다음 페이지는 응답의 nextCursor 를 cursor 로)
+     */
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<NotificationResponse>> getNotifications(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = (Long) authentication.getPrincipal();
+        return ResponseEntity.ok(notificationService.getNotifications(userId, cursor, size));
+    }
+}
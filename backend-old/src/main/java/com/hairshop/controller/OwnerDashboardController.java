@@ -0,0 +1,73 @@
+package com.hairshop.controller;
+
+import com.hairshop.domain.reservation.service.ReservationService;
+import com.hairshop.domain.shop.service.ShopDashboardService;
+import com.hairshop.dto.response.CursorPageResponse;
+import com.hairshop.dto.response.ReservationResponse;
+import com.hairshop.dto.response.ShopDailyStatsResponse;
+import com.hairshop.dto.response.ShopDashboardResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/owner/shops")
+@RequiredArgsConstructor
+public class OwnerDashboardController {
+
+    private final ShopDashboardService shopDashboardService;
+    private final ReservationService reservationService;
+
+    /**
+     * 대시보드 요약 (date 가 없으면 오늘)
+     */
+    @GetMapping("/{shopId}/dashboard")
+    public ResponseEntity<ShopDashboardResponse> getSummary(
+            Authentication authentication,
+            @PathVariable Long shopId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        Long ownerId = (Long) authentication.getPrincipal();
+        ShopDashboardResponse response = shopDashboardService.getSummary(
+                ownerId, shopId, date != null ? date : LocalDate.now());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 월간 일별 집계 (month: yyyy-MM)
+     */
+    @GetMapping("/{shopId}/daily-stats")
+    public ResponseEntity<List<ShopDailyStatsResponse>> getMonthly(
+            Authentication authentication,
+            @PathVariable Long shopId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @RequestParam(required = false) Long serviceId
+    ) {
+        Long ownerId = (Long) authentication.getPrincipal();
+        List<ShopDailyStatsResponse> response = shopDashboardService.getMonthly(ownerId, shopId, month, serviceId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 미용실 예약 목록 (from 날짜부터 예약 일시순, from 이 없으면 오늘부터)
+     */
+    @GetMapping("/{shopId}/reservations")
+    public ResponseEntity<CursorPageResponse<ReservationResponse>> getReservations(
+            Authentication authentication,
+            @PathVariable Long shopId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long ownerId = (Long) authentication.getPrincipal();
+        CursorPageResponse<ReservationResponse> response = reservationService.getShopReservations(
+                ownerId, shopId, from != null ? from : LocalDate.now(), cursor, size);
+        return ResponseEntity.ok(response);
+    }
+}
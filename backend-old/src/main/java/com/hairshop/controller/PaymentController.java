@@ -0,0 +1,49 @@
+package com.hairshop.controller;
+
+import com.hairshop.domain.payment.service.PaymentService;
+import com.hairshop.dto.request.PaymentConfirmRequest;
+import com.hairshop.dto.request.PaymentPrepareRequest;
+import com.hairshop.dto.response.PaymentResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/payments")
+@RequiredArgsConstructor
+public class PaymentController {
+
+    private final PaymentService paymentService;
+
+    /**
+     * 결제 준비 (주문 번호 발급)
+     */
+    @PostMapping
+    public ResponseEntity<PaymentResponse> prepare(
+            Authentication authentication,
+            @Valid @RequestBody PaymentPrepareRequest request
+    ) {
+        Long customerId = (Long) authentication.getPrincipal();
+        PaymentResponse response = paymentService.prepare(customerId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 결제 승인 (PG 응답은 비동기로 기다림, 요청 스레드 반환)
+     */
+    @PostMapping("/confirm")
+    public Mono<ResponseEntity<PaymentResponse>> confirm(
+            Authentication authentication,
+            @Valid @RequestBody PaymentConfirmRequest request
+    ) {
+        Long customerId = (Long) authentication.getPrincipal();
+        return paymentService.confirm(customerId, request)
+                .map(ResponseEntity::ok);
+    }
+}
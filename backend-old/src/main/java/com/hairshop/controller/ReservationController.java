@@ -0,0 +1,62 @@
+package com.hairshop.controller;
+
+import com.hairshop.domain.reservation.service.ReservationService;
+import com.hairshop.dto.request.ReservationRequest;
+import com.hairshop.dto.response.CursorPageResponse;
+import com.hairshop.dto.response.ReservationResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/reservations")
+@RequiredArgsConstructor
+public class ReservationController {
+
+    private final ReservationService reservationService;
+
+    /**
+     * 예약 생성
+     */
+    @PostMapping
+    public ResponseEntity<ReservationResponse> create(
+            Authentication authentication,
+            @Valid @RequestBody ReservationRequest request
+    ) {
+        Long customerId = (Long) authentication.getPrincipal();
+        ReservationResponse response = reservationService.create(customerId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 예약 취소
+     */
+    @PostMapping("/{reservationId}/cancel")
+    public ResponseEntity<ReservationResponse> cancel(
+            Authentication authentication,
+            @PathVariable Long reservationId,
+            @RequestBody(required = false) Map<String, String> request
+    ) {
+        Long customerId = (Long) authentication.getPrincipal();
+        String reason = request != null ? request.get("reason") : null;
+        ReservationResponse response = reservationService.cancel(customerId, reservationId, reason);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 내 예약 목록 (최근 예약한 순, 다음 페이지는 응답의 nextCursor 를 cursor 로)
+     */
+    @GetMapping("/me")
+    public ResponseEntity<CursorPageResponse<ReservationResponse>> getMyReservations(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long customerId = (Long) authentication.getPrincipal();
+        return ResponseEntity.ok(reservationService.getMyReservations(customerId, cursor, size));
+    }
+}
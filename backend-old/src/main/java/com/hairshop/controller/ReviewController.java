@@ -0,0 +1,59 @@
+package com.hairshop.controller;
+
+import com.hairshop.domain.review.service.ReviewService;
+import com.hairshop.dto.request.ReviewRequest;
+import com.hairshop.dto.request.ReviewUpdateRequest;
+import com.hairshop.dto.response.ReviewResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/reviews")
+@RequiredArgsConstructor
+public class ReviewController {
+
+    private final ReviewService reviewService;
+
+    /**
+     * 리뷰 작성
+     */
+    @PostMapping
+    public ResponseEntity<ReviewResponse> create(
+            Authentication authentication,
+            @Valid @RequestBody ReviewRequest request
+    ) {
+        Long customerId = (Long) authentication.getPrincipal();
+        ReviewResponse response = reviewService.create(customerId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 리뷰 수정
+     */
+    @PutMapping("/{reviewId}")
+    public ResponseEntity<ReviewResponse> update(
+            Authentication authentication,
+            @PathVariable Long reviewId,
+            @Valid @RequestBody ReviewUpdateRequest request
+    ) {
+        Long customerId = (Long) authentication.getPrincipal();
+        ReviewResponse response = reviewService.update(customerId, reviewId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 리뷰 삭제
+     */
+    @DeleteMapping("/{reviewId}")
+    public ResponseEntity<Void> delete(
+            Authentication authentication,
+            @PathVariable Long reviewId
+    ) {
+        Long customerId = (Long) authentication.getPrincipal();
+        reviewService.delete(customerId, reviewId);
+        return ResponseEntity.noContent().build();
+    }
+}
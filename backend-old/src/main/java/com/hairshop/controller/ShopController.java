@@ -0,0 +1,50 @@
+package com.hairshop.controller;
+
+import com.hairshop.domain.schedule.service.AvailabilityService;
+import com.hairshop.domain.shop.service.NearbyShopService;
+import com.hairshop.dto.response.AvailabilityResponse;
+import com.hairshop.dto.response.NearbyShopResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/shops")
+@RequiredArgsConstructor
+public class ShopController {
+
+    private final AvailabilityService availabilityService;
+    private final NearbyShopService nearbyShopService;
+
+    /**
+     * 주변 미용실 검색 (radius 가 없으면 가까운 순 limit 곳)
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyShopResponse>> getNearbyShops(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Integer radius,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "DISTANCE") NearbyShopService.SortOrder sort
+    ) {
+        List<NearbyShopResponse> response = nearbyShopService.search(lat, lng, radius, limit, sort);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 서비스별 예약 가능 시간 조회
+     */
+    @GetMapping("/{shopId}/availability")
+    public ResponseEntity<AvailabilityResponse> getAvailability(
+            @PathVariable Long shopId,
+            @RequestParam Long serviceId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        AvailabilityResponse response = availabilityService.getAvailableSlots(shopId, serviceId, date);
+        return ResponseEntity.ok(response);
+    }
+}
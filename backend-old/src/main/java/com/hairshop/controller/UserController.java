@@ -0,0 +1,29 @@
+package com.hairshop.controller;
+
+import com.hairshop.domain.user.service.UserImportService;
+import com.hairshop.dto.response.UserImportResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final UserImportService userImportService;
+
+    /**
+     * 고객 일괄 등록 (CSV 본문을 버퍼링하지 않고 스트리밍 처리)
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain"})
+    public ResponseEntity<UserImportResponse> importUsers(InputStream body) throws IOException {
+        UserImportResponse response = userImportService.importCsv(body);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,99 @@
+package com.hairshop.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 primary 로 보내는 DataSource
+ *
+ * 물리 커넥션을 얻는 시점의 트랜잭션 readOnly 여부로 고르므로 LazyConnectionDataSourceProxy 로 감싸서 써야 한다
+ * (JPA 는 트랜잭션 시작 시 커넥션을 받은 뒤에야 readOnly 를 등록하기 때문).
+ * 복제본은 사용 가능한 것들 중 돌아가며 고르고, 사용 가능한 복제본이 없으면 primary 를 쓴다.
+ * 사용자가 쓰기 트랜잭션을 커밋하면 stickyAfterWrite 동안 그 사용자의 읽기도 primary 로 보내
+ * 복제 지연 때문에 방금 쓴 내용이 안 보이는 일을 막는다 (서버별 메모리 기록).
+ * 사용자는 WriterContext 로 지정한 id 를 먼저 보고, 없으면 보안 컨텍스트에서 찾는다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Cache<Long, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param replicas 복제본 이름 → DataSource (lagMonitor 와 같은 이름)
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                      ReplicaLagMonitor lagMonitor, Duration stickyAfterWrite, long stickyMaxUsers) {
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+
+        this.lagMonitor = lagMonitor;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyAfterWrite)
+                .maximumSize(stickyMaxUsers)
+                .build();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                rememberWriter(userId);
+            }
+            return PRIMARY;
+        }
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            return PRIMARY;
+        }
+
+        List<String> healthy = lagMonitor.healthyReplicas();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+
+    /**
+     * 커밋 후부터 stickiness 적용 (롤백되면 적용 안 함)
+     */
+    private void rememberWriter(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentWriters.put(userId, Boolean.TRUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static Long currentUserId() {
+        Long writer = WriterContext.currentUserId();
+        if (writer != null) {
+            return writer;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof Long userId ? userId : null;
+    }
+}
@@ -0,0 +1,138 @@
+package com.hairshop.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 복제본 지연 감시 (지연이 max-lag 를 넘거나 조회에 실패한 복제본은 읽기 대상에서 제외)
+ *
+ * 주기적으로 각 복제본에서 lag-query 를 실행해 사용 가능한 복제본 목록을 통째로 바꾼다.
+ * 첫 점검 전에는 모든 복제본을 사용 가능으로 본다.
+ * 다른 @Scheduled 작업(집계 점검 등)이 길어져도 점검이 밀리지 않도록 전용 스레드에서 실행한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    // 복제본 이름 → 마지막으로 잰 지연(초), 조회 실패는 -1
+    private final Map<String, Double> lags = new ConcurrentHashMap<>();
+
+    // 스레드는 start 에서 첫 점검을 등록할 때 만들어짐
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-lag-"));
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private volatile List<String> healthy;
+
+    /**
+     * @param replicas 복제본 이름 → DataSource (순서 유지)
+     */
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, String lagQuery, Duration maxLag,
+                             MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.healthy = List.copyOf(replicas.keySet());
+
+        replicas.keySet().forEach(name -> {
+            lags.put(name, 0.0);
+            Gauge.builder("datasource.replica.lag", lags, map -> map.getOrDefault(name, -1.0))
+                    .description("복제 지연 (초, 조회 실패는 -1)")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+        Gauge.builder("datasource.replica.healthy", this, monitor -> monitor.healthyReplicas().size())
+                .description("읽기에 사용 중인 복제본 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 복제본 이름 → DataSource
+     */
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    /**
+     * 읽기에 사용할 수 있는 복제본 (비어 있으면 primary 에서 읽음)
+     */
+    public List<String> healthyReplicas() {
+        return healthy;
+    }
+
+    /**
+     * interval 마다 전용 스레드에서 점검 시작
+     */
+    public void start(Duration interval) {
+        if (started.compareAndSet(false, true)) {
+            scheduler.scheduleWithFixedDelay(this::checkSafely, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 전체 복제본 점검
+     */
+    public void check() {
+        List<String> next = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> {
+            double lag = measure(name, dataSource);
+            lags.put(name, lag);
+            if (lag >= 0 && lag <= maxLagSeconds) {
+                next.add(name);
+            }
+        });
+
+        List<String> previous = healthy;
+        healthy = List.copyOf(next);
+        if (!previous.equals(healthy)) {
+            log.warn("읽기 복제본 변경: {} -> {} (지연 {})", previous, healthy, lags);
+        }
+    }
+
+    // 예외로 주기 실행이 멈추지 않도록
+    private void checkSafely() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            log.warn("복제본 지연 점검 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private double measure(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(Math.max(1, (int) Math.ceil(maxLagSeconds)));
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                return resultSet.next() ? Math.max(0, resultSet.getDouble(1)) : -1;
+            }
+        } catch (SQLException e) {
+            log.debug("복제본 {} 지연 조회 실패: {}", name, e.getMessage());
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.hairshop.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 스레드 밖(Reactor 스케줄러, 비동기 작업 등)에서 쓰는 사용자 id
+ *
+ * 보안 컨텍스트가 없는 스레드에서 사용자의 쓰기 트랜잭션을 실행할 때 감싸 두면
+ * ReadWriteRoutingDataSource 가 커밋 후 그 사용자의 읽기를 primary 로 보낸다.
+ */
+public final class WriterContext {
+
+    private static final ThreadLocal<Long> USER_ID = new ThreadLocal<>();
+
+    private WriterContext() {
+    }
+
+    /**
+     * userId 사용자로 action 실행 (끝나면 이전 값으로 되돌림)
+     */
+    public static <T> T call(Long userId, Supplier<T> action) {
+        Long previous = USER_ID.get();
+        USER_ID.set(userId);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                USER_ID.remove();
+            } else {
+                USER_ID.set(previous);
+            }
+        }
+    }
+
+    /**
+     * userId 사용자로 action 실행 (끝나면 이전 값으로 되돌림)
+     */
+    public static void run(Long userId, Runnable action) {
+        call(userId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    static Long currentUserId() {
+        return USER_ID.get();
+    }
+}
@@ -0,0 +1,31 @@
+package com.hairshop.domain.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 서버 중 한 곳에서만 실행할 작업의 잠금 (작업 이름당 한 행)
+ *
+ * lockedUntil 이 지나면 다른 서버가 가져갈 수 있다. 행은 JobLockService 가 JDBC 로 생성/갱신한다.
+ */
+@Entity
+@Table(name = "job_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLock {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(nullable = false, length = 100)
+    private String lockedBy;
+}
@@ -0,0 +1,18 @@
+package com.hairshop.domain.common.repository;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이지 (nextCursor 가 null 이면 마지막 페이지)
+ */
+public record KeysetPage<T>(List<T> content, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPage<>(content.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,28 @@
+package com.hairshop.domain.common.repository;
+
+import lombok.Builder;
+import lombok.Singular;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * keyset 페이지 조회 조건
+ *
+ * @param filters     같아야 하는 속성 (정렬 키 앞쪽의 색인 열)
+ * @param lowerBounds 이 값 이상이어야 하는 속성 (오름차순 목록의 시작 날짜 등)
+ * @param keys        정렬 키 (마지막은 유일한 값, 보통 id), 색인 열 순서와 같게
+ * @param descending  모든 정렬 키를 내림차순으로
+ * @param cursor      이전 페이지의 nextCursor (첫 페이지는 null)
+ * @param size        페이지 크기
+ */
+@Builder
+public record KeysetQuery(
+        @Singular Map<String, Object> filters,
+        @Singular Map<String, Comparable<?>> lowerBounds,
+        @Singular List<String> keys,
+        boolean descending,
+        String cursor,
+        int size
+) {
+}
@@ -0,0 +1,18 @@
+package com.hairshop.domain.common.repository;
+
+/**
+ * keyset(seek) 페이지 조회 fragment (Spring Data 리포지토리가 상속해 사용)
+ *
+ * offset 페이지는 앞 페이지 행을 모두 읽고 버리므로 깊이에 비례해 느려진다.
+ * keyset 은 이전 페이지 마지막 행의 정렬 키 다음부터 읽으므로, (filters..., keys...) 복합 색인이 있으면
+ * 페이지 깊이와 관계없이 색인 범위 조회 한 번이다. 페이지 사이에 행이 추가/삭제되어도 중복이나 누락이 없다.
+ */
+public interface KeysetRepository {
+
+    int MAX_PAGE_SIZE = 100;
+
+    /**
+     * @throws com.hairshop.exception.BusinessException 커서가 잘못되었거나 size 가 1~MAX_PAGE_SIZE 밖인 경우 (INVALID_REQUEST)
+     */
+    <T> KeysetPage<T> findKeyset(Class<T> entityType, KeysetQuery query);
+}
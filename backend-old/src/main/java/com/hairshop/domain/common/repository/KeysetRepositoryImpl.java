@@ -0,0 +1,129 @@
+package com.hairshop.domain.common.repository;
+
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import com.hairshop.util.CursorCodec;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * KeysetRepository 구현 (Criteria API)
+ *
+ * 정렬 키 (k1, k2, ..., kn) 의 커서 다음 조건은 행 값 비교 (k1, ..., kn) > (v1, ..., vn) 를 풀어 쓴
+ * k1 > v1 OR (k1 = v1 AND k2 > v2) OR ... 이고, 색인 범위 조회가 되도록 k1 >= v1 을 함께 건다.
+ */
+public class KeysetRepositoryImpl implements KeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final CursorCodec cursorCodec;
+
+    public KeysetRepositoryImpl(@Value("${cursor.secret}") String cursorSecret) {
+        this.cursorCodec = new CursorCodec(cursorSecret);
+    }
+
+    @Override
+    public <T> KeysetPage<T> findKeyset(Class<T> entityType, KeysetQuery query) {
+        if (query.keys().isEmpty()) {
+            throw new IllegalArgumentException("정렬 키가 없습니다");
+        }
+        if (query.size() < 1 || query.size() > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "페이지 크기는 1~" + MAX_PAGE_SIZE + " 이어야 합니다");
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> criteria = cb.createQuery(entityType);
+        Root<T> root = criteria.from(entityType);
+
+        List<Predicate> where = new ArrayList<>();
+        query.filters().forEach((name, value) -> where.add(cb.equal(root.get(name), value)));
+        query.lowerBounds().forEach((name, value) -> where.add(compare(cb, root.get(name), value, false, true)));
+        String signature = signature(entityType, query);
+        if (query.cursor() != null && !query.cursor().isBlank()) {
+            List<Class<?>> types = query.keys().stream()
+                    .<Class<?>>map(key -> root.getModel().getAttribute(key).getJavaType())
+                    .toList();
+            where.add(after(cb, root, query, decode(query.cursor(), signature, types)));
+        }
+
+        List<Order> orders = query.keys().stream()
+                .map(key -> query.descending() ? cb.desc(root.get(key)) : cb.asc(root.get(key)))
+                .toList();
+        criteria.select(root).where(where.toArray(Predicate[]::new)).orderBy(orders);
+
+        // 다음 페이지가 있는지 보려고 한 행 더 읽음
+        List<T> rows = entityManager.createQuery(criteria)
+                .setMaxResults(query.size() + 1)
+                .getResultList();
+        if (rows.size() <= query.size()) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> content = rows.subList(0, query.size());
+        return new KeysetPage<>(List.copyOf(content), cursorOf(content.get(content.size() - 1), query, signature));
+    }
+
+    /**
+     * 커서 다음 행 조건
+     */
+    private static Predicate after(CriteriaBuilder cb, Root<?> root, KeysetQuery query, List<Object> values) {
+        List<String> keys = query.keys();
+        List<Predicate> alternatives = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            List<Predicate> terms = new ArrayList<>(i + 1);
+            for (int j = 0; j < i; j++) {
+                terms.add(cb.equal(root.get(keys.get(j)), values.get(j)));
+            }
+            terms.add(compare(cb, root.get(keys.get(i)), values.get(i), query.descending(), false));
+            alternatives.add(cb.and(terms.toArray(Predicate[]::new)));
+        }
+        Predicate leading = compare(cb, root.get(keys.get(0)), values.get(0), query.descending(), true);
+        return cb.and(leading, cb.or(alternatives.toArray(Predicate[]::new)));
+    }
+
+    /**
+     * path 가 value 보다 뒤 (오름차순이면 큼, 내림차순이면 작음)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate compare(CriteriaBuilder cb, Expression path, Object value,
+                                     boolean descending, boolean inclusive) {
+        Comparable bound = (Comparable) value;
+        if (descending) {
+            return inclusive ? cb.lessThanOrEqualTo(path, bound) : cb.lessThan(path, bound);
+        }
+        return inclusive ? cb.greaterThanOrEqualTo(path, bound) : cb.greaterThan(path, bound);
+    }
+
+    /**
+     * IllegalArgumentException 은 리포지토리 예외 변환에서 500 이 되므로 400 으로 바꿔 던짐
+     */
+    private List<Object> decode(String cursor, String signature, List<Class<?>> types) {
+        try {
+            return cursorCodec.decode(cursor, signature, types);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "잘못된 커서입니다");
+        }
+    }
+
+    private String cursorOf(Object last, KeysetQuery query, String signature) {
+        PropertyAccessor accessor = PropertyAccessorFactory.forDirectFieldAccess(last);
+        List<Object> values = query.keys().stream().map(accessor::getPropertyValue).toList();
+        return cursorCodec.encode(signature, values);
+    }
+
+    private static String signature(Class<?> entityType, KeysetQuery query) {
+        return entityType.getSimpleName() + ":" + String.join(",", query.keys())
+                + (query.descending() ? ":desc" : ":asc");
+    }
+}
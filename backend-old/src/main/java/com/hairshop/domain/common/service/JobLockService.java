@@ -0,0 +1,83 @@
+package com.hairshop.domain.common.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 여러 서버 중 한 곳에서만 작업 실행 (job_locks 행 잠금)
+ *
+ * 잠금이 비어 있거나 lockedUntil 이 지났으면 lockAtMostFor 동안 가져가고, 작업이 끝나면
+ * 시작 + lockAtLeastFor 까지만 유지한다. 같은 cron 이 서버마다 조금씩 다른 시각에 실행되더라도
+ * lockAtLeastFor 안에서는 다시 실행되지 않는다. 작업 중 서버가 종료되면 lockAtMostFor 후에 풀린다.
+ */
+@Slf4j
+@Service
+public class JobLockService {
+
+    private static final String ACQUIRE_SQL = """
+            UPDATE job_locks SET locked_until = ?, locked_at = ?, locked_by = ?
+            WHERE name = ? AND locked_until <= ?
+            """;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO job_locks (name, locked_until, locked_at, locked_by) VALUES (?, ?, ?, ?)";
+
+    private static final String RELEASE_SQL = "UPDATE job_locks SET locked_until = ? WHERE name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String instanceId;
+
+    public JobLockService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.instanceId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 잠금을 얻으면 작업을 실행해 결과를 반환하고, 다른 곳에서 실행 중이면 빈 값 반환
+     */
+    public <T> Optional<T> tryRun(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Supplier<T> job) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!acquire(name, startedAt, startedAt.plus(lockAtMostFor))) {
+            log.info("작업 {} 건너뜀: 다른 곳에서 실행 중", name);
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(job.get());
+        } finally {
+            LocalDateTime minUntil = startedAt.plus(lockAtLeastFor);
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update(RELEASE_SQL, now.isAfter(minUntil) ? now : minUntil, name, instanceId);
+        }
+    }
+
+    private boolean acquire(String name, LocalDateTime now, LocalDateTime lockedUntil) {
+        if (jdbcTemplate.update(ACQUIRE_SQL, lockedUntil, now, instanceId, name, now) > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, lockedUntil, now, instanceId) > 0;
+        } catch (DuplicateKeyException e) {
+            // 행이 있고 아직 잠겨 있음 (또는 다른 서버가 방금 만듦)
+            return false;
+        }
+    }
+
+    private static String hostName() {
+        try {
+            String hostName = InetAddress.getLocalHost().getHostName();
+            return hostName.length() > 80 ? hostName.substring(0, 80) : hostName;
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
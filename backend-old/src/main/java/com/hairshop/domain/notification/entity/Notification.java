@@ -0,0 +1,111 @@
+package com.hairshop.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 (앱 알림함 + 발송 대기열)
+ *
+ * PENDING 으로 저장되면 NotificationDispatcher 가 채널별로 묶어 발송하고 결과를 status 에 남긴다.
+ */
+@Entity
+@Table(name = "notifications", indexes = {
+        // 알림함 keyset 페이지 (userId 만 쓰는 조회도 이 색인 사용)
+        @Index(name = "idx_notifications_user_created", columnList = "userId, createdAt, id"),
+        @Index(name = "idx_notifications_dispatch", columnList = "status, nextAttemptAt"),
+        // (예약, 알림 종류) 당 한 건 (reservationId 가 null 인 알림은 NULL 끼리 같지 않으므로 제한 없음)
+        @Index(name = "uk_notifications_reservation_type", columnList = "reservationId, type", unique = true)
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    // notification_templates.type
+    @Column(nullable = false, length = 50)
+    private String type;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "is_read")
+    @Builder.Default
+    private boolean read = false;
+
+    @Column
+    private LocalDateTime readAt;
+
+    @Column
+    private Long reservationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Channel channel = Channel.PUSH;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private DeliveryStatus status = DeliveryStatus.PENDING;
+
+    // 발송 시도 횟수 (발송 주기 단위)
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    // 다음 발송 시각 (SENDING 이면 선점 만료 시각)
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column
+    private LocalDateTime sentAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public boolean usesPush() {
+        return channel == Channel.PUSH || channel == Channel.ALL;
+    }
+
+    public boolean usesAlimtalk() {
+        return channel == Channel.ALIMTALK || channel == Channel.ALL;
+    }
+
+    /**
+     * 발송 채널
+     */
+    public enum Channel {
+        PUSH,       // FCM
+        ALIMTALK,   // 카카오 알림톡
+        ALL
+    }
+
+    /**
+     * 발송 상태
+     */
+    public enum DeliveryStatus {
+        PENDING,    // 발송 대기 (nextAttemptAt 이후)
+        SENDING,    // 발송 중 (nextAttemptAt 까지 선점, 지나면 다시 대기로 간주)
+        SENT,
+        FAILED      // 재시도 한도 초과 또는 수신 대상 없음
+    }
+}
@@ -0,0 +1,40 @@
+package com.hairshop.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 템플릿 (알림 종류별 푸시 문구, 알림톡 템플릿 코드)
+ */
+@Entity
+@Table(name = "notification_templates")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationTemplate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String type;
+
+    @Column
+    private String pushTitle;
+
+    @Column(columnDefinition = "TEXT")
+    private String pushBody;
+
+    // 카카오에 등록된 알림톡 템플릿 코드 (없으면 알림톡 발송 불가)
+    @Column(length = 50)
+    private String kakaoTemplateCode;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
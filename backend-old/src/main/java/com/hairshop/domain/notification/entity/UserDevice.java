@@ -0,0 +1,50 @@
+package com.hairshop.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 디바이스 (FCM 토큰)
+ */
+@Entity
+@Table(name = "user_devices", indexes = {
+        @Index(name = "idx_user_devices_user", columnList = "userId"),
+        @Index(name = "idx_user_devices_token", columnList = "deviceToken")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class UserDevice {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 500)
+    private String deviceToken;
+
+    // ANDROID, IOS, WEB
+    @Column(length = 20)
+    private String deviceType;
+
+    // 만료/삭제된 토큰은 발송 결과를 보고 비활성화
+    @Column(name = "is_active")
+    @Builder.Default
+    private boolean active = true;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,83 @@
+package com.hairshop.domain.notification.repository;
+
+import com.hairshop.domain.common.repository.KeysetPage;
+import com.hairshop.domain.common.repository.KeysetQuery;
+import com.hairshop.domain.common.repository.KeysetRepository;
+import com.hairshop.domain.notification.entity.Notification;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long>, KeysetRepository {
+
+    /**
+     * 사용자 알림함 (최근 순, idx_notifications_user_created 범위 조회)
+     */
+    default KeysetPage<Notification> findUserNotifications(Long userId, String cursor, int size) {
+        return findKeyset(Notification.class, KeysetQuery.builder()
+                .filter("userId", userId)
+                .key("createdAt").key("id")
+                .descending(true)
+                .cursor(cursor)
+                .size(size)
+                .build());
+    }
+
+    /**
+     * 발송할 알림 선점 대상 조회 (FOR UPDATE SKIP LOCKED, 다른 서버가 잡은 행은 건너뜀)
+     *
+     * 대기 중이거나 선점이 만료된(발송 중 서버 종료 등) 알림을 오래된 순으로 조회한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select n from Notification n where n.status in :statuses and n.nextAttemptAt <= :now order by n.id")
+    List<Notification> findDispatchable(@Param("statuses") Collection<Notification.DeliveryStatus> statuses,
+                                        @Param("now") LocalDateTime now,
+                                        Pageable pageable);
+
+    /**
+     * 상태와 다음 발송 시각 일괄 변경 (선점 시 SENDING + 선점 만료 시각)
+     */
+    @Modifying
+    @Query("update Notification n set n.status = :status, n.nextAttemptAt = :nextAttemptAt where n.id in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") Notification.DeliveryStatus status,
+                     @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    /**
+     * 예약에 같은 종류의 알림이 이미 있는지 (이벤트 재전달 시 중복 방지)
+     */
+    boolean existsByReservationIdAndType(Long reservationId, String type);
+
+    /**
+     * 예약들에 이미 만든 알림 종류 (일괄 생성 전 중복 제외)
+     */
+    @Query("""
+            select new com.hairshop.domain.notification.repository.NotificationRepository$ReservationNotification(
+                n.reservationId, n.type)
+            from Notification n
+            where n.reservationId in :reservationIds and n.type in :types
+            """)
+    List<ReservationNotification> findReservationNotifications(@Param("reservationIds") Collection<Long> reservationIds,
+                                                               @Param("types") Collection<String> types);
+
+    /**
+     * 상태별 알림 수
+     */
+    long countByStatus(Notification.DeliveryStatus status);
+
+    record ReservationNotification(Long reservationId, String type) {
+    }
+}
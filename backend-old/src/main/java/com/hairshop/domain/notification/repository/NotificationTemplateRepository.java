@@ -0,0 +1,17 @@
+package com.hairshop.domain.notification.repository;
+
+import com.hairshop.domain.notification.entity.NotificationTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationTemplateRepository extends JpaRepository<NotificationTemplate, Long> {
+
+    /**
+     * 알림 종류별 템플릿
+     */
+    List<NotificationTemplate> findByTypeIn(Collection<String> types);
+}
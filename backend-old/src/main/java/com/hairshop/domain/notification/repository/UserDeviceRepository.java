@@ -0,0 +1,33 @@
+package com.hairshop.domain.notification.repository;
+
+import com.hairshop.domain.notification.entity.UserDevice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserDeviceRepository extends JpaRepository<UserDevice, Long> {
+
+    /**
+     * 사용자들의 활성 디바이스 토큰 (projection)
+     */
+    @Query("select new com.hairshop.domain.notification.repository.UserDeviceRepository$DeviceToken(d.userId, d.deviceToken) "
+            + "from UserDevice d where d.userId in :userIds and d.active = true")
+    List<DeviceToken> findActiveTokens(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 토큰 일괄 비활성화 (발송 결과 만료/미등록으로 확인된 토큰)
+     */
+    @Modifying
+    @Query("update UserDevice d set d.active = false, d.updatedAt = CURRENT_TIMESTAMP "
+            + "where d.deviceToken in :tokens and d.active = true")
+    int deactivateByDeviceTokens(@Param("tokens") Collection<String> tokens);
+
+    record DeviceToken(Long userId, String deviceToken) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.hairshop.domain.notification.sender;
+
+import java.util.Map;
+
+/**
+ * 알림톡 메시지 (수신 번호 하나)
+ */
+public record AlimtalkMessage(
+        Long notificationId,
+        String phone,
+        String templateCode,
+        Map<String, String> parameters
+) {
+}
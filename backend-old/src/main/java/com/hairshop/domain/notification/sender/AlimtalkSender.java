@@ -0,0 +1,16 @@
+package com.hairshop.domain.notification.sender;
+
+import java.util.List;
+
+/**
+ * 알림톡 발송 (notification.alimtalk.sender: http | stub)
+ */
+public interface AlimtalkSender {
+
+    /**
+     * 같은 템플릿의 메시지를 한 번에 발송 (최대 notification.alimtalk.bulk-size 건)
+     *
+     * @return messages 와 같은 순서의 결과 (요청 자체가 실패하면 예외)
+     */
+    List<DeliveryResult> send(List<AlimtalkMessage> messages);
+}
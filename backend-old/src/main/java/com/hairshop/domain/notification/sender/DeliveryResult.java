@@ -0,0 +1,11 @@
+package com.hairshop.domain.notification.sender;
+
+/**
+ * 수신 대상(토큰/전화번호) 하나에 대한 발송 결과
+ */
+public enum DeliveryResult {
+    SENT,
+    INVALID_RECIPIENT,  // 만료/미등록 토큰 (디바이스 비활성화 대상)
+    RETRYABLE,          // 일시 장애 (잠시 후 다시 시도)
+    FAILED              // 재시도해도 성공할 수 없음 (잘못된 요청 등)
+}
@@ -0,0 +1,113 @@
+package com.hairshop.domain.notification.sender;
+
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * FCM 푸시 발송
+ *
+ * 배치 안의 내용이 모두 같으면(같은 종류의 안내 등) multicast 한 번으로, 아니면 sendEach 로 최대 500건을 한 요청에 보낸다.
+ * 토큰별 오류 코드로 만료 토큰(UNREGISTERED, SENDER_ID_MISMATCH)과 일시 장애를 구분한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.push.sender", havingValue = "fcm")
+public class FcmPushSender implements PushSender {
+
+    private static final String APP_NAME = "hairshop-notification";
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    public FcmPushSender(@Value("${firebase.credentials-path}") String credentialsPath) {
+        try (InputStream credentials = new FileInputStream(credentialsPath)) {
+            FirebaseOptions options = FirebaseOptions.builder()
+                    .setCredentials(GoogleCredentials.fromStream(credentials))
+                    .build();
+            this.firebaseMessaging = FirebaseMessaging.getInstance(FirebaseApp.initializeApp(options, APP_NAME));
+        } catch (IOException e) {
+            throw new IllegalStateException("Firebase 인증 정보를 읽을 수 없습니다: " + credentialsPath, e);
+        }
+    }
+
+    @Override
+    public List<DeliveryResult> send(List<PushMessage> messages) {
+        if (messages.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("FCM 요청당 최대 " + MAX_BATCH_SIZE + "건");
+        }
+        try {
+            BatchResponse response = allSameContent(messages)
+                    ? firebaseMessaging.sendEachForMulticast(toMulticast(messages))
+                    : firebaseMessaging.sendEach(messages.stream().map(FcmPushSender::toMessage).toList());
+            log.debug("FCM 발송: {}건 (성공 {}, 실패 {})",
+                    messages.size(), response.getSuccessCount(), response.getFailureCount());
+            return response.getResponses().stream()
+                    .map(FcmPushSender::toResult)
+                    .toList();
+        } catch (FirebaseMessagingException e) {
+            throw new IllegalStateException("FCM 요청 실패: " + e.getMessagingErrorCode(), e);
+        }
+    }
+
+    private static boolean allSameContent(List<PushMessage> messages) {
+        PushMessage first = messages.get(0);
+        return messages.stream().allMatch(first::sameContent);
+    }
+
+    private static MulticastMessage toMulticast(List<PushMessage> messages) {
+        PushMessage first = messages.get(0);
+        return MulticastMessage.builder()
+                .addAllTokens(messages.stream().map(PushMessage::token).toList())
+                .setNotification(notification(first))
+                .putAllData(first.data())
+                .build();
+    }
+
+    private static Message toMessage(PushMessage message) {
+        return Message.builder()
+                .setToken(message.token())
+                .setNotification(notification(message))
+                .putAllData(message.data())
+                .build();
+    }
+
+    private static Notification notification(PushMessage message) {
+        return Notification.builder()
+                .setTitle(message.title())
+                .setBody(message.body())
+                .build();
+    }
+
+    private static DeliveryResult toResult(SendResponse response) {
+        if (response.isSuccessful()) {
+            return DeliveryResult.SENT;
+        }
+        MessagingErrorCode errorCode = response.getException().getMessagingErrorCode();
+        if (errorCode == null) {
+            return DeliveryResult.RETRYABLE;
+        }
+        return switch (errorCode) {
+            case UNREGISTERED, SENDER_ID_MISMATCH -> DeliveryResult.INVALID_RECIPIENT;
+            case UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED -> DeliveryResult.RETRYABLE;
+            // INVALID_ARGUMENT 는 토큰 형식 외에 내용 문제일 수도 있어 토큰을 비활성화하지 않음
+            default -> DeliveryResult.FAILED;
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.hairshop.domain.notification.sender;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림톡 대량 발송 (발송 대행사 bulk API)
+ *
+ * 같은 템플릿의 수신자 목록을 한 요청으로 보내고, 응답의 수신자별 resultCode(0 = 접수)로 결과를 나눈다.
+ * 5xx/429 와 시간 초과는 배치 전체를 일시 장애로, 그 밖의 4xx 는 배치 전체를 실패로 본다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.alimtalk.sender", havingValue = "http")
+public class HttpAlimtalkSender implements AlimtalkSender {
+
+    private final WebClient webClient;
+    private final String senderKey;
+    private final Duration timeout;
+
+    public HttpAlimtalkSender(
+            WebClient.Builder webClientBuilder,
+            @Value("${kakao.alimtalk.url}") String url,
+            @Value("${kakao.alimtalk.api-key}") String apiKey,
+            @Value("${kakao.alimtalk.sender-key}") String senderKey,
+            @Value("${kakao.alimtalk.timeout:5s}") Duration timeout
+    ) {
+        this.webClient = webClientBuilder
+                .baseUrl(url)
+                .defaultHeader("X-Secret-Key", apiKey)
+                .build();
+        this.senderKey = senderKey;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public List<DeliveryResult> send(List<AlimtalkMessage> messages) {
+        BulkRequest request = new BulkRequest(
+                senderKey,
+                messages.get(0).templateCode(),
+                messages.stream()
+                        .map(message -> new Recipient(message.phone(), message.parameters()))
+                        .toList()
+        );
+
+        JsonNode response;
+        try {
+            response = webClient.post()
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .block(timeout);
+        } catch (WebClientResponseException e) {
+            if (isRetryable(e.getStatusCode())) {
+                throw new IllegalStateException("알림톡 요청 실패: " + e.getStatusCode(), e);
+            }
+            log.warn("알림톡 요청 거절: status={}, body={}", e.getStatusCode(), e.getResponseBodyAsString());
+            return Collections.nCopies(messages.size(), DeliveryResult.FAILED);
+        }
+        return toResults(response, messages.size());
+    }
+
+    private static boolean isRetryable(HttpStatusCode status) {
+        return status.is5xxServerError() || status.value() == 429;
+    }
+
+    private static List<DeliveryResult> toResults(JsonNode response, int size) {
+        if (response == null || !response.path("header").path("isSuccessful").asBoolean(false)) {
+            log.warn("알림톡 요청 실패 응답: {}", response);
+            return Collections.nCopies(size, DeliveryResult.FAILED);
+        }
+        JsonNode sendResults = response.path("message").path("sendResults");
+        List<DeliveryResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            JsonNode result = sendResults.path(i);
+            results.add(result.path("resultCode").asInt(-1) == 0 ? DeliveryResult.SENT : DeliveryResult.FAILED);
+        }
+        return results;
+    }
+
+    record BulkRequest(String senderKey, String templateCode, List<Recipient> recipientList) {
+    }
+
+    record Recipient(String recipientNo, Map<String, String> templateParameter) {
+    }
+}
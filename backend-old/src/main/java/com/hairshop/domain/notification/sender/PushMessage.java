@@ -0,0 +1,22 @@
+package com.hairshop.domain.notification.sender;
+
+import java.util.Map;
+
+/**
+ * 푸시 메시지 (디바이스 토큰 하나)
+ */
+public record PushMessage(
+        Long notificationId,
+        String token,
+        String title,
+        String body,
+        Map<String, String> data
+) {
+
+    /**
+     * 토큰을 제외한 내용이 같은지 (같으면 multicast 한 번으로 보낼 수 있음)
+     */
+    public boolean sameContent(PushMessage other) {
+        return title.equals(other.title) && body.equals(other.body) && data.equals(other.data);
+    }
+}
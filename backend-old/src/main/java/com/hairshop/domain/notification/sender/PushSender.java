@@ -0,0 +1,19 @@
+package com.hairshop.domain.notification.sender;
+
+import java.util.List;
+
+/**
+ * 푸시 발송 (notification.push.sender: fcm | stub)
+ */
+public interface PushSender {
+
+    // FCM 한 번의 요청에 담을 수 있는 최대 메시지 수
+    int MAX_BATCH_SIZE = 500;
+
+    /**
+     * 최대 MAX_BATCH_SIZE 건을 한 번에 발송
+     *
+     * @return messages 와 같은 순서의 결과 (요청 자체가 실패하면 예외)
+     */
+    List<DeliveryResult> send(List<PushMessage> messages);
+}
@@ -0,0 +1,60 @@
+package com.hairshop.domain.notification.sender;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 푸시 발송기 (외부 호출 없음, 개발/테스트/벤치마크용)
+ *
+ * 요청마다 notification.stub.latency-ms 만큼 대기하여 네트워크 왕복을 흉내내고, 수신 대상 접두어로 결과를 정한다 (StubRecipients).
+ */
+@Component
+@ConditionalOnProperty(name = "notification.push.sender", havingValue = "stub", matchIfMissing = true)
+public class StubPushSender implements PushSender {
+
+    private final StubRecipients recipients = new StubRecipients();
+    private final long latencyMillis;
+    private final AtomicLong sentMessages = new AtomicLong();
+    private final Queue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+
+    public StubPushSender(@Value("${notification.stub.latency-ms:0}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public List<DeliveryResult> send(List<PushMessage> messages) {
+        StubRecipients.simulateLatency(latencyMillis);
+        batchSizes.add(messages.size());
+        List<DeliveryResult> results = messages.stream()
+                .map(message -> recipients.resultFor(message.token()))
+                .toList();
+        sentMessages.addAndGet(results.stream().filter(result -> result == DeliveryResult.SENT).count());
+        return results;
+    }
+
+    /**
+     * 성공으로 응답한 메시지 수
+     */
+    public long sentMessages() {
+        return sentMessages.get();
+    }
+
+    /**
+     * 받은 요청별 메시지 수 (받은 순서)
+     */
+    public List<Integer> batchSizes() {
+        return List.copyOf(batchSizes);
+    }
+
+    public void reset() {
+        recipients.reset();
+        sentMessages.set(0);
+        batchSizes.clear();
+    }
+}
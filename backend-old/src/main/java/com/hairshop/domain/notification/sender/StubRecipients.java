@@ -0,0 +1,48 @@
+package com.hairshop.domain.notification.sender;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 stub 발송기의 수신 대상별 결과 규칙
+ *
+ * 수신 대상(토큰/전화번호)의 접두어로 결과를 정한다.
+ * invalid- 는 만료 토큰, unavailable- 는 항상 일시 장애, flaky- 는 처음 한 번만 일시 장애.
+ */
+final class StubRecipients {
+
+    static final String INVALID_PREFIX = "invalid-";
+    static final String UNAVAILABLE_PREFIX = "unavailable-";
+    static final String FLAKY_PREFIX = "flaky-";
+
+    private final Set<String> failedOnce = ConcurrentHashMap.newKeySet();
+
+    DeliveryResult resultFor(String recipient) {
+        if (recipient.startsWith(INVALID_PREFIX)) {
+            return DeliveryResult.INVALID_RECIPIENT;
+        }
+        if (recipient.startsWith(UNAVAILABLE_PREFIX)) {
+            return DeliveryResult.RETRYABLE;
+        }
+        if (recipient.startsWith(FLAKY_PREFIX) && failedOnce.add(recipient)) {
+            return DeliveryResult.RETRYABLE;
+        }
+        return DeliveryResult.SENT;
+    }
+
+    void reset() {
+        failedOnce.clear();
+    }
+
+    static void simulateLatency(long latencyMillis) {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("stub 발송 중 인터럽트", e);
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package com.hairshop.domain.notification.service;
+
+import com.hairshop.domain.notification.entity.Notification;
+import com.hairshop.domain.notification.entity.Notification.DeliveryStatus;
+import com.hairshop.domain.notification.entity.NotificationTemplate;
+import com.hairshop.domain.notification.repository.NotificationRepository;
+import com.hairshop.domain.notification.repository.NotificationTemplateRepository;
+import com.hairshop.domain.notification.repository.UserDeviceRepository;
+import com.hairshop.domain.notification.repository.UserDeviceRepository.DeviceToken;
+import com.hairshop.domain.notification.sender.AlimtalkMessage;
+import com.hairshop.domain.notification.sender.AlimtalkSender;
+import com.hairshop.domain.notification.sender.DeliveryResult;
+import com.hairshop.domain.notification.sender.PushMessage;
+import com.hairshop.domain.notification.sender.PushSender;
+import com.hairshop.domain.user.repository.UserRepository;
+import com.hairshop.domain.user.repository.UserRepository.UserPhone;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 발송 (FCM 푸시, 카카오 알림톡)
+ *
+ * 한 주기에 대기 중인 알림을 batch-size 만큼 선점(SKIP LOCKED)해 채널별 메시지로 펼친 뒤,
+ * 푸시는 같은 내용끼리 모아 500건씩, 알림톡은 템플릿별로 bulk-size 건씩 묶어 max-concurrency 개 스레드로 보낸다.
+ * 일시 장애는 요청 안에서 지수 백오프로 send-attempts 번까지 다시 보내고, 그래도 실패하면 알림을 대기로 돌려
+ * redelivery-delay 뒤에 다시 시도한다 (max-attempts 주기까지).
+ * 결과는 JDBC batch 로, 만료 토큰은 모아서 한 번에 비활성화한다.
+ */
+@Slf4j
+@Service
+public class NotificationDispatcher implements DisposableBean {
+
+    private static final String FINISH_SQL = """
+            UPDATE notifications
+            SET status = ?, attempts = attempts + 1, sent_at = ?, next_attempt_at = ?, last_error = ?
+            WHERE id = ?
+            """;
+
+    private static final List<DeliveryStatus> DISPATCHABLE = List.of(DeliveryStatus.PENDING, DeliveryStatus.SENDING);
+    private static final String PUSH = "push";
+    private static final String ALIMTALK = "alimtalk";
+
+    private final NotificationRepository notificationRepository;
+    private final UserDeviceRepository userDeviceRepository;
+    private final NotificationTemplateRepository notificationTemplateRepository;
+    private final UserRepository userRepository;
+    private final PushSender pushSender;
+    private final AlimtalkSender alimtalkSender;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService sendExecutor;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int alimtalkBulkSize;
+    private final int sendAttempts;
+    private final Duration initialBackoff;
+    private final int maxAttempts;
+    private final Duration redeliveryDelay;
+    private final Duration lease;
+    private final Timer dispatchTimer;
+    private final Map<String, Map<DeliveryResult, Counter>> deliveryCounters = new HashMap<>();
+
+    public NotificationDispatcher(
+            NotificationRepository notificationRepository,
+            UserDeviceRepository userDeviceRepository,
+            NotificationTemplateRepository notificationTemplateRepository,
+            UserRepository userRepository,
+            PushSender pushSender,
+            AlimtalkSender alimtalkSender,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${notification.dispatcher.enabled:true}") boolean enabled,
+            @Value("${notification.batch-size:2000}") int batchSize,
+            @Value("${notification.alimtalk.bulk-size:1000}") int alimtalkBulkSize,
+            @Value("${notification.max-concurrency:8}") int maxConcurrency,
+            @Value("${notification.retry.send-attempts:3}") int sendAttempts,
+            @Value("${notification.retry.initial-backoff:200ms}") Duration initialBackoff,
+            @Value("${notification.retry.max-attempts:5}") int maxAttempts,
+            @Value("${notification.retry.redelivery-delay:30s}") Duration redeliveryDelay,
+            @Value("${notification.lease:5m}") Duration lease
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.userDeviceRepository = userDeviceRepository;
+        this.notificationTemplateRepository = notificationTemplateRepository;
+        this.userRepository = userRepository;
+        this.pushSender = pushSender;
+        this.alimtalkSender = alimtalkSender;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sendExecutor = Executors.newFixedThreadPool(
+                maxConcurrency, new CustomizableThreadFactory("notification-send-"));
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.alimtalkBulkSize = alimtalkBulkSize;
+        this.sendAttempts = sendAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxAttempts = maxAttempts;
+        this.redeliveryDelay = redeliveryDelay;
+        this.lease = lease;
+        this.dispatchTimer = Timer.builder("notification.dispatch")
+                .description("알림 발송 주기 1회 (선점 ~ 결과 저장)")
+                .register(meterRegistry);
+        for (String channel : List.of(PUSH, ALIMTALK)) {
+            Map<DeliveryResult, Counter> counters = new EnumMap<>(DeliveryResult.class);
+            for (DeliveryResult result : DeliveryResult.values()) {
+                counters.put(result, Counter.builder("notification.deliveries")
+                        .description("수신 대상별 발송 결과 (요청 안 재시도 포함)")
+                        .tag("channel", channel)
+                        .tag("result", result.name().toLowerCase())
+                        .register(meterRegistry));
+            }
+            deliveryCounters.put(channel, counters);
+        }
+    }
+
+    /**
+     * dispatch-interval 마다 대기 중인 알림을 모두 발송 (선점한 수가 batch-size 보다 적을 때까지 반복)
+     */
+    @Scheduled(fixedDelayString = "${notification.dispatch-interval-ms:1000}")
+    public void scheduledDispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            while (dispatchOnce() >= batchSize) {
+                log.debug("알림 발송 대기열이 남아 이어서 처리");
+            }
+        } catch (RuntimeException e) {
+            // 선점한 알림은 lease 가 지나면 다시 대기로 간주되므로 다음 주기에 다시 시도
+            log.warn("알림 발송 주기 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 한 주기 발송 (선점한 알림 수 반환)
+     */
+    public int dispatchOnce() {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> claimed = transactionTemplate.execute(status -> claim(now));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        DispatchState state = new DispatchState();
+        List<CompletableFuture<Void>> sends = new ArrayList<>();
+        for (List<PushMessage> batch : chunk(pushMessages(claimed), PushSender.MAX_BATCH_SIZE)) {
+            sends.add(CompletableFuture.runAsync(() -> sendWithRetry(
+                    PUSH, batch, pushSender::send, PushMessage::notificationId, PushMessage::token, state), sendExecutor));
+        }
+        for (List<AlimtalkMessage> templateGroup : alimtalkMessagesByTemplate(claimed)) {
+            for (List<AlimtalkMessage> batch : chunk(templateGroup, alimtalkBulkSize)) {
+                sends.add(CompletableFuture.runAsync(() -> sendWithRetry(
+                        ALIMTALK, batch, alimtalkSender::send, AlimtalkMessage::notificationId, null, state), sendExecutor));
+            }
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+
+        deactivateTokens(state.invalidTokens);
+        finish(claimed, state);
+        dispatchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        log.debug("알림 발송: {}건, 요청 {}회", claimed.size(), sends.size());
+        return claimed.size();
+    }
+
+    @Override
+    public void destroy() {
+        sendExecutor.shutdown();
+    }
+
+    /**
+     * 대기 중이거나 선점이 만료된 알림을 잠그고 lease 동안 발송 중으로 표시
+     */
+    private List<Notification> claim(LocalDateTime now) {
+        List<Notification> claimed = notificationRepository.findDispatchable(
+                DISPATCHABLE, now, PageRequest.of(0, batchSize));
+        if (!claimed.isEmpty()) {
+            notificationRepository.updateStatus(
+                    claimed.stream().map(Notification::getId).toList(), DeliveryStatus.SENDING, now.plus(lease));
+        }
+        return claimed;
+    }
+
+    /**
+     * 푸시 메시지 (활성 디바이스마다 하나, 같은 내용끼리 이어지도록 정렬)
+     */
+    private List<PushMessage> pushMessages(List<Notification> notifications) {
+        List<Notification> targets = notifications.stream().filter(Notification::usesPush).toList();
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> tokensByUser = userDeviceRepository.findActiveTokens(
+                        targets.stream().map(Notification::getUserId).distinct().toList()).stream()
+                .collect(Collectors.groupingBy(DeviceToken::userId,
+                        Collectors.mapping(DeviceToken::deviceToken, Collectors.toList())));
+
+        // 같은 내용이 한 요청에 모이면 FCM multicast 한 번으로 보낼 수 있음
+        Map<PushContent, List<PushMessage>> byContent = new LinkedHashMap<>();
+        for (Notification notification : targets) {
+            PushContent content = new PushContent(notification.getTitle(), notification.getMessage(), data(notification));
+            for (String token : tokensByUser.getOrDefault(notification.getUserId(), List.of())) {
+                byContent.computeIfAbsent(content, key -> new ArrayList<>()).add(new PushMessage(
+                        notification.getId(), token, content.title(), content.body(), content.data()));
+            }
+        }
+        List<PushMessage> messages = new ArrayList<>();
+        byContent.values().forEach(messages::addAll);
+        return messages;
+    }
+
+    /**
+     * 알림톡 메시지 (템플릿별, 전화번호와 템플릿이 있는 알림만)
+     */
+    private List<List<AlimtalkMessage>> alimtalkMessagesByTemplate(List<Notification> notifications) {
+        List<Notification> targets = notifications.stream().filter(Notification::usesAlimtalk).toList();
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+        Map<String, String> templateCodes = notificationTemplateRepository.findByTypeIn(
+                        targets.stream().map(Notification::getType).distinct().toList()).stream()
+                .filter(template -> template.getKakaoTemplateCode() != null)
+                .collect(Collectors.toMap(NotificationTemplate::getType, NotificationTemplate::getKakaoTemplateCode));
+        Map<Long, String> phones = userRepository.findPhones(
+                        targets.stream().map(Notification::getUserId).distinct().toList()).stream()
+                .collect(Collectors.toMap(UserPhone::userId, UserPhone::phone));
+
+        Map<String, List<AlimtalkMessage>> byTemplate = new TreeMap<>();
+        for (Notification notification : targets) {
+            String templateCode = templateCodes.get(notification.getType());
+            String phone = phones.get(notification.getUserId());
+            if (templateCode == null || phone == null) {
+                continue;
+            }
+            byTemplate.computeIfAbsent(templateCode, key -> new ArrayList<>()).add(new AlimtalkMessage(
+                    notification.getId(), phone, templateCode,
+                    Map.of("title", notification.getTitle(), "message", notification.getMessage())));
+        }
+        return new ArrayList<>(byTemplate.values());
+    }
+
+    /**
+     * 한 요청 발송, 일시 장애인 수신 대상만 지수 백오프(jitter)로 send-attempts 번까지 다시 보냄
+     *
+     * @param recipientOf 만료 토큰으로 비활성화할 수신 대상 (null 이면 비활성화하지 않음)
+     */
+    private <T> void sendWithRetry(String channel, List<T> batch, Function<List<T>, List<DeliveryResult>> sender,
+                                   Function<T, Long> notificationIdOf, Function<T, String> recipientOf,
+                                   DispatchState state) {
+        List<T> remaining = batch;
+        for (int attempt = 1; ; attempt++) {
+            List<DeliveryResult> results = sendQuietly(channel, remaining, sender);
+            List<T> retry = new ArrayList<>();
+            for (int i = 0; i < remaining.size(); i++) {
+                T message = remaining.get(i);
+                DeliveryResult result = results.get(i);
+                deliveryCounters.get(channel).get(result).increment();
+                if (result == DeliveryResult.RETRYABLE && attempt < sendAttempts) {
+                    retry.add(message);
+                    continue;
+                }
+                state.record(notificationIdOf.apply(message), result);
+                if (result == DeliveryResult.INVALID_RECIPIENT && recipientOf != null) {
+                    state.invalidTokens.add(recipientOf.apply(message));
+                }
+            }
+            if (retry.isEmpty()) {
+                return;
+            }
+            if (!sleep(backoff(attempt))) {
+                retry.forEach(message -> state.record(notificationIdOf.apply(message), DeliveryResult.RETRYABLE));
+                return;
+            }
+            remaining = retry;
+        }
+    }
+
+    /**
+     * 요청 자체의 실패(예외, 결과 수 불일치)는 모든 수신 대상의 일시 장애로 처리
+     */
+    private <T> List<DeliveryResult> sendQuietly(String channel, List<T> messages,
+                                                 Function<List<T>, List<DeliveryResult>> sender) {
+        try {
+            List<DeliveryResult> results = sender.apply(messages);
+            if (results.size() == messages.size()) {
+                return results;
+            }
+            log.warn("{} 발송 결과 수 불일치: 요청 {}건, 결과 {}건", channel, messages.size(), results.size());
+        } catch (RuntimeException e) {
+            log.warn("{} 발송 요청 실패 ({}건): {}", channel, messages.size(), e.getMessage());
+        }
+        return Collections.nCopies(messages.size(), DeliveryResult.RETRYABLE);
+    }
+
+    /**
+     * initial-backoff * 2^(attempt-1) 의 절반 ~ 전체 사이 임의 시간 (여러 스레드가 동시에 다시 보내지 않도록)
+     */
+    private Duration backoff(int attempt) {
+        long base = initialBackoff.toMillis() << Math.min(attempt - 1, 16);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(base / 2, base + 1));
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void deactivateTokens(Queue<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        List<String> distinct = tokens.stream().distinct().toList();
+        Integer deactivated = transactionTemplate.execute(status -> userDeviceRepository.deactivateByDeviceTokens(distinct));
+        log.info("만료된 디바이스 토큰 비활성화: {}건", deactivated);
+    }
+
+    /**
+     * 알림별 결과 저장
+     *
+     * 한 채널(디바이스)이라도 성공하면 SENT, 일시 장애만 남았으면 max-attempts 까지 대기로 되돌리고, 나머지는 FAILED.
+     */
+    private void finish(List<Notification> notifications, DispatchState state) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            Outcome outcome = state.outcomes.get(notification.getId());
+            int attempts = notification.getAttempts() + 1;
+            if (outcome == null) {
+                args.add(new Object[]{DeliveryStatus.FAILED.name(), null, now, "수신 대상 없음", notification.getId()});
+            } else if (outcome.sent > 0) {
+                args.add(new Object[]{DeliveryStatus.SENT.name(), now, now, null, notification.getId()});
+            } else if (outcome.retryable > 0 && attempts < maxAttempts) {
+                LocalDateTime nextAttemptAt = now.plus(redeliveryDelay.multipliedBy(1L << Math.min(attempts - 1, 16)));
+                args.add(new Object[]{DeliveryStatus.PENDING.name(), null, nextAttemptAt, "일시 장애", notification.getId()});
+            } else {
+                args.add(new Object[]{DeliveryStatus.FAILED.name(), null, now, outcome.failureReason(), notification.getId()});
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FINISH_SQL, args));
+    }
+
+    private static Map<String, String> data(Notification notification) {
+        Map<String, String> data = new TreeMap<>();
+        data.put("type", notification.getType());
+        if (notification.getReservationId() != null) {
+            data.put("reservationId", String.valueOf(notification.getReservationId()));
+        }
+        return data;
+    }
+
+    private static <T> List<List<T>> chunk(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return chunks;
+    }
+
+    private record PushContent(String title, String body, Map<String, String> data) {
+    }
+
+    /**
+     * 한 주기의 발송 결과 (발송 스레드들이 함께 기록)
+     */
+    private static final class DispatchState {
+
+        // 알림 → 수신 대상별 결과 수 (compute 안에서만 변경)
+        private final ConcurrentHashMap<Long, Outcome> outcomes = new ConcurrentHashMap<>();
+        private final Queue<String> invalidTokens = new ConcurrentLinkedQueue<>();
+
+        void record(Long notificationId, DeliveryResult result) {
+            outcomes.compute(notificationId, (id, outcome) -> (outcome == null ? new Outcome() : outcome).add(result));
+        }
+    }
+
+    private static final class Outcome {
+
+        private int sent;
+        private int retryable;
+        private int invalid;
+        private int failed;
+
+        Outcome add(DeliveryResult result) {
+            switch (result) {
+                case SENT -> sent++;
+                case RETRYABLE -> retryable++;
+                case INVALID_RECIPIENT -> invalid++;
+                case FAILED -> failed++;
+            }
+            return this;
+        }
+
+        String failureReason() {
+            if (retryable > 0) {
+                return "재시도 한도 초과";
+            }
+            if (failed == 0 && invalid > 0) {
+                return "유효한 수신 대상 없음";
+            }
+            return "발송 실패";
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.hairshop.domain.notification.service;
+
+import com.hairshop.domain.notification.repository.NotificationRepository;
+import com.hairshop.dto.response.CursorPageResponse;
+import com.hairshop.dto.response.NotificationResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림함 조회
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class NotificationService {
+
+    private final NotificationRepository notificationRepository;
+
+    /**
+     * 내 알림 (최근 순 커서 페이지)
+     */
+    public CursorPageResponse<NotificationResponse> getNotifications(Long userId, String cursor, int size) {
+        return CursorPageResponse.from(
+                notificationRepository.findUserNotifications(userId, cursor, size).map(NotificationResponse::from));
+    }
+}
@@ -0,0 +1,57 @@
+package com.hairshop.domain.notification.service;
+
+import com.hairshop.domain.notification.entity.Notification;
+import com.hairshop.domain.notification.repository.NotificationRepository;
+import com.hairshop.domain.outbox.service.OutboxSubscriber;
+import com.hairshop.domain.reservation.event.ReservationStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 상태 변경 → 손님 알림 (발송 대기열에 저장, 발송은 NotificationDispatcher)
+ *
+ * 같은 이벤트가 다시 와도 (예약, 알림 종류) 당 한 건만 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationNotificationSubscriber implements OutboxSubscriber<ReservationStatusChangedEvent> {
+
+    private final NotificationRepository notificationRepository;
+
+    @Override
+    public Class<ReservationStatusChangedEvent> eventType() {
+        return ReservationStatusChangedEvent.class;
+    }
+
+    @Override
+    public void handle(ReservationStatusChangedEvent event) {
+        String when = event.date() + " " + event.time();
+        Notification notification = switch (event.status()) {
+            case PENDING -> notification(event, "RESERVATION_REQUESTED", "예약 요청 완료",
+                    when + " 예약이 접수되었습니다. 매장에서 확인 후 확정됩니다.");
+            case CONFIRMED -> notification(event, "RESERVATION_CONFIRMED", "예약 확정",
+                    when + " 예약이 확정되었습니다.");
+            case CANCELLED -> notification(event, "RESERVATION_CANCELLED", "예약 취소",
+                    when + " 예약이 취소되었습니다.");
+            // 완료/노쇼는 손님 알림 없음
+            case COMPLETED, NO_SHOW -> null;
+        };
+        if (notification == null
+                || notificationRepository.existsByReservationIdAndType(event.reservationId(), notification.getType())) {
+            return;
+        }
+        notificationRepository.save(notification);
+    }
+
+    private static Notification notification(ReservationStatusChangedEvent event, String type,
+                                             String title, String message) {
+        return Notification.builder()
+                .userId(event.customerId())
+                .type(type)
+                .title(title)
+                .message(message)
+                .reservationId(event.reservationId())
+                .channel(Notification.Channel.ALL)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.hairshop.domain.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발행 대기 이벤트 (transactional outbox)
+ *
+ * 상태 변경과 같은 트랜잭션에 저장하고, OutboxRelay 가 aggregate 별 순서대로 구독자에게 전달한 뒤 PUBLISHED 로 바꾼다.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_relay", columnList = "status, availableAt"),
+        @Index(name = "idx_outbox_events_aggregate", columnList = "aggregateId, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 순서를 보장하는 단위 (Reservation 등)
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    // 이벤트 클래스 이름 (ReservationStatusChangedEvent 등)
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    // 이벤트 JSON
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    // 전달 실패 횟수
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    // 다음 전달 시각 (선점 중이면 선점 만료 시각)
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDateTime availableAt = LocalDateTime.now();
+
+    @Column
+    private LocalDateTime publishedAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 전달 상태
+    public enum OutboxStatus {
+        PENDING,    // 대기 (선점 중 포함)
+        PUBLISHED,  // 모든 구독자 처리 완료
+        DEAD        // 재시도 한도 초과 (더 이상 전달하지 않음)
+    }
+}
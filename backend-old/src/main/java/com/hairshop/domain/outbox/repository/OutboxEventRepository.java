@@ -0,0 +1,69 @@
+package com.hairshop.domain.outbox.repository;
+
+import com.hairshop.domain.outbox.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 전달할 이벤트 선점 대상 조회 (FOR UPDATE SKIP LOCKED, 다른 서버가 잡은 행은 건너뜀)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.status = :status and e.availableAt <= :now order by e.id")
+    List<OutboxEvent> findRelayable(@Param("status") OutboxEvent.OutboxStatus status,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
+
+    /**
+     * aggregate 들의 maxId 이하 대기 이벤트 (선점 여부와 관계없이, id 순)
+     */
+    @Query("""
+            select new com.hairshop.domain.outbox.repository.OutboxEventRepository$PendingEvent(
+                e.id, e.aggregateType, e.aggregateId)
+            from OutboxEvent e
+            where e.status = :status and e.aggregateId in :aggregateIds and e.id <= :maxId
+            order by e.id
+            """)
+    List<PendingEvent> findPending(@Param("status") OutboxEvent.OutboxStatus status,
+                                   @Param("aggregateIds") Collection<Long> aggregateIds,
+                                   @Param("maxId") Long maxId);
+
+    /**
+     * 다음 전달 시각 일괄 변경 (선점 시 선점 만료 시각)
+     */
+    @Modifying
+    @Query("update OutboxEvent e set e.availableAt = :availableAt where e.id in :ids")
+    int updateAvailableAt(@Param("ids") Collection<Long> ids, @Param("availableAt") LocalDateTime availableAt);
+
+    /**
+     * 가장 오래된 대기 이벤트의 저장 시각 (없으면 null)
+     */
+    @Query("select min(e.createdAt) from OutboxEvent e where e.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") OutboxEvent.OutboxStatus status);
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 삭제
+     */
+    @Modifying
+    @Query("delete from OutboxEvent e where e.status = :status and e.publishedAt < :before")
+    int deletePublishedBefore(@Param("status") OutboxEvent.OutboxStatus status,
+                              @Param("before") LocalDateTime before);
+
+    record PendingEvent(Long id, String aggregateType, Long aggregateId) {
+    }
+}
@@ -0,0 +1,323 @@
+package com.hairshop.domain.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hairshop.domain.outbox.entity.OutboxEvent;
+import com.hairshop.domain.outbox.entity.OutboxEvent.OutboxStatus;
+import com.hairshop.domain.outbox.repository.OutboxEventRepository;
+import com.hairshop.domain.outbox.repository.OutboxEventRepository.PendingEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * outbox 이벤트 전달 (최소 한 번, aggregate 별 순서 보장)
+ *
+ * 한 주기에 대기 이벤트를 batch-size 만큼 선점(SKIP LOCKED + lease)하고, aggregate 별로 묶어
+ * max-concurrency 개 스레드에서 구독자에게 순서대로 전달한다. 서로 다른 aggregate 는 병렬로 처리된다.
+ * 같은 aggregate 의 앞선 이벤트를 다른 서버가 잡고 있으면 그 뒤 이벤트는 가져오지 않으므로 여러 서버에서도 순서가 유지된다.
+ * 구독자가 실패하면 그 이벤트와 같은 aggregate 의 이후 이벤트를 retry-delay * 2^(attempts-1) 뒤로 미루고,
+ * max-attempts 번 실패한 이벤트는 DEAD 로 남긴다.
+ */
+@Slf4j
+@Service
+public class OutboxRelay implements DisposableBean {
+
+    private static final String FINISH_SQL = """
+            UPDATE outbox_events
+            SET status = ?, attempts = ?, available_at = ?, published_at = ?, last_error = ?
+            WHERE id = ?
+            """;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService relayExecutor;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final Duration retention;
+
+    // 이벤트 클래스 이름 → 구독자
+    private final Map<String, Subscribers> subscribers = new HashMap<>();
+
+    private final Timer lagTimer;
+    private final Map<OutboxStatus, Counter> resultCounters = new EnumMap<>(OutboxStatus.class);
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            List<OutboxSubscriber<?>> subscribers,
+            ObjectMapper objectMapper,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.enabled:true}") boolean enabled,
+            @Value("${outbox.batch-size:500}") int batchSize,
+            @Value("${outbox.max-concurrency:4}") int maxConcurrency,
+            @Value("${outbox.lease:1m}") Duration lease,
+            @Value("${outbox.retry.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.retry.delay:5s}") Duration retryDelay,
+            @Value("${outbox.retry.max-delay:10m}") Duration maxRetryDelay,
+            @Value("${outbox.retention:7d}") Duration retention
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.relayExecutor = Executors.newFixedThreadPool(
+                maxConcurrency, new CustomizableThreadFactory("outbox-relay-"));
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.retention = retention;
+        for (OutboxSubscriber<?> subscriber : subscribers) {
+            this.subscribers.computeIfAbsent(subscriber.eventType().getSimpleName(),
+                    name -> new Subscribers(subscriber.eventType(), new ArrayList<>())).list().add(subscriber);
+        }
+
+        this.lagTimer = Timer.builder("outbox.lag")
+                .description("이벤트 저장부터 모든 구독자 처리 완료까지 걸린 시간")
+                .register(meterRegistry);
+        for (OutboxStatus status : OutboxStatus.values()) {
+            resultCounters.put(status, Counter.builder("outbox.events")
+                    .description("이벤트 전달 결과 (pending 은 재시도 예약)")
+                    .tag("result", status.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("outbox.oldest.pending.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("가장 오래된 대기 이벤트의 나이 (초, 전달 주기마다 갱신)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * poll-interval 마다 대기 중인 이벤트를 모두 전달 (선점한 수가 batch-size 보다 적을 때까지 반복)
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:500}")
+    public void scheduledRelay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            while (relayOnce() >= batchSize) {
+                log.debug("outbox 대기 이벤트가 남아 이어서 처리");
+            }
+            refreshOldestPendingAge();
+        } catch (RuntimeException e) {
+            // 선점한 이벤트는 lease 가 지나면 다시 대기로 간주되므로 다음 주기에 다시 전달
+            log.warn("outbox 전달 주기 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 한 주기 전달 (선점한 이벤트 수 반환)
+     */
+    public int relayOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> claimed = transactionTemplate.execute(status -> claim(now));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 aggregate 의 이벤트는 한 스레드에서 id 순으로
+        Map<AggregateKey, List<OutboxEvent>> byAggregate = claimed.stream()
+                .collect(Collectors.groupingBy(AggregateKey::of, LinkedHashMap::new, Collectors.toList()));
+        Queue<Object[]> results = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> runs = new ArrayList<>(byAggregate.size());
+        for (List<OutboxEvent> events : byAggregate.values()) {
+            runs.add(CompletableFuture.runAsync(() -> deliverInOrder(events, results), relayExecutor));
+        }
+        CompletableFuture.allOf(runs.toArray(CompletableFuture[]::new)).join();
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FINISH_SQL, new ArrayList<>(results)));
+        log.debug("outbox 전달: {}건, aggregate {}개", claimed.size(), byAggregate.size());
+        return claimed.size();
+    }
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 정리
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 30 4 * * *}")
+    public void cleanup() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(OutboxStatus.PUBLISHED, before));
+        log.info("outbox 전달 완료 이벤트 정리: {}건", deleted);
+    }
+
+    @Override
+    public void destroy() {
+        relayExecutor.shutdown();
+    }
+
+    /**
+     * 대기 이벤트를 잠그고, 순서를 지킬 수 있는 것만 lease 동안 선점
+     */
+    private List<OutboxEvent> claim(LocalDateTime now) {
+        List<OutboxEvent> candidates = outboxEventRepository.findRelayable(
+                OutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        List<OutboxEvent> claimed = inAggregateOrder(candidates);
+        if (!claimed.isEmpty()) {
+            outboxEventRepository.updateAvailableAt(claimed.stream().map(OutboxEvent::getId).toList(), now.plus(lease));
+        }
+        return claimed;
+    }
+
+    /**
+     * 같은 aggregate 에 이번에 잡지 못한 앞선 대기 이벤트(다른 서버가 선점/잠금 중이거나 재시도 대기)가 있으면
+     * 그 뒤 이벤트는 제외
+     */
+    private List<OutboxEvent> inAggregateOrder(List<OutboxEvent> candidates) {
+        Set<Long> candidateIds = candidates.stream().map(OutboxEvent::getId).collect(Collectors.toSet());
+        List<Long> aggregateIds = candidates.stream().map(OutboxEvent::getAggregateId).distinct().toList();
+        Long maxId = candidates.get(candidates.size() - 1).getId();
+
+        Set<AggregateKey> blocked = new HashSet<>();
+        Set<Long> excluded = new HashSet<>();
+        for (PendingEvent pending : outboxEventRepository.findPending(OutboxStatus.PENDING, aggregateIds, maxId)) {
+            AggregateKey key = new AggregateKey(pending.aggregateType(), pending.aggregateId());
+            if (!candidateIds.contains(pending.id())) {
+                blocked.add(key);
+            } else if (blocked.contains(key)) {
+                excluded.add(pending.id());
+            }
+        }
+        if (excluded.isEmpty()) {
+            return candidates;
+        }
+        log.debug("outbox 앞선 이벤트 대기로 제외: {}건", excluded.size());
+        return candidates.stream().filter(event -> !excluded.contains(event.getId())).toList();
+    }
+
+    /**
+     * 한 aggregate 의 이벤트를 순서대로 전달 (실패하면 이후 이벤트는 같은 시각까지 미룸)
+     */
+    private void deliverInOrder(List<OutboxEvent> events, Queue<Object[]> results) {
+        LocalDateTime retryAt = null;
+        for (OutboxEvent event : events) {
+            if (retryAt != null) {
+                results.add(new Object[]{OutboxStatus.PENDING.name(), event.getAttempts(), retryAt, null,
+                        event.getLastError(), event.getId()});
+                continue;
+            }
+            String error = deliver(event);
+            LocalDateTime now = LocalDateTime.now();
+            if (error == null) {
+                results.add(new Object[]{OutboxStatus.PUBLISHED.name(), event.getAttempts(), now, now, null, event.getId()});
+                resultCounters.get(OutboxStatus.PUBLISHED).increment();
+                lagTimer.record(Duration.between(event.getCreatedAt(), now));
+                continue;
+            }
+
+            int attempts = event.getAttempts() + 1;
+            if (attempts >= maxAttempts) {
+                // 포기한 이벤트는 더 이상 같은 aggregate 의 이후 이벤트를 막지 않음
+                log.error("outbox 이벤트 전달 포기: id={}, type={}, aggregate={}:{}, error={}",
+                        event.getId(), event.getEventType(), event.getAggregateType(), event.getAggregateId(), error);
+                results.add(new Object[]{OutboxStatus.DEAD.name(), attempts, now, null, error, event.getId()});
+                resultCounters.get(OutboxStatus.DEAD).increment();
+                continue;
+            }
+            retryAt = now.plus(retryDelay(attempts));
+            log.warn("outbox 이벤트 전달 실패 ({}회): id={}, type={}, error={}",
+                    attempts, event.getId(), event.getEventType(), error);
+            results.add(new Object[]{OutboxStatus.PENDING.name(), attempts, retryAt, null, error, event.getId()});
+            resultCounters.get(OutboxStatus.PENDING).increment();
+        }
+    }
+
+    /**
+     * 모든 구독자에게 전달 (실패 사유 반환, 성공이면 null)
+     */
+    private String deliver(OutboxEvent event) {
+        Subscribers targets = subscribers.get(event.getEventType());
+        if (targets == null) {
+            return null;
+        }
+        Object payload;
+        try {
+            payload = objectMapper.readValue(event.getPayload(), targets.eventType());
+        } catch (JsonProcessingException e) {
+            return truncate("payload 해석 실패: " + e.getOriginalMessage());
+        }
+        for (OutboxSubscriber<?> subscriber : targets.list()) {
+            try {
+                handle(subscriber, payload);
+            } catch (RuntimeException e) {
+                return truncate(subscriber.getClass().getSimpleName() + ": " + e);
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void handle(OutboxSubscriber<T> subscriber, Object payload) {
+        subscriber.handle((T) payload);
+    }
+
+    private Duration retryDelay(int attempts) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts - 1, 16));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+
+    private void refreshOldestPendingAge() {
+        LocalDateTime oldest = outboxEventRepository.findOldestCreatedAt(OutboxStatus.PENDING);
+        oldestPendingAgeSeconds.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toSeconds());
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+
+    private record Subscribers(Class<?> eventType, List<OutboxSubscriber<?>> list) {
+    }
+
+    private record AggregateKey(String type, Long id) {
+
+        static AggregateKey of(OutboxEvent event) {
+            return new AggregateKey(event.getAggregateType(), event.getAggregateId());
+        }
+    }
+}
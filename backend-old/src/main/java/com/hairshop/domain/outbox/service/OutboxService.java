@@ -0,0 +1,48 @@
+package com.hairshop.domain.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hairshop.domain.outbox.entity.OutboxEvent;
+import com.hairshop.domain.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * outbox 저장 (상태 변경과 같은 트랜잭션에서만 호출 가능)
+ *
+ * 트랜잭션이 롤백되면 이벤트도 남지 않고, 커밋되면 OutboxRelay 가 반드시 전달한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 저장
+     *
+     * @param aggregateType 순서를 보장하는 단위 (Reservation 등)
+     * @param aggregateId   aggregate 식별자
+     * @param event         구독자에게 전달할 이벤트 (JSON 으로 저장)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Long aggregateId, Object event) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(event.getClass().getSimpleName())
+                .payload(toJson(event))
+                .build());
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이벤트를 JSON 으로 변환할 수 없습니다: " + event.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.hairshop.domain.outbox.service;
+
+/**
+ * outbox 이벤트 구독자 (빈으로 등록하면 OutboxRelay 가 eventType 의 이벤트를 전달)
+ *
+ * 전달은 최소 한 번(at-least-once)이다. 처리 중 서버가 종료되거나 같은 이벤트의 다른 구독자가 실패하면
+ * 같은 이벤트가 다시 오므로 handle 은 멱등이어야 한다.
+ * 같은 aggregate 의 이벤트는 저장된 순서대로, 앞 이벤트 처리가 끝난 뒤에 온다.
+ * 예외를 던지면 그 이벤트와 같은 aggregate 의 이후 이벤트를 백오프 후 다시 전달한다.
+ */
+public interface OutboxSubscriber<T> {
+
+    /**
+     * 구독할 이벤트 클래스
+     */
+    Class<T> eventType();
+
+    void handle(T event);
+}
@@ -0,0 +1,149 @@
+package com.hairshop.domain.payment.client;
+
+import com.hairshop.config.PaymentClientProperties;
+import com.hairshop.config.PaymentClientProperties.CircuitBreakerSettings;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.PaymentGatewayUnavailableException;
+import com.hairshop.util.CircuitBreaker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * PG 사 HTTP 호출 (제공사별 연결 풀, bulkhead, 서킷 브레이커)
+ *
+ * 호출은 WebClient(Reactor Netty) 로 보내므로 응답을 기다리는 동안 요청 스레드를 점유하지 않는다.
+ * 동시 호출이 max-concurrent-calls 를 넘거나 서킷이 열려 있으면 기다리지 않고 바로 503 으로 거절하여,
+ * 느려진 PG 때문에 요청이 쌓이지 않게 한다.
+ * 시간 초과, 연결 오류, 5xx/429 만 서킷 브레이커의 실패로 센다 (카드 거절 같은 4xx 는 PG 가 정상 응답한 것).
+ */
+@Slf4j
+public class PgClient {
+
+    private final String provider;
+    private final WebClient webClient;
+    private final ConnectionProvider connectionProvider;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Duration callTimeout;
+    private final long retryAfterSeconds;
+    private final MeterRegistry meterRegistry;
+
+    public PgClient(String provider, PaymentClientProperties.Provider properties,
+                    WebClient.Builder webClientBuilder, MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.connectionProvider = ConnectionProvider.builder("pg-" + provider)
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireMaxCount(properties.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.pendingAcquireTimeout())
+                .maxIdleTime(properties.maxIdleTime())
+                .evictInBackground(properties.maxIdleTime())
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(properties.connectTimeout().toMillis()))
+                .responseTimeout(properties.readTimeout());
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(properties.baseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        this.bulkhead = new Semaphore(properties.maxConcurrentCalls());
+        CircuitBreakerSettings settings = properties.circuitBreaker();
+        this.circuitBreaker = new CircuitBreaker(settings.windowSize(), settings.minimumCalls(),
+                settings.failureRateThreshold(), settings.openDuration(), settings.halfOpenCalls());
+        this.callTimeout = properties.callTimeout();
+        this.retryAfterSeconds = Math.max(1, settings.openDuration().toSeconds());
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("payment.pg.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("서킷 상태 (0 CLOSED, 1 OPEN, 2 HALF_OPEN)")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("payment.pg.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("bulkhead 남은 동시 호출 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서킷 브레이커와 bulkhead 를 거쳐 호출 (구독할 때마다 새로 판단)
+     *
+     * @param operation 지표 태그 (confirm 등)
+     * @param request   WebClient 로 만든 요청
+     */
+    public <T> Mono<T> call(String operation, Function<WebClient, Mono<T>> request) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                record(operation, "circuit_open", 0);
+                return Mono.error(new PaymentGatewayUnavailableException(retryAfterSeconds));
+            }
+            if (!bulkhead.tryAcquire()) {
+                circuitBreaker.onCancelled();
+                record(operation, "bulkhead_full", 0);
+                return Mono.error(new PaymentGatewayUnavailableException(1));
+            }
+            long startedAt = System.nanoTime();
+            return request.apply(webClient)
+                    .timeout(callTimeout)
+                    .doOnSuccess(result -> {
+                        circuitBreaker.onSuccess();
+                        record(operation, "success", startedAt);
+                    })
+                    .onErrorMap(error -> !(error instanceof BusinessException), error -> {
+                        circuitBreaker.onFailure();
+                        record(operation, "unavailable", startedAt);
+                        log.warn("{} {} 호출 실패: {}", provider, operation, describe(error));
+                        return new PaymentGatewayUnavailableException(1);
+                    })
+                    .doOnError(BusinessException.class, error -> {
+                        if (!(error instanceof PaymentGatewayUnavailableException)) {
+                            // PG 가 정상적으로 거절 응답을 준 경우
+                            circuitBreaker.onSuccess();
+                            record(operation, "rejected", startedAt);
+                        }
+                    })
+                    .doOnCancel(circuitBreaker::onCancelled)
+                    .doFinally(signal -> bulkhead.release());
+        });
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    /**
+     * 연결 풀 정리
+     */
+    public void close() {
+        connectionProvider.dispose();
+    }
+
+    private void record(String operation, String outcome, long startedAt) {
+        Timer timer = Timer.builder("payment.pg.requests")
+                .description("PG 사 호출 시간")
+                .tag("provider", provider)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+        timer.record(startedAt == 0 ? 0 : System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static String describe(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return "status=" + response.getStatusCode().value();
+        }
+        return error.getClass().getSimpleName() + (error.getMessage() != null ? ": " + error.getMessage() : "");
+    }
+}
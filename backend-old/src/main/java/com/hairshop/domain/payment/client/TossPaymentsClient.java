@@ -0,0 +1,117 @@
+package com.hairshop.domain.payment.client;
+
+import com.hairshop.config.PaymentClientProperties;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+
+/**
+ * 토스페이먼츠 API
+ *
+ * 승인 요청에는 주문 번호(payments.order_id)를 Idempotency-Key 로 함께 보내, 시간 초과 뒤 같은 주문으로 다시 승인해도
+ * 중복 승인되지 않고 처음 결과를 받도록 한다. 응답의 orderId 가 요청과 다르면 실패로 본다.
+ */
+@Slf4j
+@Component
+public class TossPaymentsClient implements DisposableBean {
+
+    static final String PROVIDER = "toss";
+    private static final String DEFAULT_BASE_URL = "https://api.tosspayments.com";
+
+    private final PgClient pgClient;
+    private final String authorization;
+
+    public TossPaymentsClient(
+            PaymentClientProperties properties,
+            WebClient.Builder webClientBuilder,
+            MeterRegistry meterRegistry,
+            @Value("${toss.secret-key}") String secretKey
+    ) {
+        this.pgClient = new PgClient(PROVIDER, properties.provider(PROVIDER, DEFAULT_BASE_URL),
+                webClientBuilder, meterRegistry);
+        // 시크릿 키 뒤에 ':' 를 붙여 Basic 인증 (비밀번호 없음)
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 결제 승인
+     */
+    public Mono<TossPayment> confirm(String paymentKey, String orderId, BigDecimal amount) {
+        return pgClient.call("confirm", webClient -> webClient.post()
+                        .uri("/v1/payments/confirm")
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .header("Idempotency-Key", orderId)
+                        .bodyValue(new ConfirmRequest(paymentKey, orderId, amount))
+                        .retrieve()
+                        .onStatus(TossPaymentsClient::isRejection, response -> response.bodyToMono(TossError.class)
+                                .defaultIfEmpty(new TossError("UNKNOWN", ErrorCode.PAYMENT_REJECTED.getMessage()))
+                                .map(error -> {
+                                    log.info("결제 승인 거절: orderId={}, code={}", orderId, error.code());
+                                    return new BusinessException(ErrorCode.PAYMENT_REJECTED, error.message());
+                                }))
+                        .bodyToMono(TossPayment.class))
+                .flatMap(payment -> {
+                    if (!orderId.equals(payment.orderId())) {
+                        log.error("결제 승인 응답의 주문 번호 불일치: orderId={}, response={}", orderId, payment.orderId());
+                        return Mono.error(new BusinessException(ErrorCode.PAYMENT_REJECTED, "주문 번호 불일치"));
+                    }
+                    log.info("결제 승인: orderId={}, paymentKey={}, status={}", orderId, payment.paymentKey(), payment.status());
+                    return Mono.just(payment);
+                });
+    }
+
+    public PgClient pgClient() {
+        return pgClient;
+    }
+
+    @Override
+    public void destroy() {
+        pgClient.close();
+    }
+
+    /**
+     * PG 가 요청을 처리하고 거절한 응답 (429 는 일시 장애로 봄)
+     */
+    private static boolean isRejection(HttpStatusCode status) {
+        return status.is4xxClientError() && status.value() != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    record ConfirmRequest(String paymentKey, String orderId, BigDecimal amount) {
+    }
+
+    /**
+     * 오류 응답 본문
+     */
+    record TossError(String code, String message) {
+    }
+
+    /**
+     * 결제 객체 (필요한 필드만)
+     *
+     * @param status DONE, WAITING_FOR_DEPOSIT(가상계좌) 등
+     */
+    public record TossPayment(
+            String paymentKey,
+            String orderId,
+            String status,
+            String method,
+            BigDecimal totalAmount,
+            OffsetDateTime approvedAt
+    ) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.hairshop.domain.payment.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 (예약 결제, 주문 번호 orderId 로 PG 와 대응)
+ */
+@Entity
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_reservation", columnList = "reservationId"),
+        @Index(name = "idx_payments_status", columnList = "status")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Payment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long reservationId;
+
+    // PG 가 발급한 결제 키 (승인 후)
+    @Column
+    private String paymentKey;
+
+    // 우리가 발급한 주문 번호 (PG 요청의 orderId, Idempotency-Key)
+    @Column(nullable = false, unique = true)
+    private String orderId;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(length = 50)
+    private String paymentMethod;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private PaymentStatus status = PaymentStatus.PENDING;
+
+    @Column
+    private LocalDateTime approvedAt;
+
+    @Column(precision = 10, scale = 2)
+    @Builder.Default
+    private BigDecimal refundAmount = BigDecimal.ZERO;
+
+    @Column
+    private LocalDateTime refundedAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String refundReason;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public enum PaymentStatus {
+        PENDING,        // 승인 대기 (PG 호출 실패 시에도 유지, 같은 주문으로 다시 승인)
+        WAITING_FOR_DEPOSIT, // 가상계좌 발급 후 입금 대기 (매출 아님)
+        COMPLETED,
+        FAILED,         // PG 거절
+        CANCELLED,
+        REFUNDED,
+        PARTIAL_REFUND
+    }
+
+    // 실제 받은 금액 (승인 금액 - 환불 금액, 승인 전/실패/취소는 0)
+    public BigDecimal netAmount() {
+        return switch (status) {
+            case COMPLETED, PARTIAL_REFUND -> amount.subtract(refundAmount != null ? refundAmount : BigDecimal.ZERO);
+            default -> BigDecimal.ZERO;
+        };
+    }
+
+    // 승인 완료 처리
+    public void complete(String paymentKey, String paymentMethod, LocalDateTime approvedAt) {
+        this.paymentKey = paymentKey;
+        this.paymentMethod = paymentMethod;
+        this.approvedAt = approvedAt;
+        this.status = PaymentStatus.COMPLETED;
+    }
+
+    // 입금 대기 처리 (가상계좌, 입금 확인 전이므로 승인 시각 없음)
+    public void waitForDeposit(String paymentKey, String paymentMethod) {
+        this.paymentKey = paymentKey;
+        this.paymentMethod = paymentMethod;
+        this.status = PaymentStatus.WAITING_FOR_DEPOSIT;
+    }
+
+    // 승인 거절 처리
+    public void fail() {
+        this.status = PaymentStatus.FAILED;
+    }
+}
@@ -0,0 +1,45 @@
+package com.hairshop.domain.payment.event;
+
+import com.hairshop.domain.payment.entity.Payment;
+import com.hairshop.domain.payment.entity.Payment.PaymentStatus;
+import com.hairshop.domain.reservation.entity.Reservation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 상태 변경 이벤트 (outbox 로 저장 후 OutboxRelay 가 비동기로 전달)
+ *
+ * @param previousNetAmount 변경 전 실제 받은 금액
+ * @param netAmount         변경 후 실제 받은 금액 (매출 증감 = netAmount - previousNetAmount)
+ */
+public record PaymentStatusChangedEvent(
+        Long paymentId,
+        Long reservationId,
+        Long shopId,
+        Long serviceId,
+        LocalDate reservationDate,
+        PaymentStatus previousStatus,
+        PaymentStatus status,
+        BigDecimal previousNetAmount,
+        BigDecimal netAmount,
+        LocalDateTime occurredAt
+) {
+
+    public static PaymentStatusChangedEvent of(Payment payment, Reservation reservation,
+                                               PaymentStatus previousStatus, BigDecimal previousNetAmount) {
+        return new PaymentStatusChangedEvent(
+                payment.getId(),
+                reservation.getId(),
+                reservation.getShopId(),
+                reservation.getServiceId(),
+                reservation.getReservationDate(),
+                previousStatus,
+                payment.getStatus(),
+                previousNetAmount,
+                payment.netAmount(),
+                LocalDateTime.now()
+        );
+    }
+}
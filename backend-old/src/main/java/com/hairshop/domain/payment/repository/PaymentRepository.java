@@ -0,0 +1,47 @@
+package com.hairshop.domain.payment.repository;
+
+import com.hairshop.domain.payment.entity.Payment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    /**
+     * 주문 번호로 결제 찾기
+     */
+    Optional<Payment> findByOrderId(String orderId);
+
+    /**
+     * 예약의 해당 상태 결제 존재 여부
+     */
+    boolean existsByReservationIdAndStatusIn(Long reservationId, Collection<Payment.PaymentStatus> statuses);
+
+    /**
+     * [fromShopId, toShopId] 미용실의 예약일/서비스별 실제 받은 금액 (statuses 결제만)
+     */
+    @Query("""
+            select new com.hairshop.domain.payment.repository.PaymentRepository$DailyRevenue(
+                r.shopId, r.reservationDate, r.serviceId, sum(p.amount - coalesce(p.refundAmount, 0)))
+            from Payment p join Reservation r on r.id = p.reservationId
+            where r.shopId between :fromShopId and :toShopId and p.status in :statuses
+            group by r.shopId, r.reservationDate, r.serviceId
+            """)
+    List<DailyRevenue> sumDailyRevenue(@Param("fromShopId") Long fromShopId,
+                                       @Param("toShopId") Long toShopId,
+                                       @Param("statuses") Collection<Payment.PaymentStatus> statuses);
+
+    /**
+     * 미용실/예약일/서비스별 매출
+     */
+    record DailyRevenue(Long shopId, LocalDate reservationDate, Long serviceId, BigDecimal revenue) {
+    }
+}
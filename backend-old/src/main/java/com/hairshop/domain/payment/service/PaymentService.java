@@ -0,0 +1,177 @@
+package com.hairshop.domain.payment.service;
+
+import com.hairshop.datasource.WriterContext;
+import com.hairshop.domain.outbox.service.OutboxService;
+import com.hairshop.domain.payment.client.TossPaymentsClient;
+import com.hairshop.domain.payment.client.TossPaymentsClient.TossPayment;
+import com.hairshop.domain.payment.entity.Payment;
+import com.hairshop.domain.payment.event.PaymentStatusChangedEvent;
+import com.hairshop.domain.payment.repository.PaymentRepository;
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.dto.request.PaymentConfirmRequest;
+import com.hairshop.dto.request.PaymentPrepareRequest;
+import com.hairshop.dto.response.PaymentResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 예약 결제 (토스페이먼츠)
+ *
+ * 승인은 PG 응답을 기다리는 동안 요청 스레드를 붙잡지 않도록 Mono 로 반환하고,
+ * 응답 후 결제 상태 저장(JPA, 블로킹)은 boundedElastic 스케줄러에서 한다.
+ * PG 호출 자체가 실패하면(시간 초과 등) 결제는 PENDING 으로 남아 같은 주문 번호로 다시 승인할 수 있다.
+ * PG 결제 상태가 DONE 일 때만 COMPLETED(매출)로 처리하고, 가상계좌 입금 대기(WAITING_FOR_DEPOSIT)는
+ * 입금 대기로 남긴다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PaymentService {
+
+    private static final String AGGREGATE_TYPE = "Payment";
+
+    // 이미 결제했거나 입금을 기다리는 예약은 다시 결제하지 않음
+    private static final Set<Payment.PaymentStatus> PAID_STATUSES =
+            EnumSet.of(Payment.PaymentStatus.COMPLETED, Payment.PaymentStatus.WAITING_FOR_DEPOSIT);
+
+    private final PaymentRepository paymentRepository;
+    private final ReservationRepository reservationRepository;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 결제 준비 (주문 번호 발급, 금액은 예약 금액)
+     */
+    @Transactional
+    public PaymentResponse prepare(Long customerId, PaymentPrepareRequest request) {
+        Reservation reservation = reservationRepository.findById(request.reservationId())
+                .filter(found -> found.getCustomerId().equals(customerId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
+        if (!reservation.isActive()
+                || paymentRepository.existsByReservationIdAndStatusIn(reservation.getId(), PAID_STATUSES)) {
+            throw new BusinessException(ErrorCode.PAYMENT_ALREADY_PROCESSED);
+        }
+
+        Payment payment = paymentRepository.save(Payment.builder()
+                .reservationId(reservation.getId())
+                .orderId(newOrderId(reservation.getId()))
+                .amount(reservation.getTotalPrice())
+                .build());
+        return PaymentResponse.from(payment);
+    }
+
+    /**
+     * 결제 승인 (본인 예약의 대기 중인 결제, 금액 일치 확인 후 PG 승인)
+     */
+    public Mono<PaymentResponse> confirm(Long customerId, PaymentConfirmRequest request) {
+        Payment payment = findOwnPayment(customerId, request.orderId());
+        if (payment.getStatus() != Payment.PaymentStatus.PENDING) {
+            throw new BusinessException(ErrorCode.PAYMENT_ALREADY_PROCESSED);
+        }
+        if (payment.getAmount().compareTo(request.amount()) != 0) {
+            throw new BusinessException(ErrorCode.PAYMENT_AMOUNT_MISMATCH);
+        }
+
+        Long paymentId = payment.getId();
+        return tossPaymentsClient.confirm(request.paymentKey(), request.orderId(), request.amount())
+                // 이후 JPA 저장은 블로킹이므로 Netty 이벤트 루프 밖에서
+                // (보안 컨텍스트가 없는 스레드이므로 읽기 primary 고정 대상은 WriterContext 로 지정)
+                .publishOn(Schedulers.boundedElastic())
+                .map(approved -> WriterContext.call(customerId,
+                        () -> transactionTemplate.execute(status -> complete(paymentId, approved))))
+                .onErrorResume(BusinessException.class, e -> {
+                    if (e.getErrorCode() != ErrorCode.PAYMENT_REJECTED) {
+                        return Mono.error(e);
+                    }
+                    return Mono.fromRunnable(() -> WriterContext.run(customerId,
+                                    () -> transactionTemplate.executeWithoutResult(status -> fail(paymentId))))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .then(Mono.error(e));
+                });
+    }
+
+    /**
+     * PG 결제 상태에 따라 반영 (DONE → COMPLETED, WAITING_FOR_DEPOSIT → 입금 대기, ABORTED/EXPIRED → FAILED)
+     */
+    private PaymentResponse complete(Long paymentId, TossPayment approved) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
+        if (payment.getStatus() != Payment.PaymentStatus.PENDING) {
+            return PaymentResponse.from(payment);
+        }
+
+        BigDecimal previousNetAmount = payment.netAmount();
+        switch (String.valueOf(approved.status())) {
+            case "DONE" -> {
+                LocalDateTime approvedAt = approved.approvedAt() != null
+                        ? approved.approvedAt().toLocalDateTime()
+                        : LocalDateTime.now();
+                payment.complete(approved.paymentKey(), approved.method(), approvedAt);
+            }
+            case "WAITING_FOR_DEPOSIT" -> payment.waitForDeposit(approved.paymentKey(), approved.method());
+            case "ABORTED", "EXPIRED" -> payment.fail();
+            default -> {
+                // 진행 중(READY, IN_PROGRESS 등): PENDING 으로 두고 같은 주문으로 다시 승인
+                log.warn("결제 {} 승인 응답 상태 {}: PENDING 유지", payment.getOrderId(), approved.status());
+                return PaymentResponse.from(payment);
+            }
+        }
+        statusChanged(payment, Payment.PaymentStatus.PENDING, previousNetAmount);
+        return PaymentResponse.from(payment);
+    }
+
+    private void fail(Long paymentId) {
+        paymentRepository.findById(paymentId)
+                .filter(payment -> payment.getStatus() == Payment.PaymentStatus.PENDING)
+                .ifPresent(payment -> {
+                    BigDecimal previousNetAmount = payment.netAmount();
+                    payment.fail();
+                    statusChanged(payment, Payment.PaymentStatus.PENDING, previousNetAmount);
+                });
+    }
+
+    /**
+     * 상태 변경을 같은 트랜잭션에서 outbox 에 저장 (매출 집계 등은 OutboxRelay 가 커밋 후 전달)
+     */
+    private void statusChanged(Payment payment, Payment.PaymentStatus previousStatus, BigDecimal previousNetAmount) {
+        Reservation reservation = reservationRepository.findById(payment.getReservationId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
+        outboxService.append(AGGREGATE_TYPE, payment.getId(),
+                PaymentStatusChangedEvent.of(payment, reservation, previousStatus, previousNetAmount));
+    }
+
+    private Payment findOwnPayment(Long customerId, String orderId) {
+        Payment payment = paymentRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
+        boolean own = reservationRepository.findById(payment.getReservationId())
+                .map(reservation -> reservation.getCustomerId().equals(customerId))
+                .orElse(false);
+        if (!own) {
+            throw new BusinessException(ErrorCode.PAYMENT_NOT_FOUND);
+        }
+        return payment;
+    }
+
+    /**
+     * 주문 번호 (토스 규칙: 영문/숫자/-/_ 6~64자)
+     */
+    private static String newOrderId(Long reservationId) {
+        return "rsv" + reservationId + "-" + UUID.randomUUID().toString().replace("-", "");
+    }
+}
@@ -0,0 +1,118 @@
+package com.hairshop.domain.reservation.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Entity
+@Table(name = "reservations", indexes = {
+        // 미용실 예약 목록 keyset 페이지 (shopId 만 쓰는 조회도 이 색인 사용)
+        @Index(name = "idx_reservations_shop_date", columnList = "shopId, reservationDate, reservationTime, id"),
+        // 손님 예약 목록 keyset 페이지
+        @Index(name = "idx_reservations_customer_created", columnList = "customerId, createdAt, id"),
+        @Index(name = "idx_reservations_status", columnList = "status"),
+        @Index(name = "idx_reservations_date", columnList = "reservationDate"),
+        @Index(name = "idx_reservations_updated", columnList = "updatedAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Reservation {
+
+    // 시간을 점유하는 상태 (취소/완료/노쇼는 제외)
+    public static final Set<ReservationStatus> ACTIVE_STATUSES =
+            EnumSet.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long shopId;
+
+    @Column(nullable = false)
+    private Long customerId;
+
+    @Column(nullable = false)
+    private Long serviceId;
+
+    @Column(nullable = false)
+    private LocalDate reservationDate;
+
+    @Column(nullable = false)
+    private LocalTime reservationTime;
+
+    // 예약 시점의 서비스 소요 시간 (분, 이후 서비스 시간이 바뀌어도 유지)
+    @Column(nullable = false)
+    private int durationMinutes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private ReservationStatus status = ReservationStatus.PENDING;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalPrice;
+
+    @Column(columnDefinition = "TEXT")
+    private String customerNote;
+
+    @Column(columnDefinition = "TEXT")
+    private String ownerNote;
+
+    @Column
+    private LocalDateTime cancelledAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String cancelReason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private CancelledBy cancelledBy;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 예약 상태
+    public enum ReservationStatus {
+        PENDING,    // 대기
+        CONFIRMED,  // 확정
+        CANCELLED,  // 취소
+        COMPLETED,  // 완료
+        NO_SHOW     // 노쇼
+    }
+
+    // 취소 주체
+    public enum CancelledBy {
+        CUSTOMER,  // 손님
+        OWNER,     // 사장님
+        SYSTEM     // 시스템
+    }
+
+    // 시간을 점유 중인지 확인
+    public boolean isActive() {
+        return ACTIVE_STATUSES.contains(status);
+    }
+
+    // 예약 취소 처리
+    public void cancel(CancelledBy cancelledBy, String reason) {
+        this.status = ReservationStatus.CANCELLED;
+        this.cancelledBy = cancelledBy;
+        this.cancelReason = reason;
+        this.cancelledAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,28 @@
+package com.hairshop.domain.reservation.event;
+
+import com.hairshop.domain.reservation.entity.Reservation;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 예약 취소 이벤트 (트랜잭션 커밋 후 처리)
+ */
+public record ReservationCancelledEvent(
+        Long reservationId,
+        Long shopId,
+        LocalDate date,
+        LocalTime time,
+        int durationMinutes
+) {
+
+    public static ReservationCancelledEvent from(Reservation reservation) {
+        return new ReservationCancelledEvent(
+                reservation.getId(),
+                reservation.getShopId(),
+                reservation.getReservationDate(),
+                reservation.getReservationTime(),
+                reservation.getDurationMinutes()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.hairshop.domain.reservation.event;
+
+import com.hairshop.domain.reservation.entity.Reservation;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 예약 생성 이벤트 (트랜잭션 커밋 후 처리)
+ */
+public record ReservationCreatedEvent(
+        Long reservationId,
+        Long shopId,
+        LocalDate date,
+        LocalTime time,
+        int durationMinutes
+) {
+
+    public static ReservationCreatedEvent from(Reservation reservation) {
+        return new ReservationCreatedEvent(
+                reservation.getId(),
+                reservation.getShopId(),
+                reservation.getReservationDate(),
+                reservation.getReservationTime(),
+                reservation.getDurationMinutes()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.hairshop.domain.reservation.event;
+
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.entity.Reservation.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 예약 상태 변경 이벤트 (outbox 로 저장 후 OutboxRelay 가 비동기로 전달)
+ *
+ * @param previousStatus 변경 전 상태 (예약 생성이면 null)
+ */
+public record ReservationStatusChangedEvent(
+        Long reservationId,
+        Long shopId,
+        Long customerId,
+        Long serviceId,
+        ReservationStatus previousStatus,
+        ReservationStatus status,
+        LocalDate date,
+        LocalTime time,
+        int durationMinutes,
+        LocalDateTime occurredAt
+) {
+
+    public static ReservationStatusChangedEvent from(Reservation reservation, ReservationStatus previousStatus) {
+        return new ReservationStatusChangedEvent(
+                reservation.getId(),
+                reservation.getShopId(),
+                reservation.getCustomerId(),
+                reservation.getServiceId(),
+                previousStatus,
+                reservation.getStatus(),
+                reservation.getReservationDate(),
+                reservation.getReservationTime(),
+                reservation.getDurationMinutes(),
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,124 @@
+package com.hairshop.domain.reservation.repository;
+
+import com.hairshop.domain.common.repository.KeysetPage;
+import com.hairshop.domain.common.repository.KeysetQuery;
+import com.hairshop.domain.common.repository.KeysetRepository;
+import com.hairshop.domain.reservation.entity.Reservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, KeysetRepository {
+
+    /**
+     * 미용실 예약 목록 (예약 일시순, from 날짜부터, idx_reservations_shop_date 범위 조회)
+     */
+    default KeysetPage<Reservation> findShopReservations(Long shopId, LocalDate from, String cursor, int size) {
+        return findKeyset(Reservation.class, KeysetQuery.builder()
+                .filter("shopId", shopId)
+                .lowerBound("reservationDate", from)
+                .key("reservationDate").key("reservationTime").key("id")
+                .cursor(cursor)
+                .size(size)
+                .build());
+    }
+
+    /**
+     * 손님 예약 목록 (최근 예약한 순, idx_reservations_customer_created 범위 조회)
+     */
+    default KeysetPage<Reservation> findCustomerReservations(Long customerId, String cursor, int size) {
+        return findKeyset(Reservation.class, KeysetQuery.builder()
+                .filter("customerId", customerId)
+                .key("createdAt").key("id")
+                .descending(true)
+                .cursor(cursor)
+                .size(size)
+                .build());
+    }
+
+    /**
+     * 미용실의 특정 날짜에 시간을 점유 중인 예약 (projection)
+     */
+    List<BookedSlot> findByShopIdAndReservationDateAndStatusIn(
+            Long shopId, LocalDate reservationDate, Collection<Reservation.ReservationStatus> statuses);
+
+    /**
+     * 날짜 범위의 예약 알림 대상 (예약 날짜 인덱스 범위 조회)
+     */
+    @Query("""
+            select new com.hairshop.domain.reservation.repository.ReservationRepository$ReminderTarget(
+                r.id, r.customerId, r.status, r.reservationDate, r.reservationTime)
+            from Reservation r
+            where r.reservationDate between :from and :to and r.status in :statuses
+            """)
+    List<ReminderTarget> findReminderTargets(@Param("from") LocalDate from,
+                                             @Param("to") LocalDate to,
+                                             @Param("statuses") Collection<Reservation.ReservationStatus> statuses);
+
+    /**
+     * since 이후 변경된 예약 (다른 서버에서 생긴 생성/변경/취소 반영용, 상태 무관)
+     */
+    @Query("""
+            select new com.hairshop.domain.reservation.repository.ReservationRepository$ReminderTarget(
+                r.id, r.customerId, r.status, r.reservationDate, r.reservationTime)
+            from Reservation r
+            where r.updatedAt >= :since
+            """)
+    List<ReminderTarget> findReminderTargetsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 발송 직전 현재 상태 확인
+     */
+    @Query("""
+            select new com.hairshop.domain.reservation.repository.ReservationRepository$ReminderTarget(
+                r.id, r.customerId, r.status, r.reservationDate, r.reservationTime)
+            from Reservation r
+            where r.id in :ids and r.status in :statuses
+            """)
+    List<ReminderTarget> findReminderTargetsByIdIn(@Param("ids") Collection<Long> ids,
+                                                   @Param("statuses") Collection<Reservation.ReservationStatus> statuses);
+
+    /**
+     * [fromShopId, toShopId] 미용실의 날짜/서비스/상태별 예약 수
+     */
+    @Query("""
+            select new com.hairshop.domain.reservation.repository.ReservationRepository$DailyStatusCount(
+                r.shopId, r.reservationDate, r.serviceId, r.status, count(r))
+            from Reservation r
+            where r.shopId between :fromShopId and :toShopId
+            group by r.shopId, r.reservationDate, r.serviceId, r.status
+            """)
+    List<DailyStatusCount> countDailyByStatus(@Param("fromShopId") Long fromShopId, @Param("toShopId") Long toShopId);
+
+    /**
+     * 예약이 점유한 시간대
+     */
+    record BookedSlot(LocalTime reservationTime, int durationMinutes) {
+    }
+
+    /**
+     * 예약 알림 대상
+     */
+    record ReminderTarget(Long id, Long customerId, Reservation.ReservationStatus status,
+                          LocalDate reservationDate, LocalTime reservationTime) {
+
+        public LocalDateTime startsAt() {
+            return LocalDateTime.of(reservationDate, reservationTime);
+        }
+    }
+
+    /**
+     * 미용실/날짜/서비스/상태별 예약 수
+     */
+    record DailyStatusCount(Long shopId, LocalDate reservationDate, Long serviceId,
+                            Reservation.ReservationStatus status, long count) {
+    }
+}
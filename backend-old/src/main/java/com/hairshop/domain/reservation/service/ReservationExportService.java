@@ -0,0 +1,220 @@
+package com.hairshop.domain.reservation.service;
+
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import com.hairshop.exception.ExportBusyException;
+import com.hairshop.util.CsvWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미용실 예약/결제 내역 CSV 내보내기 (세무 자료용)
+ *
+ * 행을 List 로 모으지 않고 전진 전용 JDBC 커서로 fetch-size 만큼씩 읽어 바로 응답에 쓰므로,
+ * 행 수와 관계없이 메모리 사용량이 일정하다 (버퍼 크기 + fetch-size 행).
+ * 내보내기 하나가 끝날 때까지 DB 연결을 점유하므로 동시에 진행하는 수를 max-concurrent 로 제한한다.
+ */
+@Slf4j
+@Service
+public class ReservationExportService {
+
+    // 예약 일시순 (idx_reservations_shop_date 범위 조회), 결제는 승인된 결제만
+    private static final String EXPORT_SQL = """
+            SELECT r.id, r.reservation_date, r.reservation_time, s.name AS service_name, r.status, r.total_price,
+                   p.amount AS paid_amount, p.refund_amount, p.payment_method, p.approved_at
+            FROM reservations r
+            LEFT JOIN services s ON s.id = r.service_id
+            LEFT JOIN payments p ON p.reservation_id = r.id
+                AND p.status IN ('COMPLETED', 'PARTIAL_REFUND', 'REFUNDED')
+            WHERE r.shop_id = ? AND r.reservation_date BETWEEN ? AND ?
+            ORDER BY r.reservation_date, r.reservation_time, r.id
+            """;
+
+    private static final String[] HEADER = {
+            "예약번호", "예약일", "예약시간", "서비스", "상태", "예약금액", "결제금액", "환불금액", "결제수단", "결제승인일시"
+    };
+
+    // Excel 이 UTF-8 로 읽도록 맨 앞에 BOM
+    private static final char BOM = '\uFEFF';
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ShopRepository shopRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+    private final int fetchSize;
+    private final int maxDays;
+    private final long retryAfterSeconds;
+    private final Counter rowCounter;
+    private final Timer exportTimer;
+
+    public ReservationExportService(
+            ShopRepository shopRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${export.fetch-size:1000}") int fetchSize,
+            @Value("${export.max-days:366}") int maxDays,
+            @Value("${export.max-concurrent:2}") int maxConcurrent,
+            @Value("${export.retry-after-seconds:30}") long retryAfterSeconds
+    ) {
+        this.shopRepository = shopRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // PostgreSQL 은 autocommit 이 꺼진 트랜잭션 안에서만 fetch-size 단위 커서로 읽음
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.permits = new Semaphore(maxConcurrent);
+        this.fetchSize = fetchSize;
+        this.maxDays = maxDays;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.rowCounter = Counter.builder("export.reservations.rows")
+                .description("내보낸 예약 행 수")
+                .register(meterRegistry);
+        this.exportTimer = Timer.builder("export.reservations")
+                .description("예약 내보내기 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 확인 후 응답 본문 (본인 미용실, 기간, 동시 진행 수는 응답을 시작하기 전에 확인)
+     *
+     * @param gzip true 면 gzip 으로 압축해 씀 (Content-Encoding: gzip 응답)
+     */
+    public StreamingResponseBody prepare(Long ownerId, Long shopId, LocalDate from, LocalDate to, boolean gzip) {
+        shopRepository.findById(shopId)
+                .filter(shop -> shop.getOwnerId().equals(ownerId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.SHOP_NOT_FOUND));
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) + 1 > maxDays) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "내보내기 기간은 최대 " + maxDays + "일입니다");
+        }
+        if (!permits.tryAcquire()) {
+            throw new ExportBusyException(retryAfterSeconds);
+        }
+        return out -> {
+            try {
+                export(shopId, from, to, out, gzip);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    /**
+     * [from, to] 예약을 CSV 로 씀 (쓴 행 수 반환, out 은 닫지 않음)
+     *
+     * @throws IOException 응답 쓰기 실패 (클라이언트 연결 끊김 등, 조회도 함께 중단)
+     */
+    public long export(Long shopId, LocalDate from, LocalDate to, OutputStream out, boolean gzip) throws IOException {
+        long startedAt = System.nanoTime();
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzip ? compressed : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        CsvRowWriter rows = new CsvRowWriter(new CsvWriter(writer));
+
+        writer.write(BOM);
+        rows.csv.writeRow(HEADER);
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setLong(1, shopId);
+                statement.setObject(2, from);
+                statement.setObject(3, to);
+                return statement;
+            }, rows));
+        } catch (UncheckedIOException e) {
+            log.info("예약 내보내기 중단: shopId={}, {}행, {}", shopId, rows.count, e.getCause().getMessage());
+            throw e.getCause();
+        } finally {
+            rowCounter.increment(rows.count);
+        }
+
+        writer.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        exportTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("예약 내보내기 완료: shopId={}, {}~{}, {}행 ({}ms)",
+                shopId, from, to, rows.count, elapsedNanos / 1_000_000);
+        return rows.count;
+    }
+
+    /**
+     * 조회 결과 한 행씩 CSV 로 (행 객체를 만들지 않고 바로 씀)
+     */
+    private static final class CsvRowWriter implements RowCallbackHandler {
+
+        private final CsvWriter csv;
+        private long count;
+
+        CsvRowWriter(CsvWriter csv) {
+            this.csv = csv;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                csv.field(rs.getLong("id"))
+                        .field(rs.getObject("reservation_date", LocalDate.class))
+                        .field(format(rs.getObject("reservation_time", LocalTime.class)))
+                        .field(rs.getString("service_name"))
+                        .field(rs.getString("status"))
+                        .field(plain(rs.getBigDecimal("total_price")))
+                        .field(plain(rs.getBigDecimal("paid_amount")))
+                        .field(plain(rs.getBigDecimal("refund_amount")))
+                        .field(rs.getString("payment_method"))
+                        .field(format(rs.getObject("approved_at", LocalDateTime.class)))
+                        .endRow();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count++;
+        }
+
+        private static String plain(BigDecimal amount) {
+            return amount == null ? null : amount.toPlainString();
+        }
+
+        private static String format(LocalTime time) {
+            return time == null ? null : TIME.format(time);
+        }
+
+        private static String format(LocalDateTime dateTime) {
+            return dateTime == null ? null : DATE_TIME.format(dateTime);
+        }
+    }
+}
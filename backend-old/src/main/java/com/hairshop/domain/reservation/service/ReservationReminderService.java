@@ -0,0 +1,383 @@
+package com.hairshop.domain.reservation.service;
+
+import com.hairshop.domain.notification.entity.Notification;
+import com.hairshop.domain.notification.repository.NotificationRepository;
+import com.hairshop.domain.notification.repository.NotificationRepository.ReservationNotification;
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.event.ReservationCancelledEvent;
+import com.hairshop.domain.reservation.event.ReservationCreatedEvent;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.domain.reservation.repository.ReservationRepository.ReminderTarget;
+import com.hairshop.util.TimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 알림 (예약 시작 offsets 전, 기본 1일 전과 2시간 전)
+ *
+ * 앞으로 window 동안 보낼 알림만 메모리 타이밍 휠에 올려 두고, tick 마다 시각이 된 알림을 발송 대기열(notifications)에 넣는다.
+ * 시작 시 DB 에서 window 만큼 읽고, 이후에는 sync-interval 마다 window 를 앞으로 늘린 구간만 읽는다.
+ * 이 서버의 예약 생성/취소는 이벤트(커밋 후)로 바로 반영하고, 다른 서버에서 생긴 변경(시간 변경 포함)은
+ * sync-interval 마다 updated_at 이후 변경분만 읽어 반영한다.
+ * 휠이 이벤트를 놓쳐도 발송 직전에 DB 로 예약 상태와 시간을 다시 확인하고, (예약, 알림 종류) 당 한 건만 만든다.
+ * 모든 서버의 휠에 같은 예약이 올라가므로 한 건만 저장되는 것은 (reservation_id, type) 유니크 색인으로 보장한다.
+ * tick 은 다른 @Scheduled 작업이 길어져도 밀리지 않도록 전용 스레드에서 실행한다.
+ */
+@Slf4j
+@Service
+public class ReservationReminderService implements DisposableBean {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications (user_id, type, title, message, is_read, reservation_id, channel, status,
+                                       attempts, next_attempt_at, created_at)
+            VALUES (?, ?, ?, ?, false, ?, ?, ?, 0, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private final ReservationRepository reservationRepository;
+    private final NotificationRepository notificationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final List<Duration> offsets;
+    private final Duration minOffset;
+    private final Duration maxOffset;
+    private final Duration window;
+    private final Duration syncOverlap;
+    private final long tickMillis;
+    private final ScheduledExecutorService tickScheduler;
+
+    private final TimingWheel<Reminder> wheel;
+    // 예약 → 등록된 알림 (compute 안에서만 변경)
+    private final ConcurrentHashMap<Long, List<TimingWheel<Reminder>.Timeout>> timers = new ConcurrentHashMap<>();
+
+    // 휠에 올린 발송 시각 범위의 끝 (이후 발송분은 window 를 늘릴 때 읽음)
+    private volatile LocalDateTime loadedUntil;
+    // 마지막으로 변경분을 읽은 시각
+    private LocalDateTime syncedAt;
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private final Counter sentCounter;
+    private final Counter skippedCounter;
+
+    public ReservationReminderService(
+            ReservationRepository reservationRepository,
+            NotificationRepository notificationRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${reminder.enabled:true}") boolean enabled,
+            @Value("${reminder.offsets:1d,2h}") List<Duration> offsets,
+            @Value("${reminder.window:6h}") Duration window,
+            @Value("${reminder.sync-overlap:1m}") Duration syncOverlap,
+            @Value("${reminder.tick-ms:1000}") long tickMillis,
+            @Value("${reminder.wheel-size:64}") int wheelSize
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.notificationRepository = notificationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.offsets = List.copyOf(offsets);
+        this.minOffset = Collections.min(offsets);
+        this.maxOffset = Collections.max(offsets);
+        this.window = window;
+        this.syncOverlap = syncOverlap;
+        this.tickMillis = tickMillis;
+        this.tickScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("reminder-tick-"));
+
+        LocalDateTime now = LocalDateTime.now();
+        this.wheel = new TimingWheel<>(tickMillis, wheelSize, toMillis(now));
+        this.loadedUntil = now;
+        this.syncedAt = now;
+
+        Gauge.builder("reminder.pending", wheel, TimingWheel::size)
+                .description("휠에 올라 있는 예약 알림 수")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("reminder.fired")
+                .description("발송 시각이 된 예약 알림")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("reminder.fired")
+                .description("발송 시각이 된 예약 알림")
+                .tag("result", "skipped")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 앞으로 window 동안의 알림을 DB 에서 읽어 휠에 올리고 tick 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        extendWindow(now, now.plus(window));
+        tickScheduler.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        tickScheduler.shutdownNow();
+    }
+
+    /**
+     * tick 마다 시각이 된 알림 발송
+     */
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            fireDue(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("예약 알림 발송 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 다른 서버의 변경 반영 후 window 를 앞으로 늘림
+     */
+    @Scheduled(fixedDelayString = "${reminder.sync-interval-ms:60000}",
+            initialDelayString = "${reminder.sync-interval-ms:60000}")
+    public void sync() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        syncChanges(now);
+        extendWindow(now, now.plus(window));
+    }
+
+    /**
+     * 이 서버에서 생긴 예약 (커밋 후)
+     */
+    @TransactionalEventListener
+    public void onReservationCreated(ReservationCreatedEvent event) {
+        schedule(event.reservationId(), LocalDateTime.of(event.date(), event.time()), LocalDateTime.now());
+    }
+
+    /**
+     * 이 서버에서 취소된 예약 (커밋 후)
+     */
+    @TransactionalEventListener
+    public void onReservationCancelled(ReservationCancelledEvent event) {
+        unschedule(event.reservationId());
+    }
+
+    /**
+     * 예약 시간 변경 (기존 알림을 지우고 새 시작 시각 기준으로 다시 등록)
+     */
+    public void reschedule(Long reservationId, LocalDateTime startsAt) {
+        schedule(reservationId, startsAt, LocalDateTime.now());
+    }
+
+    /**
+     * 발송 시각이 until 전인 알림까지 휠에 올림 (이미 올린 범위 이후만 DB 에서 읽음)
+     */
+    public void extendWindow(LocalDateTime now, LocalDateTime until) {
+        loadLock.lock();
+        try {
+            LocalDateTime from = loadedUntil;
+            if (!until.isAfter(from)) {
+                return;
+            }
+            // 읽는 동안 생긴 예약 이벤트도 새 범위에 등록되도록 먼저 늘림
+            loadedUntil = until;
+            // 발송 시각 [from, until) ⇔ 시작 시각 [from + 최소 offset, until + 최대 offset)
+            List<ReminderTarget> targets = reservationRepository.findReminderTargets(
+                    from.plus(minOffset).toLocalDate(), until.plus(maxOffset).toLocalDate(), Reservation.ACTIVE_STATUSES);
+            for (ReminderTarget target : targets) {
+                schedule(target.id(), target.startsAt(), now);
+            }
+            log.debug("예약 알림 범위 확장: ~{}, 예약 {}건 확인, 대기 {}건", until, targets.size(), wheel.size());
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 확인 이후 변경된 예약 반영 (커밋 지연을 고려해 sync-overlap 만큼 겹쳐 읽음)
+     */
+    public void syncChanges(LocalDateTime now) {
+        loadLock.lock();
+        try {
+            LocalDateTime since = syncedAt.minus(syncOverlap);
+            syncedAt = now;
+            List<ReminderTarget> changed = reservationRepository.findReminderTargetsUpdatedSince(since);
+            for (ReminderTarget target : changed) {
+                if (Reservation.ACTIVE_STATUSES.contains(target.status())) {
+                    schedule(target.id(), target.startsAt(), now);
+                } else {
+                    unschedule(target.id());
+                }
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * now 까지 시각이 된 알림을 발송 대기열에 넣음 (만든 알림 수 반환)
+     */
+    public int fireDue(LocalDateTime now) {
+        List<Reminder> due = wheel.advance(toMillis(now));
+        if (due.isEmpty()) {
+            return 0;
+        }
+        due.forEach(reminder -> timers.computeIfPresent(reminder.reservationId(), (id, scheduled) -> {
+            List<TimingWheel<Reminder>.Timeout> pending = scheduled.stream()
+                    .filter(timeout -> timeout.isPending())
+                    .toList();
+            return pending.isEmpty() ? null : pending;
+        }));
+
+        int created = 0;
+        for (int from = 0; from < due.size(); from += QUERY_CHUNK_SIZE) {
+            created += enqueue(due.subList(from, Math.min(from + QUERY_CHUNK_SIZE, due.size())), now);
+        }
+        skippedCounter.increment(due.size() - created);
+        sentCounter.increment(created);
+        log.debug("예약 알림: 시각 도래 {}건, 생성 {}건", due.size(), created);
+        return created;
+    }
+
+    /**
+     * 휠에 올라 있는 알림 수
+     */
+    public int pendingCount() {
+        return wheel.size();
+    }
+
+    /**
+     * 예약의 알림을 새로 등록 (이미 지난 발송 시각과 window 밖은 제외)
+     */
+    private void schedule(Long reservationId, LocalDateTime startsAt, LocalDateTime now) {
+        LocalDateTime until = loadedUntil;
+        timers.compute(reservationId, (id, existing) -> {
+            cancelAll(existing);
+            List<TimingWheel<Reminder>.Timeout> scheduled = new ArrayList<>(offsets.size());
+            for (Duration offset : offsets) {
+                LocalDateTime fireAt = startsAt.minus(offset);
+                if (fireAt.isBefore(now) || !fireAt.isBefore(until)) {
+                    continue;
+                }
+                scheduled.add(wheel.schedule(new Reminder(id, startsAt, offset), toMillis(fireAt)));
+            }
+            return scheduled.isEmpty() ? null : scheduled;
+        });
+    }
+
+    private void unschedule(Long reservationId) {
+        timers.computeIfPresent(reservationId, (id, existing) -> {
+            cancelAll(existing);
+            return null;
+        });
+    }
+
+    private static void cancelAll(List<TimingWheel<Reminder>.Timeout> scheduled) {
+        if (scheduled != null) {
+            scheduled.forEach(timeout -> timeout.cancel());
+        }
+    }
+
+    /**
+     * 지금도 유효한(점유 중, 시작 시각 그대로, 아직 안 만든) 알림만 JDBC batch 로 저장 (실제로 저장한 수 반환)
+     *
+     * 확인과 저장 사이에 다른 서버가 같은 알림을 저장했으면 ON CONFLICT 로 건너뛴다.
+     */
+    private int enqueue(List<Reminder> reminders, LocalDateTime now) {
+        List<Long> reservationIds = reminders.stream().map(Reminder::reservationId).distinct().toList();
+        Map<Long, ReminderTarget> current = reservationRepository
+                .findReminderTargetsByIdIn(reservationIds, Reservation.ACTIVE_STATUSES).stream()
+                .collect(Collectors.toMap(ReminderTarget::id, Function.identity()));
+        Set<ReservationNotification> existing = Set.copyOf(notificationRepository.findReservationNotifications(
+                reservationIds, offsets.stream().map(ReservationReminderService::type).toList()));
+
+        List<Object[]> args = new ArrayList<>(reminders.size());
+        for (Reminder reminder : reminders) {
+            ReminderTarget target = current.get(reminder.reservationId());
+            String type = type(reminder.offset());
+            if (target == null || !target.startsAt().equals(reminder.startsAt())
+                    || existing.contains(new ReservationNotification(reminder.reservationId(), type))) {
+                continue;
+            }
+            args.add(new Object[]{target.customerId(), type, "예약 알림",
+                    describe(reminder.offset()) + " 후 " + target.reservationDate() + " " + target.reservationTime()
+                            + " 예약이 있습니다.",
+                    target.id(), Notification.Channel.ALL.name(), Notification.DeliveryStatus.PENDING.name(),
+                    now, now});
+        }
+        if (args.isEmpty()) {
+            return 0;
+        }
+        int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(INSERT_SQL, args));
+        // 드라이버가 건별 수를 주지 않으면(SUCCESS_NO_INFO) 저장한 것으로 셈
+        return (int) Arrays.stream(counts).filter(count -> count != 0).count();
+    }
+
+    /**
+     * 알림 종류 (RESERVATION_REMINDER_1D, RESERVATION_REMINDER_2H 등)
+     */
+    private static String type(Duration offset) {
+        if (offset.toMinutes() % (24 * 60) == 0) {
+            return "RESERVATION_REMINDER_" + offset.toDays() + "D";
+        }
+        if (offset.toMinutes() % 60 == 0) {
+            return "RESERVATION_REMINDER_" + offset.toHours() + "H";
+        }
+        return "RESERVATION_REMINDER_" + offset.toMinutes() + "M";
+    }
+
+    private static String describe(Duration offset) {
+        if (offset.toMinutes() % (24 * 60) == 0) {
+            return offset.toDays() + "일";
+        }
+        if (offset.toMinutes() % 60 == 0) {
+            return offset.toHours() + "시간";
+        }
+        return offset.toMinutes() + "분";
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 휠에 올리는 알림 (발송 직전 startsAt 이 DB 와 다르면 버림)
+     */
+    private record Reminder(Long reservationId, LocalDateTime startsAt, Duration offset) {
+    }
+}
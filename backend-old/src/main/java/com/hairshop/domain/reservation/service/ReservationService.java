@@ -0,0 +1,228 @@
+package com.hairshop.domain.reservation.service;
+
+import com.hairshop.domain.outbox.service.OutboxService;
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.event.ReservationCancelledEvent;
+import com.hairshop.domain.reservation.event.ReservationCreatedEvent;
+import com.hairshop.domain.reservation.event.ReservationStatusChangedEvent;
+import com.hairshop.domain.reservation.repository.ReservationRepository.BookedSlot;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.domain.schedule.service.AvailabilityService;
+import com.hairshop.domain.service.entity.HairService;
+import com.hairshop.domain.service.repository.HairServiceRepository;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.dto.request.ReservationRequest;
+import com.hairshop.dto.response.CursorPageResponse;
+import com.hairshop.dto.response.ReservationResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import com.hairshop.exception.ReservationBusyException;
+import com.hairshop.util.StripedLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+@Service
+@Transactional(readOnly = true)
+public class ReservationService {
+
+    private static final String AGGREGATE_TYPE = "Reservation";
+
+    private final ReservationRepository reservationRepository;
+    private final HairServiceRepository hairServiceRepository;
+    private final ShopRepository shopRepository;
+    private final AvailabilityService availabilityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+
+    // (미용실, 날짜) 단위 예약 순서 보장 (다른 미용실/날짜끼리는 서로 기다리지 않음)
+    private final StripedLock admissionLocks;
+    private final long lockTimeoutMillis;
+    private final long retryAfterSeconds;
+
+    public ReservationService(
+            ReservationRepository reservationRepository,
+            HairServiceRepository hairServiceRepository,
+            ShopRepository shopRepository,
+            AvailabilityService availabilityService,
+            ApplicationEventPublisher eventPublisher,
+            OutboxService outboxService,
+            TransactionTemplate transactionTemplate,
+            @Value("${reservation.lock-stripes:1024}") int lockStripes,
+            @Value("${reservation.lock-timeout-ms:3000}") long lockTimeoutMillis,
+            @Value("${reservation.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.hairServiceRepository = hairServiceRepository;
+        this.shopRepository = shopRepository;
+        this.availabilityService = availabilityService;
+        this.eventPublisher = eventPublisher;
+        this.outboxService = outboxService;
+        this.transactionTemplate = transactionTemplate;
+        this.admissionLocks = new StripedLock(lockStripes);
+        this.lockTimeoutMillis = lockTimeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 예약 생성
+     *
+     * 같은 (미용실, 날짜) 요청만 잠금으로 줄 세우고, 잠금 안에서 DB 의 점유 예약과 겹치는지 다시 확인한 뒤 저장한다.
+     * 잠금은 커밋이 끝난 뒤 풀어야 하므로 트랜잭션은 잠금 안에서 직접 시작한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReservationResponse create(Long customerId, ReservationRequest request) {
+        HairService service = hairServiceRepository.findByIdAndShopIdAndActiveTrue(request.serviceId(), request.shopId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.SERVICE_NOT_FOUND));
+
+        // 영업 시간 밖이거나 이미 찬 시간이면 잠금 없이 바로 거절 (인기 시간대 경합 감소)
+        // 비트맵은 이 서버가 본 변경만 반영하므로 찼다고 나오면 DB 로 한 번 더 확인하고,
+        // 다른 서버에서 취소되어 비어 있으면 비트맵을 버린 뒤 잠금 안의 확인으로 넘어간다
+        if (!availabilityService.isAvailable(request.shopId(), request.reservationDate(),
+                request.reservationTime(), service.getDurationMinutes())) {
+            if (!availabilityService.isOpen(request.shopId(), request.reservationDate(),
+                    request.reservationTime(), service.getDurationMinutes())
+                    || isBooked(request, service)) {
+                throw new BusinessException(ErrorCode.RESERVATION_UNAVAILABLE);
+            }
+            availabilityService.evict(request.shopId(), request.reservationDate());
+        }
+
+        Lock lock = admissionLocks.get(new AdmissionKey(request.shopId(), request.reservationDate()));
+        acquire(lock);
+        try {
+            return transactionTemplate.execute(status -> admit(customerId, request, service));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버에서 동시에 같은 시간을 예약한 경우 (DB 배타 제약 위반)
+            throw new BusinessException(ErrorCode.RESERVATION_UNAVAILABLE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 예약 취소 (손님 본인)
+     */
+    @Transactional
+    public ReservationResponse cancel(Long customerId, Long reservationId, String reason) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+                .filter(found -> found.getCustomerId().equals(customerId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
+
+        if (!reservation.isActive()) {
+            throw new BusinessException(ErrorCode.RESERVATION_NOT_CANCELLABLE);
+        }
+
+        Reservation.ReservationStatus previousStatus = reservation.getStatus();
+        reservation.cancel(Reservation.CancelledBy.CUSTOMER, reason);
+
+        // 커밋 후 예약 가능 시간 비트맵 갱신
+        eventPublisher.publishEvent(ReservationCancelledEvent.from(reservation));
+        statusChanged(reservation, previousStatus);
+
+        return ReservationResponse.from(reservation);
+    }
+
+    /**
+     * 내 예약 목록 (최근 예약한 순 커서 페이지)
+     */
+    public CursorPageResponse<ReservationResponse> getMyReservations(Long customerId, String cursor, int size) {
+        return CursorPageResponse.from(
+                reservationRepository.findCustomerReservations(customerId, cursor, size).map(ReservationResponse::from));
+    }
+
+    /**
+     * 미용실 예약 목록 (사장님 본인 미용실, from 날짜부터 예약 일시순 커서 페이지)
+     */
+    public CursorPageResponse<ReservationResponse> getShopReservations(Long ownerId, Long shopId, LocalDate from,
+                                                                       String cursor, int size) {
+        shopRepository.findById(shopId)
+                .filter(shop -> shop.getOwnerId().equals(ownerId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.SHOP_NOT_FOUND));
+        return CursorPageResponse.from(
+                reservationRepository.findShopReservations(shopId, from, cursor, size).map(ReservationResponse::from));
+    }
+
+    /**
+     * 잠금 안에서 실행: DB 기준 중복 확인 후 저장
+     */
+    private ReservationResponse admit(Long customerId, ReservationRequest request, HairService service) {
+        if (isBooked(request, service)) {
+            throw new BusinessException(ErrorCode.RESERVATION_UNAVAILABLE);
+        }
+
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .shopId(request.shopId())
+                .customerId(customerId)
+                .serviceId(service.getId())
+                .reservationDate(request.reservationDate())
+                .reservationTime(request.reservationTime())
+                .durationMinutes(service.getDurationMinutes())
+                .totalPrice(service.getPrice())
+                .customerNote(request.customerNote())
+                .build());
+
+        // 커밋 후 예약 가능 시간 비트맵 갱신 (잠금을 푼 뒤가 아니라 커밋 직후 실행)
+        eventPublisher.publishEvent(ReservationCreatedEvent.from(reservation));
+        statusChanged(reservation, null);
+
+        return ReservationResponse.from(reservation);
+    }
+
+    /**
+     * DB 의 점유 예약 중 요청 시간과 겹치는 예약이 있는지
+     */
+    private boolean isBooked(ReservationRequest request, HairService service) {
+        List<BookedSlot> booked = reservationRepository.findByShopIdAndReservationDateAndStatusIn(
+                request.shopId(), request.reservationDate(), Reservation.ACTIVE_STATUSES);
+        return overlaps(booked, request.reservationTime(), service.getDurationMinutes());
+    }
+
+    /**
+     * 상태 변경을 같은 트랜잭션에서 outbox 에 저장 (알림 등 후속 처리는 OutboxRelay 가 커밋 후 비동기로 전달)
+     */
+    private void statusChanged(Reservation reservation, Reservation.ReservationStatus previousStatus) {
+        outboxService.append(AGGREGATE_TYPE, reservation.getId(),
+                ReservationStatusChangedEvent.from(reservation, previousStatus));
+    }
+
+    private void acquire(Lock lock) {
+        try {
+            if (!lock.tryLock(lockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ReservationBusyException(retryAfterSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReservationBusyException(retryAfterSeconds);
+        }
+    }
+
+    /**
+     * [time, time + durationMinutes) 가 점유 중인 예약과 겹치는지
+     */
+    private static boolean overlaps(List<BookedSlot> booked, LocalTime time, int durationMinutes) {
+        int start = time.toSecondOfDay() / 60;
+        int end = start + durationMinutes;
+        for (BookedSlot slot : booked) {
+            int bookedStart = slot.reservationTime().toSecondOfDay() / 60;
+            if (start < bookedStart + slot.durationMinutes() && bookedStart < end) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record AdmissionKey(Long shopId, LocalDate date) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.hairshop.domain.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 (완료된 예약당 하나)
+ */
+@Entity
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_shop", columnList = "shopId"),
+        @Index(name = "idx_reviews_customer", columnList = "customerId")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reviews_reservation", columnNames = "reservationId")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Review {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long shopId;
+
+    @Column(nullable = false)
+    private Long customerId;
+
+    @Column(nullable = false)
+    private Long reservationId;
+
+    // 1 ~ 5
+    @Column(nullable = false)
+    private int rating;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(columnDefinition = "TEXT")
+    private String ownerReply;
+
+    @Column
+    private LocalDateTime ownerRepliedAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column
+    private LocalDateTime deletedAt;
+
+    // 소프트 삭제 여부 확인
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    // 평점/내용 수정
+    public void update(int rating, String content) {
+        this.rating = rating;
+        this.content = content;
+    }
+
+    // 소프트 삭제
+    public void delete() {
+        this.deletedAt = LocalDateTime.now();
+    }
+}
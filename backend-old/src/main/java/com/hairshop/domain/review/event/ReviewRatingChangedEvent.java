@@ -0,0 +1,26 @@
+package com.hairshop.domain.review.event;
+
+/**
+ * 리뷰 평점 변경 이벤트 (작성/수정/삭제, 트랜잭션 커밋 후 처리)
+ *
+ * 작성은 previousRating 0, 삭제는 rating 0 으로 표현한다.
+ */
+public record ReviewRatingChangedEvent(
+        Long reviewId,
+        Long shopId,
+        int previousRating,
+        int rating
+) {
+
+    public static ReviewRatingChangedEvent created(Long reviewId, Long shopId, int rating) {
+        return new ReviewRatingChangedEvent(reviewId, shopId, 0, rating);
+    }
+
+    public static ReviewRatingChangedEvent updated(Long reviewId, Long shopId, int previousRating, int rating) {
+        return new ReviewRatingChangedEvent(reviewId, shopId, previousRating, rating);
+    }
+
+    public static ReviewRatingChangedEvent deleted(Long reviewId, Long shopId, int previousRating) {
+        return new ReviewRatingChangedEvent(reviewId, shopId, previousRating, 0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.hairshop.domain.review.repository;
+
+import com.hairshop.domain.review.entity.Review;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    /**
+     * 삭제되지 않은 리뷰 조회
+     */
+    Optional<Review> findByIdAndDeletedAtIsNull(Long id);
+
+    /**
+     * 예약에 리뷰가 있는지 (삭제된 리뷰 포함, 예약당 하나)
+     */
+    boolean existsByReservationId(Long reservationId);
+
+    /**
+     * [fromShopId, toShopId] 미용실의 평점별 리뷰 수 (삭제된 리뷰 제외)
+     */
+    @Query("""
+            select new com.hairshop.domain.review.repository.ReviewRepository$RatingCount(r.shopId, r.rating, count(r))
+            from Review r
+            where r.shopId between :fromShopId and :toShopId
+              and r.deletedAt is null
+            group by r.shopId, r.rating
+            """)
+    List<RatingCount> countByRating(@Param("fromShopId") Long fromShopId, @Param("toShopId") Long toShopId);
+
+    /**
+     * 미용실/평점별 리뷰 수
+     */
+    record RatingCount(Long shopId, int rating, long count) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.hairshop.domain.review.service;
+
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.domain.review.entity.Review;
+import com.hairshop.domain.review.event.ReviewRatingChangedEvent;
+import com.hairshop.domain.review.repository.ReviewRepository;
+import com.hairshop.dto.request.ReviewRequest;
+import com.hairshop.dto.request.ReviewUpdateRequest;
+import com.hairshop.dto.response.ReviewResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리뷰 작성/수정/삭제
+ *
+ * 평점 집계(shop_rating_stats)는 여기서 다시 세지 않고, 커밋 후 평점 변경 이벤트로 증감만 넘긴다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ReviewService {
+
+    private final ReviewRepository reviewRepository;
+    private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 리뷰 작성 (본인의 완료된 예약만)
+     */
+    @Transactional
+    public ReviewResponse create(Long customerId, ReviewRequest request) {
+        Reservation reservation = reservationRepository.findById(request.reservationId())
+                .filter(found -> found.getCustomerId().equals(customerId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
+        if (reservation.getStatus() != Reservation.ReservationStatus.COMPLETED) {
+            throw new BusinessException(ErrorCode.REVIEW_NOT_ALLOWED);
+        }
+        if (reviewRepository.existsByReservationId(reservation.getId())) {
+            throw new BusinessException(ErrorCode.REVIEW_ALREADY_EXISTS);
+        }
+
+        Review review;
+        try {
+            review = reviewRepository.saveAndFlush(Review.builder()
+                    .shopId(reservation.getShopId())
+                    .customerId(customerId)
+                    .reservationId(reservation.getId())
+                    .rating(request.rating())
+                    .content(request.content())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 예약으로 동시에 작성한 경우 (예약당 하나 제약 위반)
+            throw new BusinessException(ErrorCode.REVIEW_ALREADY_EXISTS);
+        }
+
+        eventPublisher.publishEvent(ReviewRatingChangedEvent.created(review.getId(), review.getShopId(), review.getRating()));
+        return ReviewResponse.from(review);
+    }
+
+    /**
+     * 리뷰 수정 (작성자 본인)
+     */
+    @Transactional
+    public ReviewResponse update(Long customerId, Long reviewId, ReviewUpdateRequest request) {
+        Review review = findOwnReview(customerId, reviewId);
+        int previousRating = review.getRating();
+
+        review.update(request.rating(), request.content());
+
+        if (previousRating != review.getRating()) {
+            eventPublisher.publishEvent(ReviewRatingChangedEvent.updated(
+                    review.getId(), review.getShopId(), previousRating, review.getRating()));
+        }
+        return ReviewResponse.from(review);
+    }
+
+    /**
+     * 리뷰 삭제 (작성자 본인, 소프트 삭제)
+     */
+    @Transactional
+    public void delete(Long customerId, Long reviewId) {
+        Review review = findOwnReview(customerId, reviewId);
+
+        review.delete();
+
+        eventPublisher.publishEvent(ReviewRatingChangedEvent.deleted(review.getId(), review.getShopId(), review.getRating()));
+    }
+
+    private Review findOwnReview(Long customerId, Long reviewId) {
+        return reviewRepository.findByIdAndDeletedAtIsNull(reviewId)
+                .filter(found -> found.getCustomerId().equals(customerId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND));
+    }
+}
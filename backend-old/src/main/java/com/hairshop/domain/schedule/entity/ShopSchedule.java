@@ -0,0 +1,57 @@
+package com.hairshop.domain.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 날짜별 영업일/휴무일 설정 (없으면 미용실 기본 영업 시간)
+ */
+@Entity
+@Table(name = "shop_schedules", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_shop_schedules_shop_date", columnNames = {"shopId", "date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ShopSchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long shopId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    // false 면 휴무일
+    @Column(name = "is_open")
+    @Builder.Default
+    private boolean open = true;
+
+    // 해당 날짜만 다른 영업 시간 (없으면 미용실 기본 영업 시간)
+    @Column
+    private LocalTime openingTime;
+
+    @Column
+    private LocalTime closingTime;
+
+    @Column(length = 500)
+    private String note;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,17 @@
+package com.hairshop.domain.schedule.repository;
+
+import com.hairshop.domain.schedule.entity.ShopSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface ShopScheduleRepository extends JpaRepository<ShopSchedule, Long> {
+
+    /**
+     * 미용실의 특정 날짜 일정 조회
+     */
+    Optional<ShopSchedule> findByShopIdAndDate(Long shopId, LocalDate date);
+}
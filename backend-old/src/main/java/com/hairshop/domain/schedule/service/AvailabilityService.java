@@ -0,0 +1,194 @@
+package com.hairshop.domain.schedule.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.event.ReservationCancelledEvent;
+import com.hairshop.domain.reservation.event.ReservationCreatedEvent;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.domain.reservation.repository.ReservationRepository.BookedSlot;
+import com.hairshop.domain.schedule.entity.ShopSchedule;
+import com.hairshop.domain.schedule.repository.ShopScheduleRepository;
+import com.hairshop.domain.service.entity.HairService;
+import com.hairshop.domain.service.repository.HairServiceRepository;
+import com.hairshop.domain.shop.entity.Shop;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.dto.response.AvailabilityResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 예약 가능 시간 계산 (미용실/날짜별 분 단위 비트맵)
+ *
+ * 날짜 비트맵은 처음 조회될 때 영업 시간, 휴무일, 점유 중인 예약으로 한 번 만들고,
+ * 이후에는 예약 생성/취소 이벤트(커밋 후)로 해당 구간의 비트만 갱신한다.
+ * 메모리 비트맵은 서버별로 따로 유지되므로 다른 서버에서 생긴 예약/취소는 cache-ttl 이 지나 다시 만들 때 반영된다.
+ * 따라서 예약 확정 시에는 비트맵 결과만 믿지 말고 DB 로 다시 확인해야 한다 (찼다는 결과도 마찬가지).
+ */
+@Slf4j
+@Service
+public class AvailabilityService {
+
+    private final ShopRepository shopRepository;
+    private final ShopScheduleRepository shopScheduleRepository;
+    private final ReservationRepository reservationRepository;
+    private final HairServiceRepository hairServiceRepository;
+    private final int slotIntervalMinutes;
+
+    // (미용실, 날짜) → 비트맵 (불변 객체를 CAS 로 교체)
+    private final Cache<DayKey, AtomicReference<DayAvailability>> days;
+
+    public AvailabilityService(
+            ShopRepository shopRepository,
+            ShopScheduleRepository shopScheduleRepository,
+            ReservationRepository reservationRepository,
+            HairServiceRepository hairServiceRepository,
+            @Value("${availability.slot-interval-minutes:30}") int slotIntervalMinutes,
+            @Value("${availability.cache-size:10000}") long cacheSize,
+            @Value("${availability.cache-ttl:5m}") Duration cacheTtl
+    ) {
+        this.shopRepository = shopRepository;
+        this.shopScheduleRepository = shopScheduleRepository;
+        this.reservationRepository = reservationRepository;
+        this.hairServiceRepository = hairServiceRepository;
+        this.slotIntervalMinutes = slotIntervalMinutes;
+        this.days = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /**
+     * 서비스 소요 시간 기준 예약 가능한 시작 시각 목록
+     */
+    public AvailabilityResponse getAvailableSlots(Long shopId, Long serviceId, LocalDate date) {
+        HairService service = hairServiceRepository.findByIdAndShopIdAndActiveTrue(serviceId, shopId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SERVICE_NOT_FOUND));
+
+        DayAvailability day = day(shopId, date);
+        List<LocalTime> slots = day.freeSlots(service.getDurationMinutes(), slotIntervalMinutes).stream()
+                .map(minute -> LocalTime.of(minute / 60, minute % 60))
+                .toList();
+
+        return AvailabilityResponse.of(date, service, !day.isClosed(), slots);
+    }
+
+    /**
+     * [time, time + durationMinutes) 가 영업 시간 안이고 비어 있는지
+     */
+    public boolean isAvailable(Long shopId, LocalDate date, LocalTime time, int durationMinutes) {
+        return day(shopId, date).isFree(toMinute(time), durationMinutes);
+    }
+
+    /**
+     * [time, time + durationMinutes) 가 영업 시간 안인지 (예약 여부와 무관)
+     */
+    public boolean isOpen(Long shopId, LocalDate date, LocalTime time, int durationMinutes) {
+        return day(shopId, date).isOpen(toMinute(time), durationMinutes);
+    }
+
+    /**
+     * 예약 생성 반영 (이미 만들어진 비트맵만 갱신)
+     *
+     * 같은 날짜를 만드는 중이면 computeIfPresent 가 만들기를 기다렸다가 반영한다.
+     * 만들 때 이미 읽은 예약이면 겹친 것으로 표시될 뿐이라 취소 시 다시 만들게 된다.
+     */
+    @TransactionalEventListener
+    public void onReservationCreated(ReservationCreatedEvent event) {
+        days.asMap().computeIfPresent(new DayKey(event.shopId(), event.date()), (key, day) -> {
+            day.updateAndGet(current -> current.book(toMinute(event.time()), event.durationMinutes()));
+            return day;
+        });
+    }
+
+    /**
+     * 예약 취소 반영 (겹친 예약이 있던 날은 비트를 되살릴 수 없으므로 다시 만듦)
+     */
+    @TransactionalEventListener
+    public void onReservationCancelled(ReservationCancelledEvent event) {
+        days.asMap().computeIfPresent(new DayKey(event.shopId(), event.date()), (key, day) -> {
+            DayAvailability released = day.updateAndGet(current -> current.isOverlapping()
+                    ? current
+                    : current.release(toMinute(event.time()), event.durationMinutes()));
+            return released.isOverlapping() ? null : day;
+        });
+    }
+
+    /**
+     * 영업 시간/휴무일 변경 시 해당 날짜 비트맵 폐기
+     */
+    public void evict(Long shopId, LocalDate date) {
+        days.invalidate(new DayKey(shopId, date));
+    }
+
+    /**
+     * 미용실 기본 영업 시간 변경 시 모든 날짜 비트맵 폐기
+     */
+    public void evictShop(Long shopId) {
+        days.asMap().keySet().removeIf(key -> key.shopId().equals(shopId));
+    }
+
+    private DayAvailability day(Long shopId, LocalDate date) {
+        return days.get(new DayKey(shopId, date), this::load).get();
+    }
+
+    /**
+     * DB 에서 하루 비트맵 생성 (영업 시간 → 휴무일 → 점유 중인 예약)
+     */
+    private AtomicReference<DayAvailability> load(DayKey key) {
+        Shop shop = shopRepository.findByIdAndDeletedAtIsNull(key.shopId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.SHOP_NOT_FOUND));
+        Optional<ShopSchedule> schedule = shopScheduleRepository.findByShopIdAndDate(key.shopId(), key.date());
+
+        DayAvailability day = openingHours(shop, schedule.orElse(null));
+        if (!day.isClosed()) {
+            List<BookedSlot> booked = reservationRepository.findByShopIdAndReservationDateAndStatusIn(
+                    key.shopId(), key.date(), Reservation.ACTIVE_STATUSES);
+            for (BookedSlot slot : booked) {
+                day = day.book(toMinute(slot.reservationTime()), slot.durationMinutes());
+            }
+            if (day.isOverlapping()) {
+                log.warn("겹친 예약이 있습니다: shopId={}, date={}", key.shopId(), key.date());
+            }
+        }
+        return new AtomicReference<>(day);
+    }
+
+    private static DayAvailability openingHours(Shop shop, ShopSchedule schedule) {
+        if (schedule != null && !schedule.isOpen()) {
+            return DayAvailability.closed();
+        }
+
+        LocalTime opening = shop.getOpeningTime();
+        LocalTime closing = shop.getClosingTime();
+        if (schedule != null && schedule.getOpeningTime() != null && schedule.getClosingTime() != null) {
+            opening = schedule.getOpeningTime();
+            closing = schedule.getClosingTime();
+        }
+        if (opening == null || closing == null) {
+            return DayAvailability.closed();
+        }
+
+        // 마감 00:00 은 자정(24:00)으로 취급
+        int closingMinute = closing.equals(LocalTime.MIDNIGHT) ? DayAvailability.MINUTES_PER_DAY : toMinute(closing);
+        return DayAvailability.open(toMinute(opening), closingMinute);
+    }
+
+    private static int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private record DayKey(Long shopId, LocalDate date) {
+    }
+}
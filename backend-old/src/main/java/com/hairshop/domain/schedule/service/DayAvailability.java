@@ -0,0 +1,215 @@
+package com.hairshop.domain.schedule.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 하루(1440분)의 예약 가능 여부를 분 단위 비트로 표현한 불변 비트맵
+ *
+ * 비트 i 가 1 이면 i 분(00:00 기준)이 영업 시간이면서 비어 있다는 뜻이다.
+ * 1440 비트는 long 23개에 들어가므로 "d 분 연속으로 비어 있는 시작 시각" 계산을
+ * 예약 수와 무관하게 워드 단위 AND/shift 몇 번으로 끝낸다.
+ * 변경은 새 인스턴스를 반환하므로 여러 스레드가 잠금 없이 읽을 수 있다.
+ */
+final class DayAvailability {
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int WORDS = (MINUTES_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    private static final DayAvailability CLOSED = new DayAvailability(new long[WORDS], new long[WORDS], 0, false);
+
+    // 영업 시간 비트
+    private final long[] openMinutes;
+    // 영업 시간 중 비어 있는 분 비트
+    private final long[] freeMinutes;
+    // 슬롯 시작 기준 (영업 시작 분)
+    private final int openingMinute;
+    // 이미 겹친 예약이 있는지 (있으면 취소 시 비트를 되살릴 수 없음)
+    private final boolean overlapping;
+
+    private DayAvailability(long[] openMinutes, long[] freeMinutes, int openingMinute, boolean overlapping) {
+        this.openMinutes = openMinutes;
+        this.freeMinutes = freeMinutes;
+        this.openingMinute = openingMinute;
+        this.overlapping = overlapping;
+    }
+
+    /**
+     * 휴무일
+     */
+    static DayAvailability closed() {
+        return CLOSED;
+    }
+
+    /**
+     * [openingMinute, closingMinute) 영업
+     */
+    static DayAvailability open(int openingMinute, int closingMinute) {
+        if (openingMinute < 0 || closingMinute > MINUTES_PER_DAY || openingMinute >= closingMinute) {
+            return CLOSED;
+        }
+        long[] open = new long[WORDS];
+        setRange(open, openingMinute, closingMinute);
+        return new DayAvailability(open, open.clone(), openingMinute, false);
+    }
+
+    boolean isClosed() {
+        return isEmpty(openMinutes);
+    }
+
+    boolean isOverlapping() {
+        return overlapping;
+    }
+
+    /**
+     * [start, start + duration) 가 모두 비어 있는지
+     */
+    boolean isFree(int start, int duration) {
+        return inDay(start, duration) && allSet(freeMinutes, start, start + duration);
+    }
+
+    /**
+     * [start, start + duration) 가 모두 영업 시간인지
+     */
+    boolean isOpen(int start, int duration) {
+        return inDay(start, duration) && allSet(openMinutes, start, start + duration);
+    }
+
+    /**
+     * 예약 반영 (DB 에서 읽은 기존 예약은 겹치더라도 반영)
+     */
+    DayAvailability book(int start, int duration) {
+        int from = Math.max(start, 0);
+        int to = Math.min(start + duration, MINUTES_PER_DAY);
+        if (from >= to) {
+            return this;
+        }
+        long[] free = freeMinutes.clone();
+        boolean conflict = isBookedWithin(from, to);
+        clearRange(free, from, to);
+        return new DayAvailability(openMinutes, free, openingMinute, overlapping || conflict);
+    }
+
+    /**
+     * 예약 취소 반영 (영업 시간 안의 비트만 되살림)
+     */
+    DayAvailability release(int start, int duration) {
+        int from = Math.max(start, 0);
+        int to = Math.min(start + duration, MINUTES_PER_DAY);
+        if (from >= to) {
+            return this;
+        }
+        long[] free = freeMinutes.clone();
+        setRange(free, from, to);
+        for (int i = 0; i < WORDS; i++) {
+            free[i] &= openMinutes[i];
+        }
+        return new DayAvailability(openMinutes, free, openingMinute, overlapping);
+    }
+
+    /**
+     * duration 분 연속으로 비어 있는 슬롯 시작 시각 (영업 시작부터 intervalMinutes 간격, 분 단위)
+     */
+    List<Integer> freeSlots(int duration, int intervalMinutes) {
+        if (duration <= 0 || intervalMinutes <= 0) {
+            throw new IllegalArgumentException("소요 시간과 슬롯 간격은 0보다 커야 합니다");
+        }
+        if (duration > MINUTES_PER_DAY || isClosed()) {
+            return List.of();
+        }
+
+        // runs 의 비트 i = [i, i + covered) 가 모두 비어 있음. covered 를 두 배씩 늘려 log2(duration) 번에 계산
+        long[] runs = freeMinutes.clone();
+        int covered = 1;
+        while (covered < duration) {
+            int shift = Math.min(covered, duration - covered);
+            andShiftedDown(runs, shift);
+            covered += shift;
+        }
+
+        List<Integer> slots = new ArrayList<>();
+        for (int w = 0; w < WORDS; w++) {
+            long word = runs[w];
+            while (word != 0) {
+                int minute = w * Long.SIZE + Long.numberOfTrailingZeros(word);
+                if ((minute - openingMinute) % intervalMinutes == 0) {
+                    slots.add(minute);
+                }
+                word &= word - 1;
+            }
+        }
+        return slots;
+    }
+
+    private static boolean inDay(int start, int duration) {
+        return start >= 0 && duration > 0 && start + duration <= MINUTES_PER_DAY;
+    }
+
+    /**
+     * bits[i] &= bits[i + shift] (모든 비트에 대해)
+     */
+    private static void andShiftedDown(long[] bits, int shift) {
+        int wordShift = shift >>> 6;
+        int bitShift = shift & 63;
+        for (int w = 0; w < WORDS; w++) {
+            int source = w + wordShift;
+            long low = source < WORDS ? bits[source] >>> bitShift : 0L;
+            long high = bitShift != 0 && source + 1 < WORDS ? bits[source + 1] << (Long.SIZE - bitShift) : 0L;
+            bits[w] &= low | high;
+        }
+    }
+
+    private static void setRange(long[] bits, int from, int to) {
+        for (int w = from >>> 6; w <= (to - 1) >>> 6; w++) {
+            bits[w] |= rangeMask(w, from, to);
+        }
+    }
+
+    private static void clearRange(long[] bits, int from, int to) {
+        for (int w = from >>> 6; w <= (to - 1) >>> 6; w++) {
+            bits[w] &= ~rangeMask(w, from, to);
+        }
+    }
+
+    private static boolean allSet(long[] bits, int from, int to) {
+        for (int w = from >>> 6; w <= (to - 1) >>> 6; w++) {
+            long mask = rangeMask(w, from, to);
+            if ((bits[w] & mask) != mask) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * [from, to) 안에 이미 예약된 영업 시간이 있는지
+     */
+    private boolean isBookedWithin(int from, int to) {
+        for (int w = from >>> 6; w <= (to - 1) >>> 6; w++) {
+            if ((openMinutes[w] & ~freeMinutes[w] & rangeMask(w, from, to)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 워드 w 안에서 [from, to) 에 해당하는 비트 마스크
+     */
+    private static long rangeMask(int w, int from, int to) {
+        long mask = -1L;
+        if (w == from >>> 6) {
+            mask &= -1L << (from & 63);
+        }
+        if (w == (to - 1) >>> 6) {
+            mask &= -1L >>> (63 - ((to - 1) & 63));
+        }
+        return mask;
+    }
+
+    private static boolean isEmpty(long[] bits) {
+        return Arrays.stream(bits).allMatch(word -> word == 0);
+    }
+}
@@ -0,0 +1,69 @@
+package com.hairshop.domain.service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 미용실 서비스 (컷, 펌 등)
+ *
+ * 스프링 @Service 와 이름이 겹치지 않도록 HairService 로 명명한다.
+ */
+@Entity
+@Table(name = "services", indexes = {
+        @Index(name = "idx_services_shop", columnList = "shopId"),
+        @Index(name = "idx_services_category", columnList = "category")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "service")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class HairService {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long shopId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    // 소요 시간 (분)
+    @Column(nullable = false)
+    private int durationMinutes;
+
+    @Column(length = 50)
+    private String category;
+
+    @Column(name = "is_active")
+    @Builder.Default
+    private boolean active = true;
+
+    @Column
+    @Builder.Default
+    private int displayOrder = 0;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
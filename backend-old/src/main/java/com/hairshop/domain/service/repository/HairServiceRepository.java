@@ -0,0 +1,16 @@
+package com.hairshop.domain.service.repository;
+
+import com.hairshop.domain.service.entity.HairService;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface HairServiceRepository extends JpaRepository<HairService, Long> {
+
+    /**
+     * 미용실의 판매 중인 서비스 조회
+     */
+    Optional<HairService> findByIdAndShopIdAndActiveTrue(Long id, Long shopId);
+}
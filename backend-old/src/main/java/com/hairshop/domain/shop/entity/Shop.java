@@ -0,0 +1,104 @@
+package com.hairshop.domain.shop.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Entity
+@Table(name = "shops", indexes = {
+        @Index(name = "idx_shops_owner", columnList = "ownerId"),
+        @Index(name = "idx_shops_location", columnList = "district, neighborhood")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "shop")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Shop {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false, length = 500)
+    private String address;
+
+    @Column(nullable = false, length = 20)
+    private String phone;
+
+    @Column(length = 50)
+    private String businessRegistrationNumber;
+
+    // 기본 영업 시간 (날짜별 예외는 ShopSchedule)
+    @Column
+    private LocalTime openingTime;
+
+    @Column
+    private LocalTime closingTime;
+
+    @Column(length = 500)
+    private String mainImageUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @Builder.Default
+    private SubscriptionStatus subscriptionStatus = SubscriptionStatus.INACTIVE;
+
+    @Column
+    private LocalDateTime subscriptionStartedAt;
+
+    @Column
+    private LocalDateTime subscriptionEndsAt;
+
+    @Column(length = 50)
+    private String district;
+
+    @Column(length = 50)
+    private String neighborhood;
+
+    // 위치 (WGS84, 주변 미용실 검색용)
+    @Column
+    private Double latitude;
+
+    @Column
+    private Double longitude;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column
+    private LocalDateTime deletedAt;
+
+    // 구독 상태
+    public enum SubscriptionStatus {
+        ACTIVE,     // 구독 중
+        INACTIVE,   // 미구독
+        SUSPENDED   // 정지
+    }
+
+    // 소프트 삭제 여부 확인
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+}
@@ -0,0 +1,75 @@
+package com.hairshop.domain.shop.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 미용실/날짜/서비스별 일일 집계 (사장님 대시보드용, 예약/결제 상태 변경 시 증감 반영)
+ *
+ * 날짜는 예약일 기준이며 매출도 예약일에 잡는다.
+ * 기본 키 (shop_id, stat_date, service_id) 순서라 한 미용실의 기간 조회는 기본 키 범위 조회 한 번이다.
+ */
+@Entity
+@Table(name = "shop_daily_stats")
+@IdClass(ShopDailyStats.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ShopDailyStats {
+
+    @Id
+    private Long shopId;
+
+    @Id
+    private LocalDate statDate;
+
+    @Id
+    private Long serviceId;
+
+    // 상태별 예약 수
+    @Column(nullable = false)
+    private int pendingCount;
+
+    @Column(nullable = false)
+    private int confirmedCount;
+
+    @Column(nullable = false)
+    private int cancelledCount;
+
+    @Column(nullable = false)
+    private int completedCount;
+
+    @Column(nullable = false)
+    private int noShowCount;
+
+    // 실제 받은 금액 합계 (승인 금액 - 환불 금액)
+    @Column(nullable = false, precision = 12, scale = 2)
+    @Builder.Default
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 취소를 제외한 예약 수
+    public int bookingCount() {
+        return pendingCount + confirmedCount + completedCount + noShowCount;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long shopId;
+        private LocalDate statDate;
+        private Long serviceId;
+    }
+}
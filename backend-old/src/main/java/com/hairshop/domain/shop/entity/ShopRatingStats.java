@@ -0,0 +1,50 @@
+package com.hairshop.domain.shop.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 미용실 평점 집계 (리뷰 작성/삭제 시 갱신)
+ */
+@Entity
+@Table(name = "shop_rating_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ShopRatingStats {
+
+    @Id
+    private Long shopId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int totalReviews = 0;
+
+    @Column(nullable = false, precision = 3, scale = 2)
+    @Builder.Default
+    private BigDecimal averageRating = BigDecimal.ZERO;
+
+    @Column(name = "rating_5_count", nullable = false)
+    private int rating5Count;
+
+    @Column(name = "rating_4_count", nullable = false)
+    private int rating4Count;
+
+    @Column(name = "rating_3_count", nullable = false)
+    private int rating3Count;
+
+    @Column(name = "rating_2_count", nullable = false)
+    private int rating2Count;
+
+    @Column(name = "rating_1_count", nullable = false)
+    private int rating1Count;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,56 @@
+package com.hairshop.domain.shop.repository;
+
+import com.hairshop.domain.outbox.entity.OutboxEvent;
+import com.hairshop.domain.shop.entity.ShopDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ShopDailyStatsRepository extends JpaRepository<ShopDailyStats, ShopDailyStats.Key> {
+
+    /**
+     * 미용실의 [from, to] 일일 집계 (기본 키 범위 조회)
+     */
+    List<ShopDailyStats> findByShopIdAndStatDateBetweenOrderByStatDate(Long shopId, LocalDate from, LocalDate to);
+
+    /**
+     * [fromShopId, toShopId] 미용실의 전체 일일 집계
+     */
+    List<ShopDailyStats> findByShopIdBetween(Long fromShopId, Long toShopId);
+
+    /**
+     * [fromShopId, toShopId] 미용실에서 아직 전달되지 않은(status) 예약 이벤트가 있는 (미용실, 날짜, 서비스)
+     */
+    @Query("""
+            select distinct new com.hairshop.domain.shop.repository.ShopDailyStatsRepository$StatKey(
+                r.shopId, r.reservationDate, r.serviceId)
+            from OutboxEvent e join Reservation r on r.id = e.aggregateId
+            where e.status = :status and e.aggregateType = 'Reservation'
+              and r.shopId between :fromShopId and :toShopId
+            """)
+    List<StatKey> findKeysWithReservationEvents(@Param("fromShopId") Long fromShopId,
+                                                @Param("toShopId") Long toShopId,
+                                                @Param("status") OutboxEvent.OutboxStatus status);
+
+    /**
+     * [fromShopId, toShopId] 미용실에서 아직 전달되지 않은(status) 결제 이벤트가 있는 (미용실, 예약일, 서비스)
+     */
+    @Query("""
+            select distinct new com.hairshop.domain.shop.repository.ShopDailyStatsRepository$StatKey(
+                r.shopId, r.reservationDate, r.serviceId)
+            from OutboxEvent e join Payment p on p.id = e.aggregateId join Reservation r on r.id = p.reservationId
+            where e.status = :status and e.aggregateType = 'Payment'
+              and r.shopId between :fromShopId and :toShopId
+            """)
+    List<StatKey> findKeysWithPaymentEvents(@Param("fromShopId") Long fromShopId,
+                                            @Param("toShopId") Long toShopId,
+                                            @Param("status") OutboxEvent.OutboxStatus status);
+
+    record StatKey(Long shopId, LocalDate statDate, Long serviceId) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.hairshop.domain.shop.repository;
+
+import com.hairshop.domain.shop.entity.ShopRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ShopRatingStatsRepository extends JpaRepository<ShopRatingStats, Long> {
+
+    /**
+     * [fromShopId, toShopId] 미용실의 평점 집계
+     */
+    List<ShopRatingStats> findByShopIdBetween(Long fromShopId, Long toShopId);
+}
@@ -0,0 +1,62 @@
+package com.hairshop.domain.shop.repository;
+
+import com.hairshop.domain.shop.entity.Shop;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ShopRepository extends JpaRepository<Shop, Long> {
+
+    String SEARCHABLE_LOCATION_QUERY = """
+            select new com.hairshop.domain.shop.repository.ShopRepository$ShopLocationRow(
+                s.id, s.name, s.address, s.latitude, s.longitude, r.averageRating, r.totalReviews)
+            from Shop s left join ShopRatingStats r on r.shopId = s.id
+            where s.subscriptionStatus = :status
+              and s.deletedAt is null
+              and s.latitude is not null
+              and s.longitude is not null
+            """;
+
+    /**
+     * 삭제되지 않은 미용실 조회
+     */
+    Optional<Shop> findByIdAndDeletedAtIsNull(Long id);
+
+    /**
+     * 주변 검색 대상 미용실 위치 + 평점 (status 구독 상태, 위치 등록된 미용실 전체)
+     */
+    @Query(SEARCHABLE_LOCATION_QUERY)
+    List<ShopLocationRow> findSearchableLocations(@Param("status") Shop.SubscriptionStatus status);
+
+    /**
+     * 미용실 id 범위 (없으면 둘 다 null)
+     */
+    @Query("select new com.hairshop.domain.shop.repository.ShopRepository$IdRange(min(s.id), max(s.id)) from Shop s")
+    IdRange findIdRange();
+
+    /**
+     * 미용실 위치와 평점 집계 (집계가 없으면 평점 null)
+     */
+    record ShopLocationRow(
+            Long shopId,
+            String name,
+            String address,
+            Double latitude,
+            Double longitude,
+            BigDecimal averageRating,
+            Integer totalReviews
+    ) {
+    }
+
+    /**
+     * 최소/최대 id
+     */
+    record IdRange(Long minId, Long maxId) {
+    }
+}
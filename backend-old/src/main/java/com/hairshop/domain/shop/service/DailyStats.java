@@ -0,0 +1,110 @@
+package com.hairshop.domain.shop.service;
+
+import com.hairshop.domain.reservation.entity.Reservation.ReservationStatus;
+import com.hairshop.domain.shop.entity.ShopDailyStats;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * 하루 (미용실, 서비스) 의 상태별 예약 수와 매출 (집계 또는 증감분)
+ *
+ * 스레드 안전하지 않으므로 공유할 때는 ConcurrentHashMap.compute 안에서만 변경한다.
+ */
+final class DailyStats {
+
+    private static final int STATUSES = ReservationStatus.values().length;
+
+    // counts[status.ordinal()]
+    private final int[] counts = new int[STATUSES];
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    static DailyStats of(ShopDailyStats stats) {
+        return new DailyStats()
+                .add(ReservationStatus.PENDING, stats.getPendingCount())
+                .add(ReservationStatus.CONFIRMED, stats.getConfirmedCount())
+                .add(ReservationStatus.CANCELLED, stats.getCancelledCount())
+                .add(ReservationStatus.COMPLETED, stats.getCompletedCount())
+                .add(ReservationStatus.NO_SHOW, stats.getNoShowCount())
+                .addRevenue(stats.getRevenue());
+    }
+
+    /**
+     * status 의 예약 수를 delta 만큼 증감 (null 은 "없음")
+     */
+    DailyStats add(ReservationStatus status, int delta) {
+        if (status != null) {
+            counts[status.ordinal()] += delta;
+        }
+        return this;
+    }
+
+    /**
+     * 예약 하나의 상태 변경 반영 (생성: null → status)
+     */
+    DailyStats apply(ReservationStatus previousStatus, ReservationStatus status) {
+        add(previousStatus, -1);
+        return add(status, 1);
+    }
+
+    DailyStats addRevenue(BigDecimal amount) {
+        if (amount != null) {
+            revenue = revenue.add(amount);
+        }
+        return this;
+    }
+
+    DailyStats addAll(DailyStats other) {
+        for (int i = 0; i < STATUSES; i++) {
+            counts[i] += other.counts[i];
+        }
+        revenue = revenue.add(other.revenue);
+        return this;
+    }
+
+    DailyStats minus(DailyStats other) {
+        DailyStats difference = copy();
+        for (int i = 0; i < STATUSES; i++) {
+            difference.counts[i] -= other.counts[i];
+        }
+        difference.revenue = revenue.subtract(other.revenue);
+        return difference;
+    }
+
+    DailyStats copy() {
+        DailyStats copy = new DailyStats();
+        System.arraycopy(counts, 0, copy.counts, 0, STATUSES);
+        copy.revenue = revenue;
+        return copy;
+    }
+
+    int get(ReservationStatus status) {
+        return counts[status.ordinal()];
+    }
+
+    BigDecimal revenue() {
+        return revenue;
+    }
+
+    boolean isZero() {
+        return Arrays.stream(counts).allMatch(count -> count == 0) && revenue.signum() == 0;
+    }
+
+    // 매출은 scale 과 관계없이 값으로 비교 (10000 == 10000.00)
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof DailyStats other
+                && Arrays.equals(counts, other.counts)
+                && revenue.compareTo(other.revenue) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(counts) + revenue.stripTrailingZeros().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(counts) + " " + revenue.toPlainString();
+    }
+}
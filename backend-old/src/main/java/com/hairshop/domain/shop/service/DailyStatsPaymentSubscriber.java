@@ -0,0 +1,26 @@
+package com.hairshop.domain.shop.service;
+
+import com.hairshop.domain.outbox.service.OutboxSubscriber;
+import com.hairshop.domain.payment.event.PaymentStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 상태 변경 → 일일 집계 매출 증감
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyStatsPaymentSubscriber implements OutboxSubscriber<PaymentStatusChangedEvent> {
+
+    private final ShopDailyStatsService shopDailyStatsService;
+
+    @Override
+    public Class<PaymentStatusChangedEvent> eventType() {
+        return PaymentStatusChangedEvent.class;
+    }
+
+    @Override
+    public void handle(PaymentStatusChangedEvent event) {
+        shopDailyStatsService.onPaymentStatusChanged(event);
+    }
+}
@@ -0,0 +1,26 @@
+package com.hairshop.domain.shop.service;
+
+import com.hairshop.domain.outbox.service.OutboxSubscriber;
+import com.hairshop.domain.reservation.event.ReservationStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 상태 변경 → 일일 집계 증감
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyStatsReservationSubscriber implements OutboxSubscriber<ReservationStatusChangedEvent> {
+
+    private final ShopDailyStatsService shopDailyStatsService;
+
+    @Override
+    public Class<ReservationStatusChangedEvent> eventType() {
+        return ReservationStatusChangedEvent.class;
+    }
+
+    @Override
+    public void handle(ReservationStatusChangedEvent event) {
+        shopDailyStatsService.onReservationStatusChanged(event);
+    }
+}
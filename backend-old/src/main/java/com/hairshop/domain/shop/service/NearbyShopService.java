@@ -0,0 +1,170 @@
+package com.hairshop.domain.shop.service;
+
+import com.hairshop.domain.shop.entity.Shop;
+import com.hairshop.domain.shop.entity.ShopRatingStats;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.domain.shop.repository.ShopRepository.ShopLocationRow;
+import com.hairshop.domain.shop.service.ShopLocationIndex.Hit;
+import com.hairshop.domain.shop.service.ShopLocationIndex.ShopLocation;
+import com.hairshop.dto.response.NearbyShopResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 주변 미용실 검색 (메모리 격자 색인)
+ *
+ * 구독 중(ACTIVE)이고 위치가 등록된 미용실을 평점 집계(shop_rating_stats)와 함께 색인에 올려 두고,
+ * 조회는 DB 를 거치지 않고 색인만으로 응답한다.
+ * 시작 시 전체를 읽고, 위치/구독 상태 변경은 rebuild-interval 마다 전체를 다시 읽을 때 반영된다.
+ * 평점은 집계를 저장할 때(updateRatings) 바로 반영한다.
+ */
+@Slf4j
+@Service
+public class NearbyShopService {
+
+    private static final Comparator<Hit> BY_RATING = Comparator
+            .comparing((Hit hit) -> rating(hit.shop()), Comparator.reverseOrder())
+            .thenComparing(hit -> hit.shop().totalReviews(), Comparator.reverseOrder())
+            .thenComparing(ShopLocationIndex.BY_DISTANCE);
+
+    private final ShopRepository shopRepository;
+    private final ShopLocationIndex index;
+    private final int maxRadiusMeters;
+    private final int maxLimit;
+
+    public NearbyShopService(
+            ShopRepository shopRepository,
+            @Value("${shop-search.cell-size-meters:1000}") double cellSizeMeters,
+            @Value("${shop-search.max-radius-meters:20000}") int maxRadiusMeters,
+            @Value("${shop-search.max-limit:100}") int maxLimit
+    ) {
+        this.shopRepository = shopRepository;
+        this.index = new ShopLocationIndex(cellSizeMeters);
+        this.maxRadiusMeters = maxRadiusMeters;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * 주변 미용실 검색
+     *
+     * radiusMeters 가 있으면 반경 안의 미용실, 없으면 max-radius 안에서 가까운 limit 곳을 정렬 기준대로 반환한다.
+     */
+    public List<NearbyShopResponse> search(double latitude, double longitude, Integer radiusMeters,
+                                           int limit, SortOrder sort) {
+        validate(latitude, longitude, radiusMeters, limit);
+
+        List<Hit> hits;
+        if (radiusMeters == null) {
+            hits = index.nearest(latitude, longitude, limit, maxRadiusMeters);
+        } else {
+            hits = index.within(latitude, longitude, radiusMeters);
+        }
+        if (sort == SortOrder.RATING) {
+            hits = new ArrayList<>(hits);
+            hits.sort(BY_RATING);
+        }
+        return hits.stream()
+                .limit(limit)
+                .map(NearbyShopService::toResponse)
+                .toList();
+    }
+
+    /**
+     * 시작 시 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 전체 다시 읽기 (다른 서버에서 생긴 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${shop-search.rebuild-interval-ms:600000}",
+            initialDelayString = "${shop-search.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        // 스냅샷을 읽는 동안 이 서버에서 생긴 변경은 색인이 기록해 두었다가 교체 후 다시 적용
+        long since = index.beginReplace();
+        List<ShopLocation> locations;
+        try {
+            locations = shopRepository.findSearchableLocations(Shop.SubscriptionStatus.ACTIVE).stream()
+                    .map(NearbyShopService::toLocation)
+                    .toList();
+        } catch (RuntimeException e) {
+            index.cancelReplace();
+            throw e;
+        }
+        index.replaceAll(since, locations);
+        log.debug("주변 검색 색인 생성: {}곳", locations.size());
+    }
+
+    /**
+     * 평점 집계 반영 (집계 저장 후 호출, 위치는 그대로)
+     */
+    public void updateRatings(List<ShopRatingStats> stats) {
+        for (ShopRatingStats stat : stats) {
+            index.updateRating(stat.getShopId(), stat.getAverageRating(), stat.getTotalReviews());
+        }
+    }
+
+    private void validate(double latitude, double longitude, Integer radiusMeters, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "위도/경도 범위를 벗어났습니다");
+        }
+        if (radiusMeters != null && (radiusMeters <= 0 || radiusMeters > maxRadiusMeters)) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "반경은 1~" + maxRadiusMeters + "m 입니다");
+        }
+        if (limit <= 0 || limit > maxLimit) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "개수는 1~" + maxLimit + " 입니다");
+        }
+    }
+
+    private static ShopLocation toLocation(ShopLocationRow row) {
+        return new ShopLocation(
+                row.shopId(),
+                row.name(),
+                row.address(),
+                row.latitude(),
+                row.longitude(),
+                row.averageRating(),
+                row.totalReviews() != null ? row.totalReviews() : 0
+        );
+    }
+
+    private static NearbyShopResponse toResponse(Hit hit) {
+        ShopLocation shop = hit.shop();
+        return NearbyShopResponse.builder()
+                .shopId(shop.shopId())
+                .name(shop.name())
+                .address(shop.address())
+                .latitude(shop.latitude())
+                .longitude(shop.longitude())
+                .distanceMeters(Math.round(hit.distanceMeters()))
+                .averageRating(shop.averageRating())
+                .totalReviews(shop.totalReviews())
+                .build();
+    }
+
+    private static BigDecimal rating(ShopLocation shop) {
+        return shop.averageRating() != null ? shop.averageRating() : BigDecimal.ZERO;
+    }
+
+    /**
+     * 정렬 기준
+     */
+    public enum SortOrder {
+        DISTANCE,   // 가까운 순
+        RATING      // 평점 높은 순 (같으면 리뷰 많은 순, 가까운 순)
+    }
+}
@@ -0,0 +1,111 @@
+package com.hairshop.domain.shop.service;
+
+import com.hairshop.domain.shop.entity.ShopRatingStats;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * 평점(1~5)별 리뷰 수 (집계 또는 증감분)
+ *
+ * 스레드 안전하지 않으므로 공유할 때는 ConcurrentHashMap.compute 안에서만 변경한다.
+ */
+final class RatingCounts {
+
+    static final int MAX_RATING = 5;
+
+    // counts[rating - 1]
+    private final int[] counts = new int[MAX_RATING];
+
+    static RatingCounts of(ShopRatingStats stats) {
+        RatingCounts counts = new RatingCounts();
+        counts.add(1, stats.getRating1Count());
+        counts.add(2, stats.getRating2Count());
+        counts.add(3, stats.getRating3Count());
+        counts.add(4, stats.getRating4Count());
+        counts.add(5, stats.getRating5Count());
+        return counts;
+    }
+
+    /**
+     * rating 의 수를 delta 만큼 증감 (범위 밖 평점은 무시, 0 은 "없음")
+     */
+    RatingCounts add(int rating, int delta) {
+        if (rating >= 1 && rating <= MAX_RATING) {
+            counts[rating - 1] += delta;
+        }
+        return this;
+    }
+
+    /**
+     * 리뷰 하나의 평점 변경 반영 (작성: 0 → rating, 삭제: rating → 0)
+     */
+    RatingCounts apply(int previousRating, int rating) {
+        add(previousRating, -1);
+        return add(rating, 1);
+    }
+
+    RatingCounts addAll(RatingCounts other) {
+        for (int i = 0; i < MAX_RATING; i++) {
+            counts[i] += other.counts[i];
+        }
+        return this;
+    }
+
+    RatingCounts minus(RatingCounts other) {
+        RatingCounts difference = copy();
+        for (int i = 0; i < MAX_RATING; i++) {
+            difference.counts[i] -= other.counts[i];
+        }
+        return difference;
+    }
+
+    RatingCounts copy() {
+        RatingCounts copy = new RatingCounts();
+        System.arraycopy(counts, 0, copy.counts, 0, MAX_RATING);
+        return copy;
+    }
+
+    int get(int rating) {
+        return counts[rating - 1];
+    }
+
+    int total() {
+        return Arrays.stream(counts).sum();
+    }
+
+    boolean isZero() {
+        return Arrays.stream(counts).allMatch(count -> count == 0);
+    }
+
+    /**
+     * 평균 평점 (소수 둘째 자리, 리뷰가 없으면 0)
+     */
+    BigDecimal average() {
+        int total = total();
+        if (total <= 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        long sum = 0;
+        for (int i = 0; i < MAX_RATING; i++) {
+            sum += (long) (i + 1) * counts[i];
+        }
+        return BigDecimal.valueOf(sum).divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RatingCounts other && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(counts);
+    }
+}
@@ -0,0 +1,496 @@
+package com.hairshop.domain.shop.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hairshop.domain.common.service.JobLockService;
+import com.hairshop.domain.outbox.entity.OutboxEvent;
+import com.hairshop.domain.payment.entity.Payment;
+import com.hairshop.domain.payment.event.PaymentStatusChangedEvent;
+import com.hairshop.domain.payment.repository.PaymentRepository;
+import com.hairshop.domain.payment.repository.PaymentRepository.DailyRevenue;
+import com.hairshop.domain.reservation.entity.Reservation.ReservationStatus;
+import com.hairshop.domain.reservation.event.ReservationStatusChangedEvent;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.domain.reservation.repository.ReservationRepository.DailyStatusCount;
+import com.hairshop.domain.shop.entity.ShopDailyStats;
+import com.hairshop.domain.shop.repository.ShopDailyStatsRepository;
+import com.hairshop.domain.shop.repository.ShopDailyStatsRepository.StatKey;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.domain.shop.repository.ShopRepository.IdRange;
+import com.hairshop.dto.response.DailyStatsBackfillResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 미용실 일일 집계(shop_daily_stats) 유지
+ *
+ * 예약/결제 상태 변경 이벤트(outbox 로 커밋 후 전달)를 (미용실, 날짜, 서비스) 별 증감으로 메모리에 모아 두고
+ * flush-interval 마다 MERGE batch 로 한 번에 더한다. 반영하지 못한 증감은 다음 주기에 다시 시도한다.
+ * outbox 전달은 최소 한 번이라 같은 이벤트가 다시 올 수 있으므로 최근 반영한 이벤트를 기억해 두 번 더하지 않는다.
+ * 서버 종료로 사라진 증감이나 다른 서버에서 중복 반영된 증감은 reservations/payments 를 다시 세는 backfill 로 맞춘다.
+ * backfill 은 한 서버에서만 실행하고, 차이를 증감으로 더하지 않고 다시 센 절댓값으로 덮어쓴다.
+ */
+@Slf4j
+@Service
+public class ShopDailyStatsService implements DisposableBean {
+
+    // 상태별 증감과 매출 증감을 더함 (행이 없으면 생성)
+    private static final String MERGE_SQL = """
+            MERGE INTO shop_daily_stats s
+            USING (SELECT CAST(? AS BIGINT) AS shop_id, CAST(? AS DATE) AS stat_date, CAST(? AS BIGINT) AS service_id,
+                          CAST(? AS INT) AS d_pending, CAST(? AS INT) AS d_confirmed, CAST(? AS INT) AS d_cancelled,
+                          CAST(? AS INT) AS d_completed, CAST(? AS INT) AS d_no_show,
+                          CAST(? AS DECIMAL(12, 2)) AS d_revenue) d
+            ON s.shop_id = d.shop_id AND s.stat_date = d.stat_date AND s.service_id = d.service_id
+            WHEN MATCHED THEN UPDATE SET
+                pending_count = s.pending_count + d.d_pending,
+                confirmed_count = s.confirmed_count + d.d_confirmed,
+                cancelled_count = s.cancelled_count + d.d_cancelled,
+                completed_count = s.completed_count + d.d_completed,
+                no_show_count = s.no_show_count + d.d_no_show,
+                revenue = s.revenue + d.d_revenue,
+                updated_at = CURRENT_TIMESTAMP
+            WHEN NOT MATCHED THEN INSERT
+                (shop_id, stat_date, service_id, pending_count, confirmed_count, cancelled_count,
+                 completed_count, no_show_count, revenue, updated_at)
+                VALUES (d.shop_id, d.stat_date, d.service_id, d.d_pending, d.d_confirmed, d.d_cancelled,
+                        d.d_completed, d.d_no_show, d.d_revenue, CURRENT_TIMESTAMP)
+            """;
+
+    // 상태별 개수와 매출을 reservations/payments 에서 다시 센 값으로 덮어씀 (매출 상태는 REVENUE_STATUSES 와 같음)
+    private static final String RECOUNT_SQL = """
+            UPDATE shop_daily_stats SET
+                pending_count = (SELECT COUNT(*) FROM reservations r
+                                 WHERE r.shop_id = shop_daily_stats.shop_id AND r.reservation_date = shop_daily_stats.stat_date
+                                   AND r.service_id = shop_daily_stats.service_id AND r.status = 'PENDING'),
+                confirmed_count = (SELECT COUNT(*) FROM reservations r
+                                   WHERE r.shop_id = shop_daily_stats.shop_id AND r.reservation_date = shop_daily_stats.stat_date
+                                     AND r.service_id = shop_daily_stats.service_id AND r.status = 'CONFIRMED'),
+                cancelled_count = (SELECT COUNT(*) FROM reservations r
+                                   WHERE r.shop_id = shop_daily_stats.shop_id AND r.reservation_date = shop_daily_stats.stat_date
+                                     AND r.service_id = shop_daily_stats.service_id AND r.status = 'CANCELLED'),
+                completed_count = (SELECT COUNT(*) FROM reservations r
+                                   WHERE r.shop_id = shop_daily_stats.shop_id AND r.reservation_date = shop_daily_stats.stat_date
+                                     AND r.service_id = shop_daily_stats.service_id AND r.status = 'COMPLETED'),
+                no_show_count = (SELECT COUNT(*) FROM reservations r
+                                 WHERE r.shop_id = shop_daily_stats.shop_id AND r.reservation_date = shop_daily_stats.stat_date
+                                   AND r.service_id = shop_daily_stats.service_id AND r.status = 'NO_SHOW'),
+                revenue = (SELECT COALESCE(SUM(p.amount - COALESCE(p.refund_amount, 0)), 0)
+                           FROM payments p JOIN reservations r ON r.id = p.reservation_id
+                           WHERE r.shop_id = shop_daily_stats.shop_id AND r.reservation_date = shop_daily_stats.stat_date
+                             AND r.service_id = shop_daily_stats.service_id
+                             AND p.status IN ('COMPLETED', 'PARTIAL_REFUND')),
+                updated_at = CURRENT_TIMESTAMP
+            WHERE shop_id = ? AND stat_date = ? AND service_id = ?
+            """;
+
+    // 매출로 잡는 결제 상태
+    private static final Set<Payment.PaymentStatus> REVENUE_STATUSES =
+            EnumSet.of(Payment.PaymentStatus.COMPLETED, Payment.PaymentStatus.PARTIAL_REFUND);
+
+    private static final String BACKFILL_JOB = "daily-stats-backfill";
+    private static final int MAX_REPORTED_SHOPS = 100;
+
+    private final ShopDailyStatsRepository shopDailyStatsRepository;
+    private final ShopRepository shopRepository;
+    private final ReservationRepository reservationRepository;
+    private final PaymentRepository paymentRepository;
+    private final JobLockService jobLockService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService backfillExecutor;
+    private final int flushBatchSize;
+    private final int backfillChunkSize;
+    private final Duration confirmDelay;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
+    private final Counter driftCounter;
+
+    // (미용실, 날짜, 서비스) → 아직 반영하지 않은 증감 (compute 안에서만 변경)
+    private final ConcurrentHashMap<DayKey, DailyStats> pending = new ConcurrentHashMap<>();
+    // 최근 반영한 이벤트 (outbox 재전달 시 중복 반영 방지)
+    private final Cache<String, Boolean> appliedEvents;
+
+    public ShopDailyStatsService(
+            ShopDailyStatsRepository shopDailyStatsRepository,
+            ShopRepository shopRepository,
+            ReservationRepository reservationRepository,
+            PaymentRepository paymentRepository,
+            JobLockService jobLockService,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${daily-stats.flush-batch-size:500}") int flushBatchSize,
+            @Value("${daily-stats.backfill-chunk-size:200}") int backfillChunkSize,
+            @Value("${daily-stats.backfill-threads:4}") int backfillThreads,
+            @Value("${daily-stats.dedupe-size:100000}") long dedupeSize,
+            @Value("${daily-stats.dedupe-ttl:1h}") Duration dedupeTtl,
+            @Value("${daily-stats.backfill-confirm-delay:15s}") Duration confirmDelay,
+            @Value("${daily-stats.backfill-lock-at-most:1h}") Duration lockAtMostFor,
+            @Value("${daily-stats.backfill-lock-at-least:5m}") Duration lockAtLeastFor
+    ) {
+        this.shopDailyStatsRepository = shopDailyStatsRepository;
+        this.shopRepository = shopRepository;
+        this.reservationRepository = reservationRepository;
+        this.paymentRepository = paymentRepository;
+        this.jobLockService = jobLockService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.backfillExecutor = Executors.newFixedThreadPool(
+                backfillThreads, new CustomizableThreadFactory("daily-stats-backfill-"));
+        this.flushBatchSize = flushBatchSize;
+        this.backfillChunkSize = backfillChunkSize;
+        this.confirmDelay = confirmDelay;
+        this.lockAtMostFor = lockAtMostFor;
+        this.lockAtLeastFor = lockAtLeastFor;
+        this.appliedEvents = Caffeine.newBuilder()
+                .maximumSize(dedupeSize)
+                .expireAfterWrite(dedupeTtl)
+                .build();
+        this.driftCounter = Counter.builder("daily.stats.drift")
+                .description("backfill 에서 발견한 일일 집계 불일치 (미용실, 날짜, 서비스) 수")
+                .register(meterRegistry);
+        Gauge.builder("daily.stats.pending", pending, Map::size)
+                .description("반영 대기 중인 (미용실, 날짜, 서비스) 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 예약 상태 변경을 증감으로 모음
+     */
+    public void onReservationStatusChanged(ReservationStatusChangedEvent event) {
+        if (!firstDelivery("R:" + event.reservationId() + ":" + event.status())) {
+            return;
+        }
+        addPending(new DayKey(event.shopId(), event.date(), event.serviceId()),
+                new DailyStats().apply(event.previousStatus(), event.status()));
+    }
+
+    /**
+     * 결제 상태 변경을 예약일 매출 증감으로 모음
+     */
+    public void onPaymentStatusChanged(PaymentStatusChangedEvent event) {
+        BigDecimal delta = orZero(event.netAmount()).subtract(orZero(event.previousNetAmount()));
+        // 부분 환불이 여러 번 있을 수 있으므로 금액까지 포함해 구분
+        if (delta.signum() == 0
+                || !firstDelivery("P:" + event.paymentId() + ":" + event.status() + ":" + event.netAmount())) {
+            return;
+        }
+        addPending(new DayKey(event.shopId(), event.reservationDate(), event.serviceId()),
+                new DailyStats().addRevenue(delta));
+    }
+
+    /**
+     * flush-interval 마다 증감 반영
+     */
+    @Scheduled(fixedDelayString = "${daily-stats.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 모아 둔 증감을 shop_daily_stats 에 반영 (기본 키 순 batch, 반영한 행 수 반환)
+     */
+    public int flush() {
+        TreeMap<DayKey, DailyStats> drained = drain();
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        // 여러 서버가 같은 행을 갱신할 때 잠금 순서를 맞추기 위해 기본 키 순으로 처리
+        List<DayKey> keys = new ArrayList<>(drained.keySet());
+        List<DayKey> flushed = new ArrayList<>(keys.size());
+        try {
+            for (int from = 0; from < keys.size(); from += flushBatchSize) {
+                List<DayKey> batch = keys.subList(from, Math.min(from + flushBatchSize, keys.size()));
+                transactionTemplate.executeWithoutResult(
+                        status -> jdbcTemplate.batchUpdate(MERGE_SQL, toMergeArgs(batch, drained)));
+                flushed.addAll(batch);
+            }
+        } catch (RuntimeException e) {
+            // 반영하지 못한 증감은 되돌려 두고 다음 주기에 다시 시도
+            flushed.forEach(drained::remove);
+            drained.forEach(this::addPending);
+            log.warn("일일 집계 반영 실패: {}건 대기, {}", drained.size(), e.getMessage());
+        }
+        return flushed.size();
+    }
+
+    /**
+     * backfill-cron 마다 재집계 (한 서버에서만)
+     */
+    @Scheduled(cron = "${daily-stats.backfill-cron:0 0 5 * * *}")
+    public void scheduledBackfill() {
+        jobLockService.tryRun(BACKFILL_JOB, lockAtMostFor, lockAtLeastFor, this::doBackfill);
+    }
+
+    /**
+     * reservations/payments 를 다시 세어 일일 집계를 채우고 차이를 보정
+     *
+     * 집계 테이블을 처음 만들었을 때도 이 작업으로 과거 내역을 채운다. 다른 서버에서 실행 중이면 JOB_ALREADY_RUNNING.
+     */
+    public DailyStatsBackfillResponse backfill() {
+        return jobLockService.tryRun(BACKFILL_JOB, lockAtMostFor, Duration.ZERO, this::doBackfill)
+                .orElseThrow(() -> new BusinessException(ErrorCode.JOB_ALREADY_RUNNING));
+    }
+
+    @Override
+    public void destroy() {
+        backfillExecutor.shutdown();
+        // 종료 전 남은 증감 반영
+        flush();
+    }
+
+    /**
+     * 미용실 id 를 backfill-chunk-size 단위로 나눠 병렬로 센다. 집계 + 반영 대기 증감이 다시 센 값과 다르면
+     * confirm-delay 뒤(다른 서버의 반영 대기 증감이 반영된 뒤) 한 번 더 세어 같은 차이가 나온 행만 불일치로 본다.
+     * 아직 전달되지 않은 outbox 이벤트가 있는 행은 이후 증감이 더해질 것이므로 이번에는 건너뛴다.
+     */
+    private DailyStatsBackfillResponse doBackfill() {
+        long startedAt = System.nanoTime();
+        flush();
+
+        List<IdRange> chunks = chunks(shopRepository.findIdRange());
+        Map<DayKey, DailyStats> first = findDrifts(chunks);
+        Set<DayKey> drifts = new TreeSet<>();
+        int skippedDays = 0;
+        if (!first.isEmpty()) {
+            pause(confirmDelay);
+            flush();
+            List<IdRange> driftedChunks = chunks.stream()
+                    .filter(chunk -> first.keySet().stream()
+                            .anyMatch(key -> key.shopId() >= chunk.minId() && key.shopId() <= chunk.maxId()))
+                    .toList();
+            findDrifts(driftedChunks).forEach((key, difference) -> {
+                if (difference.equals(first.get(key))) {
+                    drifts.add(key);
+                }
+            });
+            Set<DayKey> undelivered = findUndeliveredKeys(driftedChunks);
+            int confirmed = drifts.size();
+            drifts.removeAll(undelivered);
+            skippedDays = confirmed - drifts.size();
+        }
+        repair(new ArrayList<>(drifts));
+
+        long checkedShops = chunks.isEmpty() ? 0 : chunks.get(chunks.size() - 1).maxId() - chunks.get(0).minId() + 1;
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        List<Long> driftedShopIds = drifts.stream()
+                .map(DayKey::shopId)
+                .distinct()
+                .limit(MAX_REPORTED_SHOPS)
+                .toList();
+        driftCounter.increment(drifts.size());
+        if (drifts.isEmpty() && skippedDays == 0) {
+            log.info("일일 집계 점검 완료: {}개 구간, 불일치 없음 ({}ms)", chunks.size(), elapsedMillis);
+        } else {
+            log.warn("일일 집계 불일치 {}건 보정, 전달 대기 이벤트로 {}건 건너뜀 ({}ms): shopIds={}",
+                    drifts.size(), skippedDays, elapsedMillis, driftedShopIds);
+        }
+
+        return DailyStatsBackfillResponse.builder()
+                .chunks(chunks.size())
+                .checkedShopIds(checkedShops)
+                .driftedDays(drifts.size())
+                .skippedDays(skippedDays)
+                .driftedShopIds(driftedShopIds)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private List<IdRange> chunks(IdRange range) {
+        List<IdRange> chunks = new ArrayList<>();
+        if (range.minId() != null) {
+            for (long from = range.minId(); from <= range.maxId(); from += backfillChunkSize) {
+                chunks.add(new IdRange(from, Math.min(from + backfillChunkSize - 1, range.maxId())));
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * 구간별로 병렬로 세어 차이 합침
+     */
+    private Map<DayKey, DailyStats> findDrifts(List<IdRange> chunks) {
+        List<CompletableFuture<Map<DayKey, DailyStats>>> futures = chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(
+                        () -> findDrifts(chunk.minId(), chunk.maxId()), backfillExecutor))
+                .toList();
+        Map<DayKey, DailyStats> drifts = new HashMap<>();
+        futures.forEach(future -> drifts.putAll(future.join()));
+        return drifts;
+    }
+
+    /**
+     * 아직 전달되지 않은(PENDING) 예약/결제 outbox 이벤트가 있는 행
+     */
+    private Set<DayKey> findUndeliveredKeys(List<IdRange> chunks) {
+        Set<DayKey> keys = new HashSet<>();
+        for (IdRange chunk : chunks) {
+            List<StatKey> found = new ArrayList<>(shopDailyStatsRepository.findKeysWithReservationEvents(
+                    chunk.minId(), chunk.maxId(), OutboxEvent.OutboxStatus.PENDING));
+            found.addAll(shopDailyStatsRepository.findKeysWithPaymentEvents(
+                    chunk.minId(), chunk.maxId(), OutboxEvent.OutboxStatus.PENDING));
+            found.forEach(key -> keys.add(new DayKey(key.shopId(), key.statDate(), key.serviceId())));
+        }
+        return keys;
+    }
+
+    /**
+     * 행을 reservations/payments 에서 다시 센 값으로 덮어씀 (기본 키 순 batch)
+     *
+     * 행이 없으면 먼저 만들고, 덮어쓰는 UPDATE 가 행을 잠근 채 다시 세므로 그 사이 반영되는 증감과 섞이지 않는다.
+     */
+    private void repair(List<DayKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        flush();
+        for (int from = 0; from < keys.size(); from += flushBatchSize) {
+            List<DayKey> batch = keys.subList(from, Math.min(from + flushBatchSize, keys.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(MERGE_SQL, toMergeArgs(batch, Map.of()));
+                jdbcTemplate.batchUpdate(RECOUNT_SQL, batch.stream()
+                        .map(key -> new Object[]{key.shopId(), key.date(), key.serviceId()})
+                        .toList());
+            });
+        }
+    }
+
+    private static void pause(Duration delay) {
+        if (delay.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 다시 센 값 - (저장된 집계 + 반영 대기 증감)
+     */
+    private Map<DayKey, DailyStats> findDrifts(long fromShopId, long toShopId) {
+        Map<DayKey, DailyStats> actual = new HashMap<>();
+        for (DailyStatusCount count : reservationRepository.countDailyByStatus(fromShopId, toShopId)) {
+            actual.computeIfAbsent(new DayKey(count.shopId(), count.reservationDate(), count.serviceId()),
+                    key -> new DailyStats()).add(count.status(), Math.toIntExact(count.count()));
+        }
+        for (DailyRevenue revenue : paymentRepository.sumDailyRevenue(fromShopId, toShopId, REVENUE_STATUSES)) {
+            actual.computeIfAbsent(new DayKey(revenue.shopId(), revenue.reservationDate(), revenue.serviceId()),
+                    key -> new DailyStats()).addRevenue(revenue.revenue());
+        }
+
+        Map<DayKey, DailyStats> recorded = new HashMap<>();
+        for (ShopDailyStats stats : shopDailyStatsRepository.findByShopIdBetween(fromShopId, toShopId)) {
+            recorded.put(new DayKey(stats.getShopId(), stats.getStatDate(), stats.getServiceId()),
+                    DailyStats.of(stats));
+        }
+        for (DayKey key : pending.keySet()) {
+            if (key.shopId() >= fromShopId && key.shopId() <= toShopId) {
+                pending.computeIfPresent(key, (k, stats) -> {
+                    recorded.computeIfAbsent(k, ignored -> new DailyStats()).addAll(stats);
+                    return stats;
+                });
+            }
+        }
+
+        Set<DayKey> keys = new HashSet<>(actual.keySet());
+        keys.addAll(recorded.keySet());
+        Map<DayKey, DailyStats> drifts = new HashMap<>();
+        for (DayKey key : keys) {
+            DailyStats expected = actual.getOrDefault(key, new DailyStats());
+            DailyStats difference = expected.minus(recorded.getOrDefault(key, new DailyStats()));
+            if (!difference.isZero()) {
+                drifts.put(key, difference);
+            }
+        }
+        return drifts;
+    }
+
+    private boolean firstDelivery(String eventKey) {
+        return appliedEvents.asMap().putIfAbsent(eventKey, Boolean.TRUE) == null;
+    }
+
+    private void addPending(DayKey key, DailyStats delta) {
+        pending.compute(key, (k, stats) -> {
+            DailyStats merged = stats == null ? delta.copy() : stats.addAll(delta);
+            return merged.isZero() ? null : merged;
+        });
+    }
+
+    /**
+     * 대기 중인 증감을 꺼내고 비움 (행별로 원자적으로 꺼내므로 꺼내는 중에 들어온 증감은 다음 주기로)
+     */
+    private TreeMap<DayKey, DailyStats> drain() {
+        TreeMap<DayKey, DailyStats> drained = new TreeMap<>();
+        for (DayKey key : pending.keySet()) {
+            pending.computeIfPresent(key, (k, stats) -> {
+                drained.put(k, stats);
+                return null;
+            });
+        }
+        return drained;
+    }
+
+    private static List<Object[]> toMergeArgs(List<DayKey> keys, Map<DayKey, DailyStats> deltas) {
+        List<Object[]> args = new ArrayList<>(keys.size());
+        for (DayKey key : keys) {
+            DailyStats delta = deltas.getOrDefault(key, new DailyStats());
+            args.add(new Object[]{key.shopId(), key.date(), key.serviceId(),
+                    delta.get(ReservationStatus.PENDING), delta.get(ReservationStatus.CONFIRMED),
+                    delta.get(ReservationStatus.CANCELLED), delta.get(ReservationStatus.COMPLETED),
+                    delta.get(ReservationStatus.NO_SHOW), delta.revenue()});
+        }
+        return args;
+    }
+
+    private static BigDecimal orZero(BigDecimal amount) {
+        return amount != null ? amount : BigDecimal.ZERO;
+    }
+
+    /**
+     * 집계 행 키 (기본 키 순서로 정렬)
+     */
+    record DayKey(Long shopId, LocalDate date, Long serviceId) implements Comparable<DayKey> {
+
+        private static final Comparator<DayKey> ORDER = Comparator.comparing(DayKey::shopId)
+                .thenComparing(DayKey::date)
+                .thenComparing(DayKey::serviceId);
+
+        @Override
+        public int compareTo(DayKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.hairshop.domain.shop.service;
+
+import com.hairshop.domain.shop.entity.ShopDailyStats;
+import com.hairshop.domain.shop.repository.ShopDailyStatsRepository;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.dto.response.ShopDailyStatsResponse;
+import com.hairshop.dto.response.ShopDashboardResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사장님 대시보드 (shop_daily_stats 만 읽음)
+ *
+ * 모든 조회는 미용실의 날짜 구간 하나를 기본 키 범위로 읽어 메모리에서 합친다.
+ * 집계는 ShopDailyStatsService 의 반영 주기만큼 늦을 수 있다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ShopDashboardService {
+
+    private static final int WEEK_DAYS = 7;
+    private static final int NO_SHOW_RATE_DAYS = 30;
+
+    private final ShopRepository shopRepository;
+    private final ShopDailyStatsRepository shopDailyStatsRepository;
+
+    /**
+     * 당일 예약 수, 최근 7일 매출, 최근 30일 노쇼율
+     */
+    public ShopDashboardResponse getSummary(Long ownerId, Long shopId, LocalDate date) {
+        checkOwner(ownerId, shopId);
+        LocalDate weekFrom = date.minusDays(WEEK_DAYS - 1);
+        List<ShopDailyStats> rows = shopDailyStatsRepository.findByShopIdAndStatDateBetweenOrderByStatDate(
+                shopId, date.minusDays(NO_SHOW_RATE_DAYS - 1), date);
+
+        int todayBookings = 0;
+        BigDecimal weeklyRevenue = BigDecimal.ZERO;
+        long completed = 0;
+        long noShow = 0;
+        for (ShopDailyStats row : rows) {
+            if (row.getStatDate().equals(date)) {
+                todayBookings += row.bookingCount();
+            }
+            if (!row.getStatDate().isBefore(weekFrom)) {
+                weeklyRevenue = weeklyRevenue.add(row.getRevenue());
+            }
+            completed += row.getCompletedCount();
+            noShow += row.getNoShowCount();
+        }
+
+        BigDecimal noShowRate = completed + noShow == 0
+                ? BigDecimal.ZERO
+                : BigDecimal.valueOf(noShow).divide(BigDecimal.valueOf(completed + noShow), 4, RoundingMode.HALF_UP);
+        return ShopDashboardResponse.builder()
+                .shopId(shopId)
+                .date(date)
+                .todayBookings(todayBookings)
+                .weeklyRevenue(weeklyRevenue)
+                .noShowRate(noShowRate)
+                .build();
+    }
+
+    /**
+     * 월간 일별 집계 (serviceId 가 있으면 해당 서비스만, 집계가 있는 날만)
+     */
+    public List<ShopDailyStatsResponse> getMonthly(Long ownerId, Long shopId, YearMonth month, Long serviceId) {
+        checkOwner(ownerId, shopId);
+        List<ShopDailyStats> rows = shopDailyStatsRepository.findByShopIdAndStatDateBetweenOrderByStatDate(
+                shopId, month.atDay(1), month.atEndOfMonth());
+
+        // 날짜순으로 읽었으므로 같은 날의 서비스별 행은 연속
+        List<ShopDailyStatsResponse> days = new ArrayList<>();
+        Day current = null;
+        for (ShopDailyStats row : rows) {
+            if (serviceId != null && !serviceId.equals(row.getServiceId())) {
+                continue;
+            }
+            if (current == null || !current.date.equals(row.getStatDate())) {
+                if (current != null) {
+                    days.add(current.toResponse());
+                }
+                current = new Day(row.getStatDate());
+            }
+            current.add(row);
+        }
+        if (current != null) {
+            days.add(current.toResponse());
+        }
+        return days;
+    }
+
+    /**
+     * 본인 미용실인지 확인 (다른 사람의 미용실은 없는 것으로 응답)
+     */
+    private void checkOwner(Long ownerId, Long shopId) {
+        shopRepository.findById(shopId)
+                .filter(shop -> shop.getOwnerId().equals(ownerId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.SHOP_NOT_FOUND));
+    }
+
+    private static final class Day {
+
+        private final LocalDate date;
+        private int bookings;
+        private int cancelled;
+        private int completed;
+        private int noShow;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        Day(LocalDate date) {
+            this.date = date;
+        }
+
+        void add(ShopDailyStats row) {
+            bookings += row.bookingCount();
+            cancelled += row.getCancelledCount();
+            completed += row.getCompletedCount();
+            noShow += row.getNoShowCount();
+            revenue = revenue.add(row.getRevenue());
+        }
+
+        ShopDailyStatsResponse toResponse() {
+            return ShopDailyStatsResponse.builder()
+                    .date(date)
+                    .bookings(bookings)
+                    .cancelled(cancelled)
+                    .completed(completed)
+                    .noShow(noShow)
+                    .revenue(revenue)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,433 @@
+package com.hairshop.domain.shop.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 미용실 위치 격자 색인 (메모리)
+ *
+ * 위경도를 cellMeters 크기의 칸으로 나누고 칸마다 미용실 배열을 둔다.
+ * 반경 검색은 원을 덮는 칸만, k-최근접 검색은 가운데 칸부터 고리 모양으로 넓혀 가며 거리를 계산하고
+ * 다음 고리의 최소 거리가 k 번째 거리보다 멀어지면 멈춘다.
+ * 칸 배열은 변경할 때마다 새로 만들어 교체하므로 조회는 잠금 없이 하고, 변경만 한 번에 하나씩 한다.
+ * 전체 교체 중(스냅샷을 읽는 동안) 생긴 변경은 새 격자에 다시 적용한 뒤 바꿔 끼운다.
+ */
+final class ShopLocationIndex {
+
+    static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS_METERS * Math.PI / 180;
+    private static final ShopLocation[] EMPTY = new ShopLocation[0];
+
+    static final Comparator<Hit> BY_DISTANCE = Comparator.comparingDouble(Hit::distanceMeters)
+            .thenComparing(hit -> hit.shop().shopId());
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Grid grid = new Grid(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+
+    // 변경 순번, 진행 중인 전체 교체 수, 교체 중 생긴 변경 기록 (writeLock 안에서만 사용)
+    private long sequence;
+    private int replacing;
+    private final List<Mutation> journal = new ArrayList<>();
+
+    ShopLocationIndex(double cellMeters) {
+        if (cellMeters <= 0) {
+            throw new IllegalArgumentException("격자 크기는 0보다 커야 합니다");
+        }
+        this.cellDegrees = cellMeters / METERS_PER_DEGREE;
+        this.rows = (int) Math.ceil(180 / cellDegrees);
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    int size() {
+        return grid.shops().size();
+    }
+
+    /**
+     * 전체 교체 시작 (DB 스냅샷을 읽기 전에 호출)
+     *
+     * 반환한 순번 이후의 변경(put/remove/updateRating)은 기록해 두었다가 replaceAll 에서 새 격자에 다시 적용한다.
+     * 스냅샷을 읽고 격자를 바꿔 끼우기 전에 커밋된 변경이 다음 전체 교체까지 사라지지 않도록 하기 위함이다.
+     */
+    long beginReplace() {
+        writeLock.lock();
+        try {
+            replacing++;
+            return sequence;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷을 읽지 못해 교체를 그만둘 때 호출
+     */
+    void cancelReplace() {
+        writeLock.lock();
+        try {
+            endReplace();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 교체
+     */
+    void replaceAll(Collection<ShopLocation> locations) {
+        replaceAll(beginReplace(), locations);
+    }
+
+    /**
+     * 전체 교체 (새 격자를 만들고 since 이후 변경을 다시 적용한 뒤 한 번에 바꿔 끼움)
+     *
+     * @param since beginReplace 가 반환한 순번
+     */
+    void replaceAll(long since, Collection<ShopLocation> locations) {
+        Map<Long, ShopLocation> shops = new ConcurrentHashMap<>(Math.max(16, locations.size() * 2));
+        for (ShopLocation location : locations) {
+            shops.put(location.shopId(), location);
+        }
+
+        Map<Long, List<ShopLocation>> grouped = new HashMap<>();
+        for (ShopLocation location : shops.values()) {
+            grouped.computeIfAbsent(cellOf(location), cell -> new ArrayList<>()).add(location);
+        }
+        Map<Long, ShopLocation[]> cells = new ConcurrentHashMap<>(Math.max(16, grouped.size() * 2));
+        grouped.forEach((cell, members) -> cells.put(cell, members.toArray(EMPTY)));
+        Grid rebuilt = new Grid(cells, shops);
+
+        writeLock.lock();
+        try {
+            for (Mutation mutation : journal) {
+                if (mutation.sequence() > since) {
+                    mutation.change().accept(rebuilt);
+                }
+            }
+            grid = rebuilt;
+            endReplace();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 추가 또는 갱신 (위치가 바뀌면 칸을 옮김)
+     */
+    void put(ShopLocation location) {
+        writeLock.lock();
+        try {
+            putInto(grid, location);
+            record(target -> putInto(target, location));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 평점 요약만 갱신 (색인에 없는 미용실은 무시)
+     */
+    void updateRating(Long shopId, BigDecimal averageRating, int totalReviews) {
+        writeLock.lock();
+        try {
+            updateRatingIn(grid, shopId, averageRating, totalReviews);
+            record(target -> updateRatingIn(target, shopId, averageRating, totalReviews));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 제거 (없으면 무시)
+     */
+    void remove(Long shopId) {
+        writeLock.lock();
+        try {
+            removeFrom(grid, shopId);
+            record(target -> removeFrom(target, shopId));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void putInto(Grid target, ShopLocation location) {
+        ShopLocation previous = target.shops().put(location.shopId(), location);
+        long cell = cellOf(location);
+        if (previous != null && cellOf(previous) != cell) {
+            removeFromCell(target, cellOf(previous), previous.shopId());
+        }
+        // 같은 칸이면 기존 항목을 한 번에 바꿔 끼움 (조회 중 잠깐 사라지거나 두 번 보이지 않도록)
+        target.cells().compute(cell, (key, members) -> append(without(members, location.shopId()), location));
+    }
+
+    private void updateRatingIn(Grid target, Long shopId, BigDecimal averageRating, int totalReviews) {
+        ShopLocation current = target.shops().get(shopId);
+        if (current != null) {
+            putInto(target, new ShopLocation(current.shopId(), current.name(), current.address(),
+                    current.latitude(), current.longitude(), averageRating, totalReviews));
+        }
+    }
+
+    private void removeFrom(Grid target, Long shopId) {
+        ShopLocation previous = target.shops().remove(shopId);
+        if (previous != null) {
+            removeFromCell(target, cellOf(previous), shopId);
+        }
+    }
+
+    /**
+     * 변경 순번 증가, 전체 교체 중이면 다시 적용할 수 있게 기록 (writeLock 안에서 호출)
+     */
+    private void record(Consumer<Grid> change) {
+        sequence++;
+        if (replacing > 0) {
+            journal.add(new Mutation(sequence, change));
+        }
+    }
+
+    private void endReplace() {
+        if (replacing > 0 && --replacing == 0) {
+            journal.clear();
+        }
+    }
+
+    /**
+     * 반경 안의 미용실 (가까운 순)
+     */
+    List<Hit> within(double latitude, double longitude, double radiusMeters) {
+        Grid current = grid;
+        List<Hit> hits = new ArrayList<>();
+        double radiusDegrees = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+
+        int firstRow = row(latitude - radiusDegrees);
+        int lastRow = row(latitude + radiusDegrees);
+        // 반경 안 지점의 최대 경도 차: sin(Δλ) = sin(δ) / cos(φ) (극점이 반경 안이면 모든 경도)
+        double sinDelta = Math.sin(Math.min(radiusMeters / EARTH_RADIUS_METERS, Math.PI / 2));
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+        double deltaLongitude = sinDelta >= cosLatitude ? 180 : Math.toDegrees(Math.asin(sinDelta / cosLatitude));
+        long firstColumn = columnIndex(longitude - deltaLongitude);
+        long columnSpan = Math.min(columnIndex(longitude + deltaLongitude) - firstColumn + 1, columns);
+
+        if ((long) (lastRow - firstRow + 1) * columnSpan > current.cells().size()) {
+            // 덮는 칸보다 채워진 칸이 적으면 채워진 칸만 훑음
+            for (ShopLocation[] members : current.cells().values()) {
+                collect(members, latitude, longitude, radiusMeters, hits);
+            }
+        } else {
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (long column = firstColumn; column < firstColumn + columnSpan; column++) {
+                    ShopLocation[] members = current.cells().get(key(row, column));
+                    if (members != null) {
+                        collect(members, latitude, longitude, radiusMeters, hits);
+                    }
+                }
+            }
+        }
+        hits.sort(BY_DISTANCE);
+        return hits;
+    }
+
+    /**
+     * 가까운 k 곳 (maxRadiusMeters 안, 가까운 순)
+     */
+    List<Hit> nearest(double latitude, double longitude, int k, double maxRadiusMeters) {
+        Grid current = grid;
+        if (k <= 0 || current.cells().isEmpty()) {
+            return List.of();
+        }
+
+        PriorityQueue<Hit> best = new PriorityQueue<>(k, BY_DISTANCE.reversed());
+        int centerRow = row(latitude);
+        long centerColumn = columnIndex(longitude);
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+
+        for (int ring = 0; ; ring++) {
+            if (ring > 0) {
+                double bound = ringLowerBoundMeters(cosLatitude, ring);
+                if (bound > maxRadiusMeters || (best.size() == k && bound >= best.peek().distanceMeters())) {
+                    break;
+                }
+            }
+            long ringCells = ring == 0 ? 1 : 8L * ring;
+            if (ringCells > current.cells().size() || 2L * ring + 1 > columns || ring > rows) {
+                // 남은 고리가 채워진 칸보다 많으면 채워진 칸 전체를 훑는 편이 빠름 (처음부터 다시)
+                best.clear();
+                for (ShopLocation[] members : current.cells().values()) {
+                    offer(members, latitude, longitude, maxRadiusMeters, k, best);
+                }
+                break;
+            }
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                if (row < 0 || row >= rows) {
+                    continue;
+                }
+                // 고리의 위/아래 줄은 전체, 가운데 줄은 양 끝 칸만
+                int step = row == centerRow - ring || row == centerRow + ring ? 1 : Math.max(1, 2 * ring);
+                for (long column = centerColumn - ring; column <= centerColumn + ring; column += step) {
+                    ShopLocation[] members = current.cells().get(key(row, column));
+                    if (members != null) {
+                        offer(members, latitude, longitude, maxRadiusMeters, k, best);
+                    }
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(BY_DISTANCE);
+        return hits;
+    }
+
+    /**
+     * 대원 거리 (haversine, 미터)
+     */
+    static double distanceMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double sinLatitude = Math.sin(Math.toRadians(latitude2 - latitude1) / 2);
+        double sinLongitude = Math.sin(Math.toRadians(longitude2 - longitude1) / 2);
+        double a = sinLatitude * sinLatitude
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2)) * sinLongitude * sinLongitude;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * ring 번째 고리의 칸까지 최소 거리
+     *
+     * 고리 칸은 가운데 칸에서 (ring - 1) 칸 이상 떨어져 있다. 위도 방향은 그만큼의 자오선 거리,
+     * 경도 방향은 그 경도의 자오선(대원)까지 거리 R · asin(cos φ · sin Δλ) 가 하한이며 항상 경도 쪽이 더 작다.
+     */
+    private double ringLowerBoundMeters(double cosLatitude, int ring) {
+        // 고리 안 경도 차가 90도를 넘을 수 있으면 sin 이 단조가 아니므로 하한을 쓰지 않음
+        if ((ring + 1) * cellDegrees >= 90) {
+            return 0;
+        }
+        return EARTH_RADIUS_METERS * Math.asin(cosLatitude * Math.sin(Math.toRadians((ring - 1) * cellDegrees)));
+    }
+
+    private static void collect(ShopLocation[] members, double latitude, double longitude,
+                                double radiusMeters, List<Hit> hits) {
+        for (ShopLocation member : members) {
+            if (beyondByLatitude(latitude, member, radiusMeters)) {
+                continue;
+            }
+            double distance = distanceMeters(latitude, longitude, member.latitude(), member.longitude());
+            if (distance <= radiusMeters) {
+                hits.add(new Hit(member, distance));
+            }
+        }
+    }
+
+    private static void offer(ShopLocation[] members, double latitude, double longitude,
+                              double maxRadiusMeters, int k, PriorityQueue<Hit> best) {
+        for (ShopLocation member : members) {
+            double limit = best.size() < k ? maxRadiusMeters : best.peek().distanceMeters();
+            if (beyondByLatitude(latitude, member, limit)) {
+                continue;
+            }
+            double distance = distanceMeters(latitude, longitude, member.latitude(), member.longitude());
+            if (distance > maxRadiusMeters) {
+                continue;
+            }
+            Hit hit = new Hit(member, distance);
+            if (best.size() < k) {
+                best.add(hit);
+            } else if (BY_DISTANCE.compare(hit, best.peek()) < 0) {
+                best.poll();
+                best.add(hit);
+            }
+        }
+    }
+
+    /**
+     * 위도 차만으로 limitMeters 보다 먼지 (삼각 함수 계산 전에 거르기, 오차 1mm 여유)
+     */
+    private static boolean beyondByLatitude(double latitude, ShopLocation member, double limitMeters) {
+        return Math.abs(member.latitude() - latitude) * METERS_PER_DEGREE > limitMeters + 0.001;
+    }
+
+    private static void removeFromCell(Grid current, long cell, Long shopId) {
+        current.cells().computeIfPresent(cell, (key, members) -> {
+            ShopLocation[] rest = without(members, shopId);
+            return rest.length == 0 ? null : rest;
+        });
+    }
+
+    private static ShopLocation[] without(ShopLocation[] members, Long shopId) {
+        if (members == null) {
+            return EMPTY;
+        }
+        for (int i = 0; i < members.length; i++) {
+            if (members[i].shopId().equals(shopId)) {
+                ShopLocation[] rest = new ShopLocation[members.length - 1];
+                System.arraycopy(members, 0, rest, 0, i);
+                System.arraycopy(members, i + 1, rest, i, members.length - i - 1);
+                return rest;
+            }
+        }
+        return members;
+    }
+
+    private static ShopLocation[] append(ShopLocation[] members, ShopLocation location) {
+        ShopLocation[] appended = new ShopLocation[members.length + 1];
+        System.arraycopy(members, 0, appended, 0, members.length);
+        appended[members.length] = location;
+        return appended;
+    }
+
+    private long cellOf(ShopLocation location) {
+        return key(row(location.latitude()), columnIndex(location.longitude()));
+    }
+
+    private int row(double latitude) {
+        int row = (int) Math.floor((latitude + 90) / cellDegrees);
+        return Math.min(Math.max(row, 0), rows - 1);
+    }
+
+    /**
+     * 경도 칸 번호 (날짜 변경선을 넘으면 범위를 벗어나며 key 에서 감싸서 계산)
+     */
+    private long columnIndex(double longitude) {
+        return (long) Math.floor((longitude + 180) / cellDegrees);
+    }
+
+    private long key(int row, long column) {
+        return (long) row * columns + Math.floorMod(column, columns);
+    }
+
+    /**
+     * 색인 항목 (미용실 위치 + 평점 요약)
+     */
+    record ShopLocation(
+            Long shopId,
+            String name,
+            String address,
+            double latitude,
+            double longitude,
+            BigDecimal averageRating,
+            int totalReviews
+    ) {
+    }
+
+    /**
+     * 검색 결과 (항목 + 거리)
+     */
+    record Hit(ShopLocation shop, double distanceMeters) {
+    }
+
+    private record Mutation(long sequence, Consumer<Grid> change) {
+    }
+
+    private record Grid(Map<Long, ShopLocation[]> cells, Map<Long, ShopLocation> shops) {
+    }
+}
@@ -0,0 +1,414 @@
+package com.hairshop.domain.shop.service;
+
+import com.hairshop.domain.common.service.JobLockService;
+import com.hairshop.domain.review.event.ReviewRatingChangedEvent;
+import com.hairshop.domain.review.repository.ReviewRepository;
+import com.hairshop.domain.review.repository.ReviewRepository.RatingCount;
+import com.hairshop.domain.shop.entity.ShopRatingStats;
+import com.hairshop.domain.shop.repository.ShopRatingStatsRepository;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.domain.shop.repository.ShopRepository.IdRange;
+import com.hairshop.dto.response.RatingReconcileResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 미용실 평점 집계(shop_rating_stats) 유지
+ *
+ * 리뷰가 바뀔 때마다 리뷰를 다시 세거나 집계 행을 바로 갱신하면 리뷰가 몰리는 미용실의 행이 경합 지점이 된다.
+ * 대신 커밋된 평점 변경을 미용실별 증감으로 메모리에 모아 두고(미용실 단위 bin 잠금),
+ * flush-interval 마다 MERGE batch 로 한 번에 더한다. 반영하지 못한 증감은 다음 주기에 다시 시도한다.
+ * 서버가 비정상 종료되면 모아 둔 증감이 사라지므로, reviews 를 다시 세는 reconcile 작업으로 불일치를 찾는다.
+ * 다른 서버의 반영 대기 증감은 이 서버에서 볼 수 없으므로 불일치는 기본적으로 보고만 하고,
+ * 보정을 요청한 경우에만 reviews 를 다시 센 절댓값으로 덮어쓴다 (증감으로 더하면 서버 수만큼 중복 보정됨).
+ */
+@Slf4j
+@Service
+public class ShopRatingStatsService implements DisposableBean {
+
+    // 평점별 증감을 더함 (행이 없으면 생성). 합계/평균은 SUMMARY_SQL 에서 다시 계산
+    private static final String MERGE_SQL = """
+            MERGE INTO shop_rating_stats s
+            USING (SELECT CAST(? AS BIGINT) AS shop_id,
+                          CAST(? AS INT) AS d1, CAST(? AS INT) AS d2, CAST(? AS INT) AS d3,
+                          CAST(? AS INT) AS d4, CAST(? AS INT) AS d5) d
+            ON s.shop_id = d.shop_id
+            WHEN MATCHED THEN UPDATE SET
+                rating_1_count = s.rating_1_count + d.d1,
+                rating_2_count = s.rating_2_count + d.d2,
+                rating_3_count = s.rating_3_count + d.d3,
+                rating_4_count = s.rating_4_count + d.d4,
+                rating_5_count = s.rating_5_count + d.d5,
+                updated_at = CURRENT_TIMESTAMP
+            WHEN NOT MATCHED THEN INSERT
+                (shop_id, total_reviews, average_rating,
+                 rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, updated_at)
+                VALUES (d.shop_id, 0, 0, d.d1, d.d2, d.d3, d.d4, d.d5, CURRENT_TIMESTAMP)
+            """;
+
+    private static final String SUMMARY_SQL = """
+            UPDATE shop_rating_stats SET
+                total_reviews = rating_1_count + rating_2_count + rating_3_count + rating_4_count + rating_5_count,
+                average_rating = CASE
+                    WHEN rating_1_count + rating_2_count + rating_3_count + rating_4_count + rating_5_count <= 0 THEN 0
+                    ELSE ROUND(CAST(rating_1_count + 2 * rating_2_count + 3 * rating_3_count
+                                    + 4 * rating_4_count + 5 * rating_5_count AS DECIMAL(12, 4))
+                               / (rating_1_count + rating_2_count + rating_3_count + rating_4_count + rating_5_count), 2)
+                END
+            WHERE shop_id = ?
+            """;
+
+    // 평점별 개수를 reviews 에서 다시 센 값으로 덮어씀 (보정)
+    private static final String RECOUNT_SQL = """
+            UPDATE shop_rating_stats SET
+                rating_1_count = (SELECT COUNT(*) FROM reviews r
+                                  WHERE r.shop_id = shop_rating_stats.shop_id AND r.rating = 1 AND r.deleted_at IS NULL),
+                rating_2_count = (SELECT COUNT(*) FROM reviews r
+                                  WHERE r.shop_id = shop_rating_stats.shop_id AND r.rating = 2 AND r.deleted_at IS NULL),
+                rating_3_count = (SELECT COUNT(*) FROM reviews r
+                                  WHERE r.shop_id = shop_rating_stats.shop_id AND r.rating = 3 AND r.deleted_at IS NULL),
+                rating_4_count = (SELECT COUNT(*) FROM reviews r
+                                  WHERE r.shop_id = shop_rating_stats.shop_id AND r.rating = 4 AND r.deleted_at IS NULL),
+                rating_5_count = (SELECT COUNT(*) FROM reviews r
+                                  WHERE r.shop_id = shop_rating_stats.shop_id AND r.rating = 5 AND r.deleted_at IS NULL),
+                updated_at = CURRENT_TIMESTAMP
+            WHERE shop_id = ?
+            """;
+
+    private static final String RECONCILE_JOB = "rating-stats-reconcile";
+    private static final int MAX_REPORTED_SHOPS = 100;
+
+    private final ShopRatingStatsRepository shopRatingStatsRepository;
+    private final ShopRepository shopRepository;
+    private final ReviewRepository reviewRepository;
+    private final NearbyShopService nearbyShopService;
+    private final JobLockService jobLockService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService reconcileExecutor;
+    private final int flushBatchSize;
+    private final int reconcileChunkSize;
+    private final boolean scheduledRepair;
+    private final Duration confirmDelay;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
+    private final Counter driftCounter;
+
+    // 미용실 → 아직 반영하지 않은 증감 (compute 안에서만 변경)
+    private final ConcurrentHashMap<Long, RatingCounts> pending = new ConcurrentHashMap<>();
+
+    public ShopRatingStatsService(
+            ShopRatingStatsRepository shopRatingStatsRepository,
+            ShopRepository shopRepository,
+            ReviewRepository reviewRepository,
+            NearbyShopService nearbyShopService,
+            JobLockService jobLockService,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${rating-stats.flush-batch-size:500}") int flushBatchSize,
+            @Value("${rating-stats.reconcile-chunk-size:1000}") int reconcileChunkSize,
+            @Value("${rating-stats.reconcile-threads:4}") int reconcileThreads,
+            @Value("${rating-stats.reconcile-repair:false}") boolean scheduledRepair,
+            @Value("${rating-stats.reconcile-confirm-delay:15s}") Duration confirmDelay,
+            @Value("${rating-stats.reconcile-lock-at-most:1h}") Duration lockAtMostFor,
+            @Value("${rating-stats.reconcile-lock-at-least:5m}") Duration lockAtLeastFor
+    ) {
+        this.shopRatingStatsRepository = shopRatingStatsRepository;
+        this.shopRepository = shopRepository;
+        this.reviewRepository = reviewRepository;
+        this.nearbyShopService = nearbyShopService;
+        this.jobLockService = jobLockService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.reconcileExecutor = Executors.newFixedThreadPool(
+                reconcileThreads, new CustomizableThreadFactory("rating-reconcile-"));
+        this.flushBatchSize = flushBatchSize;
+        this.reconcileChunkSize = reconcileChunkSize;
+        this.scheduledRepair = scheduledRepair;
+        this.confirmDelay = confirmDelay;
+        this.lockAtMostFor = lockAtMostFor;
+        this.lockAtLeastFor = lockAtLeastFor;
+        this.driftCounter = Counter.builder("rating.stats.drift")
+                .description("reconcile 에서 발견한 집계 불일치 미용실 수")
+                .register(meterRegistry);
+        Gauge.builder("rating.stats.pending", pending, Map::size)
+                .description("반영 대기 중인 미용실 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 리뷰 평점 변경을 증감으로 모음 (커밋된 변경만)
+     */
+    @TransactionalEventListener
+    public void onReviewRatingChanged(ReviewRatingChangedEvent event) {
+        addPending(event.shopId(), new RatingCounts().apply(event.previousRating(), event.rating()));
+    }
+
+    /**
+     * flush-interval 마다 증감 반영
+     */
+    @Scheduled(fixedDelayString = "${rating-stats.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 모아 둔 증감을 shop_rating_stats 에 반영 (미용실 id 순 batch, 반영한 미용실 수 반환)
+     */
+    public int flush() {
+        TreeMap<Long, RatingCounts> drained = drain();
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        // 여러 서버가 같은 행을 갱신할 때 잠금 순서를 맞추기 위해 id 순으로 처리
+        List<Long> shopIds = new ArrayList<>(drained.keySet());
+        List<Long> flushed = new ArrayList<>(shopIds.size());
+        try {
+            for (int from = 0; from < shopIds.size(); from += flushBatchSize) {
+                List<Long> batch = shopIds.subList(from, Math.min(from + flushBatchSize, shopIds.size()));
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate(MERGE_SQL, toMergeArgs(batch, drained));
+                    jdbcTemplate.batchUpdate(SUMMARY_SQL, batch.stream().map(shopId -> new Object[]{shopId}).toList());
+                });
+                flushed.addAll(batch);
+            }
+        } catch (RuntimeException e) {
+            // 반영하지 못한 증감은 되돌려 두고 다음 주기에 다시 시도
+            flushed.forEach(drained::remove);
+            drained.forEach(this::addPending);
+            log.warn("평점 집계 반영 실패: {}곳 대기, {}", drained.size(), e.getMessage());
+        }
+
+        if (!flushed.isEmpty()) {
+            nearbyShopService.updateRatings(shopRatingStatsRepository.findAllById(flushed));
+        }
+        return flushed.size();
+    }
+
+    /**
+     * reconcile-cron 마다 정합성 점검 (한 서버에서만, reconcile-repair 가 켜져 있으면 보정까지)
+     */
+    @Scheduled(cron = "${rating-stats.reconcile-cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        jobLockService.tryRun(RECONCILE_JOB, lockAtMostFor, lockAtLeastFor, () -> doReconcile(scheduledRepair));
+    }
+
+    /**
+     * reviews 를 다시 세어 집계와 비교 (repair 면 불일치 미용실을 다시 센 값으로 보정)
+     *
+     * 다른 서버에서 실행 중이면 JOB_ALREADY_RUNNING.
+     */
+    public RatingReconcileResponse reconcile(boolean repair) {
+        return jobLockService.tryRun(RECONCILE_JOB, lockAtMostFor, Duration.ZERO, () -> doReconcile(repair))
+                .orElseThrow(() -> new BusinessException(ErrorCode.JOB_ALREADY_RUNNING));
+    }
+
+    @Override
+    public void destroy() {
+        reconcileExecutor.shutdown();
+        // 종료 전 남은 증감 반영
+        flush();
+    }
+
+    /**
+     * 미용실 id 를 reconcile-chunk-size 단위로 나눠 병렬로 센다. 집계 + 반영 대기 증감이 다시 센 값과 다르면
+     * confirm-delay 뒤(다른 서버의 반영 대기 증감이 반영된 뒤) 한 번 더 세어 같은 차이가 나온 미용실만 불일치로 본다
+     * (세는 도중 커밋된 리뷰나 다른 서버에서 아직 반영하지 않은 증감 때문에 생기는 일시적인 차이 제외).
+     */
+    private RatingReconcileResponse doReconcile(boolean repair) {
+        long startedAt = System.nanoTime();
+        flush();
+
+        List<IdRange> chunks = chunks(shopRepository.findIdRange());
+        Map<Long, RatingCounts> first = findDrifts(chunks);
+        Map<Long, RatingCounts> drifts = new TreeMap<>();
+        if (!first.isEmpty()) {
+            pause(confirmDelay);
+            flush();
+            List<IdRange> driftedChunks = chunks.stream()
+                    .filter(chunk -> first.keySet().stream()
+                            .anyMatch(shopId -> shopId >= chunk.minId() && shopId <= chunk.maxId()))
+                    .toList();
+            findDrifts(driftedChunks).forEach((shopId, difference) -> {
+                if (difference.equals(first.get(shopId))) {
+                    drifts.put(shopId, difference);
+                }
+            });
+        }
+        int repairedShops = repair ? repair(new ArrayList<>(drifts.keySet())) : 0;
+
+        long checkedShops = chunks.isEmpty() ? 0 : chunks.get(chunks.size() - 1).maxId() - chunks.get(0).minId() + 1;
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        List<Long> driftedShopIds = drifts.keySet().stream().limit(MAX_REPORTED_SHOPS).toList();
+        driftCounter.increment(drifts.size());
+        if (drifts.isEmpty()) {
+            log.info("평점 집계 점검 완료: {}개 구간, 불일치 없음 ({}ms)", chunks.size(), elapsedMillis);
+        } else {
+            log.warn("평점 집계 불일치 {}곳, 보정 {}곳 ({}ms): shopIds={}",
+                    drifts.size(), repairedShops, elapsedMillis, driftedShopIds);
+        }
+
+        return RatingReconcileResponse.builder()
+                .chunks(chunks.size())
+                .checkedShopIds(checkedShops)
+                .driftedShops(drifts.size())
+                .driftedShopIds(driftedShopIds)
+                .repairedShops(repairedShops)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private List<IdRange> chunks(IdRange range) {
+        List<IdRange> chunks = new ArrayList<>();
+        if (range.minId() != null) {
+            for (long from = range.minId(); from <= range.maxId(); from += reconcileChunkSize) {
+                chunks.add(new IdRange(from, Math.min(from + reconcileChunkSize - 1, range.maxId())));
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * 구간별로 병렬로 세어 차이 합침
+     */
+    private Map<Long, RatingCounts> findDrifts(List<IdRange> chunks) {
+        List<CompletableFuture<Map<Long, RatingCounts>>> futures = chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(
+                        () -> findDrifts(chunk.minId(), chunk.maxId()), reconcileExecutor))
+                .toList();
+        Map<Long, RatingCounts> drifts = new HashMap<>();
+        futures.forEach(future -> drifts.putAll(future.join()));
+        return drifts;
+    }
+
+    /**
+     * 다시 센 값 - (저장된 집계 + 반영 대기 증감)
+     */
+    private Map<Long, RatingCounts> findDrifts(long fromShopId, long toShopId) {
+        Map<Long, RatingCounts> actual = new HashMap<>();
+        for (RatingCount count : reviewRepository.countByRating(fromShopId, toShopId)) {
+            actual.computeIfAbsent(count.shopId(), shopId -> new RatingCounts())
+                    .add(count.rating(), Math.toIntExact(count.count()));
+        }
+
+        Map<Long, RatingCounts> recorded = new HashMap<>();
+        for (ShopRatingStats stats : shopRatingStatsRepository.findByShopIdBetween(fromShopId, toShopId)) {
+            recorded.put(stats.getShopId(), RatingCounts.of(stats));
+        }
+        for (Long shopId : pending.keySet()) {
+            if (shopId >= fromShopId && shopId <= toShopId) {
+                pending.computeIfPresent(shopId, (id, counts) -> {
+                    recorded.computeIfAbsent(id, key -> new RatingCounts()).addAll(counts);
+                    return counts;
+                });
+            }
+        }
+
+        Map<Long, RatingCounts> drifts = new HashMap<>();
+        for (Long shopId : union(actual, recorded)) {
+            RatingCounts expected = actual.getOrDefault(shopId, new RatingCounts());
+            RatingCounts difference = expected.minus(recorded.getOrDefault(shopId, new RatingCounts()));
+            if (!difference.isZero()) {
+                drifts.put(shopId, difference);
+            }
+        }
+        return drifts;
+    }
+
+    /**
+     * 미용실별 평점 개수를 reviews 에서 다시 센 값으로 덮어씀 (미용실 id 순 batch, 보정한 미용실 수 반환)
+     *
+     * 덮어쓰기 직전에 다른 서버에서 커밋되어 아직 반영 대기 중인 증감은 나중에 한 번 더 더해질 수 있으므로
+     * 다음 점검에서 다시 확인한다.
+     */
+    private int repair(List<Long> shopIds) {
+        if (shopIds.isEmpty()) {
+            return 0;
+        }
+        flush();
+        for (int from = 0; from < shopIds.size(); from += flushBatchSize) {
+            List<Long> batch = shopIds.subList(from, Math.min(from + flushBatchSize, shopIds.size()));
+            List<Object[]> ids = batch.stream().map(shopId -> new Object[]{shopId}).toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                // 집계 행이 없으면 먼저 만듦
+                jdbcTemplate.batchUpdate(MERGE_SQL, toMergeArgs(batch, Map.of()));
+                jdbcTemplate.batchUpdate(RECOUNT_SQL, ids);
+                jdbcTemplate.batchUpdate(SUMMARY_SQL, ids);
+            });
+        }
+        nearbyShopService.updateRatings(shopRatingStatsRepository.findAllById(shopIds));
+        return shopIds.size();
+    }
+
+    private static void pause(Duration delay) {
+        if (delay.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void addPending(Long shopId, RatingCounts delta) {
+        pending.compute(shopId, (id, counts) -> {
+            RatingCounts merged = counts == null ? delta.copy() : counts.addAll(delta);
+            return merged.isZero() ? null : merged;
+        });
+    }
+
+    /**
+     * 대기 중인 증감을 꺼내고 비움 (미용실별로 원자적으로 꺼내므로 꺼내는 중에 들어온 증감은 다음 주기로)
+     */
+    private TreeMap<Long, RatingCounts> drain() {
+        TreeMap<Long, RatingCounts> drained = new TreeMap<>();
+        for (Long shopId : pending.keySet()) {
+            pending.computeIfPresent(shopId, (id, counts) -> {
+                drained.put(id, counts);
+                return null;
+            });
+        }
+        return drained;
+    }
+
+    private static List<Object[]> toMergeArgs(List<Long> shopIds, Map<Long, RatingCounts> deltas) {
+        List<Object[]> args = new ArrayList<>(shopIds.size());
+        for (Long shopId : shopIds) {
+            RatingCounts delta = deltas.getOrDefault(shopId, new RatingCounts());
+            args.add(new Object[]{shopId, delta.get(1), delta.get(2), delta.get(3), delta.get(4), delta.get(5)});
+        }
+        return args;
+    }
+
+    private static List<Long> union(Map<Long, ?> first, Map<Long, ?> second) {
+        List<Long> keys = new ArrayList<>(first.keySet());
+        second.keySet().stream().filter(key -> !first.containsKey(key)).forEach(keys::add);
+        return keys;
+    }
+}
@@ -0,0 +1,59 @@
+package com.hairshop.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh Token 패밀리
+ *
+ * 로그인 한 번에 하나의 패밀리가 만들어지고, 토큰 갱신 시 같은 패밀리 안에서 새 Refresh Token 으로 교체(rotation)된다.
+ * 가장 최근에 발급된 토큰(currentTokenId)만 사용할 수 있으며, 이전 토큰이 다시 사용되면 탈취로 보고 패밀리 전체를 폐기한다.
+ */
+@Entity
+@Table(name = "refresh_token_families", indexes = {
+        @Index(name = "idx_refresh_token_families_user", columnList = "userId")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RefreshTokenFamily {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 36)
+    private String currentTokenId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column
+    private LocalDateTime revokedAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 폐기 여부 확인
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+
+    // 패밀리 폐기 처리
+    public void revoke() {
+        this.revokedAt = LocalDateTime.now();
+    }
+}
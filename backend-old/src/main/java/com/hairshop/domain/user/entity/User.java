@@ -2,13 +2,19 @@ package com.hairshop.domain.user.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,17 +22,25 @@ import java.time.LocalDateTime;
 @Builder
 public class User {
 
+    /**
+     * 이메일 unique 제약 이름 (중복 가입 위반을 다른 제약 위반과 구분할 때 사용)
+     */
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
+    public static final int EMAIL_MAX_LENGTH = 255;
+    public static final int NAME_MAX_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false, length = EMAIL_MAX_LENGTH)
     private String email;
 
     @Column(nullable = false)
     private String password;
 
-    @Column(nullable = false, length = 100)
+    @Column(nullable = false, length = NAME_MAX_LENGTH)
     private String name;
 
     @Column(nullable = false, length = 20)
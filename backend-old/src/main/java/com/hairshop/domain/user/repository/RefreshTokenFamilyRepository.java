@@ -0,0 +1,45 @@
+package com.hairshop.domain.user.repository;
+
+import com.hairshop.domain.user.entity.RefreshTokenFamily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, String> {
+
+    /**
+     * 현재 토큰이 일치하고 폐기되지 않은 경우에만 새 토큰으로 교체 (동시 갱신 시 한 요청만 성공)
+     *
+     * @return 교체된 행 수 (0 이면 이미 사용된 토큰)
+     */
+    @Modifying
+    @Query("update RefreshTokenFamily f " +
+            "set f.currentTokenId = :newTokenId, f.expiresAt = :expiresAt, f.updatedAt = CURRENT_TIMESTAMP " +
+            "where f.id = :familyId and f.currentTokenId = :currentTokenId and f.revokedAt is null")
+    int rotate(@Param("familyId") String familyId,
+               @Param("currentTokenId") String currentTokenId,
+               @Param("newTokenId") String newTokenId,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 패밀리 폐기
+     *
+     * @return 폐기된 행 수 (0 이면 이미 폐기됨)
+     */
+    @Modifying
+    @Query("update RefreshTokenFamily f set f.revokedAt = CURRENT_TIMESTAMP, f.updatedAt = CURRENT_TIMESTAMP " +
+            "where f.id = :familyId and f.revokedAt is null")
+    int revoke(@Param("familyId") String familyId);
+
+    /**
+     * 만료된 패밀리 삭제
+     */
+    @Modifying
+    @Query("delete from RefreshTokenFamily f where f.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
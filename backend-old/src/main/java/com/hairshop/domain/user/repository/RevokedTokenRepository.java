@@ -0,0 +1,38 @@
+package com.hairshop.domain.user.repository;
+
+import com.hairshop.domain.user.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * 아직 만료되지 않은 폐기 항목 (ID, 만료 시각만 조회)
+     */
+    List<RevokedTokenEntry> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * since 이후 폐기된 항목 중 아직 만료되지 않은 것 (다른 서버의 폐기 동기화)
+     */
+    List<RevokedTokenEntry> findByRevokedAtAfterAndExpiresAtAfter(LocalDateTime since, LocalDateTime now);
+
+    /**
+     * 만료된 폐기 항목 삭제
+     */
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * 폐기 항목 projection
+     */
+    record RevokedTokenEntry(String tokenId, LocalDateTime expiresAt) {
+    }
+}
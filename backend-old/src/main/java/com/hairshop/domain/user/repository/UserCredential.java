@@ -0,0 +1,27 @@
+package com.hairshop.domain.user.repository;
+
+import com.hairshop.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 비밀번호 확인용 projection (프로필 + 비밀번호 해시)
+ */
+public record UserCredential(
+        Long id,
+        String email,
+        String password,
+        String name,
+        String phone,
+        User.UserRole role,
+        User.OAuthProvider oauthProvider,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * 비밀번호 해시를 제외한 프로필
+     */
+    public UserProfile toProfile() {
+        return new UserProfile(id, email, name, phone, role, oauthProvider, createdAt);
+    }
+}
@@ -0,0 +1,19 @@
+package com.hairshop.domain.user.repository;
+
+import com.hairshop.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 프로필 조회용 projection (엔티티를 영속성 컨텍스트에 올리지 않음)
+ */
+public record UserProfile(
+        Long id,
+        String email,
+        String name,
+        String phone,
+        User.UserRole role,
+        User.OAuthProvider oauthProvider,
+        LocalDateTime createdAt
+) {
+}
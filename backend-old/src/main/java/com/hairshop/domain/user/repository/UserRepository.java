@@ -1,9 +1,17 @@
 package com.hairshop.domain.user.repository;
 
 import com.hairshop.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,6 +27,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * 주어진 이메일 중 이미 가입된 이메일 (탈퇴 사용자 포함)
+     */
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     /**
      * 전화번호로 사용자 찾기
      */
@@ -33,4 +47,32 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 삭제되지 않은 사용자를 이메일로 찾기
      */
     Optional<User> findByEmailAndDeletedAtIsNull(String email);
+
+    /**
+     * 프로필 조회 (projection, 삭제되지 않은 사용자, 쿼리 캐시)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<UserProfile> findProfileByIdAndDeletedAtIsNull(Long id);
+
+    /**
+     * 로그인용 인증 정보 조회 (projection, 삭제되지 않은 사용자)
+     */
+    Optional<UserCredential> findCredentialByEmailAndDeletedAtIsNull(String email);
+
+    /**
+     * 비밀번호 해시 변경
+     */
+    @Modifying
+    @Query("update User u set u.password = :password, u.updatedAt = CURRENT_TIMESTAMP where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    /**
+     * 알림톡 수신 번호 조회 (삭제되지 않고 전화번호가 있는 사용자)
+     */
+    @Query("select new com.hairshop.domain.user.repository.UserRepository$UserPhone(u.id, u.phone) "
+            + "from User u where u.id in :ids and u.deletedAt is null and u.phone is not null")
+    List<UserPhone> findPhones(@Param("ids") Collection<Long> ids);
+
+    record UserPhone(Long userId, String phone) {
+    }
 }
@@ -0,0 +1,103 @@
+package com.hairshop.domain.user.service;
+
+import com.hairshop.domain.user.entity.RefreshTokenFamily;
+import com.hairshop.domain.user.repository.RefreshTokenFamilyRepository;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import com.hairshop.exception.RefreshTokenReuseException;
+import com.hairshop.security.JwtPrincipal;
+import com.hairshop.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Refresh Token 패밀리 발급, 교체(rotation), 폐기
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * 새 패밀리를 만들고 첫 Refresh Token 발급 (로그인/회원가입)
+     */
+    @Transactional
+    public IssuedRefreshToken issue(Long userId) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+
+        refreshTokenFamilyRepository.save(RefreshTokenFamily.builder()
+                .id(familyId)
+                .userId(userId)
+                .currentTokenId(tokenId)
+                .expiresAt(refreshTokenExpiresAt())
+                .build());
+
+        return new IssuedRefreshToken(userId, familyId, jwtTokenProvider.createRefreshToken(userId, familyId, tokenId));
+    }
+
+    /**
+     * Refresh Token 교체
+     *
+     * 패밀리의 현재 토큰이 아니면(이미 교체된 토큰의 재사용) 패밀리 전체를 폐기한다.
+     */
+    @Transactional(noRollbackFor = RefreshTokenReuseException.class)
+    public IssuedRefreshToken rotate(String refreshToken) {
+        JwtPrincipal token = jwtTokenProvider.resolveToken(refreshToken)
+                .filter(JwtPrincipal::refresh)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN));
+
+        RefreshTokenFamily family = refreshTokenFamilyRepository.findById(token.familyId())
+                .filter(f -> !f.isRevoked())
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN));
+
+        String newTokenId = UUID.randomUUID().toString();
+        int rotated = refreshTokenFamilyRepository.rotate(
+                family.getId(), token.tokenId(), newTokenId, refreshTokenExpiresAt());
+
+        if (rotated == 0) {
+            revokeFamily(family.getId(), family.getExpiresAt());
+            throw new RefreshTokenReuseException();
+        }
+
+        return new IssuedRefreshToken(
+                token.userId(),
+                family.getId(),
+                jwtTokenProvider.createRefreshToken(token.userId(), family.getId(), newTokenId)
+        );
+    }
+
+    /**
+     * 패밀리 폐기 (해당 패밀리의 Refresh/Access Token 모두 사용 불가)
+     */
+    @Transactional
+    public void revokeFamily(String familyId) {
+        refreshTokenFamilyRepository.findById(familyId)
+                .ifPresent(family -> revokeFamily(family.getId(), family.getExpiresAt()));
+    }
+
+    private void revokeFamily(String familyId, LocalDateTime expiresAt) {
+        if (refreshTokenFamilyRepository.revoke(familyId) > 0) {
+            tokenRevocationService.revoke(familyId, expiresAt);
+        }
+    }
+
+    private LocalDateTime refreshTokenExpiresAt() {
+        return LocalDateTime.now().plus(Duration.ofMillis(jwtTokenProvider.getRefreshTokenExpiration()));
+    }
+
+    /**
+     * 발급된 Refresh Token
+     */
+    public record IssuedRefreshToken(Long userId, String familyId, String token) {
+    }
+}
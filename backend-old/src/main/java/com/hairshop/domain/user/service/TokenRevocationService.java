@@ -0,0 +1,135 @@
+package com.hairshop.domain.user.service;
+
+import com.hairshop.domain.user.entity.RevokedToken;
+import com.hairshop.domain.user.repository.RefreshTokenFamilyRepository;
+import com.hairshop.domain.user.repository.RevokedTokenRepository;
+import com.hairshop.security.TokenRevocationIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 토큰 폐기 저장 및 메모리 색인 동기화
+ *
+ * 폐기 내역은 DB 에 저장하고 커밋 후 {@link TokenRevocationIndex} 에도 반영한다.
+ * 요청 경로(JWT 필터)는 메모리 색인만 확인하며, 서버 기동 시 DB 에서 색인을 복원하고
+ * 이후 sync-interval 마다 다른 서버에서 생긴 폐기 내역(revoked_at 이후)을 읽어 반영한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    private final TokenRevocationIndex tokenRevocationIndex;
+    private final Duration syncOverlap;
+
+    // 마지막으로 폐기 내역을 읽은 시각
+    private LocalDateTime syncedAt;
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            RefreshTokenFamilyRepository refreshTokenFamilyRepository,
+            TokenRevocationIndex tokenRevocationIndex,
+            @Value("${jwt.revocation.sync-overlap:1m}") Duration syncOverlap
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.refreshTokenFamilyRepository = refreshTokenFamilyRepository;
+        this.tokenRevocationIndex = tokenRevocationIndex;
+        this.syncOverlap = syncOverlap;
+    }
+
+    /**
+     * 기동 시 만료되지 않은 폐기 내역을 메모리 색인으로 적재
+     */
+    @PostConstruct
+    public void loadRevocations() {
+        LocalDateTime now = LocalDateTime.now();
+        syncLock.lock();
+        try {
+            var entries = revokedTokenRepository.findByExpiresAtAfter(now);
+            entries.forEach(entry -> tokenRevocationIndex.revoke(entry.tokenId(), toEpochMillis(entry.expiresAt())));
+            syncedAt = now;
+            log.info("폐기된 토큰 {}건을 메모리 색인에 적재했습니다", entries.size());
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 확인 이후 다른 서버에서 생긴 폐기 내역 반영
+     *
+     * revoked_at 은 저장한 서버의 시각이므로 커밋 지연과 서버 간 시계 차이를 고려해 sync-overlap 만큼 겹쳐 읽는다
+     * (이미 색인에 있는 항목을 다시 넣는 것은 무해).
+     *
+     * @return 읽은 폐기 내역 수
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}",
+            initialDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public int syncRevocations() {
+        LocalDateTime now = LocalDateTime.now();
+        syncLock.lock();
+        try {
+            LocalDateTime since = syncedAt.minus(syncOverlap);
+            var entries = revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(since, now);
+            entries.forEach(entry -> tokenRevocationIndex.revoke(entry.tokenId(), toEpochMillis(entry.expiresAt())));
+            syncedAt = now;
+            return entries.size();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 토큰(또는 패밀리) ID 폐기 (메모리 색인은 커밋 후 반영, 롤백되면 반영 안 함)
+     */
+    @Transactional
+    public void revoke(String id, LocalDateTime expiresAt) {
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(id)
+                .expiresAt(expiresAt)
+                .build());
+
+        long expiresAtMillis = toEpochMillis(expiresAt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tokenRevocationIndex.revoke(id, expiresAtMillis);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tokenRevocationIndex.revoke(id, expiresAtMillis);
+            }
+        });
+    }
+
+    /**
+     * 만료된 폐기 내역 및 패밀리 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.prune-interval-ms:600000}")
+    @Transactional
+    public void pruneExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int prunedFromIndex = tokenRevocationIndex.prune(toEpochMillis(now));
+        int deletedTokens = revokedTokenRepository.deleteExpired(now);
+        int deletedFamilies = refreshTokenFamilyRepository.deleteExpired(now);
+        log.debug("만료된 폐기 내역 정리: index={}, revoked_tokens={}, refresh_token_families={}",
+                prunedFromIndex, deletedTokens, deletedFamilies);
+    }
+
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,369 @@
+package com.hairshop.domain.user.service;
+
+import com.hairshop.domain.user.entity.User;
+import com.hairshop.domain.user.repository.UserRepository;
+import com.hairshop.dto.request.SignupRequest;
+import com.hairshop.dto.response.UserImportResponse.RowError;
+import com.hairshop.dto.response.UserImportResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import com.hairshop.util.CsvLineParser;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * CSV 고객 일괄 등록
+ *
+ * 요청 본문을 줄 단위로 읽어 batch-size 만큼 모이면 한 번에 처리한다.
+ * 배치마다 이메일 중복을 한 번의 쿼리로 확인하고, 임시 비밀번호는 전용 스레드 풀에서 병렬로 해싱한 뒤
+ * JDBC batch insert 로 저장한다. 잘못된 행은 건너뛰고 행 단위 오류로 보고한다.
+ */
+@Slf4j
+@Service
+public class UserImportService implements DisposableBean {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (email, password, name, phone, role, oauth_provider, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("email", "name", "phone");
+    private static final char BOM = '\uFEFF';
+    private static final String DUPLICATE_EMAIL = "이미 사용 중인 이메일입니다";
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String VALUE_TOO_LONG = "22001";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PasswordEncoder placeholderEncoder;
+    private final ExecutorService hashExecutor;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final int batchSize;
+    private final int maxErrors;
+
+    public UserImportService(
+            UserRepository userRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${bcrypt.strength:10}") int strength,
+            @Value("${user-import.batch-size:500}") int batchSize,
+            @Value("${user-import.hash-threads:0}") int hashThreads,
+            @Value("${user-import.max-errors:1000}") int maxErrors
+    ) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.entityManagerFactory = entityManagerFactory;
+        // 로그인용 해싱 풀(BoundedPasswordEncoder)을 점유하지 않도록 별도 풀에서 해싱
+        this.placeholderEncoder = new BCryptPasswordEncoder(strength);
+        this.hashExecutor = Executors.newFixedThreadPool(
+                hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors(),
+                new CustomizableThreadFactory("user-import-"));
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * CSV 고객 일괄 등록 (헤더: email,name,phone / 역할은 CUSTOMER)
+     *
+     * @throws BusinessException 헤더가 없거나 필수 컬럼이 빠진 경우
+     */
+    public UserImportResponse importCsv(InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Map<String, Integer> columns = readHeader(reader.readLine());
+
+        ImportReport report = new ImportReport(maxErrors);
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        int lineNumber = 1;
+
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                report.totalRows++;
+
+                ImportRow row = parseRow(lineNumber, line, columns, report);
+                if (row == null) {
+                    continue;
+                }
+                if (!seenEmails.add(row.email())) {
+                    report.fail(row, "파일 안에 중복된 이메일입니다");
+                    continue;
+                }
+
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    flush(batch, report);
+                    batch.clear();
+                }
+            }
+            flush(batch, report);
+        } finally {
+            // JDBC 로 직접 저장했으므로 캐시된 조회 결과(없는 사용자 포함)를 무효화
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+        }
+
+        log.info("고객 일괄 등록 완료: 전체 {}건, 성공 {}건, 실패 {}건",
+                report.totalRows, report.importedCount, report.failedCount);
+        return report.toResponse();
+    }
+
+    @Override
+    public void destroy() {
+        hashExecutor.shutdown();
+    }
+
+    /**
+     * 헤더에서 컬럼 위치 확인
+     */
+    private static Map<String, Integer> readHeader(String headerLine) {
+        if (headerLine == null || headerLine.isBlank()) {
+            throw new BusinessException(ErrorCode.CSV_HEADER_MISSING);
+        }
+        if (headerLine.charAt(0) == BOM) {
+            headerLine = headerLine.substring(1);
+        }
+
+        List<String> header = CsvLineParser.parse(headerLine);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        List<String> missing = REQUIRED_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessException(ErrorCode.CSV_COLUMN_MISSING, String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    /**
+     * 한 행 파싱 및 검증 (SignupRequest 와 같은 규칙), 실패 시 null
+     */
+    private ImportRow parseRow(int lineNumber, String line, Map<String, Integer> columns, ImportReport report) {
+        List<String> fields;
+        try {
+            fields = CsvLineParser.parse(line);
+        } catch (IllegalArgumentException e) {
+            report.fail(lineNumber, null, e.getMessage());
+            return null;
+        }
+
+        ImportRow row = new ImportRow(
+                lineNumber,
+                field(fields, columns.get("email")),
+                field(fields, columns.get("name")),
+                field(fields, columns.get("phone"))
+        );
+
+        SignupRequest request = new SignupRequest(row.email(), null, row.name(), row.phone(), User.UserRole.CUSTOMER);
+        String violations = REQUIRED_COLUMNS.stream()
+                .flatMap(property -> validator.validateProperty(request, property).stream())
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining(", "));
+        if (!violations.isEmpty()) {
+            report.fail(row, violations);
+            return null;
+        }
+        return row;
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index).trim() : null;
+    }
+
+    /**
+     * 배치 저장 (이미 가입된 이메일 제외, 임시 비밀번호 병렬 해싱 후 batch insert)
+     */
+    private void flush(List<ImportRow> batch, ImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(
+                batch.stream().map(ImportRow::email).toList()));
+        List<ImportRow> rows = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            if (existingEmails.contains(row.email())) {
+                report.fail(row, DUPLICATE_EMAIL);
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = toInsertArgs(rows, hashPlaceholders(rows.size()));
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, args));
+            report.importedCount += rows.size();
+        } catch (DataIntegrityViolationException e) {
+            // 조회 이후 다른 요청이 같은 이메일로 가입한 경우 등: 배치는 롤백되었으므로 한 행씩 다시 저장
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, args.get(i));
+                    report.importedCount++;
+                } catch (DataIntegrityViolationException rowException) {
+                    report.fail(rows.get(i), describe(rowException));
+                }
+            }
+        }
+    }
+
+    /**
+     * 저장 실패 사유 (users.email unique 위반만 이메일 중복으로 보고)
+     *
+     * 기존 DB 에는 Hibernate 가 이름을 붙인 예전 email unique 제약이 남아 있을 수 있으므로
+     * 제약 이름뿐 아니라 위반한 컬럼(PostgreSQL "Key (email)=", H2 "USERS(EMAIL")으로도 판단한다.
+     */
+    static String describe(DataIntegrityViolationException e) {
+        SQLException sqlException = findSqlException(e);
+        String sqlState = sqlException != null ? sqlException.getSQLState() : null;
+        String message = sqlException != null && sqlException.getMessage() != null
+                ? sqlException.getMessage().toLowerCase(Locale.ROOT)
+                : "";
+
+        if (UNIQUE_VIOLATION.equals(sqlState) && (message.contains(User.EMAIL_UNIQUE_CONSTRAINT)
+                || message.contains("key (email)=") || message.contains("users(email"))) {
+            return DUPLICATE_EMAIL;
+        }
+        if (VALUE_TOO_LONG.equals(sqlState)) {
+            return "입력값이 컬럼 길이를 초과합니다";
+        }
+        return "저장하지 못했습니다 (SQLState " + sqlState + ")";
+    }
+
+    private static SQLException findSqlException(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return sqlException;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 임시 비밀번호 생성 및 병렬 해싱 (로그인 불가, 비밀번호 재설정 후 사용)
+     */
+    private List<String> hashPlaceholders(int count) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String placeholder = randomPlaceholder();
+            hashes.add(CompletableFuture.supplyAsync(() -> placeholderEncoder.encode(placeholder), hashExecutor));
+        }
+        return hashes.stream().map(CompletableFuture::join).toList();
+    }
+
+    private String randomPlaceholder() {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static List<Object[]> toInsertArgs(List<ImportRow> rows, List<String> passwordHashes) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            args.add(new Object[]{
+                    row.email(),
+                    passwordHashes.get(i),
+                    row.name(),
+                    row.phone(),
+                    User.UserRole.CUSTOMER.name(),
+                    User.OAuthProvider.LOCAL.name(),
+                    now,
+                    now
+            });
+        }
+        return args;
+    }
+
+    private record ImportRow(int lineNumber, String email, String name, String phone) {
+    }
+
+    /**
+     * 처리 결과 집계 (오류 목록은 maxErrors 건까지만 보관)
+     */
+    private static class ImportReport {
+
+        private final int maxErrors;
+        private final List<RowError> errors = new ArrayList<>();
+        private int totalRows;
+        private int importedCount;
+        private int failedCount;
+
+        ImportReport(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(ImportRow row, String message) {
+            fail(row.lineNumber(), row.email(), message);
+        }
+
+        void fail(int lineNumber, String email, String message) {
+            failedCount++;
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(lineNumber, email, message));
+            }
+        }
+
+        UserImportResponse toResponse() {
+            // 이메일 중복은 배치 저장 시점에 확인되므로 줄 번호 순으로 정렬
+            errors.sort(Comparator.comparingInt(RowError::lineNumber));
+            return UserImportResponse.builder()
+                    .totalRows(totalRows)
+                    .importedCount(importedCount)
+                    .failedCount(failedCount)
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
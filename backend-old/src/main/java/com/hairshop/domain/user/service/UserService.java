@@ -1,16 +1,28 @@
 package com.hairshop.domain.user.service;
 
 import com.hairshop.domain.user.entity.User;
+import com.hairshop.domain.user.repository.UserCredential;
 import com.hairshop.domain.user.repository.UserRepository;
+import com.hairshop.domain.user.service.RefreshTokenService.IssuedRefreshToken;
 import com.hairshop.dto.request.LoginRequest;
 import com.hairshop.dto.request.SignupRequest;
 import com.hairshop.dto.response.AuthResponse;
 import com.hairshop.dto.response.UserResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import com.hairshop.exception.RefreshTokenReuseException;
+import com.hairshop.security.JwtPrincipal;
 import com.hairshop.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Service
 @RequiredArgsConstructor
@@ -20,110 +32,149 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 회원가입
+     *
+     * 비밀번호 해싱(BCrypt 대기열 포함)은 트랜잭션 밖에서 하고, 저장과 Refresh Token 발급만 짧은 트랜잭션으로 묶는다.
+     * 해싱을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 하기 위함이다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse signup(SignupRequest request) {
-        // 이메일 중복 체크
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("이미 사용 중인 이메일입니다");
+        // 이메일 중복 체크 (동시 가입은 users.email unique 제약이 막음)
+        if (userRepository.existsByEmail(request.email())) {
+            throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
 
         // 사용자 생성
         User user = User.builder()
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .name(request.getName())
-                .phone(request.getPhone())
-                .role(request.getRole())
+                .email(request.email())
+                .password(passwordEncoder.encode(request.password()))
+                .name(request.name())
+                .phone(request.phone())
+                .role(request.role())
                 .oauthProvider(User.OAuthProvider.LOCAL)
                 .build();
 
-        User savedUser = userRepository.save(user);
+        // 저장 + 새 Refresh Token 패밀리 (짧은 트랜잭션)
+        SignedIn signedIn = transactionTemplate.execute(status -> {
+            User savedUser = userRepository.save(user);
+            return new SignedIn(UserResponse.from(savedUser), refreshTokenService.issue(savedUser.getId()));
+        });
 
         // JWT 토큰 생성
-        String accessToken = jwtTokenProvider.createAccessToken(
-                savedUser.getId(),
-                savedUser.getEmail(),
-                savedUser.getRole().name()
-        );
-        String refreshToken = jwtTokenProvider.createRefreshToken(savedUser.getId());
-
-        return AuthResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .user(UserResponse.from(savedUser))
-                .build();
+        return createAuthResponse(signedIn.user(), signedIn.refreshToken());
     }
 
     /**
      * 로그인
+     *
+     * 자격 증명 조회, 비밀번호 확인(트랜잭션 없음), 재해싱 저장과 Refresh Token 발급(짧은 트랜잭션) 순으로 나눈다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse login(LoginRequest request) {
-        // 사용자 찾기
-        User user = userRepository.findByEmailAndDeletedAtIsNull(request.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다"));
+        // 사용자 찾기 (엔티티 대신 projection 조회)
+        UserCredential credential = userRepository.findCredentialByEmailAndDeletedAtIsNull(request.email())
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다");
+        if (!passwordEncoder.matches(request.password(), credential.password())) {
+            throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
         }
 
-        // JWT 토큰 생성
-        String accessToken = jwtTokenProvider.createAccessToken(
-                user.getId(),
-                user.getEmail(),
-                user.getRole().name()
-        );
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+        // 저장된 해시의 cost 가 설정값보다 낮으면 재해싱
+        String rehashed = passwordEncoder.upgradeEncoding(credential.password())
+                ? passwordEncoder.encode(request.password())
+                : null;
 
-        return AuthResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .user(UserResponse.from(user))
-                .build();
+        IssuedRefreshToken refreshToken = transactionTemplate.execute(status -> {
+            if (rehashed != null) {
+                userRepository.updatePassword(credential.id(), rehashed);
+            }
+            // 새 Refresh Token 패밀리
+            return refreshTokenService.issue(credential.id());
+        });
+
+        // JWT 토큰 생성
+        return createAuthResponse(UserResponse.from(credential.toProfile()), refreshToken);
     }
 
     /**
      * 사용자 조회 (ID)
      */
     public UserResponse getUserById(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-        return UserResponse.from(user);
+        return userRepository.findProfileByIdAndDeletedAtIsNull(userId)
+                .map(UserResponse::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     }
 
     /**
-     * 토큰 갱신
+     * 토큰 갱신 (Refresh Token 교체)
+     *
+     * 이미 교체된 Refresh Token 이 재사용되면 패밀리가 폐기되며, 폐기 내역은 롤백되지 않는다.
      */
+    @Transactional(noRollbackFor = RefreshTokenReuseException.class)
     public AuthResponse refreshToken(String refreshToken) {
-        // 토큰 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다");
+        // 토큰 검증 및 교체
+        IssuedRefreshToken rotated = refreshTokenService.rotate(refreshToken);
+
+        // 사용자 조회
+        UserResponse user = userRepository.findProfileByIdAndDeletedAtIsNull(rotated.userId())
+                .map(UserResponse::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        return createAuthResponse(user, rotated);
+    }
+
+    /**
+     * 로그아웃 (Access Token 및 Refresh Token 패밀리 폐기)
+     */
+    @Transactional
+    public void logout(JwtPrincipal accessToken) {
+        if (accessToken.tokenId() != null) {
+            tokenRevocationService.revoke(accessToken.tokenId(), toLocalDateTime(accessToken.expiresAtMillis()));
+        }
+        if (accessToken.familyId() != null) {
+            refreshTokenService.revokeFamily(accessToken.familyId());
         }
+    }
 
-        // 사용자 ID 추출
-        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+    /**
+     * 회원 탈퇴 (소프트 삭제 후 토큰 폐기)
+     */
+    @Transactional
+    public void withdraw(JwtPrincipal accessToken) {
+        User user = userRepository.findById(accessToken.userId())
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        // 변경 감지로 갱신되며 2차 캐시(user region)와 프로필 쿼리 캐시도 함께 무효화된다
+        user.delete();
+        logout(accessToken);
+    }
 
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-        // 새 토큰 생성
-        String newAccessToken = jwtTokenProvider.createAccessToken(
-                user.getId(),
-                user.getEmail(),
-                user.getRole().name()
+    private AuthResponse createAuthResponse(UserResponse user, IssuedRefreshToken refreshToken) {
+        String accessToken = jwtTokenProvider.createAccessToken(
+                user.id(),
+                user.email(),
+                user.role().name(),
+                refreshToken.familyId()
         );
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(user.getId());
 
         return AuthResponse.builder()
-                .accessToken(newAccessToken)
-                .refreshToken(newRefreshToken)
-                .user(UserResponse.from(user))
+                .accessToken(accessToken)
+                .refreshToken(refreshToken.token())
+                .user(user)
                 .build();
     }
+
+    private record SignedIn(UserResponse user, IssuedRefreshToken refreshToken) {
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
 }
@@ -0,0 +1,24 @@
+package com.hairshop.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+
+/**
+ * 결제 승인 요청 (결제창 성공 리다이렉트로 받은 값)
+ */
+public record PaymentConfirmRequest(
+
+        @NotBlank(message = "결제 키는 필수입니다")
+        String paymentKey,
+
+        @NotBlank(message = "주문 번호는 필수입니다")
+        String orderId,
+
+        @NotNull(message = "결제 금액은 필수입니다")
+        @Positive(message = "결제 금액은 0보다 커야 합니다")
+        BigDecimal amount
+) {
+}
@@ -0,0 +1,10 @@
+package com.hairshop.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+public record PaymentPrepareRequest(
+
+        @NotNull(message = "예약은 필수입니다")
+        Long reservationId
+) {
+}
@@ -0,0 +1,28 @@
+package com.hairshop.dto.request;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record ReservationRequest(
+
+        @NotNull(message = "미용실은 필수입니다")
+        Long shopId,
+
+        @NotNull(message = "서비스는 필수입니다")
+        Long serviceId,
+
+        @NotNull(message = "예약 날짜는 필수입니다")
+        @FutureOrPresent(message = "지난 날짜는 예약할 수 없습니다")
+        LocalDate reservationDate,
+
+        @NotNull(message = "예약 시간은 필수입니다")
+        LocalTime reservationTime,
+
+        @Size(max = 1000, message = "요청 사항은 1000자 이하여야 합니다")
+        String customerNote
+) {
+}
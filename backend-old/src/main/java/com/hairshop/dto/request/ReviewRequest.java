@@ -0,0 +1,21 @@
+package com.hairshop.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record ReviewRequest(
+
+        @NotNull(message = "예약은 필수입니다")
+        Long reservationId,
+
+        @NotNull(message = "평점은 필수입니다")
+        @Min(value = 1, message = "평점은 1~5 사이여야 합니다")
+        @Max(value = 5, message = "평점은 1~5 사이여야 합니다")
+        Integer rating,
+
+        @Size(max = 2000, message = "리뷰는 2000자 이하여야 합니다")
+        String content
+) {
+}
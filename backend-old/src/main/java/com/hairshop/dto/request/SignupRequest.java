@@ -5,34 +5,30 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
+import jakarta.validation.constraints.Size;
 
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-public class SignupRequest {
+public record SignupRequest(
 
-    @NotBlank(message = "이메일은 필수입니다")
-    @Email(message = "올바른 이메일 형식이 아닙니다")
-    private String email;
+        @NotBlank(message = "이메일은 필수입니다")
+        @Email(message = "올바른 이메일 형식이 아닙니다")
+        @Size(max = User.EMAIL_MAX_LENGTH, message = "이메일은 255자 이하여야 합니다")
+        String email,
 
-    @NotBlank(message = "비밀번호는 필수입니다")
-    @Pattern(regexp = "^(?=.*[A-Za-z])(?=.*\\d)[A-Za-z\\d@$!%*#?&]{8,}$",
-            message = "비밀번호는 8자 이상, 영문자와 숫자를 포함해야 합니다")
-    private String password;
+        @NotBlank(message = "비밀번호는 필수입니다")
+        @Pattern(regexp = "^(?=.*[A-Za-z])(?=.*\\d)[A-Za-z\\d@$!%*#?&]{8,}$",
+                message = "비밀번호는 8자 이상, 영문자와 숫자를 포함해야 합니다")
+        String password,
 
-    @NotBlank(message = "이름은 필수입니다")
-    private String name;
+        @NotBlank(message = "이름은 필수입니다")
+        @Size(max = User.NAME_MAX_LENGTH, message = "이름은 100자 이하여야 합니다")
+        String name,
 
-    @NotBlank(message = "전화번호는 필수입니다")
-    @Pattern(regexp = "^01[0-9]-?[0-9]{3,4}-?[0-9]{4}$",
-            message = "올바른 전화번호 형식이 아닙니다")
-    private String phone;
+        @NotBlank(message = "전화번호는 필수입니다")
+        @Pattern(regexp = "^01[0-9]-?[0-9]{3,4}-?[0-9]{4}$",
+                message = "올바른 전화번호 형식이 아닙니다")
+        String phone,
 
-    @NotNull(message = "역할은 필수입니다")
-    private User.UserRole role;
+        @NotNull(message = "역할은 필수입니다")
+        User.UserRole role
+) {
 }
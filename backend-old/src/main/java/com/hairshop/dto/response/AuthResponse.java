@@ -1,17 +1,11 @@
 package com.hairshop.dto.response;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
 
-@Getter
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class AuthResponse {
-
-    private String accessToken;
-    private String refreshToken;
-    private UserResponse user;
+public record AuthResponse(
+        String accessToken,
+        String refreshToken,
+        UserResponse user
+) {
 }
@@ -0,0 +1,35 @@
+package com.hairshop.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.hairshop.domain.service.entity.HairService;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Builder
+public record AvailabilityResponse(
+        LocalDate date,
+        Long serviceId,
+        String serviceName,
+        int durationMinutes,
+        boolean open,
+        @JsonFormat(pattern = "HH:mm")
+        List<LocalTime> availableSlots
+) {
+
+    /**
+     * 서비스와 계산된 슬롯으로 응답 생성
+     */
+    public static AvailabilityResponse of(LocalDate date, HairService service, boolean open, List<LocalTime> slots) {
+        return AvailabilityResponse.builder()
+                .date(date)
+                .serviceId(service.getId())
+                .serviceName(service.getName())
+                .durationMinutes(service.getDurationMinutes())
+                .open(open)
+                .availableSlots(slots)
+                .build();
+    }
+}
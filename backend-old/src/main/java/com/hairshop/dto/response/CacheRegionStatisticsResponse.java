@@ -0,0 +1,26 @@
+package com.hairshop.dto.response;
+
+import org.hibernate.stat.CacheRegionStatistics;
+
+public record CacheRegionStatisticsResponse(
+        String region,
+        long hitCount,
+        long missCount,
+        long putCount,
+        double hitRatio
+) {
+
+    /**
+     * Hibernate region 통계로부터 응답 생성
+     */
+    public static CacheRegionStatisticsResponse of(String region, CacheRegionStatistics statistics) {
+        long requests = statistics.getHitCount() + statistics.getMissCount();
+        return new CacheRegionStatisticsResponse(
+                region,
+                statistics.getHitCount(),
+                statistics.getMissCount(),
+                statistics.getPutCount(),
+                requests == 0 ? 0.0 : (double) statistics.getHitCount() / requests
+        );
+    }
+}
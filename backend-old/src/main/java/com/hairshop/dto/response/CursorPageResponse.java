@@ -0,0 +1,19 @@
+package com.hairshop.dto.response;
+
+import com.hairshop.domain.common.repository.KeysetPage;
+
+import java.util.List;
+
+/**
+ * 커서 페이지 응답 (다음 페이지는 nextCursor 를 cursor 로 넘겨 조회, 마지막 페이지면 null)
+ */
+public record CursorPageResponse<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    public static <T> CursorPageResponse<T> from(KeysetPage<T> page) {
+        return new CursorPageResponse<>(page.content(), page.nextCursor(), page.hasNext());
+    }
+}
@@ -0,0 +1,19 @@
+package com.hairshop.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record DailyStatsBackfillResponse(
+        int chunks,
+        long checkedShopIds,
+        // 보정한 (미용실, 날짜, 서비스) 수
+        int driftedDays,
+        // 불일치지만 아직 전달되지 않은 outbox 이벤트가 있어 건너뛴 수 (다음 backfill 에서 다시 확인)
+        int skippedDays,
+        // 최대 100곳
+        List<Long> driftedShopIds,
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,19 @@
+package com.hairshop.dto.response;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+@Builder
+public record NearbyShopResponse(
+        Long shopId,
+        String name,
+        String address,
+        double latitude,
+        double longitude,
+        long distanceMeters,
+        // 리뷰가 없으면 null
+        BigDecimal averageRating,
+        int totalReviews
+) {
+}
@@ -0,0 +1,33 @@
+package com.hairshop.dto.response;
+
+import com.hairshop.domain.notification.entity.Notification;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record NotificationResponse(
+        Long id,
+        String type,
+        String title,
+        String message,
+        boolean read,
+        Long reservationId,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * Notification 엔티티로부터 NotificationResponse 생성
+     */
+    public static NotificationResponse from(Notification notification) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .type(notification.getType())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .read(notification.isRead())
+                .reservationId(notification.getReservationId())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.hairshop.dto.response;
+
+import com.hairshop.domain.payment.entity.Payment;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Builder
+public record PaymentResponse(
+        Long id,
+        Long reservationId,
+        String orderId,
+        BigDecimal amount,
+        String paymentMethod,
+        Payment.PaymentStatus status,
+        LocalDateTime approvedAt
+) {
+
+    /**
+     * Payment 엔티티로부터 PaymentResponse 생성
+     */
+    public static PaymentResponse from(Payment payment) {
+        return PaymentResponse.builder()
+                .id(payment.getId())
+                .reservationId(payment.getReservationId())
+                .orderId(payment.getOrderId())
+                .amount(payment.getAmount())
+                .paymentMethod(payment.getPaymentMethod())
+                .status(payment.getStatus())
+                .approvedAt(payment.getApprovedAt())
+                .build();
+    }
+}
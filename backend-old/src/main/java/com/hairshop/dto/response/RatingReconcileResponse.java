@@ -0,0 +1,18 @@
+package com.hairshop.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record RatingReconcileResponse(
+        int chunks,
+        long checkedShopIds,
+        int driftedShops,
+        // 최대 100곳
+        List<Long> driftedShopIds,
+        // repair 요청 시 다시 센 값으로 덮어쓴 미용실 수
+        int repairedShops,
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,46 @@
+package com.hairshop.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.hairshop.domain.reservation.entity.Reservation;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Builder
+public record ReservationResponse(
+        Long id,
+        Long shopId,
+        Long customerId,
+        Long serviceId,
+        LocalDate reservationDate,
+        @JsonFormat(pattern = "HH:mm")
+        LocalTime reservationTime,
+        int durationMinutes,
+        Reservation.ReservationStatus status,
+        BigDecimal totalPrice,
+        String customerNote,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * Reservation 엔티티로부터 ReservationResponse 생성
+     */
+    public static ReservationResponse from(Reservation reservation) {
+        return ReservationResponse.builder()
+                .id(reservation.getId())
+                .shopId(reservation.getShopId())
+                .customerId(reservation.getCustomerId())
+                .serviceId(reservation.getServiceId())
+                .reservationDate(reservation.getReservationDate())
+                .reservationTime(reservation.getReservationTime())
+                .durationMinutes(reservation.getDurationMinutes())
+                .status(reservation.getStatus())
+                .totalPrice(reservation.getTotalPrice())
+                .customerNote(reservation.getCustomerNote())
+                .createdAt(reservation.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.hairshop.dto.response;
+
+import com.hairshop.domain.review.entity.Review;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record ReviewResponse(
+        Long id,
+        Long shopId,
+        Long customerId,
+        Long reservationId,
+        int rating,
+        String content,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Review 엔티티로부터 ReviewResponse 생성
+     */
+    public static ReviewResponse from(Review review) {
+        return ReviewResponse.builder()
+                .id(review.getId())
+                .shopId(review.getShopId())
+                .customerId(review.getCustomerId())
+                .reservationId(review.getReservationId())
+                .rating(review.getRating())
+                .content(review.getContent())
+                .createdAt(review.getCreatedAt())
+                .updatedAt(review.getUpdatedAt())
+                .build();
+    }
+}
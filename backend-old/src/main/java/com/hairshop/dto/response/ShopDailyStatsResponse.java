@@ -0,0 +1,18 @@
+package com.hairshop.dto.response;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Builder
+public record ShopDailyStatsResponse(
+        LocalDate date,
+        // 취소를 제외한 예약 수
+        int bookings,
+        int cancelled,
+        int completed,
+        int noShow,
+        BigDecimal revenue
+) {
+}
@@ -0,0 +1,19 @@
+package com.hairshop.dto.response;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Builder
+public record ShopDashboardResponse(
+        Long shopId,
+        LocalDate date,
+        // 당일 예약 수 (취소 제외)
+        int todayBookings,
+        // 당일 포함 최근 7일 매출
+        BigDecimal weeklyRevenue,
+        // 당일 포함 최근 30일 노쇼 / (완료 + 노쇼), 소수 넷째 자리 (해당 예약이 없으면 0)
+        BigDecimal noShowRate
+) {
+}
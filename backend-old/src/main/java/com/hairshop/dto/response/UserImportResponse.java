@@ -0,0 +1,24 @@
+package com.hairshop.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record UserImportResponse(
+        int totalRows,
+        int importedCount,
+        int failedCount,
+        List<RowError> errors
+) {
+
+    /**
+     * 등록 실패한 행 (lineNumber 는 헤더를 포함한 CSV 줄 번호)
+     */
+    public record RowError(
+            int lineNumber,
+            String email,
+            String message
+    ) {
+    }
+}
@@ -1,26 +1,21 @@
 package com.hairshop.dto.response;
 
 import com.hairshop.domain.user.entity.User;
-import lombok.AllArgsConstructor;
+import com.hairshop.domain.user.repository.UserProfile;
 import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
-@Getter
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class UserResponse {
-
-    private Long id;
-    private String email;
-    private String name;
-    private String phone;
-    private User.UserRole role;
-    private User.OAuthProvider oauthProvider;
-    private LocalDateTime createdAt;
+public record UserResponse(
+        Long id,
+        String email,
+        String name,
+        String phone,
+        User.UserRole role,
+        User.OAuthProvider oauthProvider,
+        LocalDateTime createdAt
+) {
 
     /**
      * User 엔티티로부터 UserResponse 생성
@@ -36,4 +31,19 @@ public class UserResponse {
                 .createdAt(user.getCreatedAt())
                 .build();
     }
+
+    /**
+     * 프로필 projection 으로부터 UserResponse 생성
+     */
+    public static UserResponse from(UserProfile profile) {
+        return new UserResponse(
+                profile.id(),
+                profile.email(),
+                profile.name(),
+                profile.phone(),
+                profile.role(),
+                profile.oauthProvider(),
+                profile.createdAt()
+        );
+    }
 }
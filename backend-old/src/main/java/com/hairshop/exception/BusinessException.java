@@ -0,0 +1,38 @@
+package com.hairshop.exception;
+
+/**
+ * 비즈니스 규칙 위반 (잘못된 비밀번호, 중복 이메일 등 정상 흐름에서 발생하는 오류)
+ *
+ * 자주 발생하는 예외이므로 스택 트레이스를 수집하지 않고,
+ * 응답 본문은 ErrorCode 에 미리 만들어 둔 것을 그대로 사용한다.
+ */
+public class BusinessException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public BusinessException(ErrorCode errorCode) {
+        super(errorCode.getMessage(), null, false, false);
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * 기본 메시지 뒤에 상세 내용을 붙인 예외 (응답 본문은 매번 생성)
+     */
+    public BusinessException(ErrorCode errorCode, String detail) {
+        super(errorCode.getMessage() + ": " + detail, null, false, false);
+        this.errorCode = errorCode;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * JSON 응답 본문
+     */
+    public byte[] getBody() {
+        return getMessage().equals(errorCode.getMessage())
+                ? errorCode.getBody()
+                : ErrorCode.toBody(errorCode.name(), getMessage());
+    }
+}
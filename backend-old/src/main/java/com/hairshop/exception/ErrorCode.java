@@ -0,0 +1,88 @@
+package com.hairshop.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 오류 코드 (HTTP 상태, 기본 메시지)
+ *
+ * 응답 본문 {"code": ..., "error": ...} 은 코드마다 한 번만 만들어 두고 재사용한다.
+ */
+public enum ErrorCode {
+
+    // 공통
+    INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다"),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다"),
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요"),
+    JOB_ALREADY_RUNNING(HttpStatus.CONFLICT, "이미 실행 중인 작업입니다"),
+
+    // 인증/회원
+    EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다"),
+    INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다"),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 Refresh Token입니다"),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "이미 사용된 Refresh Token입니다. 다시 로그인해주세요"),
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다"),
+    PASSWORD_HASHING_BUSY(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 잠시 후 다시 시도해주세요"),
+
+    // 고객 일괄 등록
+    CSV_HEADER_MISSING(HttpStatus.BAD_REQUEST, "CSV 헤더가 없습니다"),
+    CSV_COLUMN_MISSING(HttpStatus.BAD_REQUEST, "CSV 필수 컬럼이 없습니다"),
+
+    // 미용실/예약
+    SHOP_NOT_FOUND(HttpStatus.NOT_FOUND, "미용실을 찾을 수 없습니다"),
+    SERVICE_NOT_FOUND(HttpStatus.NOT_FOUND, "서비스를 찾을 수 없습니다"),
+    RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "예약을 찾을 수 없습니다"),
+    RESERVATION_UNAVAILABLE(HttpStatus.CONFLICT, "예약할 수 없는 시간입니다"),
+    RESERVATION_NOT_CANCELLABLE(HttpStatus.CONFLICT, "취소할 수 없는 예약입니다"),
+    RESERVATION_BUSY(HttpStatus.TOO_MANY_REQUESTS, "예약 요청이 많아 잠시 후 다시 시도해주세요"),
+    EXPORT_BUSY(HttpStatus.TOO_MANY_REQUESTS, "내보내기 요청이 많아 잠시 후 다시 시도해주세요"),
+
+    // 리뷰
+    REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "리뷰를 찾을 수 없습니다"),
+    REVIEW_NOT_ALLOWED(HttpStatus.CONFLICT, "완료된 예약에만 리뷰를 작성할 수 있습니다"),
+    REVIEW_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 리뷰를 작성한 예약입니다"),
+
+    // 결제
+    PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "결제를 찾을 수 없습니다"),
+    PAYMENT_AMOUNT_MISMATCH(HttpStatus.BAD_REQUEST, "결제 금액이 일치하지 않습니다"),
+    PAYMENT_ALREADY_PROCESSED(HttpStatus.CONFLICT, "이미 처리된 결제입니다"),
+    PAYMENT_REJECTED(HttpStatus.BAD_REQUEST, "결제가 거절되었습니다"),
+    PAYMENT_GATEWAY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "결제사 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요");
+
+    private final HttpStatus status;
+    private final String message;
+    private final byte[] body;
+
+    ErrorCode(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+        this.body = toBody(name(), message);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * 미리 만들어 둔 JSON 응답 본문 (수정 금지)
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * {"code": code, "error": message} (UTF-8)
+     */
+    static byte[] toBody(String code, String message) {
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        String json = "{\"code\":\"" + new String(encoder.quoteAsString(code))
+                + "\",\"error\":\"" + new String(encoder.quoteAsString(message)) + "\"}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
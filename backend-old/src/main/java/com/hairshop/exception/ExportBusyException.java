@@ -0,0 +1,11 @@
+package com.hairshop.exception;
+
+/**
+ * 동시에 진행 중인 내보내기가 상한에 도달했을 때 발생
+ */
+public class ExportBusyException extends ThrottledException {
+
+    public ExportBusyException(long retryAfterSeconds) {
+        super(ErrorCode.EXPORT_BUSY, retryAfterSeconds);
+    }
+}
@@ -1,8 +1,13 @@
 package com.hairshop.exception;
 
-import org.springframework.http.HttpStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
+import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -10,17 +15,38 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     /**
-     * IllegalArgumentException 처리
+     * 비즈니스 예외 처리 (ErrorCode 의 상태 코드와 미리 만든 본문 사용, 429 는 Retry-After 포함)
+     */
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<byte[]> handleBusinessException(BusinessException e) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(e.getErrorCode().getStatus())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (e instanceof ThrottledException throttled) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(throttled.getRetryAfterSeconds()));
+        }
+        return response.body(e.getBody());
+    }
+
+    /**
+     * IllegalArgumentException 처리 (내부 메시지는 노출하지 않음)
      */
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException e) {
-        Map<String, String> error = new HashMap<>();
-        error.put("error", e.getMessage());
-        return ResponseEntity.badRequest().body(error);
+    public ResponseEntity<byte[]> handleIllegalArgumentException(IllegalArgumentException e) {
+        log.debug("잘못된 요청: {}", e.getMessage());
+        return errorResponse(ErrorCode.INVALID_REQUEST);
+    }
+
+    /**
+     * 읽을 수 없는 요청 본문, 잘못된 파라미터 형식
+     */
+    @ExceptionHandler({HttpMessageNotReadableException.class, TypeMismatchException.class})
+    public ResponseEntity<byte[]> handleUnreadableRequest(Exception e) {
+        return errorResponse(ErrorCode.INVALID_REQUEST);
     }
 
     /**
@@ -40,13 +66,23 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * 기타 예외 처리
+     * 기타 예외 처리 (예외 메시지는 로그에만 남김)
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, String>> handleException(Exception e) {
-        Map<String, String> error = new HashMap<>();
-        error.put("error", "서버 오류가 발생했습니다");
-        error.put("message", e.getMessage());
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    public ResponseEntity<byte[]> handleException(Exception e) {
+        // 지원하지 않는 메서드/미디어 타입 등 Spring MVC 요청 오류는 해당 4xx 상태 유지
+        if (e instanceof ErrorResponse errorResponse && errorResponse.getStatusCode().is4xxClientError()) {
+            return ResponseEntity.status(errorResponse.getStatusCode())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ErrorCode.INVALID_REQUEST.getBody());
+        }
+        log.error("처리되지 않은 예외", e);
+        return errorResponse(ErrorCode.INTERNAL_ERROR);
+    }
+
+    private static ResponseEntity<byte[]> errorResponse(ErrorCode errorCode) {
+        return ResponseEntity.status(errorCode.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorCode.getBody());
     }
 }
@@ -0,0 +1,11 @@
+package com.hairshop.exception;
+
+/**
+ * 비밀번호 해싱 작업 큐가 가득 차 요청을 거절할 때 발생
+ */
+public class PasswordHashingRejectedException extends ThrottledException {
+
+    public PasswordHashingRejectedException(long retryAfterSeconds) {
+        super(ErrorCode.PASSWORD_HASHING_BUSY, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,11 @@
+package com.hairshop.exception;
+
+/**
+ * PG 사 호출 불가 (서킷 열림, bulkhead 초과, 시간 초과, 5xx) - 결제는 대기 상태로 남아 같은 주문으로 다시 승인할 수 있음
+ */
+public class PaymentGatewayUnavailableException extends ThrottledException {
+
+    public PaymentGatewayUnavailableException(long retryAfterSeconds) {
+        super(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,13 @@
+package com.hairshop.exception;
+
+/**
+ * 이미 교체된 Refresh Token 이 다시 사용되었을 때 발생 (토큰 탈취 의심)
+ *
+ * 이 예외가 발생해도 패밀리 폐기는 커밋되어야 하므로 트랜잭션 롤백 대상에서 제외한다.
+ */
+public class RefreshTokenReuseException extends BusinessException {
+
+    public RefreshTokenReuseException() {
+        super(ErrorCode.REFRESH_TOKEN_REUSED);
+    }
+}
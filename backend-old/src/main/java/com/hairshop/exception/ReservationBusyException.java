@@ -0,0 +1,11 @@
+package com.hairshop.exception;
+
+/**
+ * 같은 미용실/날짜의 예약 요청이 몰려 제한 시간 안에 처리 순서를 얻지 못했을 때 발생
+ */
+public class ReservationBusyException extends ThrottledException {
+
+    public ReservationBusyException(long retryAfterSeconds) {
+        super(ErrorCode.RESERVATION_BUSY, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,18 @@
+package com.hairshop.exception;
+
+/**
+ * 요청이 몰려 처리하지 못했을 때 발생 (429 + Retry-After)
+ */
+public abstract class ThrottledException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    protected ThrottledException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,50 @@
+package com.hairshop.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 접근 로그 (access-log.enabled=true 일 때)
+ *
+ * 요청 스레드에서는 key-value 로 이벤트만 만들고, JSON 변환과 출력은
+ * "access" 로거에 연결된 RingBufferAppender 의 출력 스레드가 처리한다.
+ * 쿼리 문자열에는 토큰 등이 담길 수 있어 경로만 남긴다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "access-log.enabled", havingValue = "true")
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ACCESS_LOG.atInfo()
+                    .addKeyValue("method", request.getMethod())
+                    .addKeyValue("path", request.getRequestURI())
+                    .addKeyValue("status", response.getStatus())
+                    .addKeyValue("durationMs", (System.nanoTime() - startNanos) / 1_000_000)
+                    .addKeyValue("clientIp", request.getRemoteAddr())
+                    .log("access");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.hairshop.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+import org.slf4j.event.KeyValuePair;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 한 줄 JSON 로그 레이아웃 (접근 로그용)
+ *
+ * 기본 필드(timestamp, level, logger, thread, message)에 SLF4J key-value 를 그대로 덧붙인다.
+ * RingBufferAppender 뒤에 두면 JSON 변환도 요청 스레드가 아닌 로그 출력 스레드에서 실행된다.
+ */
+public class JsonLayout extends LayoutBase<ILoggingEvent> {
+
+    @Override
+    public String doLayout(ILoggingEvent event) {
+        StringBuilder json = new StringBuilder(256);
+        json.append('{');
+        appendField(json, "timestamp", Instant.ofEpochMilli(event.getTimeStamp()).toString());
+        json.append(',');
+        appendField(json, "level", event.getLevel().toString());
+        json.append(',');
+        appendField(json, "logger", event.getLoggerName());
+        json.append(',');
+        appendField(json, "thread", event.getThreadName());
+        json.append(',');
+        appendField(json, "message", event.getFormattedMessage());
+
+        List<KeyValuePair> keyValuePairs = event.getKeyValuePairs();
+        if (keyValuePairs != null) {
+            for (KeyValuePair pair : keyValuePairs) {
+                json.append(',');
+                appendField(json, pair.key, pair.value);
+            }
+        }
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            json.append(',');
+            appendField(json, "exception", ThrowableProxyUtil.asString(throwable));
+        }
+
+        return json.append('}').append(CoreConstants.LINE_SEPARATOR).toString();
+    }
+
+    private static void appendField(StringBuilder json, String name, Object value) {
+        appendString(json, name);
+        json.append(':');
+        if (value == null) {
+            json.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.append(value);
+        } else {
+            appendString(json, value.toString());
+        }
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,89 @@
+package com.hairshop.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잠금 없는 고정 크기 링 버퍼 (생산자 여러 개, 소비자 하나)
+ *
+ * 슬롯마다 시퀀스 번호를 두어 생산자는 CAS 한 번으로 자리를 잡고,
+ * 소비자는 시퀀스만 확인해 꺼낸다. 가득 차면 offer 가 기다리지 않고 false 를 반환한다.
+ */
+final class RingBuffer<E> {
+
+    private final Object[] elements;
+    // 슬롯 i 의 시퀀스: 비어 있으면 다음에 쓸 위치, 채워져 있으면 위치 + 1
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // 소비자 스레드만 변경 (size 조회용으로 volatile)
+    private volatile long head;
+
+    RingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("버퍼 크기는 0보다 커야 합니다");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.elements = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 추가 (가득 찼으면 false)
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 꺼내기 (소비자 스레드 전용, 비어 있으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = (E) elements[index];
+        elements[index] = null;
+        sequences.set(index, position + elements.length);
+        head = position + 1;
+        return element;
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return elements.length;
+    }
+}
@@ -0,0 +1,176 @@
+package com.hairshop.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 링 버퍼 비동기 Appender (logback-spring.xml 의 prod 프로필에서 사용)
+ *
+ * 요청 스레드는 이벤트를 버퍼에 넣기만 하고, 포맷/출력은 전용 스레드가 처리한다.
+ * logback 기본 AsyncAppender 와 달리 잠금을 잡지 않고, 버퍼가 가득 차면 기다리지 않고 버린 뒤
+ * logging.events.dropped 카운터를 올린다.
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder dropped = new LongAdder();
+
+    private int bufferSize = 8192;
+    private int maxFlushTime = 1000;
+
+    private RingBuffer<ILoggingEvent> buffer;
+    private Thread worker;
+    private List<Meter> meters = List.of();
+    private volatile boolean running;
+    private volatile boolean sleeping;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No appender attached to [" + getName() + "]");
+            return;
+        }
+
+        buffer = new RingBuffer<>(bufferSize);
+        running = true;
+        worker = new Thread(this::drain, "log-writer-" + getName());
+        worker.setDaemon(true);
+        worker.start();
+        meters = List.of(
+                FunctionCounter.builder("logging.events.dropped", dropped, LongAdder::doubleValue)
+                        .description("버퍼가 가득 차 버려진 로그 이벤트 수")
+                        .tag("appender", getName())
+                        .register(Metrics.globalRegistry),
+                Gauge.builder("logging.buffer.size", buffer, RingBuffer::size)
+                        .description("출력 대기 중인 로그 이벤트 수")
+                        .tag("appender", getName())
+                        .register(Metrics.globalRegistry)
+        );
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+
+        // 남은 이벤트를 maxFlushTime 동안 출력한 뒤 종료
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(maxFlushTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("Max flush time exceeded, " + buffer.size() + " events may be discarded");
+        }
+
+        meters.forEach(Metrics.globalRegistry::remove);
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // MDC, 메시지 포맷 등 요청 스레드에 묶인 값은 넣기 전에 확정
+        event.prepareForDeferredProcessing();
+        if (!buffer.offer(event)) {
+            dropped.increment();
+            return;
+        }
+        if (sleeping) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            ILoggingEvent event = buffer.poll();
+            if (event != null) {
+                appenders.appendLoopOnAppenders(event);
+                continue;
+            }
+            if (!running) {
+                return;
+            }
+            // sleeping 을 먼저 쓰고 버퍼를 다시 확인해야 생산자의 unpark 를 놓치지 않음
+            sleeping = true;
+            if (buffer.isEmpty() && running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            sleeping = false;
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getQueueSize() {
+        return buffer != null ? buffer.size() : 0;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -0,0 +1,29 @@
+package com.hairshop.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실행되는 SQL 중 sampleRate 비율만 로그로 남김 (운영에서 show-sql 대신 사용)
+ *
+ * 느린 쿼리는 샘플링과 무관하게 hibernate.log_slow_query 로 항상 기록한다.
+ */
+@Slf4j
+public class SampledSqlInspector implements StatementInspector {
+
+    private final double sampleRate;
+
+    public SampledSqlInspector(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (ThreadLocalRandom.current().nextDouble() < sampleRate && log.isInfoEnabled()) {
+            log.info("sampled sql: {}", sql);
+        }
+        return sql;
+    }
+}
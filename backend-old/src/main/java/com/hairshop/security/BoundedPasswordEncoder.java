@@ -0,0 +1,130 @@
+package com.hairshop.security;
+
+import com.hairshop.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해싱/검증을 전용 스레드 풀에서 실행하는 PasswordEncoder
+ *
+ * BCrypt 는 요청당 수십~수백 ms 의 CPU 를 사용하므로 요청 스레드에서 직접 실행하면
+ * 로그인 폭주 시 다른 API 까지 CPU 를 빼앗긴다. 코어 수만큼의 워커와 제한된 큐를 두고,
+ * 큐가 가득 차면 기다리지 않고 {@link PasswordHashingRejectedException} 을 던진다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    // 해싱 시간 (워커에서 실제 계산한 시간) 및 큐 대기 시간
+    private final Timer encodeTimer = hashTimer("encode");
+    private final Timer matchesTimer = hashTimer("matches");
+    private final Timer waitTimer = Timer.builder("password.hash.wait")
+            .description("비밀번호 해싱 작업의 큐 대기 시간")
+            .register(Metrics.globalRegistry);
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity, long retryAfterSeconds) {
+        this.delegate = delegate;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("bcrypt-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 설정값보다 낮은지 확인 (해시 계산 없음)
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 현재 대기 중인 해싱 작업 수
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 현재 실행 중인 해싱 작업 수
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    private static Timer hashTimer(String operation) {
+        return Timer.builder("password.hash")
+                .description("비밀번호 해싱/검증 시간")
+                .tag("operation", operation)
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingRejectedException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("비밀번호 해싱에 실패했습니다", cause);
+        }
+    }
+}
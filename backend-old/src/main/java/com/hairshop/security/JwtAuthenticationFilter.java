@@ -1,26 +1,58 @@
 package com.hairshop.security;
 
+import com.hairshop.config.SecurityConfig;
+import com.hairshop.domain.user.entity.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // 역할별 권한 목록 (요청마다 새로 만들지 않도록 미리 생성)
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES_BY_ROLE =
+            Arrays.stream(User.UserRole.values())
+                    .collect(Collectors.toUnmodifiableMap(
+                            User.UserRole::name,
+                            role -> List.<GrantedAuthority>of(new SimpleGrantedAuthority("ROLE_" + role.name()))
+                    ));
+
+    private static final RequestMatcher SKIP_MATCHER = new OrRequestMatcher(
+            Arrays.stream(SecurityConfig.JWT_SKIP_PATHS)
+                    .map(path -> (RequestMatcher) new AntPathRequestMatcher(path))
+                    .toList()
+    );
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationIndex tokenRevocationIndex;
+
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return SKIP_MATCHER.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -33,22 +65,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 요청에서 JWT 토큰 추출
             String token = getJwtFromRequest(request);
 
-            // 토큰이 있고 유효한 경우
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                // 토큰에서 사용자 정보 추출
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
-                String email = jwtTokenProvider.getEmailFromToken(token);
-                String role = jwtTokenProvider.getRoleFromToken(token);
+            // 토큰이 있으면 한 번만 파싱
+            JwtPrincipal principal = StringUtils.hasText(token)
+                    ? jwtTokenProvider.resolveToken(token).orElse(null)
+                    : null;
 
-                // Spring Security 인증 객체 생성
+            // 유효한 Access Token 이고 폐기되지 않은 경우
+            if (principal != null && !principal.refresh() && !tokenRevocationIndex.isRevoked(principal)) {
+                // Spring Security 인증 객체 생성 (credentials: 검증된 토큰 클레임)
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userId,
-                                null,
-                                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
+                                principal.userId(),
+                                principal,
+                                authoritiesOf(principal.role())
                         );
 
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                authentication.setDetails(authenticationDetailsSource.buildDetails(request));
 
                 // SecurityContext에 인증 정보 설정
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -60,6 +92,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 역할 이름에 해당하는 권한 목록
+     */
+    private static List<GrantedAuthority> authoritiesOf(String role) {
+        if (role == null) {
+            return Collections.emptyList();
+        }
+        List<GrantedAuthority> authorities = AUTHORITIES_BY_ROLE.get(role);
+        return authorities != null ? authorities : List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
     /**
      * HTTP 요청 헤더에서 JWT 토큰 추출
      */
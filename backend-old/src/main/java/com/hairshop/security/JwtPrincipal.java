@@ -0,0 +1,25 @@
+package com.hairshop.security;
+
+/**
+ * 서명 검증이 끝난 JWT의 클레임 (불변)
+ *
+ * Refresh Token에는 email, role 클레임이 없으므로 null 이다.
+ * familyId 는 로그인 한 번으로 발급된 토큰 묶음(Refresh Token 패밀리)의 ID 이다.
+ */
+public record JwtPrincipal(
+        Long userId,
+        String email,
+        String role,
+        String tokenId,
+        String familyId,
+        boolean refresh,
+        long expiresAtMillis
+) {
+
+    /**
+     * 주어진 시각 기준 만료 여부
+     */
+    public boolean isExpiredAt(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
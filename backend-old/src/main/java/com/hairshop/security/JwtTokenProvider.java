@@ -1,106 +1,197 @@
 package com.hairshop.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String CLAIM_FAMILY = "fam";
+    private static final String CLAIM_TYPE = "typ";
+    private static final String TYPE_REFRESH = "refresh";
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
+    // 검증 완료된 토큰 캐시 (키: 토큰 SHA-256 digest, 토큰 exp 시각에 만료)
+    private final Cache<ByteBuffer, JwtPrincipal> verifiedTokens;
+
+    // 서명/파싱 시간 (테스트 등에서 직접 생성해도 동작하도록 global registry 사용)
+    private final Timer accessTokenSignTimer = signTimer("access");
+    private final Timer refreshTokenSignTimer = signTimer("refresh");
+    private final Timer parseCacheHitTimer = parseTimer("hit");
+    private final Timer parseCacheMissTimer = parseTimer("miss");
+
+    public JwtTokenProvider(String secret, long accessTokenExpiration, long refreshTokenExpiration) {
+        this(secret, accessTokenExpiration, refreshTokenExpiration, 10_000L);
+    }
+
+    @Autowired
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-expiration}") long refreshTokenExpiration
+            @Value("${jwt.refresh-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.cache-size:10000}") long cacheSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.verifiedTokens = cacheSize > 0 ? createCache(cacheSize) : null;
     }
 
     /**
      * Access Token 생성
      */
     public String createAccessToken(Long userId, String email, String role) {
+        return createAccessToken(userId, email, role, null);
+    }
+
+    /**
+     * Access Token 생성 (Refresh Token 패밀리에 연결)
+     */
+    public String createAccessToken(Long userId, String email, String role, String familyId) {
+        long startedAt = System.nanoTime();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenExpiration);
 
-        return Jwts.builder()
+        String token = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(userId))
                 .claim("email", email)
                 .claim("role", role)
+                .claim(CLAIM_FAMILY, familyId)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
                 .compact();
+
+        accessTokenSignTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return token;
     }
 
     /**
      * Refresh Token 생성
      */
-    public String createRefreshToken(Long userId) {
+    public String createRefreshToken(Long userId, String familyId, String tokenId) {
+        long startedAt = System.nanoTime();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshTokenExpiration);
 
-        return Jwts.builder()
+        String token = Jwts.builder()
+                .id(tokenId)
                 .subject(String.valueOf(userId))
+                .claim(CLAIM_FAMILY, familyId)
+                .claim(CLAIM_TYPE, TYPE_REFRESH)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
                 .compact();
+
+        refreshTokenSignTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return token;
+    }
+
+    /**
+     * Refresh Token 유효 기간 (ms)
+     */
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
+    }
+
+    /**
+     * 토큰을 한 번만 파싱/검증하여 클레임 반환 (검증 결과는 exp 까지 캐시)
+     *
+     * @throws JwtException             서명 불일치, 만료 등 유효하지 않은 토큰
+     * @throws IllegalArgumentException 빈 토큰
+     */
+    public JwtPrincipal parseToken(String token) {
+        long startedAt = System.nanoTime();
+        if (verifiedTokens == null) {
+            JwtPrincipal principal = toPrincipal(parseClaims(token));
+            parseCacheMissTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return principal;
+        }
+
+        ByteBuffer key = digest(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !cached.isExpiredAt(System.currentTimeMillis())) {
+            parseCacheHitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        JwtPrincipal principal = toPrincipal(parseClaims(token));
+        verifiedTokens.put(key, principal);
+        parseCacheMissTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return principal;
+    }
+
+    /**
+     * 유효한 토큰이면 클레임, 아니면 빈 값
+     */
+    public Optional<JwtPrincipal> resolveToken(String token) {
+        try {
+            return Optional.of(parseToken(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     /**
      * 토큰에서 사용자 ID 추출
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = parseClaims(token);
-        return Long.parseLong(claims.getSubject());
+        return parseToken(token).userId();
     }
 
     /**
      * 토큰에서 이메일 추출
      */
     public String getEmailFromToken(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("email", String.class);
+        return parseToken(token).email();
     }
 
     /**
      * 토큰에서 역할 추출
      */
     public String getRoleFromToken(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("role", String.class);
+        return parseToken(token).role();
     }
 
     /**
      * 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
-        try {
-            parseClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return resolveToken(token).isPresent();
     }
 
     /**
      * 토큰 파싱
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -110,10 +201,69 @@ public class JwtTokenProvider {
      */
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = parseClaims(token);
-            return claims.getExpiration().before(new Date());
-        } catch (JwtException e) {
+            return parseToken(token).isExpiredAt(System.currentTimeMillis());
+        } catch (JwtException | IllegalArgumentException e) {
             return true;
         }
     }
+
+    private JwtPrincipal toPrincipal(Claims claims) {
+        return new JwtPrincipal(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.getId(),
+                claims.get(CLAIM_FAMILY, String.class),
+                TYPE_REFRESH.equals(claims.get(CLAIM_TYPE, String.class)),
+                claims.getExpiration().getTime()
+        );
+    }
+
+    private static Timer signTimer(String type) {
+        return Timer.builder("jwt.sign")
+                .description("JWT 서명 시간")
+                .tag("type", type)
+                .register(Metrics.globalRegistry);
+    }
+
+    private static Timer parseTimer(String cache) {
+        return Timer.builder("jwt.parse")
+                .description("JWT 파싱/검증 시간 (검증 캐시 적중 여부별, 실패한 파싱은 제외)")
+                .tag("cache", cache)
+                .register(Metrics.globalRegistry);
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static Cache<ByteBuffer, JwtPrincipal> createCache(long cacheSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new Expiry<ByteBuffer, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, JwtPrincipal value, long currentTime) {
+                        long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, JwtPrincipal value,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, JwtPrincipal value,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 }
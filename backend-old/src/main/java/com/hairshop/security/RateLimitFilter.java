@@ -0,0 +1,263 @@
+package com.hairshop.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hairshop.config.RateLimitProperties;
+import com.hairshop.config.RateLimitProperties.Limit;
+import com.hairshop.exception.ErrorCode;
+import com.hairshop.util.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로별 요청 수 제한 (JwtAuthenticationFilter 앞에서 실행)
+ *
+ * 규칙마다 클라이언트 IP, 계정(JSON 본문의 이메일) 별 토큰 버킷을 두고, 어느 한쪽이라도 비면
+ * 컨트롤러(BCrypt 검증)까지 가지 않고 429 + Retry-After 로 응답한다.
+ * IP 는 request.getRemoteAddr() 이며, 로드밸런서 뒤에서는 server.forward-headers-strategy: native 와
+ * server.tomcat.remoteip.internal-proxies(신뢰하는 프록시)로 X-Forwarded-For 의 실제 클라이언트 IP 가 된다
+ * (설정하지 않으면 모든 클라이언트가 로드밸런서 IP 하나를 나눠 쓰게 됨).
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // 계정 확인을 위해 읽는 요청 본문 최대 크기 (로그인 요청은 수백 바이트)
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+
+    private final boolean enabled;
+    private final List<CompiledRule> rules;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.objectMapper = objectMapper;
+        this.rules = properties.rules().entrySet().stream()
+                .map(entry -> CompiledRule.of(entry.getKey(), entry.getValue(), properties, meterRegistry))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || rules.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        CompiledRule rule = match(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (rule.ipLimiter() != null) {
+            long waitNanos = rule.ipLimiter().tryAcquire(request.getRemoteAddr());
+            if (waitNanos > 0) {
+                reject(response, rule.ipRejected(), waitNanos);
+                return;
+            }
+        }
+
+        if (rule.accountLimiter() != null) {
+            byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                writeError(response, HttpServletResponse.SC_BAD_REQUEST, ErrorCode.INVALID_REQUEST);
+                return;
+            }
+            String account = readAccount(body, rule.accountField());
+            if (account != null) {
+                long waitNanos = rule.accountLimiter().tryAcquire(account);
+                if (waitNanos > 0) {
+                    reject(response, rule.accountRejected(), waitNanos);
+                    return;
+                }
+            }
+            // 이미 읽은 본문을 컨트롤러가 다시 읽을 수 있도록 감싸서 전달
+            request = new CachedBodyRequest(request, body);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private CompiledRule match(HttpServletRequest request) {
+        for (CompiledRule rule : rules) {
+            if (rule.matcher().matches(request)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * JSON 본문에서 계정 값 추출 (소문자, 앞뒤 공백 제거), 없거나 잘못된 JSON 이면 null
+     */
+    private String readAccount(byte[] body, String field) {
+        try {
+            JsonNode value = objectMapper.readTree(body).path(field);
+            return value.isTextual() && !value.textValue().isBlank()
+                    ? value.textValue().trim().toLowerCase(Locale.ROOT)
+                    : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void reject(HttpServletResponse response, Counter rejected, long waitNanos) throws IOException {
+        rejected.increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeError(response, ErrorCode.RATE_LIMITED.getStatus().value(), ErrorCode.RATE_LIMITED);
+    }
+
+    private static void writeError(HttpServletResponse response, int status, ErrorCode errorCode) throws IOException {
+        byte[] body = errorCode.getBody();
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private record CompiledRule(
+            RequestMatcher matcher,
+            RateLimiter ipLimiter,
+            RateLimiter accountLimiter,
+            String accountField,
+            Counter ipRejected,
+            Counter accountRejected
+    ) {
+
+        static CompiledRule of(String name, RateLimitProperties.Rule rule, RateLimitProperties properties,
+                               MeterRegistry meterRegistry) {
+            return new CompiledRule(
+                    new AntPathRequestMatcher(rule.path(), rule.method()),
+                    limiter(rule.ip(), properties),
+                    limiter(rule.account(), properties),
+                    rule.accountField(),
+                    rejectedCounter(meterRegistry, name, "ip"),
+                    rejectedCounter(meterRegistry, name, "account")
+            );
+        }
+
+        private static RateLimiter limiter(Limit limit, RateLimitProperties properties) {
+            return limit != null
+                    ? new RateLimiter(limit.capacity(), limit.period(), properties.maxKeys(), properties.idleTimeout())
+                    : null;
+        }
+
+        private static Counter rejectedCounter(MeterRegistry meterRegistry, String rule, String key) {
+            return Counter.builder("ratelimit.rejected")
+                    .description("요청 수 제한으로 거절된 요청 수")
+                    .tag("rule", rule)
+                    .tag("key", key)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 미리 읽어 둔 본문을 다시 제공하는 요청 래퍼
+     */
+    static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+
+                private ReadListener readListener;
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문이 이미 메모리에 있으므로 바로 onDataAvailable, 다 읽었으면 onAllDataRead 호출
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    Objects.requireNonNull(listener, "listener");
+                    if (readListener != null) {
+                        throw new IllegalStateException("ReadListener 가 이미 설정되었습니다");
+                    }
+                    readListener = listener;
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
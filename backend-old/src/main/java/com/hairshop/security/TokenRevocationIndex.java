@@ -0,0 +1,89 @@
+package com.hairshop.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 폐기된 토큰/토큰 패밀리 ID 의 메모리 색인
+ *
+ * 요청마다 호출되므로 DB 를 조회하지 않는다. 대부분의 토큰은 폐기되지 않았으므로
+ * Bloom filter 로 먼저 걸러내고, 통과한 경우에만 정확한 집합(ID → 만료 시각)을 확인한다.
+ * 만료 시각이 지난 항목은 토큰 자체가 만료되어 더 이상 필요 없으므로 {@link #prune(long)} 으로 정리한다.
+ */
+@Component
+public class TokenRevocationIndex {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final int expectedInsertions;
+    private final Map<String, Long> revokedIds = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile BloomFilter bloomFilter;
+
+    public TokenRevocationIndex(@Value("${jwt.revocation.expected-size:100000}") int expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+        this.bloomFilter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * 토큰 자체 또는 토큰이 속한 패밀리가 폐기되었는지 확인
+     */
+    public boolean isRevoked(JwtPrincipal principal) {
+        return isRevoked(principal.tokenId()) || isRevoked(principal.familyId());
+    }
+
+    /**
+     * ID 폐기 여부 확인
+     */
+    public boolean isRevoked(String id) {
+        if (id == null || !bloomFilter.mightContain(id)) {
+            return false;
+        }
+        return revokedIds.containsKey(id);
+    }
+
+    /**
+     * ID 폐기 등록 (expiresAtMillis 이후 정리 대상)
+     */
+    public void revoke(String id, long expiresAtMillis) {
+        writeLock.lock();
+        try {
+            revokedIds.merge(id, expiresAtMillis, Math::max);
+            bloomFilter.put(id);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 만료된 항목 제거 후 Bloom filter 재생성
+     *
+     * @return 제거된 항목 수
+     */
+    public int prune(long nowMillis) {
+        writeLock.lock();
+        try {
+            int before = revokedIds.size();
+            revokedIds.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revokedIds.size() * 2), FALSE_POSITIVE_RATE);
+            revokedIds.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+
+            return before - revokedIds.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 색인된 폐기 항목 수
+     */
+    public int size() {
+        return revokedIds.size();
+    }
+}
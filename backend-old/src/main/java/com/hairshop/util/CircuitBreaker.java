@@ -0,0 +1,171 @@
+package com.hairshop.util;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서킷 브레이커 (최근 windowSize 건의 실패율 기준)
+ *
+ * CLOSED: 호출 결과를 링 버퍼에 기록하고, minimumCalls 건 이상 쌓였을 때 실패율이 threshold 이상이면 OPEN.
+ * OPEN: openDuration 동안 호출을 바로 거절한 뒤 HALF_OPEN.
+ * HALF_OPEN: halfOpenCalls 건만 시험 호출을 허용하고, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN.
+ * CLOSED 상태의 tryAcquire 는 volatile state 만 읽고 통과하며, 결과 기록과 상태 전이만 잠금 안에서 한다.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 최근 호출 결과 (true = 실패)
+    private final boolean[] window;
+    private int recorded;
+    private int next;
+    private int failures;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    /**
+     * @param windowSize           실패율을 계산할 최근 호출 수
+     * @param minimumCalls         실패율을 판단하기 위한 최소 호출 수
+     * @param failureRateThreshold OPEN 으로 바꿀 실패율 (0 ~ 1)
+     * @param openDuration         OPEN 유지 시간
+     * @param halfOpenCalls        HALF_OPEN 에서 허용하는 시험 호출 수
+     */
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                          Duration openDuration, int halfOpenCalls) {
+        if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("windowSize >= minimumCalls > 0, halfOpenCalls > 0 이어야 합니다");
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("failureRateThreshold 는 0 초과 1 이하입니다");
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.window = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부 (허용했으면 결과를 onSuccess/onFailure/onCancelled 중 하나로 알려야 함)
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    boolean tryAcquire(long nowNanos) {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (nowNanos - openedAt < openDurationNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits == 0) {
+                    return false;
+                }
+                halfOpenPermits--;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        record(false, System.nanoTime());
+    }
+
+    public void onFailure() {
+        record(true, System.nanoTime());
+    }
+
+    /**
+     * 허용한 호출이 결과 없이 취소됨 (HALF_OPEN 시험 호출 자리 반환)
+     */
+    public void onCancelled() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls - halfOpenSuccesses) {
+                halfOpenPermits++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void record(boolean failed, long nowNanos) {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED -> {
+                    if (recorded == windowSize) {
+                        failures -= window[next] ? 1 : 0;
+                    } else {
+                        recorded++;
+                    }
+                    window[next] = failed;
+                    failures += failed ? 1 : 0;
+                    next = (next + 1) % windowSize;
+                    if (recorded >= minimumCalls && failures >= failureRateThreshold * recorded) {
+                        open(nowNanos);
+                    }
+                }
+                case HALF_OPEN -> {
+                    if (failed) {
+                        open(nowNanos);
+                    } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                        close();
+                    }
+                }
+                // OPEN 전에 시작된 호출의 결과는 무시
+                case OPEN -> {
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State state() {
+        return state;
+    }
+
+    private void open(long nowNanos) {
+        state = State.OPEN;
+        openedAt = nowNanos;
+        resetWindow();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        recorded = 0;
+        next = 0;
+        failures = 0;
+    }
+}
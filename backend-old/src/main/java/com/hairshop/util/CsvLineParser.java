@@ -0,0 +1,57 @@
+package com.hairshop.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 한 줄 파서 (RFC 4180, 따옴표로 감싼 필드 및 "" 이스케이프 지원)
+ *
+ * 줄 단위로 스트리밍 처리하므로 따옴표 안의 줄바꿈은 지원하지 않는다.
+ */
+public final class CsvLineParser {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private CsvLineParser() {
+    }
+
+    /**
+     * 한 줄을 필드 목록으로 분리
+     *
+     * @throws IllegalArgumentException 따옴표가 닫히지 않은 경우
+     */
+    public static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("따옴표가 닫히지 않았습니다");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
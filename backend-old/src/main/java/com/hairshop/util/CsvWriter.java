@@ -0,0 +1,93 @@
+package com.hairshop.util;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV 행 출력 (RFC 4180, CsvLineParser 와 짝)
+ *
+ * 필드를 하나씩 바로 Writer 에 쓰므로 행 수와 관계없이 추가 메모리를 쓰지 않는다 (행/필드 배열을 만들지 않음).
+ * 쉼표, 따옴표, 줄바꿈이 들어간 필드만 따옴표로 감싸고 안의 따옴표는 "" 로 이스케이프한다.
+ * 스레드 안전하지 않다.
+ */
+public final class CsvWriter implements Flushable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_END = "\r\n";
+
+    private final Writer out;
+    private boolean rowStarted;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * 필드 추가 (null 은 빈 필드)
+     */
+    public CsvWriter field(String value) throws IOException {
+        if (rowStarted) {
+            out.write(SEPARATOR);
+        }
+        rowStarted = true;
+        if (value == null || value.isEmpty()) {
+            return this;
+        }
+        if (!needsQuote(value)) {
+            out.write(value);
+            return this;
+        }
+        out.write(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                out.write(QUOTE);
+            }
+            out.write(c);
+        }
+        out.write(QUOTE);
+        return this;
+    }
+
+    /**
+     * 필드 추가 (null 은 빈 필드, 그 외는 toString)
+     */
+    public CsvWriter field(Object value) throws IOException {
+        return field(value == null ? null : value.toString());
+    }
+
+    /**
+     * 행 끝 (CRLF)
+     */
+    public void endRow() throws IOException {
+        out.write(LINE_END);
+        rowStarted = false;
+    }
+
+    /**
+     * 필드들로 한 행 출력
+     */
+    public void writeRow(String... values) throws IOException {
+        for (String value : values) {
+            field(value);
+        }
+        endRow();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
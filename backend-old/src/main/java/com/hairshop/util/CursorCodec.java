@@ -0,0 +1,164 @@
+package com.hairshop.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * keyset 페이지 커서 토큰 (마지막 행의 정렬 키 값을 URL-safe Base64 로 묶음)
+ *
+ * 토큰 맨 앞에 정렬 기준과 키 값에 대한 HMAC-SHA256 을 넣어, 다른 목록의 커서나 임의로 바꾼 토큰은 거부한다.
+ * 키는 서버 설정(cursor.secret)이므로 서버끼리 같아야 하고, 바꾸면 이미 내려준 커서는 모두 무효가 된다.
+ * 값은 "길이:값" 으로 이어 붙이므로 구분자가 들어간 문자열도 그대로 담을 수 있다.
+ */
+public final class CursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    public CursorCodec(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("커서 서명 키가 없습니다");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * 커서 토큰 생성
+     *
+     * @param signature 정렬 기준 (엔티티, 정렬 키, 방향)
+     * @param values    마지막 행의 정렬 키 값 (null 불가)
+     */
+    public String encode(String signature, List<?> values) {
+        StringBuilder body = new StringBuilder();
+        for (Object value : values) {
+            if (value == null) {
+                throw new IllegalArgumentException("커서 키 값은 null 일 수 없습니다");
+            }
+            append(body, value instanceof Enum<?> e ? e.name() : value.toString());
+        }
+        StringBuilder text = new StringBuilder();
+        append(text, mac(signature, body.toString()));
+        text.append(body);
+        return ENCODER.encodeToString(text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 해석
+     *
+     * @param types 정렬 키 값의 타입 (encode 때와 같은 순서)
+     * @throws IllegalArgumentException 형식이 잘못되었거나, 다른 정렬 기준의 토큰이거나, 서명이 맞지 않는 경우
+     */
+    public List<Object> decode(String token, String signature, List<Class<?>> types) {
+        String text = text(token);
+        List<String> fields = split(text);
+        if (fields.size() != types.size() + 1) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+        // 서명 필드("길이:서명") 뒤가 서명한 본문
+        String body = text.substring(text.indexOf(':') + 1 + fields.get(0).length());
+        byte[] expected = mac(signature, body).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, fields.get(0).getBytes(StandardCharsets.UTF_8))) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+        List<Object> values = new ArrayList<>(types.size());
+        for (int i = 0; i < types.size(); i++) {
+            values.add(parse(fields.get(i + 1), types.get(i)));
+        }
+        return values;
+    }
+
+    /**
+     * 정렬 기준 + 키 값 본문의 HMAC (정렬 기준도 "길이:값" 으로 붙여 경계가 섞이지 않게 함)
+     */
+    private String mac(String signature, String body) {
+        StringBuilder signed = new StringBuilder();
+        append(signed, signature);
+        signed.append(body);
+        try {
+            // Mac 은 스레드 안전하지 않으므로 호출마다 새로 만듦
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return ENCODER.encodeToString(mac.doFinal(signed.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("커서 서명을 만들 수 없습니다", e);
+        }
+    }
+
+    private static void append(StringBuilder text, String field) {
+        text.append(field.length()).append(':').append(field);
+    }
+
+    private static String text(String token) {
+        try {
+            return new String(DECODER.decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다", e);
+        }
+    }
+
+    private static List<String> split(String text) {
+        List<String> fields = new ArrayList<>();
+        int position = 0;
+        while (position < text.length()) {
+            int colon = text.indexOf(':', position);
+            if (colon < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+            int length;
+            try {
+                length = Integer.parseInt(text, position, colon, 10);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다", e);
+            }
+            int end = colon + 1 + length;
+            if (length < 0 || end > text.length()) {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+            fields.add(text.substring(colon + 1, end));
+            position = end;
+        }
+        return fields;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object parse(String text, Class<?> type) {
+        try {
+            if (type == Long.class || type == long.class) {
+                return Long.valueOf(text);
+            }
+            if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(text);
+            }
+            if (type == String.class) {
+                return text;
+            }
+            if (type == LocalDate.class) {
+                return LocalDate.parse(text);
+            }
+            if (type == LocalTime.class) {
+                return LocalTime.parse(text);
+            }
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(text);
+            }
+            if (type.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) type, text);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다", e);
+        }
+        throw new IllegalArgumentException("커서 키로 쓸 수 없는 타입입니다: " + type.getSimpleName());
+    }
+}
@@ -0,0 +1,69 @@
+package com.hairshop.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 (GCRA, 잠금 없음)
+ *
+ * 키마다 "버킷이 다시 가득 차는 시각(TAT)" 하나만 AtomicLong 으로 두고 CAS 로 갱신한다.
+ * 요청 하나는 emissionInterval(period / capacity) 만큼 TAT 를 미루며, TAT 가 현재보다
+ * period 이상 앞서 있으면 거절한다. 오래 쓰지 않은 키는 Caffeine 이 크기/유휴 시간 기준으로 정리한다.
+ */
+public final class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long periodNanos;
+    private final Cache<String, AtomicLong> buckets;
+
+    /**
+     * @param capacity    연속으로 허용하는 최대 요청 수
+     * @param period      capacity 만큼 다시 채워지는 시간
+     * @param maxKeys     기억할 최대 키 수
+     * @param idleTimeout 유휴 키 삭제 시간 (period 보다 짧으면 period 사용)
+     */
+    public RateLimiter(int capacity, Duration period, long maxKeys, Duration idleTimeout) {
+        if (capacity <= 0 || period == null || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("capacity 와 period 는 0보다 커야 합니다");
+        }
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.periodNanos = emissionIntervalNanos * capacity;
+        // 버킷이 다 차기 전에 삭제되면 제한이 풀리므로 최소 period 동안은 유지
+        Duration idle = idleTimeout.compareTo(period) < 0 ? period : idleTimeout;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idle)
+                .build();
+    }
+
+    /**
+     * 요청 하나 허용 여부
+     *
+     * @return 허용이면 0, 거절이면 다음 요청이 허용될 때까지 남은 나노초
+     */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long nowNanos) {
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(nowNanos));
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = (current - nowNanos > 0 ? current : nowNanos) + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - periodNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public long estimatedSize() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,47 @@
+package com.hairshop.util;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키 해시로 고정 개수의 ReentrantLock 중 하나를 골라 쓰는 잠금 묶음
+ *
+ * 키마다 잠금을 만들지 않아 메모리가 일정하고, 같은 키는 항상 같은 잠금을 사용한다.
+ * 서로 다른 키가 같은 잠금을 공유할 수 있으므로 잠금 안에서 다른 키의 잠금을 잡으면 안 된다.
+ */
+public final class StripedLock {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /**
+     * @param stripes 잠금 수 (2의 거듭제곱으로 올림)
+     */
+    public StripedLock(int stripes) {
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 키에 해당하는 잠금
+     */
+    public Lock get(Object key) {
+        int h = key.hashCode();
+        // 하위 비트만 쓰므로 상위 비트를 섞어 줌
+        h ^= h >>> 16;
+        h *= 0x9E3779B9;
+        h ^= h >>> 16;
+        return locks[h & mask];
+    }
+
+    public int size() {
+        return locks.length;
+    }
+}
@@ -0,0 +1,256 @@
+package com.hairshop.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계층형 타이밍 휠 (만료 시각이 된 항목을 advance 로 꺼냄)
+ *
+ * 0단계는 tick 크기 칸 wheelSize 개, k단계는 tick * wheelSize^k 크기 칸 wheelSize 개로 이루어지며,
+ * 먼 만료 시각은 위 단계에 두었다가 그 칸의 시간이 되면 아래 단계로 옮긴다 (위 단계는 필요할 때 추가).
+ * 등록/취소는 칸의 이중 연결 리스트에 붙이고 떼는 것이라 대기 중인 항목 수와 관계없이 O(1) 이다.
+ * 시각 정밀도는 tick 이다 (만료 시각이 속한 tick 이 시작되면 꺼냄).
+ * 등록, 취소(Timeout.cancel), advance 는 휠 전체에 하나인 잠금을 나눠 쓴다.
+ */
+public final class TimingWheel<T> {
+
+    private final int wheelSize;
+    // 단계별 칸 크기 (ticks[k] = tick * wheelSize^k, long 범위 안에서만)
+    private final long[] ticks;
+    private final List<Bucket[]> levels = new ArrayList<>();
+    // 등록 시점에 이미 만료 시각이 된 항목 (다음 advance 에서 바로 꺼냄)
+    private final Bucket due = new Bucket();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // tick 단위로 내림한 현재 시각
+    private long currentTime;
+    private int size;
+
+    /**
+     * @param tickMillis  0단계 칸 크기 (시각 정밀도)
+     * @param wheelSize   단계별 칸 수
+     * @param startMillis 시작 시각
+     */
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || startMillis < 0) {
+            throw new IllegalArgumentException("tickMillis > 0, wheelSize >= 2, startMillis >= 0 이어야 합니다");
+        }
+        this.wheelSize = wheelSize;
+        List<Long> tickList = new ArrayList<>();
+        long tick = tickMillis;
+        while (tick <= Long.MAX_VALUE / wheelSize) {
+            tickList.add(tick);
+            tick *= wheelSize;
+        }
+        this.ticks = tickList.stream().mapToLong(Long::longValue).toArray();
+        this.currentTime = startMillis - startMillis % tickMillis;
+    }
+
+    /**
+     * 등록 (이미 만료 시각이 지났으면 다음 advance 에서 꺼냄)
+     */
+    public Timeout schedule(T payload, long expirationMillis) {
+        Timeout timeout = new Timeout(payload, expirationMillis);
+        lock.lock();
+        try {
+            place(timeout);
+            size++;
+        } finally {
+            lock.unlock();
+        }
+        return timeout;
+    }
+
+    /**
+     * nowMillis 까지 시간을 진행하고 만료된 항목을 만료 시각 칸 순서대로 반환
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            drain(due, expired);
+            long tick = ticks[0];
+            if (size == 0 && nowMillis >= currentTime + tick) {
+                // 비어 있으면 칸을 하나씩 지나갈 필요 없음
+                currentTime = nowMillis - nowMillis % tick;
+                return expired;
+            }
+            while (currentTime + tick <= nowMillis) {
+                currentTime += tick;
+                // 이번 시각에 시작하는 위 단계 칸을 아래 단계로 옮김
+                for (int level = levels.size() - 1; level >= 1; level--) {
+                    if (currentTime % ticks[level] == 0) {
+                        cascade(levels.get(level)[slot(currentTime, level)]);
+                    }
+                }
+                drain(levels.get(0)[slot(currentTime, 0)], expired);
+                drain(due, expired);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return expired;
+    }
+
+    /**
+     * 대기 중인 항목 수
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 만료 시각이 속한 칸에 등록
+     *
+     * 현재 시각부터 칸 범위(tick * wheelSize) 안에 들어오는 가장 아래 단계를 고르므로,
+     * 위 단계에 둔 항목은 언제나 현재 칸보다 뒤 칸에 있고 그 칸이 시작될 때 한 번만 옮겨진다.
+     */
+    private void place(Timeout timeout) {
+        long expiration = timeout.expirationMillis;
+        if (expiration < currentTime + ticks[0]) {
+            due.add(timeout);
+            return;
+        }
+        for (int level = 0; level < ticks.length; level++) {
+            long tick = ticks[level];
+            long base = currentTime - currentTime % tick;
+            if (expiration - base < tick * wheelSize) {
+                bucketsOf(level)[slot(expiration, level)].add(timeout);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("만료 시각이 너무 멉니다: " + expiration);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Bucket[] bucketsOf(int level) {
+        while (levels.size() <= level) {
+            Bucket[] buckets = (Bucket[]) new TimingWheel<?>.Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket();
+            }
+            levels.add(buckets);
+        }
+        return levels.get(level);
+    }
+
+    private int slot(long time, int level) {
+        return (int) ((time / ticks[level]) % wheelSize);
+    }
+
+    private void cascade(Bucket bucket) {
+        for (Timeout timeout : bucket.removeAll()) {
+            place(timeout);
+        }
+    }
+
+    private void drain(Bucket bucket, List<T> expired) {
+        for (Timeout timeout : bucket.removeAll()) {
+            expired.add(timeout.payload);
+            size--;
+        }
+    }
+
+    /**
+     * 등록된 항목 (취소 가능)
+     */
+    public final class Timeout {
+
+        private final T payload;
+        private final long expirationMillis;
+
+        // 속한 칸과 칸 안의 이웃 (꺼냈거나 취소했으면 bucket == null)
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(T payload, long expirationMillis) {
+            this.payload = payload;
+            this.expirationMillis = expirationMillis;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public long expirationMillis() {
+            return expirationMillis;
+        }
+
+        /**
+         * 취소 (이미 꺼냈거나 취소했으면 false)
+         */
+        public boolean cancel() {
+            lock.lock();
+            try {
+                if (bucket == null) {
+                    return false;
+                }
+                bucket.remove(this);
+                size--;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public boolean isPending() {
+            lock.lock();
+            try {
+                return bucket != null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 칸 (이중 연결 리스트, head 는 빈 노드)
+     */
+    private final class Bucket {
+
+        private final Timeout head = new Timeout(null, 0);
+
+        Bucket() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = head.prev;
+            timeout.next = head;
+            head.prev.next = timeout;
+            head.prev = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            timeout.prev.next = timeout.next;
+            timeout.next.prev = timeout.prev;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        List<Timeout> removeAll() {
+            List<Timeout> removed = new ArrayList<>();
+            for (Timeout timeout = head.next; timeout != head; ) {
+                Timeout next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                timeout.bucket = null;
+                removed.add(timeout);
+                timeout = next;
+            }
+            head.prev = head;
+            head.next = head;
+            return removed;
+        }
+    }
+}
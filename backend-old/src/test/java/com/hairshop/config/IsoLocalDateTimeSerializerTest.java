@@ -0,0 +1,43 @@
+package com.hairshop.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IsoLocalDateTimeSerializerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .serializerByType(LocalDateTime.class, new IsoLocalDateTimeSerializer())
+            .build();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2024-01-01T00:00:00",
+            "2024-12-31T23:59:59",
+            "0001-02-03T04:05:06",
+            "2024-06-15T12:30:00.5",
+            "2024-06-15T12:30:00.123",
+            "2024-06-15T12:30:00.000001",
+            "2024-06-15T12:30:00.123456789",
+            "+10000-01-01T00:00:00"
+    })
+    @DisplayName("ISO_LOCAL_DATE_TIME 과 같은 문자열로 직렬화")
+    void sameAsIsoFormatter(String text) throws Exception {
+        // Given
+        LocalDateTime value = LocalDateTime.parse(text);
+
+        // When
+        String json = objectMapper.writeValueAsString(value);
+
+        // Then
+        assertThat(json).isEqualTo("\"" + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value) + "\"");
+        assertThat(objectMapper.readValue(json, LocalDateTime.class)).isEqualTo(value);
+    }
+}
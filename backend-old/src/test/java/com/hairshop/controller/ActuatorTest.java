@@ -0,0 +1,119 @@
+package com.hairshop.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hairshop.domain.user.entity.User;
+import com.hairshop.domain.user.repository.UserRepository;
+import com.hairshop.dto.request.LoginRequest;
+import com.hairshop.dto.request.SignupRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ActuatorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /actuator/health/liveness - 인증 없이 UP")
+    void liveness() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    @DisplayName("GET /actuator/health/readiness - DB, 커넥션 풀 상태 포함")
+    void readiness() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components.db.status").value("UP"))
+                .andExpect(jsonPath("$.components.hikariPool.status").value("UP"))
+                .andExpect(jsonPath("$.components.hikariPool.details.pending").exists());
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - 관리자가 아니면 거부")
+    void prometheusForbiddenForCustomer() throws Exception {
+        // Given
+        String accessToken = signup("test@example.com");
+
+        // When & Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("로그인 지연 시간 기록 (auth.login, jwt.sign, password.hash)")
+    void loginLatencyRecorded() throws Exception {
+        // Given
+        signup("test@example.com");
+        LoginRequest request = new LoginRequest("test@example.com", "password123");
+
+        // When
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // Then
+        Timer login = meterRegistry.find("auth.login").timer();
+        assertThat(login).isNotNull();
+        assertThat(login.count()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.find("jwt.sign").tag("type", "access").timer()).isNotNull();
+        assertThat(meterRegistry.find("password.hash").tag("operation", "matches").timer()).isNotNull();
+    }
+
+    // Helper method
+    private String signup(String email) throws Exception {
+        SignupRequest request = new SignupRequest(email, "password123", "홍길동", "010-1234-5678", User.UserRole.CUSTOMER);
+
+        String body = mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+}
@@ -1,5 +1,6 @@
 package com.hairshop.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hairshop.domain.user.entity.User;
 import com.hairshop.domain.user.repository.UserRepository;
@@ -17,6 +18,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Map;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -100,7 +103,8 @@ class AuthControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andDo(print())
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("EMAIL_ALREADY_EXISTS"));
     }
 
     @Test
@@ -161,7 +165,7 @@ class AuthControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andDo(print())
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isUnauthorized());
     }
 
     @Test
@@ -185,7 +189,8 @@ class AuthControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andDo(print())
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("INVALID_CREDENTIALS"));
     }
 
     @Test
@@ -197,4 +202,106 @@ class AuthControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("로그아웃되었습니다"));
     }
+
+    @Test
+    @DisplayName("POST /auth/refresh - 토큰 교체 후 이전 토큰 재사용 시 패밀리 폐기")
+    void refreshTokenRotationAndReuseDetection() throws Exception {
+        // Given
+        JsonNode signup = signup("test@example.com");
+        String firstRefreshToken = signup.get("refreshToken").asText();
+
+        // When - 정상 교체
+        String body = mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("refreshToken", firstRefreshToken))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String secondRefreshToken = objectMapper.readTree(body).get("refreshToken").asText();
+
+        // Then - 이전 토큰 재사용은 거부되고, 같은 패밀리의 최신 토큰도 폐기됨
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("refreshToken", firstRefreshToken))))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("REFRESH_TOKEN_REUSED"));
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("refreshToken", secondRefreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("POST /auth/logout - 로그아웃 후 Access Token 거부")
+    void logoutRevokesAccessToken() throws Exception {
+        // Given
+        String accessToken = signup("test@example.com").get("accessToken").asText();
+
+        mockMvc.perform(get("/auth/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // When
+        mockMvc.perform(post("/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get("/auth/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("DELETE /auth/me - 회원 탈퇴 후 로그인 불가")
+    void withdraw() throws Exception {
+        // Given
+        String accessToken = signup("test@example.com").get("accessToken").asText();
+
+        // When
+        mockMvc.perform(delete("/auth/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        // Then
+        LoginRequest loginRequest = new LoginRequest("test@example.com", "password123");
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("GET /admin/cache/statistics - 관리자가 아니면 거부")
+    void cacheStatisticsForbiddenForCustomer() throws Exception {
+        // Given
+        String accessToken = signup("test@example.com").get("accessToken").asText();
+
+        // When & Then
+        mockMvc.perform(get("/admin/cache/statistics")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+
+    // Helper method
+    private JsonNode signup(String email) throws Exception {
+        SignupRequest request = new SignupRequest(
+                email,
+                "password123",
+                "홍길동",
+                "010-1234-5678",
+                User.UserRole.CUSTOMER
+        );
+
+        String body = mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        return objectMapper.readTree(body);
+    }
 }
@@ -0,0 +1,230 @@
+package com.hairshop.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hairshop.domain.payment.client.StubPgServer;
+import com.hairshop.domain.payment.entity.Payment;
+import com.hairshop.domain.payment.repository.PaymentRepository;
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.domain.user.entity.User;
+import com.hairshop.domain.user.repository.UserRepository;
+import com.hairshop.dto.request.PaymentConfirmRequest;
+import com.hairshop.dto.request.PaymentPrepareRequest;
+import com.hairshop.dto.request.SignupRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PaymentControllerTest {
+
+    private static final StubPgServer PG_SERVER = new StubPgServer();
+
+    @DynamicPropertySource
+    static void pgProperties(DynamicPropertyRegistry registry) {
+        registry.add("payment-client.providers.toss.base-url", PG_SERVER::baseUrl);
+        registry.add("payment-client.providers.toss.read-timeout", () -> "500ms");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private String accessToken;
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PG_SERVER.reset();
+        accessToken = signupAndGetToken("payer@example.com");
+        Long customerId = userRepository.findByEmail("payer@example.com").orElseThrow().getId();
+        reservation = reservationRepository.save(Reservation.builder()
+                .shopId(1L)
+                .customerId(customerId)
+                .serviceId(1L)
+                .reservationDate(LocalDate.now().plusDays(1))
+                .reservationTime(LocalTime.of(10, 0))
+                .durationMinutes(60)
+                .totalPrice(new BigDecimal("30000"))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAll();
+        reservationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        PG_SERVER.close();
+    }
+
+    @Test
+    @DisplayName("POST /payments/confirm - 비동기로 PG 승인 후 COMPLETED")
+    void confirm() throws Exception {
+        // Given
+        String orderId = prepare();
+
+        // When
+        MvcResult pending = mockMvc.perform(confirmRequest(orderId, "30000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderId").value(orderId))
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.paymentMethod").value("카드"));
+        assertThat(PG_SERVER.idempotencyKeys()).containsExactly(orderId);
+    }
+
+    @Test
+    @DisplayName("POST /payments/confirm - 가상계좌 입금 대기면 WAITING_FOR_DEPOSIT, 매출로 잡지 않음")
+    void confirmWaitingForDeposit() throws Exception {
+        // Given
+        String orderId = prepare();
+        PG_SERVER.waitForDeposit();
+
+        // When
+        MvcResult pending = mockMvc.perform(confirmRequest(orderId, "30000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("WAITING_FOR_DEPOSIT"));
+        Payment payment = paymentRepository.findByOrderId(orderId).orElseThrow();
+        assertThat(payment.getStatus()).isEqualTo(Payment.PaymentStatus.WAITING_FOR_DEPOSIT);
+        assertThat(payment.getApprovedAt()).isNull();
+        assertThat(payment.netAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("POST /payments/confirm - PG 거절이면 400, 결제는 FAILED")
+    void confirmRejected() throws Exception {
+        // Given
+        String orderId = prepare();
+        PG_SERVER.failWith(400, "{\"code\":\"REJECT_CARD_COMPANY\",\"message\":\"카드사 거절\"}");
+
+        // When
+        MvcResult pending = mockMvc.perform(confirmRequest(orderId, "30000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("PAYMENT_REJECTED"));
+        assertThat(statusOf(orderId)).isEqualTo(Payment.PaymentStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("POST /payments/confirm - PG 응답 지연이면 503, 결제는 PENDING 으로 남아 다시 승인 가능")
+    void confirmTimeout() throws Exception {
+        // Given
+        String orderId = prepare();
+        PG_SERVER.latency(Duration.ofSeconds(2));
+
+        // When
+        MvcResult pending = mockMvc.perform(confirmRequest(orderId, "30000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.code").value("PAYMENT_GATEWAY_UNAVAILABLE"));
+        assertThat(statusOf(orderId)).isEqualTo(Payment.PaymentStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("POST /payments/confirm - 금액이 다르면 PG 를 호출하지 않고 400")
+    void confirmAmountMismatch() throws Exception {
+        // Given
+        String orderId = prepare();
+
+        // When & Then
+        mockMvc.perform(confirmRequest(orderId, "1000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("PAYMENT_AMOUNT_MISMATCH"));
+        assertThat(PG_SERVER.requests()).isZero();
+    }
+
+    private String prepare() throws Exception {
+        String body = mockMvc.perform(post("/payments")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new PaymentPrepareRequest(reservation.getId()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.amount").value(30000))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("orderId").asText();
+    }
+
+    private RequestBuilder confirmRequest(String orderId, String amount)
+            throws Exception {
+        return post("/payments/confirm")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new PaymentConfirmRequest("pay-key-" + orderId, orderId, new BigDecimal(amount))));
+    }
+
+    private Payment.PaymentStatus statusOf(String orderId) {
+        return paymentRepository.findByOrderId(orderId).orElseThrow().getStatus();
+    }
+
+    private String signupAndGetToken(String email) throws Exception {
+        SignupRequest request = new SignupRequest(email, "password123", "홍길동", "010-1234-5678",
+                User.UserRole.CUSTOMER);
+
+        String body = mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+}
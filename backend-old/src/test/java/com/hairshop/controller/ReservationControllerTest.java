@@ -0,0 +1,185 @@
+package com.hairshop.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.domain.schedule.entity.ShopSchedule;
+import com.hairshop.domain.schedule.repository.ShopScheduleRepository;
+import com.hairshop.domain.service.entity.HairService;
+import com.hairshop.domain.service.repository.HairServiceRepository;
+import com.hairshop.domain.shop.entity.Shop;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.domain.user.entity.User;
+import com.hairshop.domain.user.repository.UserRepository;
+import com.hairshop.dto.request.ReservationRequest;
+import com.hairshop.dto.request.SignupRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReservationControllerTest {
+
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private HairServiceRepository hairServiceRepository;
+
+    @Autowired
+    private ShopScheduleRepository shopScheduleRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private Shop shop;
+    private HairService cut;
+
+    @BeforeEach
+    void setUp() {
+        shop = shopRepository.save(Shop.builder()
+                .ownerId(1L)
+                .name("테스트 미용실")
+                .address("서울시 강남구")
+                .phone("02-123-4567")
+                .openingTime(LocalTime.of(10, 0))
+                .closingTime(LocalTime.of(13, 0))
+                .build());
+        cut = hairServiceRepository.save(HairService.builder()
+                .shopId(shop.getId())
+                .name("커트")
+                .price(new BigDecimal("20000"))
+                .durationMinutes(60)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        shopScheduleRepository.deleteAll();
+        hairServiceRepository.deleteAll();
+        shopRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /shops/{shopId}/availability - 영업 시간 안의 슬롯 조회")
+    void getAvailability() throws Exception {
+        getAvailability(DATE)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.open").value(true))
+                .andExpect(jsonPath("$.durationMinutes").value(60))
+                .andExpect(jsonPath("$.availableSlots", contains("10:00", "10:30", "11:00", "11:30", "12:00")));
+    }
+
+    @Test
+    @DisplayName("GET /shops/{shopId}/availability - 휴무일")
+    void getAvailabilityOnHoliday() throws Exception {
+        // Given
+        shopScheduleRepository.save(ShopSchedule.builder()
+                .shopId(shop.getId())
+                .date(DATE)
+                .open(false)
+                .build());
+
+        // When & Then
+        getAvailability(DATE)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.open").value(false))
+                .andExpect(jsonPath("$.availableSlots", empty()));
+    }
+
+    @Test
+    @DisplayName("예약 생성/취소 시 예약 가능 시간 갱신")
+    void reservationUpdatesAvailability() throws Exception {
+        // Given
+        String accessToken = signupAndGetToken("customer@example.com");
+        getAvailability(DATE).andExpect(status().isOk());
+        ReservationRequest request = new ReservationRequest(
+                shop.getId(), cut.getId(), DATE, LocalTime.of(10, 30), null);
+
+        // When
+        String body = mockMvc.perform(post("/reservations")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.reservationTime").value("10:30"))
+                .andReturn().getResponse().getContentAsString();
+        long reservationId = objectMapper.readTree(body).get("id").asLong();
+
+        // Then
+        getAvailability(DATE)
+                .andExpect(jsonPath("$.availableSlots", contains("11:30", "12:00")));
+
+        mockMvc.perform(post("/reservations")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("RESERVATION_UNAVAILABLE"))
+                .andExpect(jsonPath("$.error").value("예약할 수 없는 시간입니다"));
+
+        mockMvc.perform(post("/reservations/{reservationId}/cancel", reservationId)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+
+        getAvailability(DATE)
+                .andExpect(jsonPath("$.availableSlots", contains("10:00", "10:30", "11:00", "11:30", "12:00")));
+    }
+
+    // Helper methods
+    private ResultActions getAvailability(LocalDate date) throws Exception {
+        return mockMvc.perform(get("/shops/{shopId}/availability", shop.getId())
+                .param("serviceId", String.valueOf(cut.getId()))
+                .param("date", date.toString()));
+    }
+
+    private String signupAndGetToken(String email) throws Exception {
+        SignupRequest request = new SignupRequest(email, "password123", "홍길동", "010-1234-5678",
+                User.UserRole.CUSTOMER);
+
+        String body = mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+}
@@ -0,0 +1,118 @@
+package com.hairshop.controller;
+
+import com.hairshop.domain.shop.entity.Shop;
+import com.hairshop.domain.shop.entity.ShopRatingStats;
+import com.hairshop.domain.shop.repository.ShopRatingStatsRepository;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.domain.shop.service.NearbyShopService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ShopControllerTest {
+
+    // 강남역
+    private static final double LAT = 37.4979;
+    private static final double LNG = 127.0276;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private ShopRatingStatsRepository shopRatingStatsRepository;
+
+    @Autowired
+    private NearbyShopService nearbyShopService;
+
+    private Shop near;
+    private Shop far;
+
+    @BeforeEach
+    void setUp() {
+        near = shopRepository.save(shop("가까운 미용실", LAT + 0.001, LNG, Shop.SubscriptionStatus.ACTIVE));
+        far = shopRepository.save(shop("먼 미용실", LAT + 0.01, LNG, Shop.SubscriptionStatus.ACTIVE));
+        shopRepository.save(shop("미구독 미용실", LAT, LNG, Shop.SubscriptionStatus.INACTIVE));
+        shopRatingStatsRepository.save(ShopRatingStats.builder()
+                .shopId(far.getId())
+                .totalReviews(10)
+                .averageRating(new BigDecimal("4.80"))
+                .build());
+        nearbyShopService.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        shopRatingStatsRepository.deleteAll();
+        shopRepository.deleteAll();
+        nearbyShopService.rebuild();
+    }
+
+    @Test
+    @DisplayName("GET /shops/nearby - 구독 중인 미용실만 가까운 순으로 평점과 함께 조회")
+    void getNearbyShops() throws Exception {
+        mockMvc.perform(get("/shops/nearby")
+                        .param("lat", String.valueOf(LAT))
+                        .param("lng", String.valueOf(LNG))
+                        .param("radius", "2000"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("가까운 미용실", "먼 미용실")))
+                .andExpect(jsonPath("$[0].averageRating").doesNotExist())
+                .andExpect(jsonPath("$[1].averageRating").value(4.8))
+                .andExpect(jsonPath("$[1].totalReviews").value(10));
+    }
+
+    @Test
+    @DisplayName("GET /shops/nearby - 평점 순 정렬, 반경 없이 가까운 순 limit 곳")
+    void getNearbyShopsSortedByRating() throws Exception {
+        mockMvc.perform(get("/shops/nearby")
+                        .param("lat", String.valueOf(LAT))
+                        .param("lng", String.valueOf(LNG))
+                        .param("limit", "2")
+                        .param("sort", "RATING"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("먼 미용실", "가까운 미용실")));
+    }
+
+    @Test
+    @DisplayName("GET /shops/nearby - 반경 상한 초과 시 400")
+    void getNearbyShopsWithTooLargeRadius() throws Exception {
+        mockMvc.perform(get("/shops/nearby")
+                        .param("lat", String.valueOf(LAT))
+                        .param("lng", String.valueOf(LNG))
+                        .param("radius", "50000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_REQUEST"));
+    }
+
+    private static Shop shop(String name, double lat, double lng, Shop.SubscriptionStatus status) {
+        return Shop.builder()
+                .ownerId(1L)
+                .name(name)
+                .address("서울시 강남구")
+                .phone("02-123-4567")
+                .latitude(lat)
+                .longitude(lng)
+                .subscriptionStatus(status)
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.hairshop.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hairshop.domain.user.entity.User;
+import com.hairshop.domain.user.repository.UserRepository;
+import com.hairshop.dto.request.SignupRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerTest {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("POST /users/import - 유효한 행만 등록하고 행 단위 오류 보고")
+    void importUsers() throws Exception {
+        // Given
+        String ownerToken = signupAndGetToken("owner@example.com", User.UserRole.OWNER);
+        String csv = """
+                email,name,phone
+                kim@example.com,김철수,010-1111-2222
+                "lee@example.com","이, 영희",01033334444
+                invalid-email,박민수,010-5555-6666
+                kim@example.com,김철수,010-1111-2222
+                owner@example.com,사장님,010-7777-8888
+                choi@example.com,,010-9999-0000
+                jung@example.com,정다은,010-1212-3434
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/users/import")
+                        .header("Authorization", "Bearer " + ownerToken)
+                        .contentType(TEXT_CSV)
+                        .content(csv))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(7))
+                .andExpect(jsonPath("$.importedCount").value(3))
+                .andExpect(jsonPath("$.failedCount").value(4))
+                .andExpect(jsonPath("$.errors[0].lineNumber").value(4))
+                .andExpect(jsonPath("$.errors[0].message").value("올바른 이메일 형식이 아닙니다"))
+                .andExpect(jsonPath("$.errors[1].message").value("파일 안에 중복된 이메일입니다"))
+                .andExpect(jsonPath("$.errors[2].email").value("owner@example.com"))
+                .andExpect(jsonPath("$.errors[2].message").value("이미 사용 중인 이메일입니다"))
+                .andExpect(jsonPath("$.errors[3].message").value("이름은 필수입니다"));
+
+        User imported = userRepository.findByEmail("lee@example.com").orElseThrow();
+        assertThat(imported.getName()).isEqualTo("이, 영희");
+        assertThat(imported.getRole()).isEqualTo(User.UserRole.CUSTOMER);
+        assertThat(imported.getPassword()).startsWith("$2a$");
+    }
+
+    @Test
+    @DisplayName("POST /users/import - 컬럼 길이를 넘는 값은 이메일 중복이 아니라 길이 오류로 보고")
+    void importUsersTooLong() throws Exception {
+        // Given
+        String ownerToken = signupAndGetToken("owner@example.com", User.UserRole.OWNER);
+        String csv = "email,name,phone\n"
+                + "long@example.com," + "가".repeat(User.NAME_MAX_LENGTH + 1) + ",010-1111-2222\n"
+                + "ok@example.com,김철수,010-3333-4444\n";
+
+        // When & Then
+        mockMvc.perform(post("/users/import")
+                        .header("Authorization", "Bearer " + ownerToken)
+                        .contentType(TEXT_CSV)
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount").value(1))
+                .andExpect(jsonPath("$.failedCount").value(1))
+                .andExpect(jsonPath("$.errors[0].lineNumber").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("이름은 100자 이하여야 합니다"));
+    }
+
+    @Test
+    @DisplayName("POST /users/import - 필수 컬럼 누락 시 400")
+    void importUsersMissingColumn() throws Exception {
+        // Given
+        String ownerToken = signupAndGetToken("owner@example.com", User.UserRole.OWNER);
+
+        // When & Then
+        mockMvc.perform(post("/users/import")
+                        .header("Authorization", "Bearer " + ownerToken)
+                        .contentType(TEXT_CSV)
+                        .content("email,name\nkim@example.com,김철수\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("CSV_COLUMN_MISSING"))
+                .andExpect(jsonPath("$.error").value("CSV 필수 컬럼이 없습니다: phone"));
+    }
+
+    @Test
+    @DisplayName("POST /users/import - 손님 권한은 거부")
+    void importUsersForbiddenForCustomer() throws Exception {
+        // Given
+        String customerToken = signupAndGetToken("customer@example.com", User.UserRole.CUSTOMER);
+
+        // When & Then
+        mockMvc.perform(post("/users/import")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .contentType(TEXT_CSV)
+                        .content("email,name,phone\nkim@example.com,김철수,010-1111-2222\n"))
+                .andExpect(status().isForbidden());
+
+        assertThat(userRepository.existsByEmail("kim@example.com")).isFalse();
+    }
+
+    // Helper method
+    private String signupAndGetToken(String email, User.UserRole role) throws Exception {
+        SignupRequest request = new SignupRequest(email, "password123", "홍길동", "010-1234-5678", role);
+
+        String body = mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+}
@@ -0,0 +1,235 @@
+package com.hairshop.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * primary 와 복제본 두 개를 각각 내장 H2 로 띄워 어느 DB 에서 읽었는지 확인
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final List<EmbeddedDatabase> databases = new ArrayList<>();
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private ReplicaLagMonitor lagMonitor;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", database("replica-1"));
+        replicas.put("replica-2", database("replica-2"));
+
+        lagMonitor = new ReplicaLagMonitor(replicas, "SELECT seconds FROM replica_lag",
+                Duration.ofSeconds(5), new SimpleMeterRegistry());
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicas, lagMonitor, Duration.ofMinutes(1), 100));
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        lagMonitor.close();
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본을 돌아가며, 쓰기 트랜잭션과 트랜잭션 밖 조회는 primary 를 사용한다")
+    void routesReadOnlyTransactionsToReplicas() {
+        // When
+        List<String> reads = List.of(readOnly(), readOnly(), readOnly(), readOnly());
+
+        // Then
+        assertThat(reads).containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+        assertThat(write()).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자의 읽기는 잠시 primary 로 가고, 다른 사용자는 복제본을 사용한다")
+    void sticksToPrimaryAfterOwnWrite() {
+        // Given
+        loginAs(1L);
+        write();
+
+        // When
+        String ownRead = readOnly();
+        loginAs(2L);
+        String otherRead = readOnly();
+
+        // Then
+        assertThat(ownRead).isEqualTo("primary");
+        assertThat(otherRead).startsWith("replica-");
+    }
+
+    @Test
+    @DisplayName("보안 컨텍스트가 없는 스레드의 쓰기도 WriterContext 로 지정한 사용자의 읽기를 primary 로 보낸다")
+    void sticksToPrimaryAfterOffThreadWrite() throws Exception {
+        // Given: 다른 스레드에서 사용자 1 의 쓰기 커밋 (Reactor boundedElastic 등)
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> WriterContext.call(1L, this::write)).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        // When
+        loginAs(1L);
+        String ownRead = readOnly();
+        loginAs(2L);
+        String otherRead = readOnly();
+
+        // Then
+        assertThat(ownRead).isEqualTo("primary");
+        assertThat(otherRead).startsWith("replica-");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션이 롤백되면 primary 고정을 적용하지 않는다")
+    void ignoresRolledBackWrite() {
+        // Given
+        loginAs(1L);
+        writeTransaction.executeWithoutResult(status -> {
+            node();
+            status.setRollbackOnly();
+        });
+
+        // When
+        String read = readOnly();
+
+        // Then
+        assertThat(read).startsWith("replica-");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 max-lag 를 넘은 복제본은 제외하고, 모두 제외되면 primary 에서 읽는다")
+    void excludesLaggingReplicas() {
+        // Given
+        setLag("replica-1", 30);
+        lagMonitor.check();
+
+        // When
+        List<String> reads = List.of(readOnly(), readOnly(), readOnly());
+
+        // Then
+        assertThat(lagMonitor.healthyReplicas()).containsExactly("replica-2");
+        assertThat(reads).containsOnly("replica-2");
+
+        // Given
+        setLag("replica-2", 30);
+        lagMonitor.check();
+
+        // When, Then
+        assertThat(readOnly()).isEqualTo("primary");
+
+        // Given (지연 해소)
+        setLag("replica-1", 0);
+        setLag("replica-2", 0);
+        lagMonitor.check();
+
+        // When, Then
+        assertThat(lagMonitor.healthyReplicas()).containsExactly("replica-1", "replica-2");
+    }
+
+    @Test
+    @DisplayName("지연 조회에 실패한 복제본은 제외한다")
+    void excludesUnreachableReplica() {
+        // Given
+        new JdbcTemplate(lagMonitor.replicas().get("replica-1")).execute("DROP TABLE replica_lag");
+
+        // When
+        lagMonitor.check();
+
+        // Then
+        assertThat(lagMonitor.healthyReplicas()).containsExactly("replica-2");
+        assertThat(readOnly()).isEqualTo("replica-2");
+    }
+
+    @Test
+    @DisplayName("start 하면 전용 스레드에서 주기적으로 점검")
+    void checksPeriodicallyOnDedicatedThread() throws InterruptedException {
+        // Given
+        setLag("replica-1", 30);
+
+        // When
+        lagMonitor.start(Duration.ofMillis(20));
+
+        // Then
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (lagMonitor.healthyReplicas().size() != 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(lagMonitor.healthyReplicas()).containsExactly("replica-2");
+    }
+
+    private String readOnly() {
+        return readOnlyTransaction.execute(status -> node());
+    }
+
+    private String write() {
+        return writeTransaction.execute(status -> {
+            jdbcTemplate.update("UPDATE node SET writes = writes + 1");
+            return node();
+        });
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void setLag(String replica, int seconds) {
+        new JdbcTemplate(lagMonitor.replicas().get(replica)).update("UPDATE replica_lag SET seconds = ?", seconds);
+    }
+
+    private static void loginAs(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+
+    private DataSource database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + UUID.randomUUID())
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE node (name VARCHAR(20), writes INT)");
+        template.update("INSERT INTO node VALUES (?, 0)", name);
+        template.execute("CREATE TABLE replica_lag (seconds INT)");
+        template.update("INSERT INTO replica_lag VALUES (0)");
+        databases.add(database);
+        return database;
+    }
+}
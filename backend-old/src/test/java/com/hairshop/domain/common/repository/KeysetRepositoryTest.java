@@ -0,0 +1,144 @@
+package com.hairshop.domain.common.repository;
+
+import com.hairshop.domain.notification.entity.Notification;
+import com.hairshop.domain.notification.repository.NotificationRepository;
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class KeysetRepositoryTest {
+
+    private static final Long SHOP_ID = 900L;
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAll();
+        reservationRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("미용실 예약 목록 - 같은 일시가 여러 건이어도 페이지를 넘기며 빠짐없이 예약 일시순으로 조회")
+    void shopReservationsPageInOrder() {
+        // Given (같은 일시 3건 포함, 시작 날짜 이전 1건과 다른 미용실 1건 제외)
+        List<Reservation> expected = new ArrayList<>();
+        expected.add(reservation(SHOP_ID, 1L, DAY.plusDays(1), LocalTime.of(9, 0)));
+        expected.add(reservation(SHOP_ID, 2L, DAY, LocalTime.of(15, 0)));
+        for (long customerId = 3; customerId <= 5; customerId++) {
+            expected.add(reservation(SHOP_ID, customerId, DAY, LocalTime.of(10, 0)));
+        }
+        reservation(SHOP_ID, 6L, DAY.minusDays(1), LocalTime.of(10, 0));
+        reservation(SHOP_ID + 1, 7L, DAY, LocalTime.of(10, 0));
+        expected.sort(Comparator.comparing(Reservation::getReservationDate)
+                .thenComparing(Reservation::getReservationTime)
+                .thenComparing(Reservation::getId));
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        List<KeysetPage<Reservation>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPage<Reservation> page = reservationRepository.findShopReservations(SHOP_ID, DAY, cursor, 2);
+            page.content().forEach(reservation -> ids.add(reservation.getId()));
+            pages.add(page);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertThat(ids).containsExactlyElementsOf(expected.stream().map(Reservation::getId).toList());
+        assertThat(pages).hasSize(3);
+        assertThat(pages.get(2).hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("손님 예약 목록과 알림함 - 최근 순으로 조회하고 다른 목록의 커서는 거부")
+    void customerReservationsAndNotificationsNewestFirst() {
+        // Given
+        List<Long> reservationIds = new ArrayList<>();
+        List<Long> notificationIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Reservation reservation = reservation(SHOP_ID, 1L, DAY, LocalTime.of(10 + i, 0));
+            reservationIds.add(0, reservation.getId());
+            notificationIds.add(0, notification(1L, reservation.getId()).getId());
+        }
+        reservation(SHOP_ID, 2L, DAY, LocalTime.of(18, 0));
+
+        // When
+        KeysetPage<Reservation> first = reservationRepository.findCustomerReservations(1L, null, 3);
+        KeysetPage<Reservation> second = reservationRepository.findCustomerReservations(1L, first.nextCursor(), 3);
+        KeysetPage<Notification> notifications = notificationRepository.findUserNotifications(1L, null, 10);
+
+        // Then
+        List<Long> ids = new ArrayList<>(first.content().stream().map(Reservation::getId).toList());
+        second.content().forEach(reservation -> ids.add(reservation.getId()));
+        assertThat(ids).containsExactlyElementsOf(reservationIds);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(notifications.content()).extracting(Notification::getId).containsExactlyElementsOf(notificationIds);
+        assertThatThrownBy(() -> notificationRepository.findUserNotifications(1L, first.nextCursor(), 3))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나면 거부")
+    void rejectsInvalidPageSize() {
+        // When & Then
+        assertThatThrownBy(() -> reservationRepository.findCustomerReservations(1L, null, 0))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+        assertThatThrownBy(() -> reservationRepository.findCustomerReservations(
+                1L, null, KeysetRepository.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+
+    private Reservation reservation(Long shopId, Long customerId, LocalDate date, LocalTime time) {
+        return reservationRepository.save(Reservation.builder()
+                .shopId(shopId)
+                .customerId(customerId)
+                .serviceId(1L)
+                .reservationDate(date)
+                .reservationTime(time)
+                .durationMinutes(60)
+                .totalPrice(new BigDecimal("20000"))
+                .build());
+    }
+
+    private Notification notification(Long userId, Long reservationId) {
+        return notificationRepository.save(Notification.builder()
+                .userId(userId)
+                .type("RESERVATION_REQUESTED")
+                .title("예약 요청 완료")
+                .message("예약이 접수되었습니다.")
+                .reservationId(reservationId)
+                .build());
+    }
+}
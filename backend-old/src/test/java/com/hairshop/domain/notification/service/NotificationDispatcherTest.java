@@ -0,0 +1,224 @@
+package com.hairshop.domain.notification.service;
+
+import com.hairshop.domain.notification.entity.Notification;
+import com.hairshop.domain.notification.entity.NotificationTemplate;
+import com.hairshop.domain.notification.entity.UserDevice;
+import com.hairshop.domain.notification.repository.NotificationRepository;
+import com.hairshop.domain.notification.repository.NotificationTemplateRepository;
+import com.hairshop.domain.notification.repository.UserDeviceRepository;
+import com.hairshop.domain.notification.sender.StubAlimtalkSender;
+import com.hairshop.domain.notification.sender.StubPushSender;
+import com.hairshop.domain.user.entity.User;
+import com.hairshop.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationDispatcherTest {
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserDeviceRepository userDeviceRepository;
+
+    @Autowired
+    private NotificationTemplateRepository notificationTemplateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StubPushSender pushSender;
+
+    @Autowired
+    private StubAlimtalkSender alimtalkSender;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        pushSender.reset();
+        alimtalkSender.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAll();
+        userDeviceRepository.deleteAll();
+        notificationTemplateRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 내용의 푸시는 500건씩 묶어 보내고 모두 SENT")
+    void pushIsBatchedUpTo500() {
+        // Given
+        List<UserDevice> devices = new ArrayList<>();
+        List<Notification> notifications = new ArrayList<>();
+        IntStream.rangeClosed(1, 600).forEach(userId -> {
+            devices.add(device((long) userId, "token-" + userId));
+            notifications.add(notification((long) userId, Notification.Channel.PUSH));
+        });
+        userDeviceRepository.saveAll(devices);
+        notificationRepository.saveAll(notifications);
+
+        // When
+        int dispatched = notificationDispatcher.dispatchOnce();
+
+        // Then
+        assertThat(dispatched).isEqualTo(600);
+        assertThat(pushSender.batchSizes()).containsExactlyInAnyOrder(500, 100);
+        assertThat(pushSender.sentMessages()).isEqualTo(600);
+        assertThat(notificationRepository.countByStatus(Notification.DeliveryStatus.SENT)).isEqualTo(600);
+        assertThat(notificationDispatcher.dispatchOnce()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 토큰은 일괄 비활성화, 다른 디바이스로 성공했으면 SENT")
+    void invalidTokensAreDeactivated() {
+        // Given
+        userDeviceRepository.saveAll(List.of(
+                device(1L, "token-1"),
+                device(1L, "invalid-1"),
+                device(2L, "invalid-2")));
+        Notification reachable = notificationRepository.save(notification(1L, Notification.Channel.PUSH));
+        Notification unreachable = notificationRepository.save(notification(2L, Notification.Channel.PUSH));
+
+        // When
+        notificationDispatcher.dispatchOnce();
+
+        // Then
+        assertThat(statusOf(reachable)).isEqualTo(Notification.DeliveryStatus.SENT);
+        Notification failed = notificationRepository.findById(unreachable.getId()).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(Notification.DeliveryStatus.FAILED);
+        assertThat(failed.getLastError()).isEqualTo("유효한 수신 대상 없음");
+        assertThat(userDeviceRepository.findAll())
+                .filteredOn(UserDevice::isActive)
+                .extracting(UserDevice::getDeviceToken)
+                .containsExactly("token-1");
+    }
+
+    @Test
+    @DisplayName("일시 장애 토큰만 요청 안에서 다시 보냄")
+    void retryableRecipientsAreResentWithinDispatch() {
+        // Given
+        userDeviceRepository.saveAll(List.of(device(1L, "token-1"), device(2L, "flaky-2")));
+        notificationRepository.save(notification(1L, Notification.Channel.PUSH));
+        notificationRepository.save(notification(2L, Notification.Channel.PUSH));
+
+        // When
+        notificationDispatcher.dispatchOnce();
+
+        // Then
+        assertThat(pushSender.batchSizes()).containsExactly(2, 1);
+        assertThat(notificationRepository.countByStatus(Notification.DeliveryStatus.SENT)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("계속 일시 장애면 다음 주기로 미루고, max-attempts 를 넘으면 FAILED")
+    void persistentFailureIsRedeliveredThenFailed() {
+        // Given
+        userDeviceRepository.save(device(1L, "unavailable-1"));
+        Notification notification = notificationRepository.save(notification(1L, Notification.Channel.PUSH));
+
+        // When
+        notificationDispatcher.dispatchOnce();
+
+        // Then
+        Notification deferred = notificationRepository.findById(notification.getId()).orElseThrow();
+        assertThat(deferred.getStatus()).isEqualTo(Notification.DeliveryStatus.PENDING);
+        assertThat(deferred.getAttempts()).isEqualTo(1);
+        assertThat(deferred.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(notificationDispatcher.dispatchOnce()).isZero();
+
+        // When (대기 시간을 건너뛰며 max-attempts 까지 반복)
+        for (int i = 0; i < 10 && statusOf(notification) == Notification.DeliveryStatus.PENDING; i++) {
+            jdbcTemplate.update("UPDATE notifications SET next_attempt_at = ? WHERE id = ?",
+                    LocalDateTime.now().minusSeconds(1), notification.getId());
+            notificationDispatcher.dispatchOnce();
+        }
+
+        // Then
+        Notification failed = notificationRepository.findById(notification.getId()).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(Notification.DeliveryStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(5);
+        assertThat(failed.getLastError()).isEqualTo("재시도 한도 초과");
+    }
+
+    @Test
+    @DisplayName("알림톡은 알림톡 템플릿이 등록된 종류만 발송")
+    void alimtalkRequiresTemplate() {
+        // Given
+        notificationTemplateRepository.save(NotificationTemplate.builder()
+                .type("RESERVATION_CONFIRMED")
+                .pushTitle("예약 확정")
+                .kakaoTemplateCode("RSV_CONFIRMED")
+                .build());
+        User user = userRepository.save(User.builder()
+                .email("alimtalk@example.com")
+                .password("encoded")
+                .name("홍길동")
+                .phone("010-1111-2222")
+                .role(User.UserRole.CUSTOMER)
+                .oauthProvider(User.OAuthProvider.LOCAL)
+                .build());
+        Notification sent = notificationRepository.save(notification(user.getId(), Notification.Channel.ALIMTALK));
+        Notification unreachable = notificationRepository.save(Notification.builder()
+                .userId(user.getId())
+                .type("PROMOTION")
+                .title("이벤트")
+                .message("이벤트 안내")
+                .channel(Notification.Channel.ALIMTALK)
+                .build());
+
+        // When
+        notificationDispatcher.dispatchOnce();
+
+        // Then
+        assertThat(alimtalkSender.batchSizes()).containsExactly(1);
+        assertThat(statusOf(sent)).isEqualTo(Notification.DeliveryStatus.SENT);
+        assertThat(statusOf(unreachable)).isEqualTo(Notification.DeliveryStatus.FAILED);
+    }
+
+    private Notification.DeliveryStatus statusOf(Notification notification) {
+        return notificationRepository.findById(notification.getId()).orElseThrow().getStatus();
+    }
+
+    private static Notification notification(Long userId, Notification.Channel channel) {
+        return Notification.builder()
+                .userId(userId)
+                .type("RESERVATION_CONFIRMED")
+                .title("예약 확정")
+                .message("예약이 확정되었습니다")
+                .channel(channel)
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    private static UserDevice device(Long userId, String token) {
+        return UserDevice.builder()
+                .userId(userId)
+                .deviceToken(token)
+                .deviceType("ANDROID")
+                .build();
+    }
+}
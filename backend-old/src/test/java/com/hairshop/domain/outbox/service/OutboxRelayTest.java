@@ -0,0 +1,253 @@
+package com.hairshop.domain.outbox.service;
+
+import com.hairshop.domain.notification.entity.Notification;
+import com.hairshop.domain.notification.repository.NotificationRepository;
+import com.hairshop.domain.outbox.entity.OutboxEvent;
+import com.hairshop.domain.outbox.entity.OutboxEvent.OutboxStatus;
+import com.hairshop.domain.outbox.repository.OutboxEventRepository;
+import com.hairshop.domain.reservation.entity.Reservation.ReservationStatus;
+import com.hairshop.domain.reservation.event.ReservationStatusChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private RecordingSubscriber subscriber;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        subscriber.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        notificationRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 aggregate 의 이벤트는 저장 순서대로 전달되고 모두 PUBLISHED")
+    void deliversInAggregateOrder() {
+        // Given
+        for (int sequence = 0; sequence < 5; sequence++) {
+            for (long aggregateId = 1; aggregateId <= 3; aggregateId++) {
+                append(aggregateId, sequence);
+            }
+        }
+
+        // When
+        int relayed = outboxRelay.relayOnce();
+
+        // Then
+        assertThat(relayed).isEqualTo(15);
+        assertThat(subscriber.sequencesByAggregate()).containsOnlyKeys(1L, 2L, 3L)
+                .allSatisfy((aggregateId, sequences) -> assertThat(sequences).containsExactly(0, 1, 2, 3, 4));
+        assertThat(statuses()).containsOnly(OutboxStatus.PUBLISHED);
+    }
+
+    @Test
+    @DisplayName("구독자가 실패하면 그 aggregate 의 이후 이벤트도 미뤄 순서를 지키고, 다음 주기에 이어서 전달")
+    void failureHoldsBackLaterEventsOfSameAggregate() {
+        // Given
+        append(1L, 0);
+        append(1L, 1);
+        append(2L, 0);
+        subscriber.failOnce(1L, 0);
+
+        // When
+        outboxRelay.relayOnce();
+
+        // Then
+        assertThat(subscriber.sequencesByAggregate()).containsOnlyKeys(2L);
+        OutboxEvent failed = events().get(0);
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("RecordingSubscriber");
+
+        // When
+        outboxRelay.relayOnce();
+
+        // Then
+        assertThat(subscriber.sequencesByAggregate().get(1L)).containsExactly(0, 1);
+        assertThat(statuses()).containsOnly(OutboxStatus.PUBLISHED);
+    }
+
+    @Test
+    @DisplayName("앞선 이벤트를 다른 서버가 선점 중이면 같은 aggregate 의 이후 이벤트는 가져오지 않음")
+    void skipsEventsBehindEventClaimedElsewhere() {
+        // Given
+        append(1L, 0);
+        append(1L, 1);
+        append(2L, 0);
+        Long claimedElsewhere = events().get(0).getId();
+        jdbcTemplate.update("UPDATE outbox_events SET available_at = ? WHERE id = ?",
+                LocalDateTime.now().plusMinutes(1), claimedElsewhere);
+
+        // When
+        int relayed = outboxRelay.relayOnce();
+
+        // Then
+        assertThat(relayed).isEqualTo(1);
+        assertThat(subscriber.sequencesByAggregate()).containsOnlyKeys(2L);
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘은 이벤트는 DEAD 로 남기고 이후 이벤트는 계속 전달")
+    void exhaustedEventBecomesDead() {
+        // Given
+        append(1L, 0);
+        append(1L, 1);
+        jdbcTemplate.update("UPDATE outbox_events SET attempts = 9 WHERE id = ?",
+                events().get(0).getId());
+        subscriber.failOnce(1L, 0);
+
+        // When
+        outboxRelay.relayOnce();
+
+        // Then
+        assertThat(subscriber.sequencesByAggregate().get(1L)).containsExactly(1);
+        assertThat(statuses()).containsExactly(OutboxStatus.DEAD, OutboxStatus.PUBLISHED);
+    }
+
+    @Test
+    @DisplayName("예약 상태 변경 이벤트는 손님 알림으로 저장되고, 다시 전달되어도 한 건만 생성")
+    void reservationStatusChangeCreatesNotificationOnce() {
+        // Given
+        ReservationStatusChangedEvent cancelled = new ReservationStatusChangedEvent(
+                10L, 1L, 7L, 3L, ReservationStatus.PENDING, ReservationStatus.CANCELLED,
+                LocalDate.of(2026, 3, 2), LocalTime.of(14, 0), 60, LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxService.append("Reservation", 10L, cancelled);
+            outboxService.append("Reservation", 10L, cancelled);
+        });
+
+        // When
+        outboxRelay.relayOnce();
+
+        // Then
+        List<Notification> notifications = notificationRepository.findAll();
+        assertThat(notifications).hasSize(1);
+        assertThat(notifications.get(0).getUserId()).isEqualTo(7L);
+        assertThat(notifications.get(0).getType()).isEqualTo("RESERVATION_CANCELLED");
+        assertThat(notifications.get(0).getMessage()).startsWith("2026-03-02 14:00");
+        assertThat(notifications.get(0).getStatus()).isEqualTo(Notification.DeliveryStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 outbox 에 저장할 수 없음")
+    void appendRequiresTransaction() {
+        // When & Then
+        assertThatThrownBy(() -> outboxService.append("Test", 1L, new TestEvent(1L, 0)))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    private void append(Long aggregateId, int sequence) {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxService.append("Test", aggregateId, new TestEvent(aggregateId, sequence)));
+    }
+
+    private List<OutboxEvent> events() {
+        return outboxEventRepository.findAll().stream()
+                .sorted(Comparator.comparing(OutboxEvent::getId))
+                .toList();
+    }
+
+    private List<OutboxStatus> statuses() {
+        return events().stream().map(OutboxEvent::getStatus).toList();
+    }
+
+    record TestEvent(Long aggregateId, int sequence) {
+    }
+
+    /**
+     * 받은 이벤트를 기록하고, 지정한 이벤트는 한 번 실패
+     */
+    static class RecordingSubscriber implements OutboxSubscriber<TestEvent> {
+
+        private final Queue<TestEvent> received = new ConcurrentLinkedQueue<>();
+        private final Set<TestEvent> failures = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Class<TestEvent> eventType() {
+            return TestEvent.class;
+        }
+
+        @Override
+        public void handle(TestEvent event) {
+            if (failures.remove(event)) {
+                throw new IllegalStateException("구독자 실패");
+            }
+            received.add(event);
+        }
+
+        void failOnce(Long aggregateId, int sequence) {
+            failures.add(new TestEvent(aggregateId, sequence));
+        }
+
+        Map<Long, List<Integer>> sequencesByAggregate() {
+            return received.stream().collect(Collectors.groupingBy(TestEvent::aggregateId,
+                    Collectors.mapping(TestEvent::sequence, Collectors.toList())));
+        }
+
+        void reset() {
+            received.clear();
+            failures.clear();
+        }
+    }
+
+    @TestConfiguration
+    static class SubscriberConfig {
+
+        @Bean
+        RecordingSubscriber recordingSubscriber() {
+            return new RecordingSubscriber();
+        }
+    }
+}
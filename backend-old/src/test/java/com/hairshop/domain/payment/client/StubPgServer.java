@@ -0,0 +1,138 @@
+package com.hairshop.domain.payment.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 stub PG 서버 (토스페이먼츠 승인 API 흉내, 지연/장애 주입용)
+ *
+ * POST /v1/payments/confirm 에 요청 본문의 orderId/amount 로 DONE 응답을 준다.
+ * latency 로 응답 지연, failWith 로 상태 코드/본문을 바꿔 장애를 흉내내고, waitForDeposit 으로 가상계좌 입금 대기 응답을 준다.
+ */
+public class StubPgServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final ConcurrentLinkedQueue<String> idempotencyKeys = new ConcurrentLinkedQueue<>();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile int failureStatus;
+    private volatile String failureBody = "";
+    private volatile boolean waitForDeposit;
+
+    public StubPgServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        server.createContext("/v1/payments/confirm", this::confirm);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public StubPgServer latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * 이후 요청에 주어진 상태 코드와 본문으로 응답
+     */
+    public StubPgServer failWith(int status, String body) {
+        this.failureStatus = status;
+        this.failureBody = body;
+        return this;
+    }
+
+    /**
+     * 이후 요청에 가상계좌 입금 대기(WAITING_FOR_DEPOSIT) 로 응답
+     */
+    public StubPgServer waitForDeposit() {
+        this.waitForDeposit = true;
+        return this;
+    }
+
+    /**
+     * 정상 응답으로 되돌리고 기록 초기화
+     */
+    public void reset() {
+        latency = Duration.ZERO;
+        failureStatus = 0;
+        failureBody = "";
+        waitForDeposit = false;
+        requests.set(0);
+        idempotencyKeys.clear();
+    }
+
+    public int requests() {
+        return requests.get();
+    }
+
+    public List<String> idempotencyKeys() {
+        return List.copyOf(idempotencyKeys);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void confirm(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        String idempotencyKey = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+        if (idempotencyKey != null) {
+            idempotencyKeys.add(idempotencyKey);
+        }
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+            return;
+        }
+
+        if (failureStatus != 0) {
+            respond(exchange, failureStatus, failureBody);
+            return;
+        }
+        String body = objectMapper.createObjectNode()
+                .put("paymentKey", request.path("paymentKey").asText())
+                .put("orderId", request.path("orderId").asText())
+                .put("status", waitForDeposit ? "WAITING_FOR_DEPOSIT" : "DONE")
+                .put("method", waitForDeposit ? "가상계좌" : "카드")
+                .put("totalAmount", request.path("amount").decimalValue())
+                .put("approvedAt", waitForDeposit ? null : "2024-01-01T10:00:00+09:00")
+                .toString();
+        respond(exchange, 200, body);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.hairshop.domain.payment.client;
+
+import com.hairshop.config.PaymentClientProperties;
+import com.hairshop.config.PaymentClientProperties.CircuitBreakerSettings;
+import com.hairshop.domain.payment.client.TossPaymentsClient.TossPayment;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import com.hairshop.exception.PaymentGatewayUnavailableException;
+import com.hairshop.util.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TossPaymentsClientTest {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("30000");
+
+    private static StubPgServer pgServer;
+
+    private TossPaymentsClient client;
+
+    @BeforeAll
+    static void startServer() {
+        pgServer = new StubPgServer();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        pgServer.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        pgServer.reset();
+        PaymentClientProperties.Provider toss = new PaymentClientProperties.Provider(
+                pgServer.baseUrl(), 10, 10, Duration.ofSeconds(1), Duration.ofSeconds(30),
+                Duration.ofSeconds(1), Duration.ofMillis(300), Duration.ofSeconds(2), 2,
+                new CircuitBreakerSettings(4, 4, 0.5, Duration.ofMinutes(1), 1));
+        client = new TossPaymentsClient(new PaymentClientProperties(Map.of("toss", toss)),
+                WebClient.builder(), new SimpleMeterRegistry(), "test_sk");
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.destroy();
+    }
+
+    @Test
+    @DisplayName("승인 성공 - 주문 번호를 Idempotency-Key 로 전송")
+    void confirm() {
+        // When
+        TossPayment payment = client.confirm("pay-key", "order-1", AMOUNT).block();
+
+        // Then
+        assertThat(payment.orderId()).isEqualTo("order-1");
+        assertThat(payment.status()).isEqualTo("DONE");
+        assertThat(payment.totalAmount()).isEqualByComparingTo(AMOUNT);
+        assertThat(pgServer.idempotencyKeys()).containsExactly("order-1");
+    }
+
+    @Test
+    @DisplayName("PG 거절(4xx)은 PAYMENT_REJECTED, 서킷 실패로 세지 않음")
+    void rejectionDoesNotTripCircuit() {
+        // Given
+        pgServer.failWith(400, "{\"code\":\"REJECT_CARD_COMPANY\",\"message\":\"카드사 거절\"}");
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> client.confirm("pay-key", "order-1", AMOUNT).block())
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("카드사 거절")
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.PAYMENT_REJECTED);
+        }
+        assertThat(client.pgClient().circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("응답이 read-timeout 보다 늦으면 503")
+    void readTimeout() {
+        // Given
+        pgServer.latency(Duration.ofSeconds(1));
+
+        // When & Then
+        assertThatThrownBy(() -> client.confirm("pay-key", "order-1", AMOUNT).block())
+                .isInstanceOf(PaymentGatewayUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("5xx 가 이어지면 서킷이 열리고 이후 호출은 PG 를 거치지 않고 바로 거절")
+    void circuitOpensOnServerErrors() {
+        // Given
+        pgServer.failWith(500, "{}");
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.confirm("pay-key", "order-1", AMOUNT).block())
+                    .isInstanceOf(PaymentGatewayUnavailableException.class);
+        }
+        pgServer.reset();
+
+        // When & Then
+        assertThat(client.pgClient().circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.confirm("pay-key", "order-1", AMOUNT).block())
+                .isInstanceOf(PaymentGatewayUnavailableException.class);
+        assertThat(pgServer.requests()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 호출이 bulkhead 를 넘으면 기다리지 않고 거절")
+    void bulkheadRejectsExcessCalls() {
+        // Given (read-timeout 안쪽의 느린 응답)
+        pgServer.latency(Duration.ofMillis(200));
+        CompletableFuture<TossPayment> first = client.confirm("pay-key", "order-1", AMOUNT).toFuture();
+        CompletableFuture<TossPayment> second = client.confirm("pay-key", "order-2", AMOUNT).toFuture();
+
+        // When & Then
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> client.confirm("pay-key", "order-3", AMOUNT).block())
+                .isInstanceOf(PaymentGatewayUnavailableException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(150));
+        assertThat(first.join().orderId()).isEqualTo("order-1");
+        assertThat(second.join().orderId()).isEqualTo("order-2");
+    }
+}
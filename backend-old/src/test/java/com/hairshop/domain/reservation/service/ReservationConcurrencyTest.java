@@ -0,0 +1,139 @@
+package com.hairshop.domain.reservation.service;
+
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.domain.service.entity.HairService;
+import com.hairshop.domain.service.repository.HairServiceRepository;
+import com.hairshop.domain.shop.entity.Shop;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.dto.request.ReservationRequest;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ReservationBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationConcurrencyTest {
+
+    private static final int SHOPS = 4;
+    private static final int ATTEMPTS = 4000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private HairServiceRepository hairServiceRepository;
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        hairServiceRepository.deleteAll();
+        shopRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 예약 요청 - 같은 미용실의 시간대가 겹치는 예약이 생기지 않음")
+    void noDoubleBookingUnderContention() throws Exception {
+        // Given: 10:00~14:00 영업, 90분 서비스, 30분 간격으로 서로 겹치는 시작 시각에 동시 요청
+        LocalDate date = LocalDate.now().plusDays(1);
+        List<ReservationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < SHOPS; i++) {
+            Shop shop = shopRepository.save(Shop.builder()
+                    .ownerId(1L)
+                    .name("미용실 " + i)
+                    .address("서울시 강남구")
+                    .phone("02-123-4567")
+                    .openingTime(LocalTime.of(10, 0))
+                    .closingTime(LocalTime.of(14, 0))
+                    .build());
+            HairService perm = hairServiceRepository.save(HairService.builder()
+                    .shopId(shop.getId())
+                    .name("펌")
+                    .price(new BigDecimal("80000"))
+                    .durationMinutes(90)
+                    .build());
+            for (int slot = 0; slot < 6; slot++) {
+                requests.add(new ReservationRequest(shop.getId(), perm.getId(), date,
+                        LocalTime.of(10, 0).plusMinutes(30L * slot), null));
+            }
+        }
+
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger busy = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            long customerId = i;
+            ReservationRequest request = requests.get(i % requests.size());
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    reservationService.create(customerId, request);
+                    admitted.incrementAndGet();
+                } catch (ReservationBusyException e) {
+                    busy.incrementAndGet();
+                } catch (BusinessException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        List<Reservation> reservations = reservationRepository.findAll();
+        assertThat(admitted.get() + rejected.get() + busy.get()).isEqualTo(ATTEMPTS);
+        assertThat(reservations).hasSize(admitted.get());
+        assertThat(admitted.get()).isBetween(SHOPS, SHOPS * 2);
+
+        for (Reservation a : reservations) {
+            for (Reservation b : reservations) {
+                if (a != b && a.getShopId().equals(b.getShopId())) {
+                    assertThat(overlaps(a, b))
+                            .as("겹친 예약: %s %s / %s %s", a.getId(), a.getReservationTime(), b.getId(), b.getReservationTime())
+                            .isFalse();
+                }
+            }
+        }
+    }
+
+    private static boolean overlaps(Reservation a, Reservation b) {
+        LocalTime aEnd = a.getReservationTime().plusMinutes(a.getDurationMinutes());
+        LocalTime bEnd = b.getReservationTime().plusMinutes(b.getDurationMinutes());
+        return a.getReservationTime().isBefore(bEnd) && b.getReservationTime().isBefore(aEnd);
+    }
+}
@@ -0,0 +1,150 @@
+package com.hairshop.domain.reservation.service;
+
+import com.hairshop.domain.payment.entity.Payment;
+import com.hairshop.domain.payment.repository.PaymentRepository;
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.domain.service.entity.HairService;
+import com.hairshop.domain.service.repository.HairServiceRepository;
+import com.hairshop.domain.shop.entity.Shop;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import com.hairshop.util.CsvLineParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationExportServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    @Autowired
+    private ReservationExportService reservationExportService;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private HairServiceRepository hairServiceRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private Shop shop;
+    private HairService service;
+
+    @BeforeEach
+    void setUp() {
+        shop = shopRepository.save(Shop.builder()
+                .ownerId(OWNER_ID)
+                .name("테스트 미용실")
+                .address("서울시 강남구")
+                .phone("02-123-4567")
+                .build());
+        service = hairServiceRepository.save(HairService.builder()
+                .shopId(shop.getId())
+                .name("커트, 드라이")
+                .price(new BigDecimal("20000"))
+                .durationMinutes(60)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAll();
+        reservationRepository.deleteAll();
+        hairServiceRepository.deleteAll();
+        shopRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("기간 안의 예약을 예약 일시순으로 gzip CSV 로 쓰고 승인된 결제 금액 포함")
+    void exportGzipCsv() throws IOException {
+        // Given
+        Reservation later = reservation(DAY.plusDays(1), LocalTime.of(9, 0));
+        Reservation earlier = reservation(DAY, LocalTime.of(14, 30));
+        reservation(DAY.plusDays(5), LocalTime.of(10, 0));
+        payment(earlier, Payment.PaymentStatus.COMPLETED);
+        payment(later, Payment.PaymentStatus.FAILED);
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = reservationExportService.export(shop.getId(), DAY, DAY.plusDays(1), out, true);
+
+        // Then
+        List<String> lines = gunzipLines(out.toByteArray());
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith("\uFEFF예약번호,");
+        assertThat(CsvLineParser.parse(lines.get(1))).containsExactly(
+                earlier.getId().toString(), "2026-03-02", "14:30", "커트, 드라이", "PENDING",
+                "20000.00", "20000.00", "0.00", "", "");
+        assertThat(CsvLineParser.parse(lines.get(2)).subList(0, 7)).containsExactly(
+                later.getId().toString(), "2026-03-03", "09:00", "커트, 드라이", "PENDING", "20000.00", "");
+    }
+
+    @Test
+    @DisplayName("다른 사람의 미용실이나 최대 기간을 넘는 요청은 응답 시작 전에 거부")
+    void rejectsBeforeStreaming() {
+        // When & Then
+        assertThatThrownBy(() -> reservationExportService.prepare(2L, shop.getId(), DAY, DAY, false))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SHOP_NOT_FOUND);
+        assertThatThrownBy(() -> reservationExportService.prepare(OWNER_ID, shop.getId(), DAY, DAY.plusYears(2), false))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+
+    private Reservation reservation(LocalDate date, LocalTime time) {
+        return reservationRepository.save(Reservation.builder()
+                .shopId(shop.getId())
+                .customerId(7L)
+                .serviceId(service.getId())
+                .reservationDate(date)
+                .reservationTime(time)
+                .durationMinutes(60)
+                .totalPrice(new BigDecimal("20000"))
+                .build());
+    }
+
+    private void payment(Reservation reservation, Payment.PaymentStatus status) {
+        paymentRepository.save(Payment.builder()
+                .reservationId(reservation.getId())
+                .orderId("rsv" + reservation.getId() + "-" + status)
+                .amount(reservation.getTotalPrice())
+                .status(status)
+                .build());
+    }
+
+    private static List<String> gunzipLines(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.hairshop.domain.reservation.service;
+
+import com.hairshop.domain.notification.entity.Notification;
+import com.hairshop.domain.notification.repository.NotificationRepository;
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.event.ReservationCancelledEvent;
+import com.hairshop.domain.reservation.event.ReservationCreatedEvent;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationReminderServiceTest {
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // 테스트마다 시각을 직접 지정하도록 새 휠로 생성 (스프링 빈은 reminder.enabled=false 로 멈춰 있음)
+    private ReservationReminderService reminderService;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        reminderService = newService();
+        now = LocalDateTime.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAll();
+        reservationRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("시작 시 DB 에서 읽은 예약의 2시간 전 알림을 그 시각에 발송 대기열로 보냄 (이미 지난 1일 전 알림은 제외)")
+    void firesReminderLoadedFromDatabase() {
+        // Given
+        Reservation reservation = reservation(7L, now.plusHours(3));
+        reminderService.extendWindow(now, now.plusHours(6));
+
+        // When & Then
+        assertThat(reminderService.pendingCount()).isEqualTo(1);
+        assertThat(reminderService.fireDue(now.plusMinutes(58))).isZero();
+        assertThat(reminderService.fireDue(now.plusMinutes(61))).isEqualTo(1);
+
+        List<Notification> notifications = notificationRepository.findAll();
+        assertThat(notifications).hasSize(1);
+        assertThat(notifications.get(0).getUserId()).isEqualTo(7L);
+        assertThat(notifications.get(0).getReservationId()).isEqualTo(reservation.getId());
+        assertThat(notifications.get(0).getType()).isEqualTo("RESERVATION_REMINDER_2H");
+        assertThat(notifications.get(0).getStatus()).isEqualTo(Notification.DeliveryStatus.PENDING);
+        assertThat(reminderService.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("예약 생성 이벤트로 등록한 알림은 취소 이벤트로 제거")
+    void cancelEventRemovesTimers() {
+        // Given
+        reminderService.extendWindow(now, now.plusDays(2));
+        Reservation reservation = reservation(7L, now.plusDays(1).plusHours(3));
+        reminderService.onReservationCreated(ReservationCreatedEvent.from(reservation));
+        assertThat(reminderService.pendingCount()).isEqualTo(2);
+
+        // When
+        reminderService.onReservationCancelled(ReservationCancelledEvent.from(reservation));
+
+        // Then
+        assertThat(reminderService.pendingCount()).isZero();
+        assertThat(reminderService.fireDue(now.plusDays(2))).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 생긴 예약은 변경분 동기화로 반영되고, 발송 전 시간이 바뀐 예약은 건너뜀")
+    void syncPicksUpChangesAndStaleRemindersAreSkipped() {
+        // Given
+        reminderService.extendWindow(now, now.plusHours(6));
+        Reservation moved = reservation(7L, now.plusHours(3));
+        reservation(8L, now.plusHours(4));
+
+        // When
+        reminderService.syncChanges(now.plusSeconds(1));
+
+        // Then
+        assertThat(reminderService.pendingCount()).isEqualTo(2);
+
+        // When (이벤트 없이 시간이 바뀐 예약)
+        jdbcTemplate.update("UPDATE reservations SET reservation_time = ? WHERE id = ?",
+                moved.getReservationTime().plusMinutes(30), moved.getId());
+        int created = reminderService.fireDue(now.plusHours(2).plusMinutes(1));
+
+        // Then
+        assertThat(created).isEqualTo(1);
+        assertThat(notificationRepository.findAll())
+                .extracting(Notification::getUserId)
+                .containsExactly(8L);
+    }
+
+    @Test
+    @DisplayName("여러 서버의 휠에 같은 예약이 올라 있어도 알림은 한 건만 저장")
+    void createsOneReminderAcrossInstances() {
+        // Given
+        ReservationReminderService otherInstance = newService();
+        reservation(7L, now.plusHours(3));
+        reminderService.extendWindow(now, now.plusHours(6));
+        otherInstance.extendWindow(now, now.plusHours(6));
+
+        // When
+        int created = reminderService.fireDue(now.plusMinutes(61)) + otherInstance.fireDue(now.plusMinutes(61));
+
+        // Then
+        assertThat(created).isEqualTo(1);
+        assertThat(notificationRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 (예약, 알림 종류) 알림이 이미 있으면 저장하지 않음")
+    void insertIgnoresExistingReminder() {
+        // Given
+        Reservation reservation = reservation(7L, now.plusHours(3));
+        reminderService.extendWindow(now, now.plusHours(6));
+
+        // When (확인 직후 다른 서버가 저장한 것처럼 같은 알림을 직접 저장한 뒤 같은 SQL 로 다시 저장)
+        reminderService.fireDue(now.plusMinutes(61));
+        int inserted = jdbcTemplate.update("""
+                INSERT INTO notifications (user_id, type, title, message, is_read, reservation_id, channel, status,
+                                           attempts, next_attempt_at, created_at)
+                VALUES (?, 'RESERVATION_REMINDER_2H', '예약 알림', '중복', false, ?, 'ALL', 'PENDING', 0, ?, ?)
+                ON CONFLICT DO NOTHING
+                """, 7L, reservation.getId(), now, now);
+
+        // Then
+        assertThat(inserted).isZero();
+        assertThat(notificationRepository.findAll()).hasSize(1);
+    }
+
+    private ReservationReminderService newService() {
+        return new ReservationReminderService(reservationRepository, notificationRepository,
+                jdbcTemplate, transactionTemplate, new SimpleMeterRegistry(), true,
+                List.of(Duration.ofDays(1), Duration.ofHours(2)), Duration.ofHours(6), Duration.ofMinutes(1),
+                1000, 64);
+    }
+
+    private Reservation reservation(Long customerId, LocalDateTime startsAt) {
+        LocalDateTime start = startsAt.truncatedTo(ChronoUnit.MINUTES);
+        return reservationRepository.save(Reservation.builder()
+                .shopId(1L)
+                .customerId(customerId)
+                .serviceId(1L)
+                .reservationDate(start.toLocalDate())
+                .reservationTime(start.toLocalTime())
+                .durationMinutes(60)
+                .totalPrice(new BigDecimal("20000"))
+                .status(Reservation.ReservationStatus.CONFIRMED)
+                .build());
+    }
+}
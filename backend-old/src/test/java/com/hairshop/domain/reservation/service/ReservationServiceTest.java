@@ -0,0 +1,109 @@
+package com.hairshop.domain.reservation.service;
+
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.domain.service.entity.HairService;
+import com.hairshop.domain.service.repository.HairServiceRepository;
+import com.hairshop.domain.shop.entity.Shop;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.dto.request.ReservationRequest;
+import com.hairshop.dto.response.ReservationResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationServiceTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private HairServiceRepository hairServiceRepository;
+
+    private ReservationRequest request;
+
+    @BeforeEach
+    void setUp() {
+        Shop shop = shopRepository.save(Shop.builder()
+                .ownerId(1L)
+                .name("미용실")
+                .address("서울시 강남구")
+                .phone("02-123-4567")
+                .openingTime(LocalTime.of(10, 0))
+                .closingTime(LocalTime.of(14, 0))
+                .build());
+        HairService cut = hairServiceRepository.save(HairService.builder()
+                .shopId(shop.getId())
+                .name("커트")
+                .price(new BigDecimal("20000"))
+                .durationMinutes(60)
+                .build());
+        request = new ReservationRequest(shop.getId(), cut.getId(), LocalDate.now().plusDays(1),
+                LocalTime.of(11, 0), null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        hairServiceRepository.deleteAll();
+        shopRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("이미 찬 시간 예약 - 거절")
+    void rejectBookedSlot() {
+        // Given
+        reservationService.create(1L, request);
+
+        // When & Then
+        assertThatThrownBy(() -> reservationService.create(2L, request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.RESERVATION_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 취소된 시간 - 이 서버 비트맵이 찼다고 해도 DB 기준으로 다시 예약 가능")
+    void rebookSlotCancelledOnAnotherInstance() {
+        // Given: 이 서버에서 예약해 비트맵에 찬 시간으로 남은 뒤, 다른 서버에서 취소 (이벤트 없이 DB 만 변경)
+        ReservationResponse first = reservationService.create(1L, request);
+        Reservation cancelled = reservationRepository.findById(first.id()).orElseThrow();
+        cancelled.cancel(Reservation.CancelledBy.CUSTOMER, "다른 서버에서 취소");
+        reservationRepository.save(cancelled);
+
+        // When
+        ReservationResponse rebooked = reservationService.create(2L, request);
+
+        // Then
+        assertThat(rebooked.status()).isEqualTo(Reservation.ReservationStatus.PENDING);
+        assertThat(reservationRepository.findAll())
+                .filteredOn(Reservation::isActive)
+                .extracting(Reservation::getCustomerId)
+                .containsExactly(2L);
+
+        // 다시 만든 비트맵에는 새 예약이 반영되어 있음
+        assertThatThrownBy(() -> reservationService.create(3L, request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.RESERVATION_UNAVAILABLE);
+    }
+}
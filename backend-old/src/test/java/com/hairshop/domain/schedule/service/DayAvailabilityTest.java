@@ -0,0 +1,142 @@
+package com.hairshop.domain.schedule.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DayAvailabilityTest {
+
+    private static final int TEN = 10 * 60;
+    private static final int TWELVE = 12 * 60;
+
+    @Test
+    @DisplayName("영업 시간 안에서 소요 시간이 들어가는 슬롯만 반환")
+    void freeSlotsWithinOpeningHours() {
+        // Given
+        DayAvailability day = DayAvailability.open(TEN, TWELVE);
+
+        // When & Then
+        assertThat(day.freeSlots(60, 30)).containsExactly(TEN, TEN + 30, TEN + 60);
+        assertThat(day.freeSlots(120, 30)).containsExactly(TEN);
+        assertThat(day.freeSlots(121, 30)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예약된 구간과 겹치는 슬롯 제외")
+    void freeSlotsExcludeBooked() {
+        // Given
+        DayAvailability day = DayAvailability.open(TEN, 18 * 60)
+                .book(TWELVE, 90);
+
+        // When & Then
+        assertThat(day.freeSlots(60, 30))
+                .contains(11 * 60, 13 * 60 + 30)
+                .doesNotContain(11 * 60 + 30, TWELVE, 12 * 60 + 30, 13 * 60);
+        assertThat(day.isFree(11 * 60, 60)).isTrue();
+        assertThat(day.isFree(11 * 60, 61)).isFalse();
+    }
+
+    @Test
+    @DisplayName("영업 시간 여부는 예약과 무관")
+    void isOpenIgnoresBookings() {
+        // Given
+        DayAvailability day = DayAvailability.open(TEN, TWELVE)
+                .book(TEN, 60);
+
+        // When & Then
+        assertThat(day.isFree(TEN, 60)).isFalse();
+        assertThat(day.isOpen(TEN, 60)).isTrue();
+        assertThat(day.isOpen(TWELVE - 30, 60)).isFalse();
+        assertThat(DayAvailability.closed().isOpen(TEN, 60)).isFalse();
+    }
+
+    @Test
+    @DisplayName("워드 경계(64분 단위)를 넘는 구간 계산")
+    void isFreeAcrossWordBoundaries() {
+        // Given
+        DayAvailability day = DayAvailability.open(0, DayAvailability.MINUTES_PER_DAY)
+                .book(63, 2)
+                .book(640, 1);
+
+        // When & Then
+        assertThat(day.isFree(0, 63)).isTrue();
+        assertThat(day.isFree(0, 64)).isFalse();
+        assertThat(day.isFree(65, 575)).isTrue();
+        assertThat(day.isFree(65, 576)).isFalse();
+        assertThat(day.freeSlots(500, 1)).startsWith(65).contains(140, 641).doesNotContain(141, 640);
+    }
+
+    @Test
+    @DisplayName("취소하면 영업 시간 안의 구간만 다시 비어 있음")
+    void releaseRestoresOnlyOpeningHours() {
+        // Given
+        DayAvailability day = DayAvailability.open(TEN, TWELVE).book(TEN, 60);
+
+        // When
+        DayAvailability released = day.release(9 * 60, 180);
+
+        // Then
+        assertThat(released.isFree(TEN, 120)).isTrue();
+        assertThat(released.isFree(9 * 60 + 30, 60)).isFalse();
+        assertThat(released.isOverlapping()).isFalse();
+    }
+
+    @Test
+    @DisplayName("겹친 예약 반영 시 overlapping 표시")
+    void bookOverlapping() {
+        // When
+        DayAvailability day = DayAvailability.open(TEN, TWELVE)
+                .book(TEN, 60)
+                .book(TEN + 30, 60);
+
+        // Then
+        assertThat(day.isOverlapping()).isTrue();
+    }
+
+    @Test
+    @DisplayName("비트 연산 결과가 분 단위 반복 계산과 일치")
+    void freeSlotsMatchNaiveScan() {
+        Random random = new Random(42);
+
+        for (int round = 0; round < 200; round++) {
+            // Given
+            int opening = random.nextInt(12 * 60);
+            int closing = opening + 1 + random.nextInt(DayAvailability.MINUTES_PER_DAY - opening);
+            boolean[] free = new boolean[DayAvailability.MINUTES_PER_DAY];
+            Arrays.fill(free, opening, closing, true);
+            DayAvailability day = DayAvailability.open(opening, closing);
+
+            for (int i = 0; i < 10; i++) {
+                int start = random.nextInt(DayAvailability.MINUTES_PER_DAY);
+                int duration = 1 + random.nextInt(180);
+                Arrays.fill(free, start, Math.min(start + duration, DayAvailability.MINUTES_PER_DAY), false);
+                day = day.book(start, duration);
+            }
+
+            int duration = 1 + random.nextInt(240);
+            int interval = 1 + random.nextInt(60);
+
+            // When
+            List<Integer> slots = day.freeSlots(duration, interval);
+
+            // Then
+            List<Integer> expected = new ArrayList<>();
+            for (int start = opening; start + duration <= DayAvailability.MINUTES_PER_DAY; start += interval) {
+                boolean allFree = true;
+                for (int minute = start; minute < start + duration && allFree; minute++) {
+                    allFree = free[minute];
+                }
+                if (allFree) {
+                    expected.add(start);
+                }
+            }
+            assertThat(slots).isEqualTo(expected);
+        }
+    }
+}
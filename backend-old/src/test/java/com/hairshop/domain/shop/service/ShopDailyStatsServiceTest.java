@@ -0,0 +1,258 @@
+package com.hairshop.domain.shop.service;
+
+import com.hairshop.domain.outbox.entity.OutboxEvent;
+import com.hairshop.domain.outbox.repository.OutboxEventRepository;
+import com.hairshop.domain.payment.entity.Payment;
+import com.hairshop.domain.payment.event.PaymentStatusChangedEvent;
+import com.hairshop.domain.payment.repository.PaymentRepository;
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.entity.Reservation.ReservationStatus;
+import com.hairshop.domain.reservation.event.ReservationStatusChangedEvent;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.domain.shop.entity.Shop;
+import com.hairshop.domain.shop.entity.ShopDailyStats;
+import com.hairshop.domain.shop.repository.ShopDailyStatsRepository;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.dto.response.DailyStatsBackfillResponse;
+import com.hairshop.dto.response.ShopDailyStatsResponse;
+import com.hairshop.dto.response.ShopDashboardResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ShopDailyStatsServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long SERVICE_ID = 3L;
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    @Autowired
+    private ShopDailyStatsService shopDailyStatsService;
+
+    @Autowired
+    private ShopDashboardService shopDashboardService;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private ShopDailyStatsRepository shopDailyStatsRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Shop shop;
+
+    @BeforeEach
+    void setUp() {
+        shop = shopRepository.save(Shop.builder()
+                .ownerId(OWNER_ID)
+                .name("테스트 미용실")
+                .address("서울시 강남구")
+                .phone("02-123-4567")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        shopDailyStatsService.flush();
+        outboxEventRepository.deleteAll();
+        paymentRepository.deleteAll();
+        shopDailyStatsRepository.deleteAll();
+        reservationRepository.deleteAll();
+        shopRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("예약/결제 상태 변경 증감을 모아 한 번에 반영하고, 같은 이벤트가 다시 와도 한 번만 반영")
+    void flushAppliesDeltasOnce() {
+        // Given
+        Reservation first = reservation(ReservationStatus.PENDING);
+        Reservation second = reservation(ReservationStatus.PENDING);
+        ReservationStatusChangedEvent created = reservationEvent(first, null, ReservationStatus.PENDING);
+        shopDailyStatsService.onReservationStatusChanged(created);
+        shopDailyStatsService.onReservationStatusChanged(reservationEvent(second, null, ReservationStatus.PENDING));
+        shopDailyStatsService.onReservationStatusChanged(
+                reservationEvent(second, ReservationStatus.PENDING, ReservationStatus.CANCELLED));
+        PaymentStatusChangedEvent paid = paymentEvent(first, new BigDecimal("20000"));
+        shopDailyStatsService.onPaymentStatusChanged(paid);
+
+        // When (outbox 재전달)
+        shopDailyStatsService.onReservationStatusChanged(created);
+        shopDailyStatsService.onPaymentStatusChanged(paid);
+        int flushed = shopDailyStatsService.flush();
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        ShopDailyStats stats = stats();
+        assertThat(stats.getPendingCount()).isEqualTo(1);
+        assertThat(stats.getCancelledCount()).isEqualTo(1);
+        assertThat(stats.getRevenue()).isEqualByComparingTo("20000");
+        assertThat(shopDailyStatsService.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("backfill - reservations/payments 를 다시 세어 집계를 채우고, 다시 돌리면 불일치 없음")
+    void backfillFillsFromSourceTables() {
+        // Given
+        Reservation completed = reservation(ReservationStatus.COMPLETED);
+        reservation(ReservationStatus.COMPLETED);
+        reservation(ReservationStatus.NO_SHOW);
+        reservation(ReservationStatus.CANCELLED);
+        payment(completed, Payment.PaymentStatus.COMPLETED);
+        payment(reservation(ReservationStatus.CONFIRMED), Payment.PaymentStatus.FAILED);
+
+        // When
+        DailyStatsBackfillResponse report = shopDailyStatsService.backfill();
+
+        // Then
+        assertThat(report.driftedShopIds()).contains(shop.getId());
+        ShopDailyStats stats = stats();
+        assertThat(stats.getCompletedCount()).isEqualTo(2);
+        assertThat(stats.getNoShowCount()).isEqualTo(1);
+        assertThat(stats.getCancelledCount()).isEqualTo(1);
+        assertThat(stats.getConfirmedCount()).isEqualTo(1);
+        assertThat(stats.getRevenue()).isEqualByComparingTo("20000");
+
+        // When & Then (보정 후에는 불일치 없음)
+        assertThat(shopDailyStatsService.backfill().driftedDays()).isZero();
+    }
+
+    @Test
+    @DisplayName("backfill - 어긋난 집계를 다시 센 값으로 덮어쓰고, 전달 대기 이벤트가 있는 날은 건너뜀")
+    void backfillOverwritesAndSkipsUndeliveredDays() {
+        // Given
+        reservation(ReservationStatus.COMPLETED);
+        Reservation undelivered = reservation(ReservationStatus.CONFIRMED);
+        shopDailyStatsService.backfill();
+        jdbcTemplate.update("UPDATE shop_daily_stats SET completed_count = 5 WHERE shop_id = ?", shop.getId());
+
+        // When
+        DailyStatsBackfillResponse repaired = shopDailyStatsService.backfill();
+
+        // Then (증감이 아니라 다시 센 값)
+        assertThat(repaired.driftedDays()).isEqualTo(1);
+        assertThat(stats().getCompletedCount()).isEqualTo(1);
+
+        // Given (아직 전달되지 않은 상태 변경 이벤트)
+        jdbcTemplate.update("UPDATE shop_daily_stats SET completed_count = 5 WHERE shop_id = ?", shop.getId());
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType("Reservation")
+                .aggregateId(undelivered.getId())
+                .eventType(ReservationStatusChangedEvent.class.getName())
+                .payload("{}")
+                .build());
+
+        // When
+        DailyStatsBackfillResponse skipped = shopDailyStatsService.backfill();
+
+        // Then
+        assertThat(skipped.driftedDays()).isZero();
+        assertThat(skipped.skippedDays()).isEqualTo(1);
+        assertThat(stats().getCompletedCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("대시보드 - 당일 예약 수, 최근 7일 매출, 최근 30일 노쇼율과 월간 일별 집계")
+    void dashboardReadsRollups() {
+        // Given
+        Reservation paid = reservation(ReservationStatus.COMPLETED);
+        reservation(ReservationStatus.COMPLETED);
+        reservation(ReservationStatus.COMPLETED);
+        reservation(ReservationStatus.NO_SHOW);
+        reservation(ReservationStatus.CANCELLED);
+        payment(paid, Payment.PaymentStatus.COMPLETED);
+        shopDailyStatsService.backfill();
+
+        // When
+        ShopDashboardResponse summary = shopDashboardService.getSummary(OWNER_ID, shop.getId(), DAY);
+        List<ShopDailyStatsResponse> month = shopDashboardService.getMonthly(
+                OWNER_ID, shop.getId(), YearMonth.from(DAY), null);
+
+        // Then
+        assertThat(summary.todayBookings()).isEqualTo(4);
+        assertThat(summary.weeklyRevenue()).isEqualByComparingTo("20000");
+        assertThat(summary.noShowRate()).isEqualByComparingTo("0.25");
+        assertThat(month).hasSize(1);
+        assertThat(month.get(0).date()).isEqualTo(DAY);
+        assertThat(month.get(0).cancelled()).isEqualTo(1);
+        assertThat(shopDashboardService.getMonthly(OWNER_ID, shop.getId(), YearMonth.from(DAY), 999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 사람의 미용실 대시보드는 조회 불가")
+    void dashboardRequiresOwner() {
+        // When & Then
+        assertThatThrownBy(() -> shopDashboardService.getSummary(2L, shop.getId(), DAY))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SHOP_NOT_FOUND);
+    }
+
+    private Reservation reservation(ReservationStatus status) {
+        return reservationRepository.save(Reservation.builder()
+                .shopId(shop.getId())
+                .customerId(7L)
+                .serviceId(SERVICE_ID)
+                .reservationDate(DAY)
+                .reservationTime(LocalTime.of(10, 0))
+                .durationMinutes(60)
+                .totalPrice(new BigDecimal("20000"))
+                .status(status)
+                .build());
+    }
+
+    private Payment payment(Reservation reservation, Payment.PaymentStatus status) {
+        return paymentRepository.save(Payment.builder()
+                .reservationId(reservation.getId())
+                .orderId("rsv" + reservation.getId() + "-" + UUID.randomUUID().toString().replace("-", ""))
+                .amount(reservation.getTotalPrice())
+                .status(status)
+                .build());
+    }
+
+    private ReservationStatusChangedEvent reservationEvent(Reservation reservation, ReservationStatus previousStatus,
+                                                           ReservationStatus status) {
+        return new ReservationStatusChangedEvent(reservation.getId(), shop.getId(), reservation.getCustomerId(),
+                SERVICE_ID, previousStatus, status, DAY, LocalTime.of(10, 0), 60, LocalDateTime.now());
+    }
+
+    private PaymentStatusChangedEvent paymentEvent(Reservation reservation, BigDecimal netAmount) {
+        return new PaymentStatusChangedEvent(reservation.getId() * 100, reservation.getId(), shop.getId(), SERVICE_ID,
+                DAY, Payment.PaymentStatus.PENDING, Payment.PaymentStatus.COMPLETED, BigDecimal.ZERO, netAmount,
+                LocalDateTime.now());
+    }
+
+    private ShopDailyStats stats() {
+        return shopDailyStatsRepository.findById(new ShopDailyStats.Key(shop.getId(), DAY, SERVICE_ID)).orElseThrow();
+    }
+}
@@ -0,0 +1,152 @@
+package com.hairshop.domain.shop.service;
+
+import com.hairshop.domain.shop.service.ShopLocationIndex.Hit;
+import com.hairshop.domain.shop.service.ShopLocationIndex.ShopLocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShopLocationIndexTest {
+
+    // 강남역
+    private static final double LAT = 37.4979;
+    private static final double LNG = 127.0276;
+
+    @Test
+    @DisplayName("반경 검색 - 반경 안의 미용실만 가까운 순으로 반환")
+    void withinReturnsShopsInsideRadius() {
+        // Given
+        ShopLocationIndex index = new ShopLocationIndex(1000);
+        index.replaceAll(List.of(
+                location(1L, LAT + 0.001, LNG),   // 약 111m
+                location(2L, LAT, LNG + 0.02),    // 약 1.8km
+                location(3L, LAT + 0.05, LNG)     // 약 5.6km
+        ));
+
+        // When
+        List<Hit> hits = index.within(LAT, LNG, 2000);
+
+        // Then
+        assertThat(hits).extracting(hit -> hit.shop().shopId()).containsExactly(1L, 2L);
+        assertThat(hits.get(0).distanceMeters()).isBetween(100.0, 120.0);
+    }
+
+    @Test
+    @DisplayName("전체 교체 중 생긴 변경은 스냅샷에 없어도 교체 후 유지")
+    void replaceAllReappliesChangesMadeDuringSnapshot() {
+        // Given
+        ShopLocationIndex index = new ShopLocationIndex(1000);
+        index.replaceAll(List.of(location(1L, LAT, LNG), location(2L, LAT, LNG + 0.001)));
+
+        // When: 스냅샷을 읽기 시작한 뒤 1 이동, 2 제거, 3 추가 (스냅샷은 변경 전 상태)
+        long since = index.beginReplace();
+        index.put(location(1L, LAT + 0.1, LNG));
+        index.remove(2L);
+        index.put(location(3L, LAT, LNG + 0.002));
+        index.replaceAll(since, List.of(location(1L, LAT, LNG), location(2L, LAT, LNG + 0.001)));
+
+        // Then
+        assertThat(index.within(LAT, LNG, 1000)).extracting(hit -> hit.shop().shopId()).containsExactly(3L);
+        assertThat(index.within(LAT + 0.1, LNG, 1000)).extracting(hit -> hit.shop().shopId()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+
+        // When: 교체가 끝난 뒤의 다음 교체에는 다시 적용하지 않음
+        index.replaceAll(List.of(location(4L, LAT, LNG)));
+
+        // Then
+        assertThat(index.within(LAT, LNG, 1000)).extracting(hit -> hit.shop().shopId()).containsExactly(4L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("위치 변경/제거 시 칸을 옮기거나 지움")
+    void putMovesAndRemoveDeletes() {
+        // Given
+        ShopLocationIndex index = new ShopLocationIndex(1000);
+        index.put(location(1L, LAT, LNG));
+
+        // When
+        index.put(location(1L, LAT + 0.1, LNG));
+
+        // Then
+        assertThat(index.within(LAT, LNG, 1000)).isEmpty();
+        assertThat(index.within(LAT + 0.1, LNG, 1000)).hasSize(1);
+        assertThat(index.size()).isEqualTo(1);
+
+        // When
+        index.remove(1L);
+
+        // Then
+        assertThat(index.within(LAT + 0.1, LNG, 1000)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("반경/최근접 검색 결과가 전체 계산과 같음 (무작위 비교)")
+    void matchesBruteForce() {
+        Random random = new Random(42);
+        for (double cellMeters : new double[]{250, 1000, 5000}) {
+            // Given
+            List<ShopLocation> locations = new ArrayList<>();
+            for (long id = 1; id <= 2000; id++) {
+                locations.add(location(id, LAT + random.nextGaussian() * 0.05, LNG + random.nextGaussian() * 0.05));
+            }
+            ShopLocationIndex index = new ShopLocationIndex(cellMeters);
+            index.replaceAll(locations);
+
+            for (int query = 0; query < 200; query++) {
+                double lat = LAT + random.nextGaussian() * 0.08;
+                double lng = LNG + random.nextGaussian() * 0.08;
+                double radius = 100 + random.nextInt(5000);
+                int k = 1 + random.nextInt(30);
+
+                // When
+                List<Hit> within = index.within(lat, lng, radius);
+                List<Hit> nearest = index.nearest(lat, lng, k, 20000);
+
+                // Then
+                List<Hit> expected = bruteForce(locations, lat, lng);
+                assertThat(ids(within)).isEqualTo(ids(expected.stream()
+                        .filter(hit -> hit.distanceMeters() <= radius).toList()));
+                assertThat(ids(nearest)).isEqualTo(ids(expected.stream()
+                        .filter(hit -> hit.distanceMeters() <= 20000).limit(k).toList()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("날짜 변경선 양쪽의 미용실도 검색")
+    void searchesAcrossAntimeridian() {
+        // Given
+        ShopLocationIndex index = new ShopLocationIndex(1000);
+        index.replaceAll(List.of(
+                location(1L, 0, 179.999),
+                location(2L, 0, -179.999)
+        ));
+
+        // When & Then
+        assertThat(ids(index.within(0, 180, 1000))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.nearest(0, -179.9995, 2, 1000))).containsExactly(2L, 1L);
+    }
+
+    private static List<Hit> bruteForce(List<ShopLocation> locations, double lat, double lng) {
+        return locations.stream()
+                .map(location -> new Hit(location, ShopLocationIndex.distanceMeters(
+                        lat, lng, location.latitude(), location.longitude())))
+                .sorted(ShopLocationIndex.BY_DISTANCE)
+                .toList();
+    }
+
+    private static List<Long> ids(List<Hit> hits) {
+        return hits.stream().map(hit -> hit.shop().shopId()).toList();
+    }
+
+    private static ShopLocation location(Long id, double lat, double lng) {
+        return new ShopLocation(id, "미용실 " + id, "서울시", lat, lng, null, 0);
+    }
+}
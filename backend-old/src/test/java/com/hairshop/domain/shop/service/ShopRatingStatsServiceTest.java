@@ -0,0 +1,206 @@
+package com.hairshop.domain.shop.service;
+
+import com.hairshop.domain.reservation.entity.Reservation;
+import com.hairshop.domain.reservation.repository.ReservationRepository;
+import com.hairshop.domain.review.repository.ReviewRepository;
+import com.hairshop.domain.review.service.ReviewService;
+import com.hairshop.domain.shop.entity.Shop;
+import com.hairshop.domain.shop.entity.ShopRatingStats;
+import com.hairshop.domain.shop.repository.ShopRatingStatsRepository;
+import com.hairshop.domain.shop.repository.ShopRepository;
+import com.hairshop.dto.request.ReviewRequest;
+import com.hairshop.dto.request.ReviewUpdateRequest;
+import com.hairshop.dto.response.RatingReconcileResponse;
+import com.hairshop.dto.response.ReviewResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ShopRatingStatsServiceTest {
+
+    @Autowired
+    private ShopRatingStatsService shopRatingStatsService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ShopRatingStatsRepository shopRatingStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Shop shop;
+
+    @BeforeEach
+    void setUp() {
+        shop = shopRepository.save(Shop.builder()
+                .ownerId(1L)
+                .name("테스트 미용실")
+                .address("서울시 강남구")
+                .phone("02-123-4567")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        shopRatingStatsService.flush();
+        reviewRepository.deleteAll();
+        shopRatingStatsRepository.deleteAll();
+        reservationRepository.deleteAll();
+        shopRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("리뷰 작성/수정/삭제 증감을 모아 한 번에 반영")
+    void flushAppliesReviewDeltas() {
+        // Given
+        ReviewResponse first = review(1L, 5);
+        review(2L, 4);
+        review(3L, 3);
+
+        // When
+        int flushed = shopRatingStatsService.flush();
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        assertStats(3, "4.00", 0, 0, 1, 1, 1);
+
+        // When
+        reviewService.update(1L, first.id(), new ReviewUpdateRequest(1, "다시 생각해보니"));
+        reviewService.delete(2L, reviewIdOf(2L));
+        shopRatingStatsService.flush();
+
+        // Then
+        assertStats(2, "2.00", 1, 0, 1, 0, 0);
+    }
+
+    @Test
+    @DisplayName("작성 후 바로 삭제하면 증감이 상쇄되어 반영할 것이 없음")
+    void cancellingDeltasAreDropped() {
+        // Given
+        ReviewResponse created = review(1L, 5);
+
+        // When
+        reviewService.delete(1L, created.id());
+
+        // Then
+        assertThat(shopRatingStatsService.flush()).isZero();
+        assertThat(shopRatingStatsRepository.findById(shop.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("완료되지 않은 예약에는 리뷰 작성 불가")
+    void reviewRequiresCompletedReservation() {
+        // Given
+        Reservation reservation = reservation(1L, Reservation.ReservationStatus.CONFIRMED);
+
+        // When & Then
+        assertThatThrownBy(() -> reviewService.create(1L, new ReviewRequest(reservation.getId(), 5, null)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.REVIEW_NOT_ALLOWED);
+    }
+
+    @Test
+    @DisplayName("reconcile - 어긋난 집계를 보고만 하고 집계는 바꾸지 않음")
+    void reconcileReportsDrift() {
+        // Given
+        review(1L, 5);
+        review(2L, 5);
+        shopRatingStatsService.flush();
+        jdbcTemplate.update("UPDATE shop_rating_stats SET rating_5_count = 7, rating_1_count = 1 WHERE shop_id = ?",
+                shop.getId());
+
+        // When
+        RatingReconcileResponse report = shopRatingStatsService.reconcile(false);
+
+        // Then
+        assertThat(report.driftedShops()).isEqualTo(1);
+        assertThat(report.driftedShopIds()).containsExactly(shop.getId());
+        assertThat(report.repairedShops()).isZero();
+        assertStats(2, "5.00", 1, 0, 0, 0, 7);
+    }
+
+    @Test
+    @DisplayName("reconcile(repair) - 어긋난 집계를 reviews 를 다시 센 값으로 덮어씀")
+    void reconcileRepairsDrift() {
+        // Given
+        review(1L, 5);
+        review(2L, 5);
+        shopRatingStatsService.flush();
+        jdbcTemplate.update("UPDATE shop_rating_stats SET rating_5_count = 7, rating_1_count = 1 WHERE shop_id = ?",
+                shop.getId());
+
+        // When
+        RatingReconcileResponse report = shopRatingStatsService.reconcile(true);
+
+        // Then
+        assertThat(report.driftedShops()).isEqualTo(1);
+        assertThat(report.repairedShops()).isEqualTo(1);
+        assertStats(2, "5.00", 0, 0, 0, 0, 2);
+
+        // When & Then (보정을 다시 실행해도 같은 값, 불일치 없음)
+        assertThat(shopRatingStatsService.reconcile(true).driftedShops()).isZero();
+        assertStats(2, "5.00", 0, 0, 0, 0, 2);
+    }
+
+    private ReviewResponse review(Long customerId, int rating) {
+        Reservation reservation = reservation(customerId, Reservation.ReservationStatus.COMPLETED);
+        return reviewService.create(customerId, new ReviewRequest(reservation.getId(), rating, "리뷰"));
+    }
+
+    private Long reviewIdOf(Long customerId) {
+        return reviewRepository.findAll().stream()
+                .filter(review -> review.getCustomerId().equals(customerId))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    private Reservation reservation(Long customerId, Reservation.ReservationStatus status) {
+        return reservationRepository.save(Reservation.builder()
+                .shopId(shop.getId())
+                .customerId(customerId)
+                .serviceId(1L)
+                .reservationDate(LocalDate.now().minusDays(1))
+                .reservationTime(LocalTime.of(10, 0))
+                .durationMinutes(60)
+                .totalPrice(new BigDecimal("20000"))
+                .status(status)
+                .build());
+    }
+
+    private void assertStats(int total, String average, int... countsByRating) {
+        ShopRatingStats stats = shopRatingStatsRepository.findById(shop.getId()).orElseThrow();
+        assertThat(stats.getTotalReviews()).isEqualTo(total);
+        assertThat(stats.getAverageRating()).isEqualByComparingTo(average);
+        assertThat(new int[]{stats.getRating1Count(), stats.getRating2Count(), stats.getRating3Count(),
+                stats.getRating4Count(), stats.getRating5Count()}).containsExactly(countsByRating);
+    }
+}
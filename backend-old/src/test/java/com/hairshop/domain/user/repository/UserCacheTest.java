@@ -0,0 +1,108 @@
+package com.hairshop.domain.user.repository;
+
+import com.hairshop.domain.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("엔티티 조회 - 두 번째 트랜잭션부터 user region 에서 조회")
+    void findByIdHitsEntityCache() {
+        // Given
+        Long userId = userRepository.save(createUser("test@example.com")).getId();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictEntityData(User.class);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId));
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId));
+
+        // Then
+        assertThat(statistics.getDomainDataRegionStatistics("user").getMissCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("user").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프로필 조회 - 쿼리 캐시 적중")
+    void findProfileHitsQueryCache() {
+        // Given
+        Long userId = userRepository.save(createUser("test@example.com")).getId();
+
+        // When
+        userRepository.findProfileByIdAndDeletedAtIsNull(userId);
+        Optional<UserProfile> cached = userRepository.findProfileByIdAndDeletedAtIsNull(userId);
+
+        // Then
+        assertThat(cached).isPresent();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("소프트 삭제 후 캐시된 프로필이 조회되지 않음")
+    void softDeleteInvalidatesCache() {
+        // Given
+        Long userId = userRepository.save(createUser("test@example.com")).getId();
+        assertThat(userRepository.findProfileByIdAndDeletedAtIsNull(userId)).isPresent();
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId));
+
+        // When
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(userId).orElseThrow().delete());
+
+        // Then
+        assertThat(userRepository.findProfileByIdAndDeletedAtIsNull(userId)).isEmpty();
+        assertThat(transactionTemplate.execute(status -> userRepository.findById(userId).orElseThrow().isDeleted()))
+                .isTrue();
+    }
+
+    private User createUser(String email) {
+        return User.builder()
+                .email(email)
+                .password("password123")
+                .name("홍길동")
+                .phone("010-1234-5678")
+                .role(User.UserRole.CUSTOMER)
+                .oauthProvider(User.OAuthProvider.LOCAL)
+                .build();
+    }
+}
@@ -147,6 +147,59 @@ class UserRepositoryTest {
         assertThat(found).isEmpty();
     }
 
+    @Test
+    @DisplayName("프로필 projection 조회")
+    void findProfileById() {
+        // Given
+        User user = userRepository.save(createUser("test@example.com", "홍길동"));
+
+        // When
+        Optional<UserProfile> found = userRepository.findProfileByIdAndDeletedAtIsNull(user.getId());
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(found.get().email()).isEqualTo("test@example.com");
+        assertThat(found.get().name()).isEqualTo("홍길동");
+        assertThat(found.get().role()).isEqualTo(User.UserRole.CUSTOMER);
+    }
+
+    @Test
+    @DisplayName("로그인용 인증 정보 projection 조회 - 삭제된 사용자 제외")
+    void findCredentialByEmailAndDeletedAtIsNull() {
+        // Given
+        User user = userRepository.save(createUser("test@example.com", "홍길동"));
+        User deleted = createUser("deleted@example.com", "삭제유저");
+        deleted.delete();
+        userRepository.save(deleted);
+
+        // When
+        Optional<UserCredential> found = userRepository.findCredentialByEmailAndDeletedAtIsNull("test@example.com");
+        Optional<UserCredential> notFound = userRepository.findCredentialByEmailAndDeletedAtIsNull("deleted@example.com");
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(found.get().id()).isEqualTo(user.getId());
+        assertThat(found.get().password()).isEqualTo("password123");
+        assertThat(notFound).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 변경")
+    void updatePassword() {
+        // Given
+        User user = userRepository.save(createUser("test@example.com", "홍길동"));
+
+        // When
+        int updated = userRepository.updatePassword(user.getId(), "rehashedPassword");
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(userRepository.findCredentialByEmailAndDeletedAtIsNull("test@example.com"))
+                .get()
+                .extracting(UserCredential::password)
+                .isEqualTo("rehashedPassword");
+    }
+
     // Helper method
     private User createUser(String email, String name) {
         return User.builder()
@@ -0,0 +1,99 @@
+package com.hairshop.domain.user.service;
+
+import com.hairshop.domain.user.entity.RevokedToken;
+import com.hairshop.domain.user.repository.RevokedTokenRepository;
+import com.hairshop.security.TokenRevocationIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TokenRevocationServiceTest {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private TokenRevocationIndex tokenRevocationIndex;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        revokedTokenRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("폐기는 커밋 후에 메모리 색인에 반영된다")
+    void revokeAfterCommit() {
+        // Given
+        String tokenId = UUID.randomUUID().toString();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            tokenRevocationService.revoke(tokenId, LocalDateTime.now().plusHours(1));
+
+            // Then (커밋 전)
+            assertThat(tokenRevocationIndex.isRevoked(tokenId)).isFalse();
+        });
+
+        // Then (커밋 후)
+        assertThat(tokenRevocationIndex.isRevoked(tokenId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("롤백된 폐기는 메모리 색인에 남지 않는다")
+    void rollbackDoesNotRevoke() {
+        // Given
+        String tokenId = UUID.randomUUID().toString();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            tokenRevocationService.revoke(tokenId, LocalDateTime.now().plusHours(1));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(tokenRevocationIndex.isRevoked(tokenId)).isFalse();
+        assertThat(revokedTokenRepository.existsById(tokenId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 저장한 폐기 내역을 동기화로 반영한다")
+    void syncRevocationsFromOtherInstances() {
+        // Given (다른 서버의 로그아웃: DB 에만 저장됨)
+        String tokenId = UUID.randomUUID().toString();
+        String expiredId = UUID.randomUUID().toString();
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build());
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(expiredId)
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+        assertThat(tokenRevocationIndex.isRevoked(tokenId)).isFalse();
+
+        // When
+        int synced = tokenRevocationService.syncRevocations();
+
+        // Then
+        assertThat(synced).isGreaterThanOrEqualTo(1);
+        assertThat(tokenRevocationIndex.isRevoked(tokenId)).isTrue();
+        assertThat(tokenRevocationIndex.isRevoked(expiredId)).isFalse();
+    }
+}
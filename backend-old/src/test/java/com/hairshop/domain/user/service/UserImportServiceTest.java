@@ -0,0 +1,63 @@
+package com.hairshop.domain.user.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserImportServiceTest {
+
+    @Test
+    @DisplayName("users.email unique 위반만 이메일 중복으로 보고")
+    void describeDuplicateEmail() {
+        // Given
+        DataIntegrityViolationException e = violation(
+                "ERROR: duplicate key value violates unique constraint \"uk_users_email\"", "23505");
+
+        // When
+        String message = UserImportService.describe(e);
+
+        // Then
+        assertThat(message).isEqualTo("이미 사용 중인 이메일입니다");
+    }
+
+    @Test
+    @DisplayName("예전 이름의 email unique 제약 위반도 이메일 중복으로 보고")
+    void describeDuplicateEmailWithLegacyConstraint() {
+        // Given (baseline 의 @Column(unique = true) 로 생성된 제약)
+        DataIntegrityViolationException postgres = violation("""
+                ERROR: duplicate key value violates unique constraint "uk6dotkott2kjsp8vw4d0m25fb7"
+                  Detail: Key (email)=(dup@example.com) already exists.""", "23505");
+        DataIntegrityViolationException h2 = violation(
+                "Unique index or primary key violation: \"PUBLIC.UK6DOTKOTT2KJSP8VW4D0M25FB7_INDEX_4 ON "
+                        + "PUBLIC.USERS(EMAIL NULLS FIRST) VALUES ( /* 1 */ 'dup@example.com' )\"", "23505");
+
+        // When & Then
+        assertThat(UserImportService.describe(postgres)).isEqualTo("이미 사용 중인 이메일입니다");
+        assertThat(UserImportService.describe(h2)).isEqualTo("이미 사용 중인 이메일입니다");
+    }
+
+    @Test
+    @DisplayName("다른 제약 위반은 실제 사유로 보고")
+    void describeOtherViolations() {
+        // Given
+        DataIntegrityViolationException otherUnique = violation(
+                "ERROR: duplicate key value violates unique constraint \"users_pkey\"", "23505");
+        DataIntegrityViolationException tooLong = violation(
+                "ERROR: value too long for type character varying(100)", "22001");
+        DataIntegrityViolationException notNull = violation(
+                "ERROR: null value in column \"phone\" violates not-null constraint", "23502");
+
+        // When & Then
+        assertThat(UserImportService.describe(otherUnique)).isEqualTo("저장하지 못했습니다 (SQLState 23505)");
+        assertThat(UserImportService.describe(tooLong)).isEqualTo("입력값이 컬럼 길이를 초과합니다");
+        assertThat(UserImportService.describe(notNull)).isEqualTo("저장하지 못했습니다 (SQLState 23502)");
+    }
+
+    private static DataIntegrityViolationException violation(String message, String sqlState) {
+        return new DataIntegrityViolationException("insert failed", new SQLException(message, sqlState));
+    }
+}
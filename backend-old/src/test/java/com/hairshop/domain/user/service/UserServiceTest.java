@@ -1,19 +1,28 @@
 package com.hairshop.domain.user.service;
 
 import com.hairshop.domain.user.entity.User;
+import com.hairshop.domain.user.repository.UserCredential;
 import com.hairshop.domain.user.repository.UserRepository;
 import com.hairshop.dto.request.LoginRequest;
 import com.hairshop.dto.request.SignupRequest;
+import com.hairshop.domain.user.service.RefreshTokenService.IssuedRefreshToken;
 import com.hairshop.dto.response.AuthResponse;
+import com.hairshop.exception.BusinessException;
+import com.hairshop.exception.ErrorCode;
+import com.hairshop.security.JwtPrincipal;
 import com.hairshop.security.JwtTokenProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
@@ -21,7 +30,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,11 +48,22 @@ class UserServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private UserService userService;
 
     private User testUser;
 
+    private UserCredential testCredential;
+
     @BeforeEach
     void setUp() {
         testUser = User.builder()
@@ -52,6 +75,9 @@ class UserServiceTest {
                 .role(User.UserRole.CUSTOMER)
                 .oauthProvider(User.OAuthProvider.LOCAL)
                 .build();
+
+        testCredential = new UserCredential(1L, "test@example.com", "encodedPassword", "홍길동",
+                "010-1234-5678", User.UserRole.CUSTOMER, User.OAuthProvider.LOCAL, null);
     }
 
     @Test
@@ -69,21 +95,27 @@ class UserServiceTest {
         given(userRepository.existsByEmail(anyString())).willReturn(false);
         given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
         given(userRepository.save(any(User.class))).willReturn(testUser);
-        given(jwtTokenProvider.createAccessToken(any(), anyString(), anyString())).willReturn("accessToken");
-        given(jwtTokenProvider.createRefreshToken(any())).willReturn("refreshToken");
+        given(refreshTokenService.issue(1L)).willReturn(new IssuedRefreshToken(1L, "family-1", "refreshToken"));
+        given(jwtTokenProvider.createAccessToken(any(), anyString(), anyString(), anyString())).willReturn("accessToken");
 
         // When
         AuthResponse response = userService.signup(request);
 
         // Then
         assertThat(response).isNotNull();
-        assertThat(response.getAccessToken()).isEqualTo("accessToken");
-        assertThat(response.getRefreshToken()).isEqualTo("refreshToken");
-        assertThat(response.getUser().getEmail()).isEqualTo("test@example.com");
+        assertThat(response.accessToken()).isEqualTo("accessToken");
+        assertThat(response.refreshToken()).isEqualTo("refreshToken");
+        assertThat(response.user().email()).isEqualTo("test@example.com");
 
         verify(userRepository).existsByEmail("test@example.com");
         verify(passwordEncoder).encode("password123");
         verify(userRepository).save(any(User.class));
+
+        // 해싱이 끝난 뒤에 트랜잭션을 열어 저장
+        InOrder order = inOrder(passwordEncoder, transactionTemplate, userRepository);
+        order.verify(passwordEncoder).encode("password123");
+        order.verify(transactionTemplate).execute(any());
+        order.verify(userRepository).save(any(User.class));
     }
 
     @Test
@@ -102,8 +134,8 @@ class UserServiceTest {
 
         // When & Then
         assertThatThrownBy(() -> userService.signup(request))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("이미 사용 중인 이메일입니다");
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.EMAIL_ALREADY_EXISTS);
 
         verify(userRepository).existsByEmail("test@example.com");
     }
@@ -114,37 +146,60 @@ class UserServiceTest {
         // Given
         LoginRequest request = new LoginRequest("test@example.com", "password123");
 
-        given(userRepository.findByEmailAndDeletedAtIsNull(anyString())).willReturn(Optional.of(testUser));
+        given(userRepository.findCredentialByEmailAndDeletedAtIsNull(anyString())).willReturn(Optional.of(testCredential));
         given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
-        given(jwtTokenProvider.createAccessToken(any(), anyString(), anyString())).willReturn("accessToken");
-        given(jwtTokenProvider.createRefreshToken(any())).willReturn("refreshToken");
+        given(refreshTokenService.issue(1L)).willReturn(new IssuedRefreshToken(1L, "family-1", "refreshToken"));
+        given(jwtTokenProvider.createAccessToken(any(), anyString(), anyString(), anyString())).willReturn("accessToken");
 
         // When
         AuthResponse response = userService.login(request);
 
         // Then
         assertThat(response).isNotNull();
-        assertThat(response.getAccessToken()).isEqualTo("accessToken");
-        assertThat(response.getRefreshToken()).isEqualTo("refreshToken");
+        assertThat(response.accessToken()).isEqualTo("accessToken");
+        assertThat(response.refreshToken()).isEqualTo("refreshToken");
 
-        verify(userRepository).findByEmailAndDeletedAtIsNull("test@example.com");
+        verify(userRepository).findCredentialByEmailAndDeletedAtIsNull("test@example.com");
         verify(passwordEncoder).matches("password123", "encodedPassword");
     }
 
+    @Test
+    @DisplayName("로그인 성공 - 낮은 cost 해시 재해싱")
+    void loginRehashWeakPassword() {
+        // Given
+        LoginRequest request = new LoginRequest("test@example.com", "password123");
+
+        given(userRepository.findCredentialByEmailAndDeletedAtIsNull(anyString())).willReturn(Optional.of(testCredential));
+        given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+        given(passwordEncoder.upgradeEncoding("encodedPassword")).willReturn(true);
+        given(passwordEncoder.encode("password123")).willReturn("rehashedPassword");
+        given(refreshTokenService.issue(1L)).willReturn(new IssuedRefreshToken(1L, "family-1", "refreshToken"));
+        given(jwtTokenProvider.createAccessToken(any(), anyString(), anyString(), anyString())).willReturn("accessToken");
+
+        // When
+        userService.login(request);
+
+        // Then (해싱이 끝난 뒤에 트랜잭션을 열어 저장)
+        InOrder order = inOrder(passwordEncoder, transactionTemplate, userRepository);
+        order.verify(passwordEncoder).encode("password123");
+        order.verify(transactionTemplate).execute(any());
+        order.verify(userRepository).updatePassword(1L, "rehashedPassword");
+    }
+
     @Test
     @DisplayName("로그인 실패 - 사용자 없음")
     void loginFailUserNotFound() {
         // Given
         LoginRequest request = new LoginRequest("notfound@example.com", "password123");
 
-        given(userRepository.findByEmailAndDeletedAtIsNull(anyString())).willReturn(Optional.empty());
+        given(userRepository.findCredentialByEmailAndDeletedAtIsNull(anyString())).willReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> userService.login(request))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("이메일 또는 비밀번호가 올바르지 않습니다");
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_CREDENTIALS);
 
-        verify(userRepository).findByEmailAndDeletedAtIsNull("notfound@example.com");
+        verify(userRepository).findCredentialByEmailAndDeletedAtIsNull("notfound@example.com");
     }
 
     @Test
@@ -153,15 +208,15 @@ class UserServiceTest {
         // Given
         LoginRequest request = new LoginRequest("test@example.com", "wrongpassword");
 
-        given(userRepository.findByEmailAndDeletedAtIsNull(anyString())).willReturn(Optional.of(testUser));
+        given(userRepository.findCredentialByEmailAndDeletedAtIsNull(anyString())).willReturn(Optional.of(testCredential));
         given(passwordEncoder.matches(anyString(), anyString())).willReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> userService.login(request))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("이메일 또는 비밀번호가 올바르지 않습니다");
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_CREDENTIALS);
 
-        verify(userRepository).findByEmailAndDeletedAtIsNull("test@example.com");
+        verify(userRepository).findCredentialByEmailAndDeletedAtIsNull("test@example.com");
         verify(passwordEncoder).matches("wrongpassword", "encodedPassword");
     }
 
@@ -169,17 +224,17 @@ class UserServiceTest {
     @DisplayName("사용자 조회 성공")
     void getUserByIdSuccess() {
         // Given
-        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(userRepository.findProfileByIdAndDeletedAtIsNull(1L)).willReturn(Optional.of(testCredential.toProfile()));
 
         // When
         var response = userService.getUserById(1L);
 
         // Then
         assertThat(response).isNotNull();
-        assertThat(response.getId()).isEqualTo(1L);
-        assertThat(response.getEmail()).isEqualTo("test@example.com");
+        assertThat(response.id()).isEqualTo(1L);
+        assertThat(response.email()).isEqualTo("test@example.com");
 
-        verify(userRepository).findById(1L);
+        verify(userRepository).findProfileByIdAndDeletedAtIsNull(1L);
     }
 
     @Test
@@ -188,21 +243,68 @@ class UserServiceTest {
         // Given
         String refreshToken = "validRefreshToken";
 
-        given(jwtTokenProvider.validateToken(anyString())).willReturn(true);
-        given(jwtTokenProvider.getUserIdFromToken(anyString())).willReturn(1L);
-        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
-        given(jwtTokenProvider.createAccessToken(any(), anyString(), anyString())).willReturn("newAccessToken");
-        given(jwtTokenProvider.createRefreshToken(any())).willReturn("newRefreshToken");
+        given(refreshTokenService.rotate(refreshToken))
+                .willReturn(new IssuedRefreshToken(1L, "family-1", "newRefreshToken"));
+        given(userRepository.findProfileByIdAndDeletedAtIsNull(1L)).willReturn(Optional.of(testCredential.toProfile()));
+        given(jwtTokenProvider.createAccessToken(any(), anyString(), anyString(), anyString())).willReturn("newAccessToken");
 
         // When
         AuthResponse response = userService.refreshToken(refreshToken);
 
         // Then
         assertThat(response).isNotNull();
-        assertThat(response.getAccessToken()).isEqualTo("newAccessToken");
-        assertThat(response.getRefreshToken()).isEqualTo("newRefreshToken");
+        assertThat(response.accessToken()).isEqualTo("newAccessToken");
+        assertThat(response.refreshToken()).isEqualTo("newRefreshToken");
+
+        verify(refreshTokenService).rotate(refreshToken);
+        verify(userRepository).findProfileByIdAndDeletedAtIsNull(1L);
+    }
 
-        verify(jwtTokenProvider).validateToken(refreshToken);
-        verify(userRepository).findById(1L);
+    @Test
+    @DisplayName("로그아웃 - Access Token 및 패밀리 폐기")
+    void logout() {
+        // Given
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        JwtPrincipal accessToken = new JwtPrincipal(1L, "test@example.com", "CUSTOMER",
+                "token-1", "family-1", false, expiresAt);
+
+        // When
+        userService.logout(accessToken);
+
+        // Then
+        verify(tokenRevocationService).revoke(eq("token-1"), any());
+        verify(refreshTokenService).revokeFamily("family-1");
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 - 소프트 삭제 및 토큰 폐기")
+    void withdraw() {
+        // Given
+        JwtPrincipal accessToken = new JwtPrincipal(1L, "test@example.com", "CUSTOMER",
+                "token-1", "family-1", false, System.currentTimeMillis() + 60_000L);
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+
+        // When
+        userService.withdraw(accessToken);
+
+        // Then
+        assertThat(testUser.isDeleted()).isTrue();
+        verify(tokenRevocationService).revoke(eq("token-1"), any());
+        verify(refreshTokenService).revokeFamily("family-1");
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 실패 - 이미 탈퇴한 사용자")
+    void withdrawFailAlreadyDeleted() {
+        // Given
+        JwtPrincipal accessToken = new JwtPrincipal(1L, "test@example.com", "CUSTOMER",
+                "token-1", "family-1", false, System.currentTimeMillis() + 60_000L);
+        testUser.delete();
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.withdraw(accessToken))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.USER_NOT_FOUND);
     }
 }
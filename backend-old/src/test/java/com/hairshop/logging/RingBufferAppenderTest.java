@@ -0,0 +1,101 @@
+package com.hairshop.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferAppenderTest {
+
+    private LoggerContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+    }
+
+    @Test
+    @DisplayName("모든 이벤트를 순서대로 출력하고 종료 시 남은 이벤트도 출력")
+    void deliversInOrder() {
+        // Given
+        ListAppender<ILoggingEvent> target = start(new ListAppender<>());
+        RingBufferAppender appender = ringBuffer(target, 1024);
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            appender.doAppend(event("message-" + i));
+        }
+        appender.stop();
+
+        // Then
+        assertThat(target.list).hasSize(500);
+        assertThat(target.list.get(0).getFormattedMessage()).isEqualTo("message-0");
+        assertThat(target.list.get(499).getFormattedMessage()).isEqualTo("message-499");
+        assertThat(appender.getDroppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 기다리지 않고 버린 뒤 개수 기록")
+    void dropsWhenFull() throws Exception {
+        // Given: 첫 이벤트 출력에서 멈추는 appender
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ListAppender<ILoggingEvent> target = start(new ListAppender<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                super.append(event);
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        RingBufferAppender appender = ringBuffer(target, 4);
+        appender.doAppend(event("first"));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When: 버퍼 4칸 + 초과 3건
+        for (int i = 0; i < 7; i++) {
+            appender.doAppend(event("message-" + i));
+        }
+
+        // Then
+        assertThat(appender.getDroppedCount()).isEqualTo(3);
+        assertThat(appender.getQueueSize()).isEqualTo(4);
+
+        release.countDown();
+        appender.stop();
+        assertThat(target.list).hasSize(5);
+    }
+
+    private RingBufferAppender ringBuffer(ListAppender<ILoggingEvent> target, int bufferSize) {
+        RingBufferAppender appender = new RingBufferAppender();
+        appender.setContext(context);
+        appender.setName("test-" + bufferSize);
+        appender.setBufferSize(bufferSize);
+        appender.addAppender(target);
+        appender.start();
+        return appender;
+    }
+
+    private <T extends ListAppender<ILoggingEvent>> T start(T appender) {
+        appender.setContext(context);
+        appender.start();
+        return appender;
+    }
+
+    private ILoggingEvent event(String message) {
+        return new LoggingEvent(getClass().getName(), context.getLogger("test"), Level.INFO, message, null, null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.hairshop.security;
+
+import com.hairshop.exception.PasswordHashingRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        boundedPasswordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("전용 풀에서 해싱 및 검증")
+    void encodeAndMatches() {
+        // Given
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, 1);
+
+        // When
+        String encoded = boundedPasswordEncoder.encode("password123");
+
+        // Then
+        assertThat(boundedPasswordEncoder.matches("password123", encoded)).isTrue();
+        assertThat(boundedPasswordEncoder.matches("wrongpassword", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("낮은 cost 해시는 재해싱 대상")
+    void upgradeEncoding() {
+        // Given
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(6), 1, 1, 1);
+
+        // When & Then
+        assertThat(boundedPasswordEncoder.upgradeEncoding(weakHash)).isTrue();
+        assertThat(boundedPasswordEncoder.upgradeEncoding(boundedPasswordEncoder.encode("password123"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 즉시 거절")
+    void rejectWhenQueueIsFull() throws Exception {
+        // Given - 워커 1개, 큐 1개, 해싱이 끝나지 않는 encoder
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+        boundedPasswordEncoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, 3);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("a"));
+        await().until(() -> boundedPasswordEncoder.getActiveCount() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("b"));
+        await().until(() -> boundedPasswordEncoder.getQueueSize() == 1);
+
+        // When & Then
+        assertThatThrownBy(() -> boundedPasswordEncoder.encode("c"))
+                .isInstanceOf(PasswordHashingRejectedException.class)
+                .extracting("retryAfterSeconds").isEqualTo(3L);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+    }
+}
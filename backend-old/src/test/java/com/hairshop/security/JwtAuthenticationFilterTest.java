@@ -0,0 +1,118 @@
+package com.hairshop.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenRevocationIndex tokenRevocationIndex;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @BeforeEach
+    void setUp() {
+        String secret = "test-secret-key-for-testing-minimum-256-bits-required-for-security-purposes-in-jwt-token";
+        jwtTokenProvider = new JwtTokenProvider(secret, 86400000L, 604800000L);
+        tokenRevocationIndex = new TokenRevocationIndex(1000);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationIndex);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰 - 인증 정보 설정")
+    void authenticateWithValidToken() throws Exception {
+        // Given
+        String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", "OWNER");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/auth/me");
+        request.setServletPath("/auth/me");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        // When
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isEqualTo(1L);
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_OWNER");
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰 - 인증 정보 없음")
+    void skipInvalidToken() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/auth/me");
+        request.setServletPath("/auth/me");
+        request.addHeader("Authorization", "Bearer invalid.token.here");
+
+        // When
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("폐기된 패밀리의 토큰 - 인증 정보 없음")
+    void rejectRevokedToken() throws Exception {
+        // Given
+        String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", "CUSTOMER", "family-1");
+        tokenRevocationIndex.revoke("family-1", System.currentTimeMillis() + 60_000L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/auth/me");
+        request.setServletPath("/auth/me");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        // When
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("Refresh Token 으로는 인증 불가")
+    void rejectRefreshToken() throws Exception {
+        // Given
+        String token = jwtTokenProvider.createRefreshToken(1L, "family-1", "token-1");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/auth/me");
+        request.setServletPath("/auth/me");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        // When
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("공개 경로 - 토큰 파싱 건너뜀")
+    void skipPublicPath() throws Exception {
+        // Given
+        String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", "CUSTOMER");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setServletPath("/auth/login");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // When
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(filterChain.getRequest()).isSameAs(request);
+    }
+}
@@ -1,10 +1,12 @@
 package com.hairshop.security;
 
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JwtTokenProviderTest {
 
@@ -42,13 +44,29 @@ class JwtTokenProviderTest {
         Long userId = 1L;
 
         // When
-        String token = jwtTokenProvider.createRefreshToken(userId);
+        String token = jwtTokenProvider.createRefreshToken(userId, "family-1", "token-1");
 
         // Then
         assertThat(token).isNotNull();
         assertThat(token).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("Refresh Token 파싱 - 패밀리 및 토큰 ID 포함")
+    void parseRefreshToken() {
+        // Given
+        String token = jwtTokenProvider.createRefreshToken(1L, "family-1", "token-1");
+
+        // When
+        JwtPrincipal principal = jwtTokenProvider.parseToken(token);
+
+        // Then
+        assertThat(principal.refresh()).isTrue();
+        assertThat(principal.familyId()).isEqualTo("family-1");
+        assertThat(principal.tokenId()).isEqualTo("token-1");
+        assertThat(principal.role()).isNull();
+    }
+
     @Test
     @DisplayName("토큰에서 사용자 ID 추출")
     void getUserIdFromToken() {
@@ -129,4 +147,73 @@ class JwtTokenProviderTest {
         // Then
         assertThat(isExpired).isFalse();
     }
+
+    @Test
+    @DisplayName("토큰 한 번 파싱으로 모든 클레임 추출")
+    void parseToken() {
+        // Given
+        String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", "CUSTOMER");
+
+        // When
+        JwtPrincipal principal = jwtTokenProvider.parseToken(token);
+
+        // Then
+        assertThat(principal.userId()).isEqualTo(1L);
+        assertThat(principal.email()).isEqualTo("test@example.com");
+        assertThat(principal.role()).isEqualTo("CUSTOMER");
+        assertThat(principal.expiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 캐시에서 재사용")
+    void parseTokenCached() {
+        // Given
+        String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", "CUSTOMER");
+
+        // When
+        JwtPrincipal first = jwtTokenProvider.parseToken(token);
+        JwtPrincipal second = jwtTokenProvider.parseToken(token);
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 시에도 토큰 파싱")
+    void parseTokenWithoutCache() {
+        // Given
+        JwtTokenProvider uncachedProvider = new JwtTokenProvider(
+                "test-secret-key-for-testing-minimum-256-bits-required-for-security-purposes-in-jwt-token",
+                86400000L, 604800000L, 0L);
+        String token = uncachedProvider.createAccessToken(1L, "test@example.com", "CUSTOMER");
+
+        // When
+        JwtPrincipal principal = uncachedProvider.parseToken(token);
+
+        // Then
+        assertThat(principal.userId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰 파싱 - 예외 발생")
+    void parseTokenFailure() {
+        // When & Then
+        assertThatThrownBy(() -> jwtTokenProvider.parseToken("invalid.token.here"))
+                .isInstanceOf(JwtException.class);
+        assertThat(jwtTokenProvider.resolveToken("invalid.token.here")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시되지 않고 거부")
+    void parseExpiredToken() {
+        // Given
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(
+                "test-secret-key-for-testing-minimum-256-bits-required-for-security-purposes-in-jwt-token",
+                -1000L, -1000L);
+        String token = expiredProvider.createAccessToken(1L, "test@example.com", "CUSTOMER");
+
+        // When & Then
+        assertThat(expiredProvider.validateToken(token)).isFalse();
+        assertThat(expiredProvider.isTokenExpired(token)).isTrue();
+    }
 }
@@ -0,0 +1,126 @@
+package com.hairshop.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hairshop.domain.user.repository.UserRepository;
+import com.hairshop.dto.request.LoginRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "rate-limit.enabled=true",
+        "rate-limit.rules.login.ip.capacity=5",
+        "rate-limit.rules.login.account.capacity=2"
+})
+class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("POST /auth/login - 같은 계정은 대소문자와 관계없이 제한하고, 다른 계정은 IP 제한까지 허용")
+    void loginRateLimited() throws Exception {
+        // Given: 계정 2회, IP 5회
+        login("victim@example.com").andExpect(status().isUnauthorized());
+        login("Victim@Example.COM").andExpect(status().isUnauthorized());
+
+        // When & Then: 같은 계정 3번째는 컨트롤러 전에 거절
+        login("victim@example.com")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.code").value("RATE_LIMITED"));
+
+        // 다른 계정은 IP 버킷이 남아 있는 동안 허용 (IP 버킷은 위 3번 + 아래 2번 = 5)
+        login("other1@example.com").andExpect(status().isUnauthorized());
+        login("other2@example.com").andExpect(status().isUnauthorized());
+        login("other3@example.com").andExpect(status().isTooManyRequests());
+
+        assertThat(meterRegistry.get("ratelimit.rejected").tag("rule", "login").tag("key", "account").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("ratelimit.rejected").tag("rule", "login").tag("key", "ip").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("미리 읽은 본문은 비동기(ReadListener) 방식으로도 읽을 수 있다")
+    void cachedBodyReadListener() throws Exception {
+        // Given
+        byte[] body = "{\"email\":\"user@example.com\"}".getBytes(StandardCharsets.UTF_8);
+        ServletInputStream input = new RateLimitFilter.CachedBodyRequest(new MockHttpServletRequest(), body)
+                .getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+
+        // When
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] buffer = new byte[8];
+                int n;
+                while (input.isReady() && (n = input.read(buffer)) != -1) {
+                    read.write(buffer, 0, n);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new AssertionError(t);
+            }
+        });
+
+        // Then
+        assertThat(read.toByteArray()).isEqualTo(body);
+        assertThat(allDataRead).isTrue();
+        assertThat(input.isFinished()).isTrue();
+    }
+
+    private ResultActions login(String email) throws Exception {
+        return mockMvc.perform(post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(email, "password123"))));
+    }
+}
@@ -0,0 +1,78 @@
+package com.hairshop.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationIndexTest {
+
+    private TokenRevocationIndex tokenRevocationIndex;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationIndex = new TokenRevocationIndex(1000);
+    }
+
+    @Test
+    @DisplayName("폐기된 ID 확인")
+    void revoke() {
+        // When
+        tokenRevocationIndex.revoke("token-1", System.currentTimeMillis() + 60_000L);
+
+        // Then
+        assertThat(tokenRevocationIndex.isRevoked("token-1")).isTrue();
+        assertThat(tokenRevocationIndex.isRevoked("token-2")).isFalse();
+        assertThat(tokenRevocationIndex.isRevoked((String) null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 또는 패밀리 중 하나라도 폐기되면 폐기된 토큰")
+    void revokeByFamily() {
+        // Given
+        JwtPrincipal principal = new JwtPrincipal(1L, "test@example.com", "CUSTOMER",
+                "token-1", "family-1", false, System.currentTimeMillis() + 60_000L);
+
+        // When
+        tokenRevocationIndex.revoke("family-1", System.currentTimeMillis() + 60_000L);
+
+        // Then
+        assertThat(tokenRevocationIndex.isRevoked(principal)).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 항목 정리 후에도 유효한 항목은 유지")
+    void prune() {
+        // Given
+        long now = System.currentTimeMillis();
+        tokenRevocationIndex.revoke("expired", now - 1L);
+        tokenRevocationIndex.revoke("active", now + 60_000L);
+
+        // When
+        int pruned = tokenRevocationIndex.prune(now);
+
+        // Then
+        assertThat(pruned).isEqualTo(1);
+        assertThat(tokenRevocationIndex.isRevoked("expired")).isFalse();
+        assertThat(tokenRevocationIndex.isRevoked("active")).isTrue();
+        assertThat(tokenRevocationIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예상 크기를 넘어도 거짓 음성 없음")
+    void noFalseNegatives() {
+        // Given
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        var ids = IntStream.range(0, 5000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+        // When
+        ids.forEach(id -> tokenRevocationIndex.revoke(id, expiresAt));
+
+        // Then
+        assertThat(ids).allMatch(tokenRevocationIndex::isRevoked);
+    }
+}
@@ -0,0 +1,120 @@
+package com.hairshop.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("최소 호출 수 이상에서 실패율이 기준 이상이면 열리고, 열린 동안 거절")
+    void opensOnFailureRate() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, Duration.ofSeconds(30), 1);
+        long now = 1_000 * SECOND;
+
+        // When
+        breaker.record(true, now);
+        breaker.record(true, now);
+        breaker.record(true, now);
+
+        // Then (최소 호출 수 전에는 열리지 않음)
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // When
+        breaker.record(false, now);
+
+        // Then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(now + 29 * SECOND)).isFalse();
+    }
+
+    @Test
+    @DisplayName("최근 windowSize 건만 보므로 오래된 성공이 최근 실패를 희석하지 않음")
+    void slidingWindow() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.5, Duration.ofSeconds(30), 1);
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 10; i++) {
+            breaker.record(false, now);
+        }
+
+        // When
+        breaker.record(true, now);
+
+        // Then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // When (최근 4건 중 2건 실패)
+        breaker.record(true, now);
+
+        // Then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("open-duration 후 시험 호출만 허용, 모두 성공하면 닫힘")
+    void halfOpenThenClose() {
+        // Given
+        CircuitBreaker breaker = openBreaker(2);
+        long later = 1_031 * SECOND;
+
+        // When & Then
+        assertThat(breaker.tryAcquire(later)).isTrue();
+        assertThat(breaker.tryAcquire(later)).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire(later)).isFalse();
+
+        breaker.record(false, later);
+        breaker.record(false, later);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire(later)).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열림")
+    void halfOpenFailureReopens() {
+        // Given
+        CircuitBreaker breaker = openBreaker(1);
+        long later = 1_031 * SECOND;
+        breaker.tryAcquire(later);
+
+        // When
+        breaker.record(true, later);
+
+        // Then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(later + SECOND)).isFalse();
+        assertThat(breaker.tryAcquire(later + 31 * SECOND)).isTrue();
+    }
+
+    @Test
+    @DisplayName("취소된 시험 호출은 자리를 돌려줌")
+    void cancelledTrialReleasesPermit() {
+        // Given
+        CircuitBreaker breaker = openBreaker(1);
+        long later = 1_031 * SECOND;
+        assertThat(breaker.tryAcquire(later)).isTrue();
+        assertThat(breaker.tryAcquire(later)).isFalse();
+
+        // When
+        breaker.onCancelled();
+
+        // Then
+        assertThat(breaker.tryAcquire(later)).isTrue();
+    }
+
+    private static CircuitBreaker openBreaker(int halfOpenCalls) {
+        CircuitBreaker breaker = new CircuitBreaker(2, 2, 0.5, Duration.ofSeconds(30), halfOpenCalls);
+        breaker.record(true, 1_000 * SECOND);
+        breaker.record(true, 1_000 * SECOND);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+}
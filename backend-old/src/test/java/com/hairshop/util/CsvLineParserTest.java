@@ -0,0 +1,41 @@
+package com.hairshop.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvLineParserTest {
+
+    @Test
+    @DisplayName("쉼표로 필드 분리")
+    void parseSimpleLine() {
+        // When
+        List<String> fields = CsvLineParser.parse("test@example.com,홍길동,010-1234-5678");
+
+        // Then
+        assertThat(fields).containsExactly("test@example.com", "홍길동", "010-1234-5678");
+    }
+
+    @Test
+    @DisplayName("따옴표 필드 - 쉼표 및 이스케이프된 따옴표 포함")
+    void parseQuotedFields() {
+        // When
+        List<String> fields = CsvLineParser.parse("\"홍, 길동\",\"say \"\"hi\"\"\",,");
+
+        // Then
+        assertThat(fields).containsExactly("홍, 길동", "say \"hi\"", "", "");
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표 - 예외 발생")
+    void parseUnclosedQuote() {
+        // When & Then
+        assertThatThrownBy(() -> CsvLineParser.parse("\"test@example.com,홍길동"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("따옴표가 닫히지 않았습니다");
+    }
+}
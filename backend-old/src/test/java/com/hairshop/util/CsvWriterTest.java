@@ -0,0 +1,44 @@
+package com.hairshop.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvWriterTest {
+
+    @Test
+    @DisplayName("필드를 쉼표로 잇고 행 끝은 CRLF, null 은 빈 필드")
+    void writeSimpleRows() throws IOException {
+        // Given
+        StringWriter out = new StringWriter();
+        CsvWriter csv = new CsvWriter(out);
+
+        // When
+        csv.field("홍길동").field((String) null).field(20000L).endRow();
+        csv.writeRow("a", "", "b");
+
+        // Then
+        assertThat(out.toString()).isEqualTo("홍길동,,20000\r\na,,b\r\n");
+    }
+
+    @Test
+    @DisplayName("쉼표/따옴표/줄바꿈이 있는 필드만 따옴표로 감싸고 CsvLineParser 로 되읽으면 원래 값")
+    void quoteSpecialFields() throws IOException {
+        // Given
+        StringWriter out = new StringWriter();
+        CsvWriter csv = new CsvWriter(out);
+
+        // When
+        csv.writeRow("커트, 드라이", "say \"hi\"", "plain");
+
+        // Then
+        String line = out.toString();
+        assertThat(line).isEqualTo("\"커트, 드라이\",\"say \"\"hi\"\"\",plain\r\n");
+        assertThat(CsvLineParser.parse(line.substring(0, line.length() - 2)))
+                .containsExactly("커트, 드라이", "say \"hi\"", "plain");
+    }
+}
@@ -0,0 +1,83 @@
+package com.hairshop.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    private static final String SIGNATURE = "Reservation:reservationDate,reservationTime,id:asc";
+    private static final List<Class<?>> TYPES = List.of(LocalDate.class, LocalTime.class, Long.class);
+
+    private final CursorCodec codec = new CursorCodec("test-cursor-secret");
+
+    @Test
+    @DisplayName("인코딩한 키 값을 그대로 복원 (URL-safe 토큰)")
+    void roundTrip() {
+        // Given
+        List<Object> values = List.of(LocalDate.of(2026, 3, 2), LocalTime.of(14, 30), 42L);
+
+        // When
+        String token = codec.encode(SIGNATURE, values);
+
+        // Then
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(codec.decode(token, SIGNATURE, TYPES)).containsExactlyElementsOf(values);
+    }
+
+    @Test
+    @DisplayName("구분자가 들어간 문자열과 나노초까지의 일시도 복원")
+    void roundTripDelimitersAndNanos() {
+        // Given
+        List<Object> values = List.of("a:1:b", LocalDateTime.of(2026, 3, 2, 14, 30, 0, 123_456_000));
+
+        // When
+        String token = codec.encode("s", values);
+
+        // Then
+        assertThat(codec.decode(token, "s", List.of(String.class, LocalDateTime.class)))
+                .containsExactlyElementsOf(values);
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준의 커서나 바꾼 토큰은 거부")
+    void rejectsForeignOrTamperedToken() {
+        // Given
+        String token = codec.encode(SIGNATURE, List.of(LocalDate.of(2026, 3, 2), LocalTime.of(14, 30), 42L));
+
+        // When & Then
+        assertThatThrownBy(() -> codec.decode(token, "Notification:createdAt,id:desc", TYPES))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(token + "A", SIGNATURE, TYPES))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode("not a cursor!", SIGNATURE, TYPES))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("값을 바꿔 다시 인코딩한 토큰이나 다른 키로 만든 토큰은 거부")
+    void rejectsForgedToken() {
+        // Given: 서명 필드는 그대로 두고 id 만 바꾼 토큰
+        String token = codec.encode(SIGNATURE, List.of(LocalDate.of(2026, 3, 2), LocalTime.of(14, 30), 42L));
+        String text = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(text.replace("2:42", "1:7").getBytes(StandardCharsets.UTF_8));
+        String foreignKey = new CursorCodec("other-secret")
+                .encode(SIGNATURE, List.of(LocalDate.of(2026, 3, 2), LocalTime.of(14, 30), 42L));
+
+        // When & Then
+        assertThatThrownBy(() -> codec.decode(forged, SIGNATURE, TYPES))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(foreignKey, SIGNATURE, TYPES))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
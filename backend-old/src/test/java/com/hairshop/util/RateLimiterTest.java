@@ -0,0 +1,63 @@
+package com.hairshop.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("capacity 만큼 연속 허용 후 거절")
+    void burstThenReject() {
+        // Given
+        RateLimiter limiter = new RateLimiter(5, Duration.ofSeconds(10), 100, Duration.ofMinutes(1));
+        long now = 1_000 * SECOND;
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("key", now)).isZero();
+        }
+        assertThat(limiter.tryAcquire("key", now)).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 period / capacity 마다 하나씩 다시 허용")
+    void refill() {
+        // Given
+        RateLimiter limiter = new RateLimiter(5, Duration.ofSeconds(10), 100, Duration.ofMinutes(1));
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("key", now);
+        }
+
+        // When & Then
+        assertThat(limiter.tryAcquire("key", now + SECOND)).isEqualTo(SECOND);
+        assertThat(limiter.tryAcquire("key", now + 2 * SECOND)).isZero();
+        assertThat(limiter.tryAcquire("key", now + 2 * SECOND)).isPositive();
+        // 다 채워진 뒤에도 capacity 이상 쌓이지 않음
+        long later = now + 100 * SECOND;
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("key", later)).isZero();
+        }
+        assertThat(limiter.tryAcquire("key", later)).isPositive();
+    }
+
+    @Test
+    @DisplayName("키마다 독립된 버킷")
+    void independentKeys() {
+        // Given
+        RateLimiter limiter = new RateLimiter(1, Duration.ofSeconds(10), 100, Duration.ofMinutes(1));
+        long now = 1_000 * SECOND;
+
+        // When & Then
+        assertThat(limiter.tryAcquire("a", now)).isZero();
+        assertThat(limiter.tryAcquire("a", now)).isPositive();
+        assertThat(limiter.tryAcquire("b", now)).isZero();
+    }
+}
@@ -0,0 +1,77 @@
+package com.hairshop.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toMillis(1);
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("만료 시각이 속한 tick 이 되면 꺼내고, 그 전에는 꺼내지 않음")
+    void firesAtExpirationTick() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(SECOND, 8, START);
+        wheel.schedule("3초", START + 3 * SECOND);
+        wheel.schedule("10초", START + 10 * SECOND);
+
+        // When & Then
+        assertThat(wheel.advance(START + 2 * SECOND)).isEmpty();
+        assertThat(wheel.advance(START + 3 * SECOND)).containsExactly("3초");
+        assertThat(wheel.advance(START + 9 * SECOND + 999)).isEmpty();
+        assertThat(wheel.advance(START + 10 * SECOND)).containsExactly("10초");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("위 단계에 둔 먼 항목도 아래 단계로 옮겨져 제 시각에 꺼냄")
+    void cascadesDistantTimers() {
+        // Given (칸 4개: 0단계 4초, 1단계 16초, 2단계 64초, 3단계 256초 범위)
+        TimingWheel<Long> wheel = new TimingWheel<>(SECOND, 4, START);
+        List<Long> delays = List.of(1L, 5L, 17L, 63L, 64L, 200L, 1000L);
+        delays.forEach(delay -> wheel.schedule(delay, START + delay * SECOND));
+
+        // When
+        List<Long> fired = new ArrayList<>();
+        for (long second = 1; second <= 1000; second++) {
+            List<Long> expired = wheel.advance(START + second * SECOND);
+            for (Long delay : expired) {
+                // Then
+                assertThat(delay).isEqualTo(second);
+            }
+            fired.addAll(expired);
+        }
+
+        // Then
+        assertThat(fired).containsExactlyElementsOf(delays);
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 꺼내지 않고, 이미 지난 시각은 다음 advance 에서 바로 꺼냄")
+    void cancelAndOverdue() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(SECOND, 8, START);
+        TimingWheel<String>.Timeout cancelled = wheel.schedule("취소", START + 100 * SECOND);
+        wheel.schedule("유지", START + 100 * SECOND);
+        wheel.schedule("지남", START - SECOND);
+
+        // When
+        boolean first = cancelled.cancel();
+        boolean second = cancelled.cancel();
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(wheel.size()).isEqualTo(2);
+        assertThat(wheel.advance(START)).containsExactly("지남");
+        assertThat(wheel.advance(START + 100 * SECOND)).containsExactly("유지");
+        assertThat(cancelled.isPending()).isFalse();
+    }
+}
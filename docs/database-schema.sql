@@ -3,7 +3,7 @@
 -- 사용자 (공통)
 CREATE TABLE users (
     id BIGSERIAL PRIMARY KEY,
-    email VARCHAR(255) UNIQUE NOT NULL,
+    email VARCHAR(255) NOT NULL CONSTRAINT uk_users_email UNIQUE,
     password VARCHAR(255) NOT NULL,
     name VARCHAR(100) NOT NULL,
     phone VARCHAR(20) NOT NULL,
@@ -18,6 +18,29 @@ CREATE TABLE users (
 CREATE INDEX idx_users_email ON users(email);
 CREATE INDEX idx_users_phone ON users(phone);
 
+-- Refresh Token 패밀리 (로그인 단위, 토큰 교체 시 current_token_id 갱신)
+CREATE TABLE refresh_token_families (
+    id VARCHAR(36) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    current_token_id VARCHAR(36) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_refresh_token_families_user ON refresh_token_families(user_id);
+
+-- 폐기된 토큰 (Access Token jti 또는 Refresh Token 패밀리 ID, 기동 시 메모리 색인 복원용)
+CREATE TABLE revoked_tokens (
+    token_id VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens(revoked_at);
+
 -- 미용실
 CREATE TABLE shops (
     id BIGSERIAL PRIMARY KEY,
@@ -36,6 +59,8 @@ CREATE TABLE shops (
     subscription_ends_at TIMESTAMP,
     district VARCHAR(50),
     neighborhood VARCHAR(50),
+    latitude DOUBLE PRECISION,
+    longitude DOUBLE PRECISION,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     deleted_at TIMESTAMP
@@ -87,6 +112,7 @@ CREATE TABLE reservations (
     service_id BIGINT NOT NULL REFERENCES services(id),
     reservation_date DATE NOT NULL,
     reservation_time TIME NOT NULL,
+    duration_minutes INT NOT NULL, -- 예약 시점의 서비스 소요 시간 (분)
     status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'CONFIRMED', 'CANCELLED', 'COMPLETED', 'NO_SHOW')),
     total_price DECIMAL(10, 2) NOT NULL,
     customer_note TEXT,
@@ -98,10 +124,23 @@ CREATE TABLE reservations (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
-CREATE INDEX idx_reservations_shop ON reservations(shop_id);
-CREATE INDEX idx_reservations_customer ON reservations(customer_id);
+-- 목록 keyset 페이지용 (정렬 키까지 포함, shop_id/customer_id 단독 조회도 사용)
+CREATE INDEX idx_reservations_shop_date ON reservations(shop_id, reservation_date, reservation_time, id);
+CREATE INDEX idx_reservations_customer_created ON reservations(customer_id, created_at, id);
 CREATE INDEX idx_reservations_status ON reservations(status);
 CREATE INDEX idx_reservations_date ON reservations(reservation_date);
+-- 예약 알림 휠에 다른 서버의 변경을 반영할 때 사용
+CREATE INDEX idx_reservations_updated ON reservations(updated_at);
+
+-- 같은 미용실의 점유 중인 예약 시간대가 겹치지 않도록 보장 (서버가 여러 대일 때 애플리케이션 잠금을 보완)
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+ALTER TABLE reservations ADD CONSTRAINT ex_reservations_no_overlap EXCLUDE USING gist (
+    shop_id WITH =,
+    tsrange(
+        reservation_date + reservation_time,
+        reservation_date + reservation_time + make_interval(mins => duration_minutes)
+    ) WITH &&
+) WHERE (status IN ('PENDING', 'CONFIRMED'));
 
 -- 결제
 CREATE TABLE payments (
@@ -111,7 +150,7 @@ CREATE TABLE payments (
     order_id VARCHAR(255) UNIQUE NOT NULL,
     amount DECIMAL(10, 2) NOT NULL,
     payment_method VARCHAR(50),
-    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'COMPLETED', 'FAILED', 'CANCELLED', 'REFUNDED', 'PARTIAL_REFUND')),
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'WAITING_FOR_DEPOSIT', 'COMPLETED', 'FAILED', 'CANCELLED', 'REFUNDED', 'PARTIAL_REFUND')),
     approved_at TIMESTAMP,
     refund_amount DECIMAL(10, 2) DEFAULT 0,
     refunded_at TIMESTAMP,
@@ -173,6 +212,30 @@ CREATE TABLE shop_rating_stats (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- 여러 서버 중 한 곳에서만 실행할 작업의 잠금 (정기 점검 등)
+CREATE TABLE job_locks (
+    name VARCHAR(100) PRIMARY KEY,
+    locked_until TIMESTAMP NOT NULL, -- 지나면 다른 서버가 가져갈 수 있음
+    locked_at TIMESTAMP NOT NULL,
+    locked_by VARCHAR(100) NOT NULL -- 호스트명 + 서버 기동별 id
+);
+
+-- 미용실 일일 집계 (사장님 대시보드, 예약일 기준)
+CREATE TABLE shop_daily_stats (
+    shop_id BIGINT NOT NULL REFERENCES shops(id),
+    stat_date DATE NOT NULL,
+    service_id BIGINT NOT NULL REFERENCES services(id),
+    pending_count INT NOT NULL DEFAULT 0,
+    confirmed_count INT NOT NULL DEFAULT 0,
+    cancelled_count INT NOT NULL DEFAULT 0,
+    completed_count INT NOT NULL DEFAULT 0,
+    no_show_count INT NOT NULL DEFAULT 0,
+    revenue DECIMAL(12, 2) NOT NULL DEFAULT 0, -- 승인 금액 - 환불 금액
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    -- 미용실의 기간 조회가 기본 키 범위 조회 한 번
+    PRIMARY KEY (shop_id, stat_date, service_id)
+);
+
 -- 알림
 CREATE TABLE notifications (
     id BIGSERIAL PRIMARY KEY,
@@ -183,11 +246,22 @@ CREATE TABLE notifications (
     is_read BOOLEAN DEFAULT false,
     read_at TIMESTAMP,
     reservation_id BIGINT REFERENCES reservations(id),
+    channel VARCHAR(20) NOT NULL DEFAULT 'PUSH', -- PUSH, ALIMTALK, ALL
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, SENDING, SENT, FAILED
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, -- SENDING 이면 선점 만료 시각
+    sent_at TIMESTAMP,
+    last_error VARCHAR(500),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
-CREATE INDEX idx_notifications_user ON notifications(user_id);
+-- 알림함 keyset 페이지용 (user_id 단독 조회도 사용)
+CREATE INDEX idx_notifications_user_created ON notifications(user_id, created_at, id);
 CREATE INDEX idx_notifications_read ON notifications(is_read);
+CREATE INDEX idx_notifications_dispatch ON notifications(status, next_attempt_at);
+-- (예약, 알림 종류) 당 한 건 (여러 서버가 같은 예약 알림을 동시에 만들어도 하나만 저장)
+CREATE UNIQUE INDEX uk_notifications_reservation_type ON notifications(reservation_id, type)
+    WHERE reservation_id IS NOT NULL;
 
 -- 사용자 디바이스 (FCM)
 CREATE TABLE user_devices (
@@ -201,6 +275,7 @@ CREATE TABLE user_devices (
 );
 
 CREATE INDEX idx_user_devices_user ON user_devices(user_id);
+CREATE INDEX idx_user_devices_token ON user_devices(device_token);
 
 -- 알림 템플릿
 CREATE TABLE notification_templates (
@@ -211,3 +286,22 @@ CREATE TABLE notification_templates (
     kakao_template_code VARCHAR(50),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
+
+-- 이벤트 outbox (상태 변경과 같은 트랜잭션에 저장, OutboxRelay 가 aggregate 별 순서대로 구독자에게 전달)
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL, -- 이벤트 JSON
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, PUBLISHED, DEAD
+    attempts INT NOT NULL DEFAULT 0,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, -- 선점 중이면 선점 만료 시각
+    published_at TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_outbox_events_relay ON outbox_events(status, available_at);
+-- 선점 시 같은 aggregate 의 앞선 대기 이벤트 확인용
+CREATE INDEX idx_outbox_events_aggregate ON outbox_events(aggregate_id, id) WHERE status = 'PENDING';